@@ -0,0 +1,62 @@
+package com.minecolonies.api.colony;
+
+/**
+ * The independently synced sections of a citizen view. Only the sections marked dirty since the last sync are sent to subscribers that already know the citizen.
+ */
+public enum CitizenViewSection
+{
+    /**
+     * Name, flags, buildings, health, saturation, happiness value, job name, position and status.
+     */
+    CORE,
+    /**
+     * The citizen inventory and held items.
+     */
+    INVENTORY,
+    /**
+     * Skill levels and experience.
+     */
+    SKILLS,
+    /**
+     * Interactions and quests.
+     */
+    INTERACTIONS,
+    /**
+     * The happiness modifiers.
+     */
+    HAPPINESS,
+    /**
+     * The job view data.
+     */
+    JOB,
+    /**
+     * Partner, siblings, children and parents.
+     */
+    FAMILY;
+
+    /**
+     * Mask containing every section.
+     */
+    public static final int ALL = (1 << values().length) - 1;
+
+    /**
+     * Get the bit of this section in a section mask.
+     *
+     * @return the mask bit.
+     */
+    public int getMask()
+    {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Check if this section is part of the given mask.
+     *
+     * @param sections the section mask.
+     * @return true if so.
+     */
+    public boolean isIn(final int sections)
+    {
+        return (sections & getMask()) != 0;
+    }
+}
@@ -10,6 +10,7 @@ import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenSkillHandler;
 import com.minecolonies.api.quests.IQuestGiver;
 import com.minecolonies.api.quests.IQuestParticipant;
 import com.minecolonies.api.util.Tuple;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -213,6 +214,13 @@ public interface ICitizenData extends ICivilianData, IQuestGiver, IQuestParticip
      */
     void setIdleAtJob(final boolean idle);
 
+    /**
+     * Called when something the happiness of the citizen depends on changed, marks the citizen dependent happiness factors as outdated.
+     *
+     * @param colonyFact if the change also affects the colony wide happiness facts.
+     */
+    void onHappinessDependencyChanged(final boolean colonyFact);
+
     /**
      * Gets the entity
      * @return
@@ -393,4 +401,26 @@ public interface ICitizenData extends ICivilianData, IQuestGiver, IQuestParticip
      * @param sender the player closing it.
      */
     void onInteractionClosed(Component key, ServerPlayer sender);
+
+    /**
+     * Marks a single view section dirty, only that section is sent to players already watching the colony.
+     *
+     * @param section the changed section.
+     */
+    void markDirty(@NotNull CitizenViewSection section);
+
+    /**
+     * Get the view sections changed since the last sync.
+     *
+     * @return the mask of {@link CitizenViewSection}s.
+     */
+    int getDirtySections();
+
+    /**
+     * Writes the given view sections of the citizen data to a byte buf for transition.
+     *
+     * @param buf      buffer to write to.
+     * @param sections the mask of {@link CitizenViewSection}s to write.
+     */
+    void serializeViewNetworkData(@NotNull FriendlyByteBuf buf, int sections);
 }
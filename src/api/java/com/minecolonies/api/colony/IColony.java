@@ -276,6 +276,13 @@ public interface IColony
      */
     IReproductionManager getReproductionManager();
 
+    /**
+     * Get the water body manager of the colony.
+     *
+     * @return the water body manager.
+     */
+    IWaterBodyManager getWaterBodyManager();
+
     /**
      * Get the event description manager of the colony.
      *
@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.managers.interfaces;
 
 import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.entity.citizen.happiness.ColonyHappinessFacts;
 import com.minecolonies.api.entity.citizen.happiness.IHappinessModifier;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.core.BlockPos;
@@ -160,6 +161,13 @@ public interface ICitizenManager extends IEntityManager
      */
     void injectModifier(final IHappinessModifier modifier);
 
+    /**
+     * Get the colony wide happiness facts, shared by all citizens.
+     *
+     * @return the facts.
+     */
+    ColonyHappinessFacts getHappinessFacts();
+
     /**
      * Call this when citizens sleep
      */
@@ -1,6 +1,7 @@
 package com.minecolonies.api.colony.managers.interfaces;
 
 import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.buildings.IBuilding;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.core.BlockPos;
 
@@ -80,6 +81,19 @@ public interface IRaiderManager
      */
     void raiderEvent(String raidType);
 
+    /**
+     * Called on the slow colony tick, searches a few raid spawn points ahead of time.
+     */
+    void onColonyTick();
+
+    /**
+     * Called when a building was added, upgraded or removed, to update the raid spawn points searched ahead of time.
+     *
+     * @param building the building.
+     * @param removed  true if it was removed.
+     */
+    void onBuildingChanged(IBuilding building, boolean removed);
+
     /**
      * Calculates the spawn position for raids
      *
@@ -176,6 +176,16 @@ public interface IRegisteredStructureManager
     @NotNull
     List<BlockPos> getFields();
 
+    /**
+     * Getter for the fields whose range overlaps a chunk.
+     *
+     * @param chunkX the chunk x coordinate.
+     * @param chunkZ the chunk z coordinate.
+     * @return unmodifiable list of field positions.
+     */
+    @NotNull
+    List<BlockPos> getFieldsInChunk(final int chunkX, final int chunkZ);
+
     /**
      * Creates a field from a tile entity and adds it to the colony.
      *
@@ -0,0 +1,66 @@
+package com.minecolonies.api.colony.managers.interfaces;
+
+import com.minecolonies.api.util.Tuple;
+import com.minecolonies.api.util.WaterBody;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Catalogue of the water bodies around the colony, built lazily per chunk and invalidated per chunk when the water changes.
+ */
+public interface IWaterBodyManager
+{
+    /**
+     * Catalogue the next outdated loaded chunks in range of a position.
+     *
+     * @param center the center of the range.
+     * @param range  the range in blocks.
+     * @return true if all loaded chunks in range are catalogued.
+     */
+    boolean catalogue(@NotNull BlockPos center, int range);
+
+    /**
+     * Get the catalogued water bodies with a fishing spot in range of a position.
+     *
+     * @param center the center of the range.
+     * @param range  the range in blocks.
+     * @return the water bodies.
+     */
+    @NotNull
+    List<WaterBody> getWaterBodies(@NotNull BlockPos center, int range);
+
+    /**
+     * Find the catalogued fishing spot closest to a position, which is not one of or close to the given spots.
+     *
+     * @param center   the center of the range.
+     * @param range    the range in blocks.
+     * @param excluded the spots to exclude.
+     * @return the water and land position tuple, or null if there is none.
+     */
+    @Nullable
+    Tuple<BlockPos, BlockPos> findFishingSpot(@NotNull BlockPos center, int range, @NotNull List<Tuple<BlockPos, BlockPos>> excluded);
+
+    /**
+     * Remove a fishing spot which turned out to be unusable.
+     *
+     * @param spot the water and land position tuple.
+     */
+    void discardFishingSpot(@NotNull Tuple<BlockPos, BlockPos> spot);
+
+    /**
+     * Called when a block changed, invalidates the chunk if the block borders a catalogued water surface.
+     *
+     * @param pos the position of the block.
+     */
+    void onBlockChanged(@NotNull BlockPos pos);
+
+    /**
+     * Called when a fluid was placed or removed, invalidates the chunk.
+     *
+     * @param pos the position of the fluid.
+     */
+    void onFluidChanged(@NotNull BlockPos pos);
+}
@@ -9,9 +9,12 @@ import com.minecolonies.api.colony.requestsystem.factory.FactoryVoidInput;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.factory.ITypeOverrideHandler;
+import com.minecolonies.api.colony.requestsystem.factory.TypeDictionary;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.ReflectionUtils;
 import com.minecolonies.api.util.constant.Suppression;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
+import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.util.Tuple;
@@ -19,7 +22,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
 
 /**
  * Default implementation of a FactoryController Singleton.
@@ -30,6 +35,7 @@ public final class StandardFactoryController implements IFactoryController
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
     public static final String NBT_TYPE = "Type";
     public static final String NBT_DATA = "Data";
+    public static final String NBT_TYPE_ID = "TypeId";
     ////// --------------------------- NBTConstants --------------------------- \\\\\\
 
     /**
@@ -74,7 +80,46 @@ public final class StandardFactoryController implements IFactoryController
     /**
      * Specific serialization mappings.
      */
-    private Map<Short, IFactory<?, ?>> serializationMappings = new HashMap<>();
+    private final Short2ObjectMap<IFactory<?, ?>> serializationMappings = new Short2ObjectOpenHashMap<>();
+
+    /**
+     * Generation of the registered factories and override handlers, incremented on each registration to invalidate the resolution caches.
+     */
+    private volatile int registrationGeneration = 0;
+
+    /**
+     * Per class cache of the factory producing that class as output. Used for serialization of objects and output lookups with plain class tokens.
+     */
+    private final ClassValue<CachedFactory> outputFactoryCache = new ClassValue<>()
+    {
+        @Override
+        protected CachedFactory computeValue(final Class<?> type)
+        {
+            return new CachedFactory();
+        }
+    };
+
+    /**
+     * Per class cache of the type token of that class.
+     */
+    private final ClassValue<TypeToken<?>> typeTokenCache = new ClassValue<>()
+    {
+        @Override
+        protected TypeToken<?> computeValue(final Class<?> type)
+        {
+            return TypeToken.of(type);
+        }
+    };
+
+    /**
+     * Cache of the output factory for stored class names, after class renaming was applied.
+     */
+    private final Map<String, IFactory<?, ?>> classNameFactoryCache = new ConcurrentHashMap<>();
+
+    /**
+     * The type dictionary active on the current thread, null when types are written by class name.
+     */
+    private final ThreadLocal<TypeDictionary> activeTypeDictionary = new ThreadLocal<>();
 
     /**
      * Private constructor. Throws IllegalStateException if already created.
@@ -100,6 +145,17 @@ public final class StandardFactoryController implements IFactoryController
         getInstance().primaryInputMappings.clear();
         getInstance().primaryOutputMappings.clear();
         getInstance().secondaryOutputMappings.clear();
+        getInstance().invalidateCaches();
+    }
+
+    /**
+     * Invalidate all resolution caches, called when a factory or override handler is registered.
+     */
+    private void invalidateCaches()
+    {
+        registrationGeneration++;
+        secondaryMappingsCache.invalidateAll();
+        classNameFactoryCache.clear();
     }
 
     /**
@@ -198,6 +254,91 @@ public final class StandardFactoryController implements IFactoryController
 
     @Override
     public <OUTPUT> IFactory<?, OUTPUT> getFactoryForOutput(@NotNull final TypeToken<? extends OUTPUT> outputClass) throws IllegalArgumentException
+    {
+        if (outputClass.getType() instanceof Class)
+        {
+            return getFactoryForOutput((Class<?>) outputClass.getType());
+        }
+
+        return resolveFactoryForOutput(outputClass);
+    }
+
+    /**
+     * Get the output factory for a plain class, served from the per class cache.
+     *
+     * @param outputClass the output class.
+     * @param <OUTPUT>    the output type.
+     * @return the factory.
+     * @throws IllegalArgumentException when no factory produces the given class.
+     */
+    @SuppressWarnings(Suppression.UNCHECKED)
+    private <OUTPUT> IFactory<?, OUTPUT> getFactoryForOutput(@NotNull final Class<?> outputClass) throws IllegalArgumentException
+    {
+        final CachedFactory cached = outputFactoryCache.get(outputClass);
+        final int generation = registrationGeneration;
+        IFactory<?, ?> factory = cached.get(generation);
+        if (factory == null)
+        {
+            factory = resolveFactoryForOutput(typeTokenCache.get(outputClass));
+            cached.set(generation, factory);
+        }
+
+        return (IFactory<?, OUTPUT>) factory;
+    }
+
+    /**
+     * Resolve the output factory for a plain class without the resolution caches, the way every serialization did before they were added.
+     * <p>
+     * Only used for benchmarking, through {@code UncachedFactoryLookup} in the benchmark source set.
+     *
+     * @param outputClass the output class.
+     * @param <OUTPUT>    the output type.
+     * @return the factory.
+     * @throws IllegalArgumentException when no factory produces the given class.
+     */
+    <OUTPUT> IFactory<?, OUTPUT> getUncachedFactoryForOutput(@NotNull final Class<?> outputClass) throws IllegalArgumentException
+    {
+        return resolveFactoryForOutput(TypeToken.of(outputClass));
+    }
+
+    @Override
+    @SuppressWarnings(Suppression.UNCHECKED)
+    public <OUTPUT> IFactory<?, OUTPUT> getFactoryForOutput(@NotNull final String className) throws IllegalArgumentException
+    {
+        final IFactory<?, ?> cached = classNameFactoryCache.get(className);
+        if (cached != null)
+        {
+            return (IFactory<?, OUTPUT>) cached;
+        }
+
+        final IFactory<?, OUTPUT> factory;
+        try
+        {
+            factory = getFactoryForOutput(Class.forName(className));
+        }
+        catch (final IllegalArgumentException ex)
+        {
+            throw ex;
+        }
+        catch (final Exception ex)
+        {
+            throw new IllegalArgumentException("The given output name is unknown", ex);
+        }
+
+        classNameFactoryCache.put(className, factory);
+        return factory;
+    }
+
+    /**
+     * Resolve the output factory for the given type, applying the type override handlers.
+     *
+     * @param outputClass the output type.
+     * @param <OUTPUT>    the output type.
+     * @return the factory.
+     * @throws IllegalArgumentException when no factory produces the given type.
+     */
+    @SuppressWarnings(Suppression.UNCHECKED)
+    private <OUTPUT> IFactory<?, OUTPUT> resolveFactoryForOutput(@NotNull final TypeToken<?> outputClass) throws IllegalArgumentException
     {
         final ITypeOverrideHandler<?> outputOverrideHandler = getMatchingOverrideHandler(outputClass);
 
@@ -261,6 +402,8 @@ public final class StandardFactoryController implements IFactoryController
                 secondaryOutputMappings.get(t).add(factory);
             });
         }
+
+        invalidateCaches();
     }
 
     @Override
@@ -269,8 +412,17 @@ public final class StandardFactoryController implements IFactoryController
     {
         final CompoundTag compound = new CompoundTag();
 
-        final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
-        compound.putString(NBT_TYPE, object.getClass().getName());
+        final IFactory<?, OUTPUT> factory = getFactoryForOutput(object.getClass());
+        final TypeDictionary dictionary = activeTypeDictionary.get();
+        final int typeId = dictionary == null ? -1 : dictionary.getOrCreateId(object.getClass().getName());
+        if (typeId >= 0 && typeId <= Short.MAX_VALUE)
+        {
+            compound.putShort(NBT_TYPE_ID, (short) typeId);
+        }
+        else
+        {
+            compound.putString(NBT_TYPE, object.getClass().getName());
+        }
         compound.put(NBT_DATA, factory.serialize(this, object));
 
         return compound;
@@ -279,18 +431,14 @@ public final class StandardFactoryController implements IFactoryController
     @Override
     public <OUTPUT> OUTPUT deserialize(@NotNull final CompoundTag compound) throws IllegalArgumentException
     {
-        String className = compound.getString(NBT_TYPE);
-        className = processClassRenaming(className);
-
         final IFactory<?, OUTPUT> factory;
-
-        try
+        if (compound.contains(NBT_TYPE_ID))
         {
-            factory = getFactoryForOutput(className);
+            factory = getFactoryForTypeId(compound.getShort(NBT_TYPE_ID));
         }
-        catch (final IllegalArgumentException e)
+        else
         {
-            throw (IllegalArgumentException) new IllegalArgumentException("The given compound holds an unknown output type for this Controller: " + className).initCause(e);
+            factory = getFactoryForClassName(compound.getString(NBT_TYPE));
         }
 
         try
@@ -304,6 +452,59 @@ public final class StandardFactoryController implements IFactoryController
         }
     }
 
+    /**
+     * Get the factory for a class name written by a legacy, dictionary less, compound.
+     *
+     * @param previousClassName the stored class name.
+     * @param <OUTPUT>          the output type.
+     * @return the factory.
+     */
+    private <OUTPUT> IFactory<?, OUTPUT> getFactoryForClassName(@NotNull final String previousClassName)
+    {
+        final String className = processClassRenaming(previousClassName);
+        try
+        {
+            return getFactoryForOutput(className);
+        }
+        catch (final IllegalArgumentException e)
+        {
+            throw (IllegalArgumentException) new IllegalArgumentException("The given compound holds an unknown output type for this Controller: " + className).initCause(e);
+        }
+    }
+
+    /**
+     * Get the factory for a type id of the active type dictionary. Each id is only resolved once per dictionary.
+     *
+     * @param typeId   the stored type id.
+     * @param <OUTPUT> the output type.
+     * @return the factory.
+     */
+    @SuppressWarnings(Suppression.UNCHECKED)
+    private <OUTPUT> IFactory<?, OUTPUT> getFactoryForTypeId(final int typeId)
+    {
+        final TypeDictionary dictionary = activeTypeDictionary.get();
+        if (dictionary == null)
+        {
+            throw new IllegalArgumentException("The given compound holds a type id but no type dictionary is active: " + typeId);
+        }
+
+        final IFactory<?, ?> resolved = dictionary.getResolvedFactory(typeId);
+        if (resolved != null)
+        {
+            return (IFactory<?, OUTPUT>) resolved;
+        }
+
+        final String className = dictionary.getClassName(typeId);
+        if (className == null)
+        {
+            throw new IllegalArgumentException("The given compound holds a type id unknown to the type dictionary: " + typeId);
+        }
+
+        final IFactory<?, OUTPUT> factory = getFactoryForClassName(className);
+        dictionary.setResolvedFactory(typeId, factory);
+        return factory;
+    }
+
     private String processClassRenaming(@NotNull final String previousClassName)
     {
         if (!this.classRenamingHandlers.containsKey(previousClassName))
@@ -318,7 +519,7 @@ public final class StandardFactoryController implements IFactoryController
     @Override
     public <OUTPUT> void serialize(@NotNull final FriendlyByteBuf buffer, @NotNull final OUTPUT object) throws IllegalArgumentException
     {
-        final IFactory<?, OUTPUT> factory = getFactoryForOutput((TypeToken<? extends OUTPUT>) TypeToken.of(object.getClass()));
+        final IFactory<?, OUTPUT> factory = getFactoryForOutput(object.getClass());
         buffer.writeShort(factory.getSerializationId());
         factory.serialize(this, object, buffer);
     }
@@ -353,7 +554,7 @@ public final class StandardFactoryController implements IFactoryController
     public <INPUT, OUTPUT> OUTPUT getNewInstance(@NotNull final TypeToken<? extends OUTPUT> requestedType, @NotNull final INPUT input, @NotNull final Object... context)
       throws IllegalArgumentException, ClassCastException
     {
-        final TypeToken<? extends INPUT> inputToken = TypeToken.of((Class<? extends INPUT>) input.getClass());
+        final TypeToken<? extends INPUT> inputToken = (TypeToken<? extends INPUT>) typeTokenCache.get(input.getClass());
         final IFactory<INPUT, OUTPUT> factory = getFactoryForIO(inputToken, requestedType);
 
         return factory.getNewInstance(this, input, context);
@@ -366,10 +567,33 @@ public final class StandardFactoryController implements IFactoryController
         return getNewInstance(requestedType, FactoryVoidInput.INSTANCE);
     }
 
+    @Override
+    public <T> T withTypeDictionary(@NotNull final TypeDictionary dictionary, @NotNull final Supplier<T> action)
+    {
+        final TypeDictionary previous = activeTypeDictionary.get();
+        activeTypeDictionary.set(dictionary);
+        try
+        {
+            return action.get();
+        }
+        finally
+        {
+            if (previous == null)
+            {
+                activeTypeDictionary.remove();
+            }
+            else
+            {
+                activeTypeDictionary.set(previous);
+            }
+        }
+    }
+
     @Override
     public <OUTPUT> void registerNewTypeOverrideHandler(@NotNull final ITypeOverrideHandler<OUTPUT> overrideHandler)
     {
         this.typeOverrideHandlers.add(overrideHandler);
+        invalidateCaches();
     }
 
     @Override
@@ -377,4 +601,39 @@ public final class StandardFactoryController implements IFactoryController
     {
         this.classRenamingHandlers.put(previousName, newName);
     }
+
+    /**
+     * Cached output factory of a single class, valid for one registration generation.
+     */
+    private static final class CachedFactory
+    {
+        /**
+         * The cached resolution, replaced as a whole so readers always see a consistent pair.
+         */
+        private volatile Tuple<Integer, IFactory<?, ?>> resolution;
+
+        /**
+         * Get the cached factory if it was resolved in the given generation.
+         *
+         * @param generation the current registration generation.
+         * @return the factory or null if not cached or stale.
+         */
+        @Nullable
+        private IFactory<?, ?> get(final int generation)
+        {
+            final Tuple<Integer, IFactory<?, ?>> current = resolution;
+            return current != null && current.getA() == generation ? current.getB() : null;
+        }
+
+        /**
+         * Cache the factory resolved in the given generation.
+         *
+         * @param generation the registration generation the factory was resolved in.
+         * @param factory    the factory.
+         */
+        private void set(final int generation, @NotNull final IFactory<?, ?> factory)
+        {
+            resolution = new Tuple<>(generation, factory);
+        }
+    }
 }
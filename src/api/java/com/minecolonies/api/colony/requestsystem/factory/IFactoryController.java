@@ -6,6 +6,8 @@ import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.function.Supplier;
+
 /**
  * Interface used to describe classes that function as Factory controllers.
  */
@@ -161,6 +163,19 @@ public interface IFactoryController
      */
     <Output> Output deserialize(@NotNull final CompoundTag compound) throws IllegalArgumentException;
 
+    /**
+     * Method used to run a serialization or deserialization with a type dictionary active on the current thread.
+     * <p>
+     * While the dictionary is active {@link #serialize(Object)} refers to types by their dictionary id instead of their class name, and {@link #deserialize(CompoundTag)}
+     * resolves those ids through the dictionary. Compounds that still carry a class name are read as before.
+     *
+     * @param dictionary The dictionary to use.
+     * @param action     The action to run.
+     * @param <T>        The type of the result.
+     * @return The result of the action.
+     */
+    <T> T withTypeDictionary(@NotNull final TypeDictionary dictionary, @NotNull final Supplier<T> action);
+
     /**
      * Method used to quickly write an object into the given {@link ByteBuf}.
      *
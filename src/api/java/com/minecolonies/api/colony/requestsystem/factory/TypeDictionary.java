@@ -0,0 +1,129 @@
+package com.minecolonies.api.colony.requestsystem.factory;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per file dictionary of the types written by a {@link IFactoryController}.
+ * <p>
+ * While a dictionary is active the controller writes a short id instead of the full class name into every compound, the class names themselves are written once
+ * into the dictionary. On read the factory for each id is only resolved once per file.
+ */
+public final class TypeDictionary
+{
+    /**
+     * The class names, index is the id.
+     */
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * Reverse lookup of the class names.
+     */
+    private final Object2IntOpenHashMap<String> ids = new Object2IntOpenHashMap<>();
+
+    /**
+     * The factories resolved during reading, by id.
+     */
+    private final Int2ObjectOpenHashMap<IFactory<?, ?>> resolvedFactories = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Create a new empty dictionary, used for writing.
+     */
+    public TypeDictionary()
+    {
+        ids.defaultReturnValue(-1);
+    }
+
+    /**
+     * Get the id for the given class name, registering it when it is not yet known.
+     *
+     * @param className the class name.
+     * @return the id of the class name.
+     */
+    public int getOrCreateId(@NotNull final String className)
+    {
+        int id = ids.getInt(className);
+        if (id == -1)
+        {
+            id = names.size();
+            names.add(className);
+            ids.put(className, id);
+        }
+        return id;
+    }
+
+    /**
+     * Get the class name stored for the given id.
+     *
+     * @param id the id.
+     * @return the class name or null if the id is unknown.
+     */
+    @Nullable
+    public String getClassName(final int id)
+    {
+        return id >= 0 && id < names.size() ? names.get(id) : null;
+    }
+
+    /**
+     * Get the factory already resolved for the given id.
+     *
+     * @param id the id.
+     * @return the factory or null if it was not resolved yet.
+     */
+    @Nullable
+    public IFactory<?, ?> getResolvedFactory(final int id)
+    {
+        return resolvedFactories.get(id);
+    }
+
+    /**
+     * Remember the factory resolved for the given id.
+     *
+     * @param id      the id.
+     * @param factory the factory.
+     */
+    public void setResolvedFactory(final int id, @NotNull final IFactory<?, ?> factory)
+    {
+        resolvedFactories.put(id, factory);
+    }
+
+    /**
+     * Write the dictionary to NBT.
+     *
+     * @return the list of class names, in id order.
+     */
+    @NotNull
+    public ListTag write()
+    {
+        final ListTag list = new ListTag();
+        for (final String name : names)
+        {
+            list.add(StringTag.valueOf(name));
+        }
+        return list;
+    }
+
+    /**
+     * Read a dictionary from NBT.
+     *
+     * @param list the list of class names, in id order.
+     * @return the dictionary.
+     */
+    @NotNull
+    public static TypeDictionary read(@NotNull final ListTag list)
+    {
+        final TypeDictionary dictionary = new TypeDictionary();
+        for (int i = 0; i < list.size(); i++)
+        {
+            dictionary.getOrCreateId(list.getString(i));
+        }
+        return dictionary;
+    }
+}
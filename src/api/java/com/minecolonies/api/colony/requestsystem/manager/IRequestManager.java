@@ -176,6 +176,21 @@ public interface IRequestManager extends INBTSerializable<CompoundTag>, ITickabl
      */
     void onColonyUpdate(@NotNull final Predicate<IRequest<?>> shouldTriggerReassign);
 
+    /**
+     * Method used to indicate that the colony can newly provide the given stack, through a recipe or inventory change. Only wakes the waiting and retrying
+     * requests which could be delivered with it.
+     *
+     * @param stack The stack.
+     */
+    void onItemsAvailable(@NotNull final ItemStack stack);
+
+    /**
+     * Method used to indicate that the colony can newly resolve requests of the given type. Only wakes the waiting and retrying requests of that type.
+     *
+     * @param type The requestable type.
+     */
+    void onRequestableTypeAvailable(@NotNull final Class<? extends IRequestable> type);
+
     /**
      * Get the player resolve.
      *
@@ -1,8 +1,12 @@
 package com.minecolonies.api.colony.requestsystem.resolver;
 
 import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
 
 public interface IQueuedRequestResolver<R extends IRequestable> extends IRequestResolver<R>
 {
@@ -17,4 +21,26 @@ public interface IQueuedRequestResolver<R extends IRequestable> extends IRequest
      * Called when the request system this is part of gets reset.
      */
     void onSystemReset();
+
+    /**
+     * Called when the colony can newly provide the given stack. Reassigns the queued requests which, or whose parents, could be delivered with it.
+     *
+     * @param manager The systems manager.
+     * @param stack   The stack.
+     */
+    default void onItemsAvailable(@NotNull final IRequestManager manager, @NotNull final ItemStack stack)
+    {
+        onColonyUpdate(manager, request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(stack));
+    }
+
+    /**
+     * Called when the colony can newly resolve requests of the given type. Reassigns the queued requests which, or whose parents, are of that type.
+     *
+     * @param manager The systems manager.
+     * @param type    The requestable type.
+     */
+    default void onRequestableTypeAvailable(@NotNull final IRequestManager manager, @NotNull final Class<? extends IRequestable> type)
+    {
+        onColonyUpdate(manager, request -> type.isInstance(request.getRequest()));
+    }
 }
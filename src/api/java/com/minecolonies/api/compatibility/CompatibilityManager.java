@@ -16,6 +16,7 @@ import com.minecolonies.api.items.ModTags;
 import com.minecolonies.api.util.*;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.NonNullList;
+import net.minecraft.core.Registry;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.NbtUtils;
@@ -26,6 +27,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.ItemTags;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.food.FoodProperties;
 import net.minecraft.world.item.*;
 import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.block.AirBlock;
@@ -42,6 +44,7 @@ import net.minecraftforge.registries.IForgeRegistry;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -168,6 +171,25 @@ public class CompatibilityManager implements ICompatibilityManager
      */
     private ImmutableSet<ItemStorage> flowers = ImmutableSet.of();
 
+    /**
+     * The classification masks of all items by item id, see {@link ItemClassification}. Rebuilt after every discovery, never modified afterwards.
+     */
+    private int[] classification = new int[0];
+
+    /**
+     * The edibles by minimum nutrition, the set at index n contains all edibles with a nutrition of at least n.
+     */
+    private List<ImmutableSet<ItemStorage>> ediblesByNutrition = ImmutableList.of();
+
+    /**
+     * Immutable snapshots of the discovered lists, handed out by the getters.
+     */
+    private ImmutableSet<ItemStorage>        saplingsView      = ImmutableSet.of();
+    private ImmutableSet<ItemStorage>        plantablesView    = ImmutableSet.of();
+    private ImmutableSet<ItemStorage>        compostInputsView = ImmutableSet.of();
+    private ImmutableMap<Item, CompostRecipe> compostRecipesView = ImmutableMap.of();
+    private ImmutableList<Disease>           diseasesView      = ImmutableList.of();
+
     /**
      * Instantiates the compatibilityManager.
      */
@@ -210,21 +232,23 @@ public class CompatibilityManager implements ICompatibilityManager
         clear();
         discoverAllItems();
 
-        discoverSaplings();
-        discoverOres();
-        discoverPlantables();
-        discoverFlowers();
-
-        discoverFood();
-        discoverFuel();
-        discoverMobs();
-        discoverCompostRecipes(recipeManager);
+        // The passes only read the registries, tags and recipes, and each fills its own collection.
+        CompletableFuture.allOf(
+          CompletableFuture.runAsync(this::discoverSaplings),
+          CompletableFuture.runAsync(this::discoverOres),
+          CompletableFuture.runAsync(this::discoverPlantables),
+          CompletableFuture.runAsync(this::discoverFlowers),
+          CompletableFuture.runAsync(this::discoverFood),
+          CompletableFuture.runAsync(this::discoverFuel),
+          CompletableFuture.runAsync(this::discoverMobs),
+          CompletableFuture.runAsync(() -> discoverCompostRecipes(recipeManager))).join();
 
         discoverLuckyOres();
         discoverRecruitCosts();
         discoverDiseases();
         discoverFreeBlocksAndPos();
         discoverModCompat();
+        buildClassification();
     }
 
     /**
@@ -291,6 +315,7 @@ public class CompatibilityManager implements ICompatibilityManager
         discoverDiseases();
         discoverFreeBlocksAndPos();
         discoverModCompat();
+        buildClassification();
     }
 
     private static void serializeItemStorageList(@NotNull final FriendlyByteBuf buf,
@@ -375,7 +400,7 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public boolean isPlantable(final ItemStack itemStack)
     {
-        return !itemStack.isEmpty() && itemStack.getItem() instanceof BlockItem && itemStack.is(ModTags.floristFlowers);
+        return !itemStack.isEmpty() && hasClassification(itemStack.getItem(), ItemClassification.PLANTABLE);
     }
 
     @Override
@@ -400,7 +425,7 @@ public class CompatibilityManager implements ICompatibilityManager
     public Set<ItemStorage> getCopyOfSaplings()
     {
         if (saplings.isEmpty()) Log.getLogger().error("getCopyOfSaplings when empty");
-        return new HashSet<>(saplings);
+        return saplingsView;
     }
 
     @Override
@@ -421,15 +446,11 @@ public class CompatibilityManager implements ICompatibilityManager
     public Set<ItemStorage> getEdibles(final int minNutrition)
     {
         if (edibles.isEmpty()) Log.getLogger().error("getEdibles when empty");
-        final Set<ItemStorage> filteredEdibles = new HashSet<>();
-        for (final ItemStorage storage : edibles)
+        if (ediblesByNutrition.isEmpty() || minNutrition >= ediblesByNutrition.size())
         {
-            if ((storage.getItemStack().getFoodProperties(null) != null && storage.getItemStack().getFoodProperties(null).getNutrition() >= minNutrition))
-            {
-                filteredEdibles.add(storage);
-            }
+            return ImmutableSet.of();
         }
-        return filteredEdibles;
+        return ediblesByNutrition.get(Math.max(0, minNutrition));
     }
 
     @Override
@@ -443,23 +464,21 @@ public class CompatibilityManager implements ICompatibilityManager
     public Map<Item, CompostRecipe> getCopyOfCompostRecipes()
     {
         if (compostRecipes.isEmpty()) Log.getLogger().error("getCopyOfCompostRecipes when empty");
-        return ImmutableMap.copyOf(compostRecipes);
+        return compostRecipesView;
     }
 
     @Override
     public Set<ItemStorage> getCompostInputs()
     {
         if (compostRecipes.isEmpty()) Log.getLogger().error("getCompostInputs when empty");
-        return compostRecipes.keySet().stream()
-                .map(item -> new ItemStorage(new ItemStack(item)))
-                .collect(Collectors.toSet());
+        return compostInputsView;
     }
 
     @Override
     public Set<ItemStorage> getCopyOfPlantables()
     {
         if (plantables.isEmpty()) Log.getLogger().error("getCopyOfPlantables when empty");
-        return new HashSet<>(plantables);
+        return plantablesView;
     }
 
     @Override
@@ -484,7 +503,7 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public List<Disease> getDiseases()
     {
-        return new ArrayList<>(diseases.values());
+        return diseasesView;
     }
 
     @Override
@@ -493,6 +512,13 @@ public class CompatibilityManager implements ICompatibilityManager
         return Collections.unmodifiableList(recruitmentCostsWeights);
     }
 
+    @Override
+    public boolean hasClassification(@NotNull final Item item, @NotNull final ItemClassification classification)
+    {
+        final int id = Item.getId(item);
+        return id >= 0 && id < this.classification.length && (this.classification[id] & classification.getMask()) != 0;
+    }
+
     @Override
     public boolean isOre(final BlockState block)
     {
@@ -581,6 +607,104 @@ public class CompatibilityManager implements ICompatibilityManager
 
     //------------------------------- Private Utility Methods -------------------------------//
 
+    /**
+     * Build the classification table, the nutrition buckets and the immutable snapshots from the discovered lists. Plantables, saplings and flowers are classified
+     * by their tags, so items without a creative tab variant are included like in the tag checks they replace.
+     */
+    private void buildClassification()
+    {
+        final int[] table = new int[Registry.ITEM.size()];
+        classify(table, food, ItemClassification.FOOD);
+        classify(table, edibles, ItemClassification.EDIBLE);
+        classify(table, fuel, ItemClassification.FUEL);
+        classify(table, smeltableOres, ItemClassification.SMELTABLE_ORE);
+        for (final Item item : ForgeRegistries.ITEMS.tags().getTag(ModTags.floristFlowers))
+        {
+            if (item instanceof BlockItem)
+            {
+                classify(table, item, ItemClassification.PLANTABLE);
+            }
+        }
+        for (final Item item : ForgeRegistries.ITEMS.tags().getTag(ItemTags.FLOWERS))
+        {
+            classify(table, item, ItemClassification.FLOWER);
+        }
+        for (final Item item : ForgeRegistries.ITEMS.tags().getTag(ItemTags.SAPLINGS))
+        {
+            classify(table, item, ItemClassification.SAPLING);
+        }
+        for (final Item item : compostRecipes.keySet())
+        {
+            classify(table, item, ItemClassification.COMPOSTABLE);
+        }
+        classification = table;
+
+        int maxNutrition = -1;
+        for (final ItemStorage storage : edibles)
+        {
+            final FoodProperties foodProperties = storage.getItemStack().getFoodProperties(null);
+            if (foodProperties != null)
+            {
+                maxNutrition = Math.max(maxNutrition, foodProperties.getNutrition());
+            }
+        }
+
+        final List<ImmutableSet.Builder<ItemStorage>> buckets = new ArrayList<>();
+        for (int i = 0; i <= maxNutrition; i++)
+        {
+            buckets.add(ImmutableSet.builder());
+        }
+        for (final ItemStorage storage : edibles)
+        {
+            final FoodProperties foodProperties = storage.getItemStack().getFoodProperties(null);
+            if (foodProperties != null)
+            {
+                for (int i = 0; i <= foodProperties.getNutrition(); i++)
+                {
+                    buckets.get(i).add(storage);
+                }
+            }
+        }
+        ediblesByNutrition = buckets.stream().map(ImmutableSet.Builder::build).collect(ImmutableList.toImmutableList());
+
+        saplingsView = ImmutableSet.copyOf(saplings);
+        plantablesView = ImmutableSet.copyOf(plantables);
+        compostRecipesView = ImmutableMap.copyOf(compostRecipes);
+        compostInputsView = compostRecipes.keySet().stream().map(item -> new ItemStorage(new ItemStack(item))).collect(ImmutableSet.toImmutableSet());
+        diseasesView = ImmutableList.copyOf(diseases.values());
+    }
+
+    /**
+     * Add a classification to all items of the given storages.
+     *
+     * @param table          the table to fill.
+     * @param storages       the discovered storages.
+     * @param classification the classification to add.
+     */
+    private static void classify(final int[] table, final Collection<ItemStorage> storages, final ItemClassification classification)
+    {
+        for (final ItemStorage storage : storages)
+        {
+            classify(table, storage.getItem(), classification);
+        }
+    }
+
+    /**
+     * Add a classification to an item.
+     *
+     * @param table          the table to fill.
+     * @param item           the item.
+     * @param classification the classification to add.
+     */
+    private static void classify(final int[] table, final Item item, final ItemClassification classification)
+    {
+        final int id = Item.getId(item);
+        if (id >= 0 && id < table.length)
+        {
+            table[id] |= classification.getMask();
+        }
+    }
+
     /**
      * Calculate all monsters.
      */
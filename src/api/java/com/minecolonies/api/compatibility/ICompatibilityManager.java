@@ -60,9 +60,9 @@ public interface ICompatibilityManager
     ItemStack getSaplingForLeaf(final BlockState block);
 
     /**
-     * Get a copy of the list of saplings.
+     * Get the set of saplings.
      *
-     * @return the list of saplings.
+     * @return an immutable set of saplings.
      */
     Set<ItemStorage> getCopyOfSaplings();
 
@@ -83,7 +83,7 @@ public interface ICompatibilityManager
     /**
      * Get a set of all edibles for citizens.
      * @param minNutrition the min nutrition of the food.
-     * @return list of edible food.
+     * @return immutable set of edible food.
      */
     Set<ItemStorage> getEdibles(final int minNutrition);
 
@@ -103,23 +103,23 @@ public interface ICompatibilityManager
     boolean isMineableOre(@NotNull ItemStack stack);
 
     /**
-     * Get a copy of the list of compost recipes.
+     * Get the compost recipes.
      *
-     * @return the list of compost recipes, indexed by input item.
+     * @return the immutable map of compost recipes, indexed by input item.
      */
     Map<Item, CompostRecipe> getCopyOfCompostRecipes();
 
     /**
      * Just the possible composting inputs, for item filters.
      *
-     * @return the set of compost input items.
+     * @return the immutable set of compost input items.
      */
     Set<ItemStorage> getCompostInputs();
 
     /**
-     * Get a copy of the list of plantables.
+     * Get the set of plantables.
      *
-     * @return the list of plantables.
+     * @return an immutable set of plantables.
      */
     Set<ItemStorage> getCopyOfPlantables();
 
@@ -154,7 +154,7 @@ public interface ICompatibilityManager
     /**
      * Get the list of diseases.
      *
-     * @return a copy of the list.
+     * @return an immutable list.
      */
     List<Disease> getDiseases();
 
@@ -254,4 +254,13 @@ public interface ICompatibilityManager
      * @return true if so.
      */
     boolean isFreePos(BlockPos block);
+
+    /**
+     * Check if an item was discovered as part of the given category. Constant time, a single array lookup by item id.
+     *
+     * @param item           the item to check.
+     * @param classification the category.
+     * @return true if the item, or for the discovered categories any variant of it, belongs to the category.
+     */
+    boolean hasClassification(@NotNull Item item, @NotNull ItemClassification classification);
 }
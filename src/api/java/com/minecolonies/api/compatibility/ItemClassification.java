@@ -0,0 +1,26 @@
+package com.minecolonies.api.compatibility;
+
+/**
+ * The item categories discovered by the {@link ICompatibilityManager}, see {@link ICompatibilityManager#hasClassification}.
+ */
+public enum ItemClassification
+{
+    FOOD,
+    EDIBLE,
+    FUEL,
+    SMELTABLE_ORE,
+    PLANTABLE,
+    FLOWER,
+    SAPLING,
+    COMPOSTABLE;
+
+    /**
+     * Get the bit of this classification in a classification mask.
+     *
+     * @return the mask bit.
+     */
+    public int getMask()
+    {
+        return 1 << ordinal();
+    }
+}
@@ -3,10 +3,15 @@ package com.minecolonies.api.crafting;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Immutable ItemStorage version.
+ * Immutable ItemStorage version. Holds a copy of the stack, so its key is computed once.
  */
 public class ImmutableItemStorage extends ItemStorage
 {
+    /**
+     * The interned key of the copied stack.
+     */
+    private final ItemKey key;
+
     /**
      * Creates an instance of the storage.
      *
@@ -14,8 +19,16 @@ public class ImmutableItemStorage extends ItemStorage
      */
     public ImmutableItemStorage(@NotNull final ItemStorage storage)
     {
-        super(storage.getItemStack(), storage.ignoreDamageValue(), storage.ignoreNBT());
+        super(storage.getItemStack().copy(), storage.ignoreDamageValue(), storage.ignoreNBT());
         super.setAmount(storage.getAmount());
+        this.key = super.getKey();
+    }
+
+    @NotNull
+    @Override
+    public ItemKey getKey()
+    {
+        return key;
     }
 
     @Override
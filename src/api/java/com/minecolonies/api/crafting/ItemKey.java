@@ -0,0 +1,198 @@
+package com.minecolonies.api.crafting;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntTag;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Immutable, interned hash key of an item stack under a comparison mode.
+ * <p>
+ * Unlike {@link ItemStorage}, which only hashes the item because its equality depends on the modes of both sides, a key carries its mode and hashes the damage and
+ * a fingerprint of the NBT computed once on creation. Keys of the same mode are equal exactly if the stacks match under that mode, so maps of keys that share a
+ * mode don't collapse all variants of an item, like enchanted books, into one bucket. Keys are interned, equal keys are the same instance.
+ * <p>
+ * When the damage is ignored but the NBT is matched, the value of the "Damage" tag is ignored but not its presence, like in
+ * {@link ItemStackUtils#compareItemStacksIgnoreStackSize(ItemStack, ItemStack, boolean, boolean)}. A stack without a tag matches one with an empty tag.
+ */
+public final class ItemKey
+{
+    /**
+     * The interner of all keys.
+     */
+    private static final Interner<ItemKey> INTERNER = Interners.newWeakInterner();
+
+    /**
+     * The NBT key of the damage.
+     */
+    private static final String TAG_DAMAGE = "Damage";
+
+    /**
+     * Key of every empty stack, no matter the mode.
+     */
+    public static final ItemKey EMPTY = new ItemKey(Items.AIR, 0, null, true, true);
+
+    /**
+     * The item.
+     */
+    private final Item item;
+
+    /**
+     * The damage value, 0 if ignored.
+     */
+    private final int damage;
+
+    /**
+     * The compared part of the NBT, null if ignored or empty.
+     */
+    @Nullable
+    private final CompoundTag tag;
+
+    /**
+     * If the damage is ignored.
+     */
+    private final boolean ignoreDamage;
+
+    /**
+     * If the NBT is ignored.
+     */
+    private final boolean ignoreNBT;
+
+    /**
+     * The precomputed hash, including the NBT fingerprint.
+     */
+    private final int hash;
+
+    /**
+     * Create a new key, use {@link #of(ItemStack, boolean, boolean)}.
+     *
+     * @param item         the item.
+     * @param damage       the damage.
+     * @param tag          the compared NBT, owned by the key.
+     * @param ignoreDamage if the damage is ignored.
+     * @param ignoreNBT    if the NBT is ignored.
+     */
+    private ItemKey(final Item item, final int damage, @Nullable final CompoundTag tag, final boolean ignoreDamage, final boolean ignoreNBT)
+    {
+        this.item = item;
+        this.damage = damage;
+        this.tag = tag;
+        this.ignoreDamage = ignoreDamage;
+        this.ignoreNBT = ignoreNBT;
+        this.hash = Objects.hash(item, damage, tag == null ? 0 : tag.hashCode(), ignoreDamage, ignoreNBT);
+    }
+
+    /**
+     * Get the key of a stack under the given comparison mode.
+     *
+     * @param stack        the stack, it is not retained.
+     * @param ignoreDamage if the damage should be ignored.
+     * @param ignoreNBT    if the NBT should be ignored.
+     * @return the interned key.
+     */
+    @NotNull
+    public static ItemKey of(@Nullable final ItemStack stack, final boolean ignoreDamage, final boolean ignoreNBT)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return EMPTY;
+        }
+
+        CompoundTag tag = null;
+        if (!ignoreNBT && stack.hasTag() && !stack.getTag().isEmpty())
+        {
+            tag = stack.getTag().copy();
+            if (ignoreDamage && tag.contains(TAG_DAMAGE))
+            {
+                // The legacy comparison skips the value, but still counts the tag.
+                tag.put(TAG_DAMAGE, IntTag.valueOf(0));
+            }
+        }
+
+        return INTERNER.intern(new ItemKey(stack.getItem(), ignoreDamage ? 0 : stack.getDamageValue(), tag, ignoreDamage, ignoreNBT));
+    }
+
+    /**
+     * Get the key of a stack, matching damage and NBT.
+     *
+     * @param stack the stack, it is not retained.
+     * @return the interned key.
+     */
+    @NotNull
+    public static ItemKey of(@Nullable final ItemStack stack)
+    {
+        return of(stack, false, false);
+    }
+
+    /**
+     * Get the item of the key.
+     *
+     * @return the item.
+     */
+    @NotNull
+    public Item getItem()
+    {
+        return item;
+    }
+
+    /**
+     * Check if the damage is ignored.
+     *
+     * @return true if so.
+     */
+    public boolean ignoreDamageValue()
+    {
+        return ignoreDamage;
+    }
+
+    /**
+     * Check if the NBT is ignored.
+     *
+     * @return true if so.
+     */
+    public boolean ignoreNBT()
+    {
+        return ignoreNBT;
+    }
+
+    @Override
+    public boolean equals(final Object o)
+    {
+        if (this == o)
+        {
+            return true;
+        }
+        if (!(o instanceof ItemKey))
+        {
+            return false;
+        }
+
+        final ItemKey that = (ItemKey) o;
+        return hash == that.hash
+                 && item == that.item
+                 && damage == that.damage
+                 && ignoreDamage == that.ignoreDamage
+                 && ignoreNBT == that.ignoreNBT
+                 && Objects.equals(tag, that.tag);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "ItemKey{" + item + (ignoreDamage ? "" : ", damage=" + damage) + (ignoreNBT ? "" : ", nbt=" + tag) + "}";
+    }
+}
@@ -274,9 +274,26 @@ public class ItemStorage
         }
 
         final ItemStorage that = (ItemStorage) o;
+        if (this instanceof ImmutableItemStorage && that instanceof ImmutableItemStorage && this.matchDefinitionEquals(that))
+        {
+            // Keys of immutable storages are cached and interned, comparing them avoids walking the NBT again.
+            return this.getKey() == that.getKey();
+        }
         return ItemStackUtils.compareItemStacksIgnoreStackSize(that.getItemStack(), this.getItemStack(), !(this.shouldIgnoreDamageValue || that.shouldIgnoreDamageValue), !(this.shouldIgnoreNBTValue || that.shouldIgnoreNBTValue));
     }
 
+    /**
+     * Get the interned key of the stack under the comparison mode of this storage. The stack may be modified, so the key is computed on every call, use an
+     * {@link ImmutableItemStorage} to keep it.
+     *
+     * @return the key.
+     */
+    @NotNull
+    public ItemKey getKey()
+    {
+        return ItemKey.of(stack, shouldIgnoreDamageValue, shouldIgnoreNBTValue);
+    }
+
     /**
      * Ensure that two ItemStorage have the same comparison defintion
      * @param that the item to compare to
@@ -27,6 +27,13 @@ public interface ITickingTransition<S extends IState> extends IStateMachineTrans
      */
     int countdownTicksToUpdate();
 
+    /**
+     * Get the ticks until the next update, without counting down.
+     *
+     * @return the ticks.
+     */
+    int getTicksToUpdate();
+
     /**
      * Sets the ticks until next update
      *
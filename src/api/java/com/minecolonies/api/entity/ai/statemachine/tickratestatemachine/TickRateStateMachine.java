@@ -3,23 +3,27 @@ package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
 import com.minecolonies.api.entity.ai.statemachine.basestatemachine.BasicStateMachine;
 import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
+import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineEvent;
+import com.minecolonies.api.util.profiling.ColonyProfiler;
+import com.minecolonies.api.util.profiling.ProfilerSection;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.*;
 import java.util.function.Consumer;
 
 /**
  * Statemachine with an added tickrate limiting of transitions, allowing transitions to be checked at a lower rate. Default tickrate is 20 tps (Minecraft default).
+ * <p>
+ * Transitions are scheduled on a timing wheel for the tick they are due next. Each tick only the due transitions are checked, in the same order as before: ai
+ * blocking, event, state blocking and then the transitions of the current state, each in the order they were added. Only the transitions of the current state are on
+ * the wheel. Leaving a state parks its transitions with the ticks they had left, entering it re-arms them from the current tick, so their delays pause while the
+ * machine is in another state, like the per transition countdown did.
+ * <p>
+ * A lowered tick rate does not apply while the current state has transitions with a tick rate of one. Those are written to run every tick and often count their
+ * calls, so they keep running every tick and their timeouts stay as long as intended.
  */
 public class TickRateStateMachine<S extends IState> extends BasicStateMachine<ITickingTransition<S>, S> implements ITickRateStateMachine<S>
 {
-    /**
-     * Counter keeping track of ticks
-     */
-    private int tickCounter = 0;
-
     /**
      * The rate the statemachine currently ticks at. Sets the amount of ticks - 1 which are skipped.
      */
@@ -30,6 +34,16 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
      */
     private int tickRateCounter = 0;
 
+    /**
+     * The ticks passed since the statemachine was last executed.
+     */
+    private int skippedTicks = 0;
+
+    /**
+     * If the current state has transitions with a tick rate of one, which makes the statemachine run every tick.
+     */
+    private boolean fullRateState = false;
+
     /**
      * Currently used transition
      */
@@ -42,6 +56,41 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     private final List<ITickingTransition<S>> stateBlockingTransitions;
     private final List<ITickingTransition<S>> eventTransitions;
 
+    /**
+     * The wheel the transitions are scheduled on, advanced once per game tick of this machine.
+     * <p>
+     * This is deliberately not a wheel shared by all machines and advanced in the server tick. Machines only run while their owner is ticked, entities stop in chunks
+     * out of ticking range and colonies switch to their unloaded transitions, and their transitions have to pause meanwhile instead of all being due at once when the
+     * owner resumes. A shared wheel would also keep the machines of removed entities referenced until their timers run out, and the benchmarks tick machines without
+     * a server.
+     */
+    private final TimerWheel<Scheduled<S>> wheel = new TimerWheel<>();
+
+    /**
+     * The scheduling entry of every checked transition.
+     */
+    private final Map<ITickingTransition<S>, Scheduled<S>> scheduled = new IdentityHashMap<>();
+
+    /**
+     * The due event transitions, in check order.
+     */
+    private final List<Scheduled<S>> readyEvents = new ArrayList<>();
+
+    /**
+     * The due state transitions by state, in check order.
+     */
+    private final Map<S, List<Scheduled<S>>> readyStates = new HashMap<>();
+
+    /**
+     * Reused snapshot of the due transitions checked in a tick.
+     */
+    private final List<Scheduled<S>> checking = new ArrayList<>();
+
+    /**
+     * Sequence of added transitions, keeps the order within a group.
+     */
+    private int sequence = 0;
+
     /**
      * Construct a new StateMachine
      *
@@ -61,50 +110,250 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         this.eventTransitionMap.put(AIBlockingEventType.EVENT, eventTransitions);
     }
 
+    @Override
+    public void addTransition(final ITickingTransition<S> transition)
+    {
+        super.addTransition(transition);
+
+        final int group = getGroup(transition);
+        if (group < 0)
+        {
+            // Not checked by this statemachine.
+            return;
+        }
+
+        if (transition.getState() == getState())
+        {
+            updateFullRateState();
+        }
+
+        final Scheduled<S> entry = new Scheduled<>(transition, ((long) group << Integer.SIZE) | sequence++);
+        final Scheduled<S> previous = scheduled.put(transition, entry);
+        if (previous != null)
+        {
+            unschedule(previous);
+        }
+
+        if (isActive(entry))
+        {
+            schedule(entry, transition.getTicksToUpdate());
+        }
+        else
+        {
+            entry.remaining = transition.getTicksToUpdate();
+        }
+    }
+
+    @Override
+    public void removeTransition(final ITickingTransition<S> transition)
+    {
+        super.removeTransition(transition);
+        if (transition.getState() == getState())
+        {
+            updateFullRateState();
+        }
+
+        final Scheduled<S> entry = scheduled.remove(transition);
+        if (entry != null)
+        {
+            unschedule(entry);
+        }
+    }
+
     /**
      * Tick the statemachine.
      */
     @Override
     public void tick()
     {
-        if (tickRateCounter > 1)
+        skippedTicks++;
+        if (tickRateCounter > 1 && !fullRateState)
         {
             tickRateCounter--;
             return;
         }
         tickRateCounter = tickRate;
 
-        for (final ITickingTransition<S> transition : aiBlockingTransitions)
+        // Skipped ticks still count towards the transition delays, a lower tick rate checks less often but doesn't slow the transitions down.
+        for (; skippedTicks > 0; skippedTicks--)
+        {
+            wheel.advance(this::onDue);
+        }
+
+        if (checkReady(readyEvents))
+        {
+            return;
+        }
+
+        final List<Scheduled<S>> readyState = readyStates.get(getState());
+        if (readyState != null)
+        {
+            checkReady(readyState);
+        }
+    }
+
+    @Override
+    public boolean transitionToNext(@NotNull final ITickingTransition<S> transition)
+    {
+        final S previous = getState();
+        final boolean transitioned = super.transitionToNext(transition);
+        if (getState() != previous)
+        {
+            onStateChange(previous, getState());
+        }
+        return transitioned;
+    }
+
+    @Override
+    public void reset()
+    {
+        final S previous = getState();
+        super.reset();
+        if (getState() != previous)
+        {
+            onStateChange(previous, getState());
+        }
+    }
+
+    /**
+     * Park the transitions of the left state and re-arm the transitions of the entered state from the current tick.
+     *
+     * @param left    the left state.
+     * @param entered the entered state.
+     */
+    private void onStateChange(final S left, final S entered)
+    {
+        final List<ITickingTransition<S>> leftTransitions = transitionMap.get(left);
+        if (leftTransitions != null)
         {
-            if (checkTransition(transition))
+            for (final ITickingTransition<S> transition : leftTransitions)
             {
-                return;
+                final Scheduled<S> entry = scheduled.get(transition);
+                if (entry != null && !isActive(entry))
+                {
+                    park(entry);
+                }
             }
         }
 
-        for (final ITickingTransition<S> transition : eventTransitions)
+        final List<ITickingTransition<S>> enteredTransitions = transitionMap.get(entered);
+        if (enteredTransitions != null)
         {
-            if (checkTransition(transition))
+            for (final ITickingTransition<S> transition : enteredTransitions)
             {
-                return;
+                final Scheduled<S> entry = scheduled.get(transition);
+                if (entry != null && isActive(entry))
+                {
+                    arm(entry);
+                }
             }
         }
+        updateFullRateState();
+    }
 
-        for (final ITickingTransition<S> transition : stateBlockingTransitions)
+    /**
+     * Check if the current state has transitions with a tick rate of one.
+     */
+    private void updateFullRateState()
+    {
+        fullRateState = false;
+        final List<ITickingTransition<S>> transitions = transitionMap.get(getState());
+        if (transitions != null)
         {
-            if (checkTransition(transition))
+            for (final ITickingTransition<S> transition : transitions)
             {
-                return;
+                if (transition.getTickRate() <= 1)
+                {
+                    fullRateState = true;
+                    return;
+                }
             }
         }
+    }
+
+    /**
+     * Take a transition off the wheel, keeping the ticks it had left.
+     *
+     * @param entry the transition.
+     */
+    private void park(final Scheduled<S> entry)
+    {
+        if (entry.ready)
+        {
+            entry.remaining = 0;
+        }
+        else if (entry.timer != null)
+        {
+            entry.remaining = (int) Math.max(1, entry.timer.getDue() - wheel.getNow());
+        }
+        else
+        {
+            // Already parked.
+            return;
+        }
+        unschedule(entry);
+    }
+
+    /**
+     * Put a parked transition back on the wheel with the ticks it had left, or queue it right away if it was due.
+     *
+     * @param entry the transition.
+     */
+    private void arm(final Scheduled<S> entry)
+    {
+        if (entry.ready || entry.timer != null)
+        {
+            // Already armed.
+            return;
+        }
+
+        if (entry.remaining <= 0)
+        {
+            onDue(entry);
+        }
+        else
+        {
+            schedule(entry, entry.remaining);
+        }
+    }
+
+    /**
+     * Check if a transition is checked in the current state, which is the case for all event transitions and the transitions of the current state.
+     *
+     * @param entry the transition.
+     * @return true if so.
+     */
+    private boolean isActive(final Scheduled<S> entry)
+    {
+        return entry.transition instanceof IStateMachineEvent || entry.transition.getState() == getState();
+    }
+
+    /**
+     * Check the due transitions of one list in order.
+     *
+     * @param ready the due transitions.
+     * @return true if a transition worked and we should stop executing this tick
+     */
+    private boolean checkReady(final List<Scheduled<S>> ready)
+    {
+        if (ready.isEmpty())
+        {
+            return false;
+        }
 
-        for (final ITickingTransition<S> transition : currentStateTransitions)
+        // Checking transitions may add or remove others, work on a snapshot.
+        checking.clear();
+        checking.addAll(ready);
+        for (final Scheduled<S> entry : checking)
         {
-            if (checkTransition(transition))
+            if (entry.ready && checkTransition(entry.transition))
             {
-                return;
+                checking.clear();
+                return true;
             }
         }
+        checking.clear();
+        return false;
     }
 
     /**
@@ -117,14 +366,118 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     public boolean checkTransition(@NotNull final ITickingTransition<S> transition)
     {
         // Check if the target should be run this Tick
-        if (transition.countdownTicksToUpdate() > 0)
+        final Scheduled<S> entry = scheduled.get(transition);
+        if (entry == null || !entry.ready)
         {
             return false;
         }
 
-        transition.setTicksToUpdate(transition.getTickRate());
+        getReadyList(entry).remove(entry);
+        entry.ready = false;
+        schedule(entry, transition.getTickRate());
         executedTransition = transition;
-        return super.checkTransition(transition);
+
+        final S state = getState();
+        final long start = ColonyProfiler.start();
+        final boolean transitioned = super.checkTransition(transition);
+        ColonyProfiler.end(ProfilerSection.AI_STATE, state, start);
+        return transitioned;
+    }
+
+    /**
+     * Called by the wheel when a transition is due, queues it for checking.
+     *
+     * @param entry the due transition.
+     */
+    private void onDue(final Scheduled<S> entry)
+    {
+        entry.timer = null;
+        entry.ready = true;
+
+        final List<Scheduled<S>> ready = getReadyList(entry);
+        int index = ready.size();
+        while (index > 0 && ready.get(index - 1).order > entry.order)
+        {
+            index--;
+        }
+        ready.add(index, entry);
+    }
+
+    /**
+     * Schedule a transition to be due after the given amount of game ticks.
+     *
+     * @param entry the transition.
+     * @param ticks the ticks, at least one.
+     */
+    private void schedule(final Scheduled<S> entry, final int ticks)
+    {
+        if (entry.timer != null)
+        {
+            entry.timer.cancel();
+        }
+        entry.timer = wheel.schedule(entry, wheel.getNow() + Math.max(ticks, 1));
+    }
+
+    /**
+     * Remove a transition from the wheel and the due lists.
+     *
+     * @param entry the transition.
+     */
+    private void unschedule(final Scheduled<S> entry)
+    {
+        if (entry.timer != null)
+        {
+            entry.timer.cancel();
+            entry.timer = null;
+        }
+        if (entry.ready)
+        {
+            getReadyList(entry).remove(entry);
+            entry.ready = false;
+        }
+    }
+
+    /**
+     * Get the list of due transitions a transition is queued in.
+     *
+     * @param entry the transition.
+     * @return the list.
+     */
+    private List<Scheduled<S>> getReadyList(final Scheduled<S> entry)
+    {
+        if (entry.transition instanceof IStateMachineEvent)
+        {
+            return readyEvents;
+        }
+        return readyStates.computeIfAbsent(entry.transition.getState(), k -> new ArrayList<>());
+    }
+
+    /**
+     * Get the check order group of a transition.
+     *
+     * @param transition the transition.
+     * @return the group, or -1 if the transition is not checked by this statemachine.
+     */
+    private static int getGroup(final ITickingTransition<?> transition)
+    {
+        if (transition instanceof IStateMachineEvent)
+        {
+            final Object eventType = ((IStateMachineEvent<?>) transition).getEventType();
+            if (eventType == AIBlockingEventType.AI_BLOCKING)
+            {
+                return 0;
+            }
+            if (eventType == AIBlockingEventType.EVENT)
+            {
+                return 1;
+            }
+            if (eventType == AIBlockingEventType.STATE_BLOCKING)
+            {
+                return 2;
+            }
+            return -1;
+        }
+        return transition.getState() == null ? -1 : 3;
     }
 
     @Override
@@ -144,5 +497,65 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     public void setCurrentDelay(final int ticksToNext)
     {
         executedTransition.setTicksToUpdate(ticksToNext);
+
+        final Scheduled<S> entry = scheduled.get(executedTransition);
+        if (entry == null || entry.ready)
+        {
+            return;
+        }
+
+        if (isActive(entry))
+        {
+            schedule(entry, ticksToNext);
+        }
+        else
+        {
+            entry.remaining = ticksToNext;
+        }
+    }
+
+    /**
+     * Scheduling state of a transition.
+     *
+     * @param <S> the state type.
+     */
+    private static final class Scheduled<S extends IState>
+    {
+        /**
+         * The transition.
+         */
+        private final ITickingTransition<S> transition;
+
+        /**
+         * The check order, group in the upper and sequence in the lower bits.
+         */
+        private final long order;
+
+        /**
+         * The pending timer, null while due.
+         */
+        private TimerWheel.Timer<Scheduled<S>> timer;
+
+        /**
+         * If the transition is due and queued for checking.
+         */
+        private boolean ready = false;
+
+        /**
+         * The ticks left while the transition is parked, because its state is not the current one.
+         */
+        private int remaining = 0;
+
+        /**
+         * Create a new entry.
+         *
+         * @param transition the transition.
+         * @param order      the check order.
+         */
+        private Scheduled(final ITickingTransition<S> transition, final long order)
+        {
+            this.transition = transition;
+            this.order = order;
+        }
     }
 }
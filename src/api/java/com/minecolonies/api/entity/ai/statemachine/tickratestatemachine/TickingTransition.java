@@ -123,6 +123,12 @@ public class TickingTransition<S extends IState> extends BasicTransition<S> impl
         return --ticksToUpdate;
     }
 
+    @Override
+    public int getTicksToUpdate()
+    {
+        return ticksToUpdate;
+    }
+
     @Override
     public void setTicksToUpdate(final int ticksToUpdate)
     {
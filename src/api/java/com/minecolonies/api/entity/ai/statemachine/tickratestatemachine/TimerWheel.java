@@ -0,0 +1,227 @@
+package com.minecolonies.api.entity.ai.statemachine.tickratestatemachine;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel, schedules values for a future tick and hands them out once that tick is reached. Scheduling, cancelling and advancing by one tick
+ * are constant time, no matter how many values are scheduled or how far in the future they are due.
+ * <p>
+ * The wheel has three levels of 64 slots, covering 64, 4096 and 262144 ticks. Values due further in the future wait in an overflow list. Values move down one level
+ * whenever the slot they wait in is reached.
+ *
+ * @param <T> the type of the scheduled values.
+ */
+public final class TimerWheel<T>
+{
+    /**
+     * Slots per level, as power of two.
+     */
+    private static final int SLOT_BITS = 6;
+
+    /**
+     * Slots per level.
+     */
+    private static final int SLOTS = 1 << SLOT_BITS;
+
+    /**
+     * Slot index mask.
+     */
+    private static final int MASK = SLOTS - 1;
+
+    /**
+     * Number of levels.
+     */
+    private static final int LEVELS = 3;
+
+    /**
+     * The levels, slots are created on first use.
+     */
+    @SuppressWarnings("unchecked")
+    private final List<Timer<T>>[][] levels = new List[LEVELS][SLOTS];
+
+    /**
+     * Timers due beyond the range of the highest level.
+     */
+    private final List<Timer<T>> overflow = new ArrayList<>();
+
+    /**
+     * The current tick.
+     */
+    private long now = 0;
+
+    /**
+     * Get the current tick of the wheel.
+     *
+     * @return the tick.
+     */
+    public long getNow()
+    {
+        return now;
+    }
+
+    /**
+     * Schedule a value for a tick. Ticks not after the current tick are handed out on the next advance.
+     *
+     * @param value the value.
+     * @param due   the tick the value is due.
+     * @return the timer, to cancel it.
+     */
+    @NotNull
+    public Timer<T> schedule(@NotNull final T value, final long due)
+    {
+        final Timer<T> timer = new Timer<>(value, Math.max(due, now + 1));
+        insert(timer);
+        return timer;
+    }
+
+    /**
+     * Advance the wheel by one tick, handing every value due at the new tick to the consumer.
+     *
+     * @param consumer the consumer of the due values.
+     */
+    public void advance(@NotNull final Consumer<T> consumer)
+    {
+        now++;
+
+        if ((now & ((1L << (SLOT_BITS * LEVELS)) - 1)) == 0 && !overflow.isEmpty())
+        {
+            final List<Timer<T>> waiting = new ArrayList<>(overflow);
+            overflow.clear();
+            waiting.forEach(this::insert);
+        }
+
+        for (int level = LEVELS - 1; level > 0; level--)
+        {
+            if ((now & ((1L << (SLOT_BITS * level)) - 1)) == 0)
+            {
+                cascade(level, (int) (now >> (SLOT_BITS * level)) & MASK);
+            }
+        }
+
+        final List<Timer<T>> slot = levels[0][(int) now & MASK];
+        if (slot == null || slot.isEmpty())
+        {
+            return;
+        }
+
+        // Values scheduled by the consumer are at least one tick ahead and never land in this slot.
+        for (int i = 0; i < slot.size(); i++)
+        {
+            final Timer<T> timer = slot.get(i);
+            if (!timer.cancelled)
+            {
+                timer.cancelled = true;
+                consumer.accept(timer.value);
+            }
+        }
+        slot.clear();
+    }
+
+    /**
+     * Move the timers of a slot one level down.
+     *
+     * @param level the level.
+     * @param index the slot index.
+     */
+    private void cascade(final int level, final int index)
+    {
+        final List<Timer<T>> slot = levels[level][index];
+        if (slot == null || slot.isEmpty())
+        {
+            return;
+        }
+
+        // The timers are less than one slot of this level away and move to a lower level.
+        for (final Timer<T> timer : slot)
+        {
+            if (!timer.cancelled)
+            {
+                insert(timer);
+            }
+        }
+        slot.clear();
+    }
+
+    /**
+     * Insert a timer into the level matching its distance to the current tick.
+     *
+     * @param timer the timer.
+     */
+    private void insert(final Timer<T> timer)
+    {
+        final long delta = timer.due - now;
+        for (int level = 0; level < LEVELS; level++)
+        {
+            if (delta < (1L << (SLOT_BITS * (level + 1))))
+            {
+                final int index = (int) (timer.due >> (SLOT_BITS * level)) & MASK;
+                List<Timer<T>> slot = levels[level][index];
+                if (slot == null)
+                {
+                    slot = new ArrayList<>();
+                    levels[level][index] = slot;
+                }
+                slot.add(timer);
+                return;
+            }
+        }
+        overflow.add(timer);
+    }
+
+    /**
+     * A scheduled value.
+     *
+     * @param <T> the type of the value.
+     */
+    public static final class Timer<T>
+    {
+        /**
+         * The value.
+         */
+        private final T value;
+
+        /**
+         * The tick the value is due.
+         */
+        private final long due;
+
+        /**
+         * If the timer was cancelled or already handed out.
+         */
+        private boolean cancelled = false;
+
+        /**
+         * Create a new timer.
+         *
+         * @param value the value.
+         * @param due   the due tick.
+         */
+        private Timer(final T value, final long due)
+        {
+            this.value = value;
+            this.due = due;
+        }
+
+        /**
+         * Get the tick the value is due.
+         *
+         * @return the tick.
+         */
+        public long getDue()
+        {
+            return due;
+        }
+
+        /**
+         * Cancel the timer, the value won't be handed out.
+         */
+        public void cancel()
+        {
+            cancelled = true;
+        }
+    }
+}
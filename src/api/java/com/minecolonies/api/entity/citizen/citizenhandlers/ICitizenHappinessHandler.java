@@ -2,6 +2,7 @@ package com.minecolonies.api.entity.citizen.citizenhandlers;
 
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.entity.citizen.happiness.HappinessDependency;
 import com.minecolonies.api.entity.citizen.happiness.IHappinessModifier;
 import net.minecraft.nbt.CompoundTag;
 
@@ -49,6 +50,13 @@ public interface ICitizenHappinessHandler
      */
     double getHappiness(final IColony colony, final ICitizenData citizenData);
 
+    /**
+     * Mark the factors of all modifiers with the given dependency as outdated, they are computed again on the next happiness query.
+     *
+     * @param dependency the changed dependency.
+     */
+    void markDirty(final HappinessDependency dependency);
+
     /**
      * Read the handler from NBT.
      *
@@ -5,6 +5,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
 import com.minecolonies.api.entity.citizen.Skill;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.util.Tuple;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -48,6 +49,20 @@ public interface ICitizenSkillHandler
      */
     void read(@NotNull final CompoundTag compoundNBT);
 
+    /**
+     * Write the skills to a byte buf for the client view.
+     *
+     * @param buf the buffer to write to.
+     */
+    void serialize(@NotNull final FriendlyByteBuf buf);
+
+    /**
+     * Read the skills from a byte buf written by {@link #serialize(FriendlyByteBuf)}.
+     *
+     * @param buf the buffer to read from.
+     */
+    void deserialize(@NotNull final FriendlyByteBuf buf);
+
     /**
      * Attempt an intelligence level up with a base chance.
      *
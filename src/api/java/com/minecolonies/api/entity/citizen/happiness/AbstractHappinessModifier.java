@@ -89,4 +89,10 @@ public abstract class AbstractHappinessModifier implements IHappinessModifier
     {
         return weight;
     }
+
+    @Override
+    public HappinessDependency getDependency()
+    {
+        return supplier.getDependency();
+    }
 }
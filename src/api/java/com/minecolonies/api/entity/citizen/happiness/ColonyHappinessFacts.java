@@ -0,0 +1,61 @@
+package com.minecolonies.api.entity.citizen.happiness;
+
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Cache of the colony wide happiness facts of one colony. Every fact is computed once and shared by all citizens until the facts are invalidated.
+ */
+public class ColonyHappinessFacts
+{
+    /**
+     * The computed facts by happiness function.
+     */
+    private final Object2DoubleOpenHashMap<ResourceLocation> facts = new Object2DoubleOpenHashMap<>();
+
+    /**
+     * Incremented on every invalidation.
+     */
+    private int version = 0;
+
+    /**
+     * Get a fact, computing it if it is not cached.
+     *
+     * @param key      the key of the happiness function.
+     * @param computer computes the fact.
+     * @return the fact.
+     */
+    public double get(@NotNull final ResourceLocation key, @NotNull final DoubleSupplier computer)
+    {
+        if (facts.containsKey(key))
+        {
+            return facts.getDouble(key);
+        }
+
+        final double value = computer.getAsDouble();
+        facts.put(key, value);
+        return value;
+    }
+
+    /**
+     * Drop all facts, to be called when anything the facts are computed from changed.
+     */
+    public void invalidate()
+    {
+        facts.clear();
+        version++;
+    }
+
+    /**
+     * Get the version of the facts, citizens compare it to know when their colony dependent factors are outdated.
+     *
+     * @return the version.
+     */
+    public int getVersion()
+    {
+        return version;
+    }
+}
@@ -59,7 +59,15 @@ public class DynamicHappinessSupplier implements IHappinessSupplierWrapper
     @Override
     public double getValue(final ICitizenData citizenData)
     {
-        lastValue = IMinecoloniesAPI.getInstance().getHappinessFunctionRegistry().getValue(key).getDoubleSupplier().apply(citizenData);
+        final HappinessRegistry.HappinessFunctionEntry entry = IMinecoloniesAPI.getInstance().getHappinessFunctionRegistry().getValue(key);
+        if (entry.getDependency() == HappinessDependency.COLONY)
+        {
+            lastValue = citizenData.getColony().getCitizenManager().getHappinessFacts().get(key, () -> entry.getDoubleSupplier().apply(citizenData));
+        }
+        else
+        {
+            lastValue = entry.getDoubleSupplier().apply(citizenData);
+        }
         return lastValue;
     }
 
@@ -68,4 +76,10 @@ public class DynamicHappinessSupplier implements IHappinessSupplierWrapper
     {
         return lastValue;
     }
+
+    @Override
+    public HappinessDependency getDependency()
+    {
+        return IMinecoloniesAPI.getInstance().getHappinessFunctionRegistry().getValue(key).getDependency();
+    }
 }
@@ -0,0 +1,33 @@
+package com.minecolonies.api.entity.citizen.happiness;
+
+/**
+ * Describes what the factor of a happiness modifier depends on, which decides when a cached factor has to be computed again.
+ */
+public enum HappinessDependency
+{
+    /**
+     * Only changes when the modifier itself changes, like on a day end or a reset.
+     */
+    NONE,
+
+    /**
+     * Depends on the state of the citizen, like its home or job.
+     */
+    CITIZEN,
+
+    /**
+     * Depends only on the saturation of the citizen, which changes nearly every tick.
+     */
+    SATURATION,
+
+    /**
+     * Depends on the passed days, like the days without a house or the days since the citizen last slept. Outdated at the end of every day, in addition to the
+     * dependency of its supplier.
+     */
+    DAY,
+
+    /**
+     * Depends on colony wide facts, like the guard coverage. Computed once per colony and shared by all citizens.
+     */
+    COLONY
+}
@@ -103,13 +103,38 @@ public class HappinessRegistry
     {
         private final Function<ICitizenData, Double> doubleSupplier;
 
+        /**
+         * What the function depends on.
+         */
+        private final HappinessDependency dependency;
+
         /**
          * Create a new entry type.
          * @param doubleSupplier th
          */
         public HappinessFunctionEntry(final Function<ICitizenData, Double> doubleSupplier)
+        {
+            this(doubleSupplier, HappinessDependency.CITIZEN);
+        }
+
+        /**
+         * Create a new entry type.
+         * @param doubleSupplier the function.
+         * @param dependency     what the function depends on, colony functions only use the colony of the citizen.
+         */
+        public HappinessFunctionEntry(final Function<ICitizenData, Double> doubleSupplier, final HappinessDependency dependency)
         {
             this.doubleSupplier = doubleSupplier;
+            this.dependency = dependency;
+        }
+
+        /**
+         * Get what the function depends on.
+         * @return the dependency.
+         */
+        public HappinessDependency getDependency()
+        {
+            return dependency;
         }
 
         /**
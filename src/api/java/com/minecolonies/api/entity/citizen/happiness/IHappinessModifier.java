@@ -30,6 +30,27 @@ public interface IHappinessModifier
      */
     double getWeight();
 
+    /**
+     * Get what the factor depends on, to know when a cached factor is outdated.
+     *
+     * @return the dependency.
+     */
+    default HappinessDependency getDependency()
+    {
+        return HappinessDependency.CITIZEN;
+    }
+
+    /**
+     * Check if the factor is outdated when the given dependency changed.
+     *
+     * @param dependency the changed dependency.
+     * @return true if so.
+     */
+    default boolean dependsOn(final HappinessDependency dependency)
+    {
+        return getDependency() == dependency;
+    }
+
     /**
      * Read the modifier from nbt.
      *
@@ -21,4 +21,13 @@ public interface IHappinessSupplierWrapper extends INBTSerializable<CompoundTag>
      * @return the last cached value.
      */
     double getLastCachedValue();
+
+    /**
+     * Get what the value depends on.
+     * @return the dependency.
+     */
+    default HappinessDependency getDependency()
+    {
+        return HappinessDependency.CITIZEN;
+    }
 }
@@ -24,4 +24,10 @@ public interface ITimeBasedHappinessModifier extends IHappinessModifier
      * @return the days.
      */
     int getDays();
+
+    @Override
+    default boolean dependsOn(final HappinessDependency dependency)
+    {
+        return dependency == HappinessDependency.DAY || getDependency() == dependency;
+    }
 }
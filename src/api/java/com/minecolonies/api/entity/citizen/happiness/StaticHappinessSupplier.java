@@ -57,4 +57,10 @@ public class StaticHappinessSupplier implements IHappinessSupplierWrapper
     {
         return value;
     }
+
+    @Override
+    public HappinessDependency getDependency()
+    {
+        return HappinessDependency.NONE;
+    }
 }
@@ -0,0 +1,284 @@
+package com.minecolonies.api.inventory;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.constant.IToolType;
+import com.minecolonies.api.util.constant.ToolType;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Index of the tools in a citizen inventory.
+ * <p>
+ * Keeps for every tool type the slots holding such a tool, with their mining level and enchantment level. The inventory marks slots whose item changed, and those are
+ * indexed again on the next lookup, so a lookup only looks at the few tools of the requested type instead of every slot. A slot whose item was changed in place, like a
+ * tool breaking, is detected on lookup and indexed again too.
+ */
+public class CitizenToolIndex
+{
+    /**
+     * The indexed tool types.
+     */
+    private static final ToolType[] TOOL_TYPES = ToolType.values();
+
+    /**
+     * The inventory.
+     */
+    private final InventoryCitizen inventory;
+
+    /**
+     * Per tool type, the slots holding a tool of that type.
+     */
+    private final BitSet[] toolSlots = new BitSet[TOOL_TYPES.length];
+
+    /**
+     * The slots which changed since they were indexed.
+     */
+    private final BitSet dirtySlots = new BitSet();
+
+    /**
+     * Per slot, the item it was indexed for, null if it was empty.
+     */
+    private Item[] indexedItems = new Item[0];
+
+    /**
+     * Per slot and tool type, the mining level of the tool.
+     */
+    private int[][] levels = new int[0][];
+
+    /**
+     * Per slot, the highest enchantment level of the tool.
+     */
+    private int[] enchantmentLevels = new int[0];
+
+    /**
+     * Create the index of an inventory.
+     *
+     * @param inventory the inventory.
+     */
+    public CitizenToolIndex(@NotNull final InventoryCitizen inventory)
+    {
+        this.inventory = inventory;
+        for (int i = 0; i < toolSlots.length; i++)
+        {
+            toolSlots[i] = new BitSet();
+        }
+    }
+
+    /**
+     * Mark a slot to be indexed again, called when the item in it changed.
+     *
+     * @param slot the slot.
+     */
+    public void markDirty(final int slot)
+    {
+        dirtySlots.set(slot);
+    }
+
+    /**
+     * Mark all slots to be indexed again, called when the whole inventory is replaced.
+     */
+    public void markAllDirty()
+    {
+        dirtySlots.set(0, Math.max(inventory.getSlots(), indexedItems.length));
+    }
+
+    /**
+     * Get the slot of the lowest level tool of the given type which can harvest a block of the required level and is allowed by the maximum level.
+     *
+     * @param toolType     the tool type.
+     * @param required     the required mining level.
+     * @param maximumLevel the maximum level, including enchantments.
+     * @return the slot, the first one of equal tools, or -1 if there is none.
+     */
+    public int getBestSlot(@NotNull final IToolType toolType, final int required, final int maximumLevel)
+    {
+        int bestSlot = -1;
+        int bestLevel = Integer.MAX_VALUE;
+
+        if (!isIndexed(toolType))
+        {
+            for (int slot = 0; slot < inventory.getSlots(); slot++)
+            {
+                final ItemStack stack = inventory.getStackInSlot(slot);
+                final int level = ItemStackUtils.getMiningLevel(stack, toolType);
+                if (level > -1 && level >= required && level < bestLevel && ItemStackUtils.verifyToolLevel(stack, level, required, maximumLevel))
+                {
+                    bestSlot = slot;
+                    bestLevel = level;
+                }
+            }
+            return bestSlot;
+        }
+
+        update();
+        final int type = ((ToolType) toolType).ordinal();
+        final BitSet slots = toolSlots[type];
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1))
+        {
+            if (isStale(slot))
+            {
+                index(slot);
+                if (!slots.get(slot))
+                {
+                    continue;
+                }
+            }
+
+            final int level = levels[slot][type];
+            if (level > -1 && level >= required && level < bestLevel && level + enchantmentLevels[slot] <= maximumLevel)
+            {
+                bestSlot = slot;
+                bestLevel = level;
+            }
+        }
+        return bestSlot;
+    }
+
+    /**
+     * Get the first slot holding a tool of the given type within the given levels.
+     *
+     * @param toolType     the tool type.
+     * @param minimalLevel the minimal level.
+     * @param maximumLevel the maximum level, including enchantments.
+     * @return the slot or -1 if there is none.
+     */
+    public int getFirstSlot(@NotNull final IToolType toolType, final int minimalLevel, final int maximumLevel)
+    {
+        if (!isIndexed(toolType))
+        {
+            for (int slot = 0; slot < inventory.getSlots(); slot++)
+            {
+                if (ItemStackUtils.hasToolLevel(inventory.getStackInSlot(slot), toolType, minimalLevel, maximumLevel))
+                {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        update();
+        final BitSet slots = toolSlots[((ToolType) toolType).ordinal()];
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1))
+        {
+            if (isStale(slot))
+            {
+                index(slot);
+                if (!slots.get(slot))
+                {
+                    continue;
+                }
+            }
+
+            if (ItemStackUtils.hasToolLevel(inventory.getStackInSlot(slot), toolType, minimalLevel, maximumLevel))
+            {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if the index holds the given tool type. Any stack counts as a tool of type none, so it is never indexed.
+     *
+     * @param toolType the tool type.
+     * @return true if lookups of the type can use the index.
+     */
+    private static boolean isIndexed(final IToolType toolType)
+    {
+        return toolType instanceof ToolType && toolType != ToolType.NONE;
+    }
+
+    /**
+     * Index the slots marked dirty.
+     */
+    private void update()
+    {
+        final int size = inventory.getSlots();
+        if (indexedItems.length != size)
+        {
+            resize(size);
+        }
+
+        for (int slot = dirtySlots.nextSetBit(0); slot >= 0 && slot < size; slot = dirtySlots.nextSetBit(slot + 1))
+        {
+            index(slot);
+        }
+        dirtySlots.clear();
+    }
+
+    /**
+     * Resize the index to the size of the inventory, changed slots are indexed again.
+     *
+     * @param size the new size.
+     */
+    private void resize(final int size)
+    {
+        final int oldSize = indexedItems.length;
+        indexedItems = Arrays.copyOf(indexedItems, size);
+        enchantmentLevels = Arrays.copyOf(enchantmentLevels, size);
+        levels = Arrays.copyOf(levels, size);
+        for (int slot = oldSize; slot < size; slot++)
+        {
+            levels[slot] = new int[TOOL_TYPES.length];
+        }
+
+        if (size < oldSize)
+        {
+            for (final BitSet slots : toolSlots)
+            {
+                slots.clear(size, oldSize);
+            }
+        }
+        else
+        {
+            dirtySlots.set(oldSize, size);
+        }
+    }
+
+    /**
+     * Check if the item in a slot changed in place since it was indexed.
+     *
+     * @param slot the slot.
+     * @return true if it has to be indexed again.
+     */
+    private boolean isStale(final int slot)
+    {
+        final ItemStack stack = inventory.getStackInSlot(slot);
+        return stack.isEmpty() || stack.getItem() != indexedItems[slot];
+    }
+
+    /**
+     * Index a single slot.
+     *
+     * @param slot the slot.
+     */
+    private void index(final int slot)
+    {
+        for (final BitSet slots : toolSlots)
+        {
+            slots.clear(slot);
+        }
+
+        final ItemStack stack = inventory.getStackInSlot(slot);
+        if (stack.isEmpty())
+        {
+            indexedItems[slot] = null;
+            return;
+        }
+
+        indexedItems[slot] = stack.getItem();
+        enchantmentLevels[slot] = ItemStackUtils.getMaxEnchantmentLevel(stack);
+        for (final ToolType toolType : TOOL_TYPES)
+        {
+            if (toolType != ToolType.NONE && ItemStackUtils.isTool(stack, toolType))
+            {
+                toolSlots[toolType.ordinal()].set(slot);
+                levels[slot][toolType.ordinal()] = ItemStackUtils.getMiningLevel(stack, toolType);
+            }
+        }
+    }
+}
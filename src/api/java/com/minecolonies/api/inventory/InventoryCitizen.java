@@ -1,6 +1,8 @@
 package com.minecolonies.api.inventory;
 
+import com.minecolonies.api.colony.CitizenViewSection;
 import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemStack;
@@ -9,6 +11,7 @@ import net.minecraft.nbt.ListTag;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.Nameable;
 import net.minecraft.core.NonNullList;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import org.jetbrains.annotations.NotNull;
@@ -25,6 +28,11 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_SIZE;
  */
 public class InventoryCitizen implements IItemHandlerModifiable, Nameable
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle CITIZEN_INV_SLOTS_EFFECT = ResearchEffectHandle.of(CITIZEN_INV_SLOTS);
+
     /**
      * The returned slot if a slot hasn't been found.
      */
@@ -62,6 +70,11 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
      */
     private ICitizenData citizen;
 
+    /**
+     * The index of the tools in the inventory.
+     */
+    private final CitizenToolIndex toolIndex = new CitizenToolIndex(this);
+
     /**
      * Creates the inventory of the citizen.
      *
@@ -205,6 +218,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
 
             mainInventory = inv;
             freeSlots += futureSize - size;
+            toolIndex.markAllDirty();
         }
     }
 
@@ -276,6 +290,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
             if (ItemStackUtils.isEmpty(stack))
             {
                 freeSlots++;
+                toolIndex.markDirty(slot);
             }
         }
 
@@ -298,6 +313,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
             if (ItemStackUtils.isEmpty(stack))
             {
                 freeSlots++;
+                toolIndex.markDirty(slot);
             }
         }
 
@@ -327,6 +343,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
                 markDirty();
                 freeSlots--;
                 mainInventory.set(slot, copy);
+                toolIndex.markDirty(slot);
                 return ItemStack.EMPTY;
             }
             else
@@ -373,6 +390,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
                 markDirty();
                 freeSlots++;
                 mainInventory.set(slot, ItemStack.EMPTY);
+                toolIndex.markDirty(slot);
             }
             return inSlot;
         }
@@ -388,6 +406,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
                 if (ItemStackUtils.isEmpty(inSlot))
                 {
                     freeSlots++;
+                    toolIndex.markDirty(slot);
                 }
             }
             return copy;
@@ -413,7 +432,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
     {
         if (this.citizen != null)
         {
-            this.citizen.markDirty();
+            this.citizen.markDirty(CitizenViewSection.INVENTORY);
         }
     }
 
@@ -435,14 +454,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
      */
     public ListTag write(final ListTag nbtTagList)
     {
-        if (citizen != null && citizen.getColony() != null)
-        {
-            final double researchEffect = citizen.getColony().getResearchManager().getResearchEffects().getEffectStrength(CITIZEN_INV_SLOTS);
-            if (researchEffect > 0 && this.mainInventory.size() < DEFAULT_INV_SIZE + researchEffect)
-            {
-                resizeInventory(this.mainInventory.size(), (int) (DEFAULT_INV_SIZE + researchEffect));
-            }
-        }
+        applyResearchSize();
 
         final CompoundTag sizeNbt = new CompoundTag();
         sizeNbt.putInt(TAG_SIZE, this.mainInventory.size());
@@ -464,6 +476,85 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
         return nbtTagList;
     }
 
+    /**
+     * Grow the inventory to the size unlocked by research, if needed.
+     */
+    private void applyResearchSize()
+    {
+        if (citizen != null && citizen.getColony() != null)
+        {
+            final double researchEffect = citizen.getColony().getResearchManager().getResearchEffects().getEffectStrength(CITIZEN_INV_SLOTS_EFFECT);
+            if (researchEffect > 0 && this.mainInventory.size() < DEFAULT_INV_SIZE + researchEffect)
+            {
+                resizeInventory(this.mainInventory.size(), (int) (DEFAULT_INV_SIZE + researchEffect));
+            }
+        }
+    }
+
+    /**
+     * Writes the inventory and the held item slots to a byte buf for the client view. Only filled slots are written.
+     *
+     * @param buf the buffer to write to.
+     */
+    public void serialize(@NotNull final FriendlyByteBuf buf)
+    {
+        applyResearchSize();
+
+        int filled = 0;
+        for (final ItemStack stack : mainInventory)
+        {
+            if (!stack.isEmpty())
+            {
+                filled++;
+            }
+        }
+
+        buf.writeVarInt(mainInventory.size());
+        buf.writeVarInt(filled);
+        for (int i = 0; i < mainInventory.size(); i++)
+        {
+            final ItemStack stack = mainInventory.get(i);
+            if (!stack.isEmpty())
+            {
+                buf.writeVarInt(i);
+                buf.writeItem(stack);
+                buf.writeVarInt(stack.getCount());
+            }
+        }
+
+        buf.writeVarInt(mainItem);
+        buf.writeVarInt(offhandItem);
+    }
+
+    /**
+     * Replaces the content of the inventory with the data written by {@link #serialize(FriendlyByteBuf)}.
+     *
+     * @param buf the buffer to read from.
+     */
+    public void deserialize(@NotNull final FriendlyByteBuf buf)
+    {
+        final int size = buf.readVarInt();
+        mainInventory = NonNullList.withSize(size, ItemStackUtils.EMPTY);
+        freeSlots = size;
+
+        final int filled = buf.readVarInt();
+        for (int i = 0; i < filled; i++)
+        {
+            final int slot = buf.readVarInt();
+            final ItemStack stack = buf.readItem();
+            stack.setCount(buf.readVarInt());
+            if (slot < size && !stack.isEmpty())
+            {
+                mainInventory.set(slot, stack);
+                freeSlots--;
+            }
+        }
+
+        mainItem = buf.readVarInt();
+        offhandItem = buf.readVarInt();
+        toolIndex.markAllDirty();
+    }
+
     /**
      * Reads from the given tag list and fills the slots in the inventory with the correct items.
      *
@@ -496,6 +587,7 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
                 }
             }
         }
+        toolIndex.markAllDirty();
     }
 
     @Override
@@ -514,5 +606,17 @@ public class InventoryCitizen implements IItemHandlerModifiable, Nameable
         }
 
         mainInventory.set(slot, stack);
+        toolIndex.markDirty(slot);
+    }
+
+    /**
+     * Get the index of the tools in the inventory, for fast tool lookups.
+     *
+     * @return the tool index.
+     */
+    @NotNull
+    public CitizenToolIndex getToolIndex()
+    {
+        return toolIndex;
     }
 }
@@ -0,0 +1,103 @@
+package com.minecolonies.api.research.effects;
+
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pre-resolved handle of a research effect id.
+ * <p>
+ * Every effect id is interned to a dense slot once, effect managers keep their strengths in an array indexed by that slot. Hot callers should hold on to a handle
+ * instead of looking the effect up by its id every time.
+ */
+public final class ResearchEffectHandle
+{
+    /**
+     * All interned handles, by effect id.
+     */
+    private static final Map<ResourceLocation, ResearchEffectHandle> HANDLES = new ConcurrentHashMap<>();
+
+    /**
+     * The next free slot.
+     */
+    private static final AtomicInteger NEXT_SLOT = new AtomicInteger();
+
+    /**
+     * The effect id.
+     */
+    private final ResourceLocation id;
+
+    /**
+     * The dense slot of the effect.
+     */
+    private final int slot;
+
+    /**
+     * Create a new handle.
+     *
+     * @param id   the effect id.
+     * @param slot the slot.
+     */
+    private ResearchEffectHandle(final ResourceLocation id, final int slot)
+    {
+        this.id = id;
+        this.slot = slot;
+    }
+
+    /**
+     * Get the handle of the given effect id, interning it if it is not known yet.
+     *
+     * @param id the effect id.
+     * @return the handle.
+     */
+    @NotNull
+    public static ResearchEffectHandle of(@NotNull final ResourceLocation id)
+    {
+        final ResearchEffectHandle handle = HANDLES.get(id);
+        if (handle != null)
+        {
+            return handle;
+        }
+        return HANDLES.computeIfAbsent(id, key -> new ResearchEffectHandle(key, NEXT_SLOT.getAndIncrement()));
+    }
+
+    /**
+     * Get the number of slots handed out so far.
+     *
+     * @return the slot count.
+     */
+    public static int getSlotCount()
+    {
+        return NEXT_SLOT.get();
+    }
+
+    /**
+     * Get the effect id.
+     *
+     * @return the id.
+     */
+    @NotNull
+    public ResourceLocation getId()
+    {
+        return id;
+    }
+
+    /**
+     * Get the dense slot of the effect.
+     *
+     * @return the slot.
+     */
+    public int getSlot()
+    {
+        return slot;
+    }
+
+    @Override
+    public String toString()
+    {
+        return id.toString();
+    }
+}
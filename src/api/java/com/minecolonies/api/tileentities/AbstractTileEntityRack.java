@@ -3,7 +3,6 @@ package com.minecolonies.api.tileentities;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.IBuilding;
-import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.core.BlockPos;
@@ -135,8 +134,7 @@ public abstract class AbstractTileEntityRack extends BlockEntity implements Menu
 
                     if (inWarehouse)
                     {
-                        colony.getRequestManager().onColonyUpdate(request ->
-                                                                    request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(stack));
+                        colony.getRequestManager().onItemsAvailable(stack);
                     }
                     else
                     {
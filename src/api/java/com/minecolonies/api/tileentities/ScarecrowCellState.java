@@ -0,0 +1,13 @@
+package com.minecolonies.api.tileentities;
+
+/**
+ * Describes the work a single cell of a field needs. Like if it has to be hoed, planted or harvested.
+ */
+public enum ScarecrowCellState
+{
+    NONE,
+    NEEDS_HOE,
+    NEEDS_PLANT,
+    GROWING,
+    HARVESTABLE
+}
@@ -3,12 +3,17 @@ package com.minecolonies.api.tileentities;
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.crafting.ImmutableItemStorage;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.inventory.api.CombinedItemHandler;
 import com.minecolonies.api.inventory.container.ContainerRack;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenCustomHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -32,7 +37,6 @@ import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -55,10 +59,33 @@ public class TileEntityRack extends AbstractTileEntityRack
      */
     private byte version = 0;
 
+    /**
+     * Hash strategy for the exact content storages, by their interned key. The storages are immutable, so their keys are cached.
+     */
+    private static final Hash.Strategy<ItemStorage> EXACT_STORAGE = new Hash.Strategy<>()
+    {
+        @Override
+        public int hashCode(final ItemStorage storage)
+        {
+            return storage == null ? 0 : storage.getKey().hashCode();
+        }
+
+        @Override
+        public boolean equals(final ItemStorage a, final ItemStorage b)
+        {
+            return a == b || (a != null && b != null && a.getKey() == b.getKey());
+        }
+    };
+
     /**
      * The content of the chest.
      */
-    private final Map<ItemStorage, Integer> content = new HashMap<>();
+    private final Object2IntOpenCustomHashMap<ItemStorage> content = new Object2IntOpenCustomHashMap<>(EXACT_STORAGE);
+
+    /**
+     * The item counts of the content by key, one entry for each of the four comparison modes per distinct stack.
+     */
+    private final Object2IntOpenHashMap<ItemKey> counts = new Object2IntOpenHashMap<>();
 
     /**
      * Size multiplier of the inventory. 0 = default value. 1 = 1*9 additional slots, and so on.
@@ -124,16 +151,13 @@ public class TileEntityRack extends AbstractTileEntityRack
     @Override
     public boolean hasItemStack(final ItemStack stack, final int count, final boolean ignoreDamageValue)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, ignoreDamageValue);
-
-        return content.getOrDefault(checkItem, 0) >= count;
+        return counts.getInt(ItemKey.of(stack, ignoreDamageValue, false)) >= count;
     }
 
     @Override
     public int getCount(final ItemStack stack, final boolean ignoreDamageValue, final boolean ignoreNBT)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, ignoreDamageValue, ignoreNBT);
-        return getCount(checkItem);
+        return counts.getInt(ItemKey.of(stack, ignoreDamageValue, ignoreNBT));
     }
 
     @Override
@@ -145,25 +169,8 @@ public class TileEntityRack extends AbstractTileEntityRack
     @Override
     public int getCount(final ItemStorage storage)
     {
-        if (storage.ignoreDamageValue() || storage.ignoreNBT())
-        {
-            if (!content.containsKey(storage))
-            {
-                return 0;
-            }
-
-            int count = 0;
-            for (final Map.Entry<ItemStorage, Integer> contentStorage : content.entrySet())
-            {
-                if (contentStorage.getKey().equals(storage))
-                {
-                    count += contentStorage.getValue();
-                }
-            }
-            return count;
-        }
-
-        return content.getOrDefault(storage, 0);
+        // The content is stored exact, so the mode of the requested storage decides the match.
+        return counts.getInt(storage.getKey());
     }
 
     @Override
@@ -182,12 +189,12 @@ public class TileEntityRack extends AbstractTileEntityRack
     @Override
     public boolean hasSimilarStack(@NotNull final ItemStack stack)
     {
-        final ItemStorage checkItem = new ItemStorage(stack, true, true);
-        if (content.containsKey(checkItem))
+        if (counts.containsKey(ItemKey.of(stack, true, true)))
         {
             return true;
         }
 
+        final ItemStorage checkItem = new ItemStorage(stack, true, true);
         for (final ItemStorage storage : content.keySet())
         {
             if (checkItem.getPrimaryCreativeTabIndex() == storage.getPrimaryCreativeTabIndex())
@@ -281,6 +288,7 @@ public class TileEntityRack extends AbstractTileEntityRack
     private void updateContent()
     {
         content.clear();
+        counts.clear();
         freeSlots = 0;
         for (int slot = 0; slot < inventory.getSlots(); slot++)
         {
@@ -292,13 +300,13 @@ public class TileEntityRack extends AbstractTileEntityRack
                 continue;
             }
 
-            final ItemStorage storage = new ItemStorage(stack.copy());
-            int amount = ItemStackUtils.getSize(stack);
-            if (content.containsKey(storage))
-            {
-                amount += content.remove(storage);
-            }
-            content.put(storage, amount);
+            final ItemStorage storage = new ImmutableItemStorage(new ItemStorage(stack));
+            final int amount = ItemStackUtils.getSize(stack);
+            content.addTo(storage, amount);
+            counts.addTo(storage.getKey(), amount);
+            counts.addTo(ItemKey.of(stack, true, false), amount);
+            counts.addTo(ItemKey.of(stack, false, true), amount);
+            counts.addTo(ItemKey.of(stack, true, true), amount);
         }
     }
 
@@ -4,10 +4,13 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.constant.IToolType;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
@@ -904,7 +907,8 @@ public class InventoryUtils
     {
         final Level world = provider.getColony().getWorld();
 
-        final Map<ItemStorage, Integer> allMatching = new HashMap<>();
+        final Object2IntOpenHashMap<ItemKey> allMatching = new Object2IntOpenHashMap<>();
+        final Map<ItemKey, ItemStack> matchingStacks = new HashMap<>();
 
         for (final BlockPos pos : provider.getContainers())
         {
@@ -917,7 +921,9 @@ public class InventoryUtils
                     {
                         if (predicate.test(entry.getKey().getItemStack()))
                         {
-                            allMatching.put(entry.getKey(), allMatching.getOrDefault(entry.getKey(), 0) + entry.getValue());
+                            final ItemKey key = entry.getKey().getKey();
+                            allMatching.addTo(key, entry.getValue());
+                            matchingStacks.putIfAbsent(key, entry.getKey().getItemStack());
                         }
                     }
                 }
@@ -925,9 +931,9 @@ public class InventoryUtils
         }
 
         int totalCount = 0;
-        for (final Map.Entry<ItemStorage, Integer> entry : allMatching.entrySet())
+        for (final Object2IntMap.Entry<ItemKey> entry : allMatching.object2IntEntrySet())
         {
-            totalCount += Math.min(limit.apply(entry.getKey().getItemStack()), entry.getValue());
+            totalCount += Math.min(limit.apply(matchingStacks.get(entry.getKey())), entry.getIntValue());
         }
 
         return totalCount;
@@ -1549,6 +1555,11 @@ public class InventoryUtils
      */
     public static boolean isToolInItemHandler(@NotNull final IItemHandler itemHandler, @NotNull final IToolType toolType, final int minimalLevel, final int maximumLevel)
     {
+        if (itemHandler instanceof InventoryCitizen)
+        {
+            return ((InventoryCitizen) itemHandler).getToolIndex().getFirstSlot(toolType, minimalLevel, maximumLevel) >= 0;
+        }
+
         return hasItemInItemHandler(itemHandler, (ItemStack stack) ->
                                                    ItemStackUtils.hasToolLevel(stack, toolType, minimalLevel, maximumLevel));
     }
@@ -1579,6 +1590,11 @@ public class InventoryUtils
       @NotNull final IItemHandler itemHandler, @NotNull final IToolType toolType, final int minimalLevel,
       final int maximumLevel)
     {
+        if (itemHandler instanceof InventoryCitizen)
+        {
+            return ((InventoryCitizen) itemHandler).getToolIndex().getFirstSlot(toolType, minimalLevel, maximumLevel);
+        }
+
         return findFirstSlotInItemHandlerWith(itemHandler,
           (ItemStack stack) -> ItemStackUtils.hasToolLevel(stack, toolType, minimalLevel, maximumLevel));
     }
@@ -27,7 +27,7 @@ public final class Pond
      */
     public static boolean checkWater(@NotNull final LevelReader world, @NotNull final BlockPos water, final WaterPathResult result)
     {
-        if (checkWater(world, water, WATER_POOL_WIDTH_REQUIREMENT, WATER_POOL_LENGTH_REQUIREMENT))
+        if (checkWater(world, water))
         {
             result.pond = water;
             return true;
@@ -35,6 +35,18 @@ public final class Pond
         return false;
     }
 
+    /**
+     * Checks if on position "water" really is water, if the water is connected to land and if the pond is big enough for fishing.
+     *
+     * @param world The world the player is in.
+     * @param water The coordinate to check.
+     * @return true if water.
+     */
+    public static boolean checkWater(@NotNull final LevelReader world, @NotNull final BlockPos water)
+    {
+        return checkWater(world, water, WATER_POOL_WIDTH_REQUIREMENT, WATER_POOL_LENGTH_REQUIREMENT);
+    }
+
     /**
      * Checks if on position "water" really is water, if the water is connected to land and if the pond is big enough (bigger then 20).
      *
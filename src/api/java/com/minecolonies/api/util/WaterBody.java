@@ -0,0 +1,121 @@
+package com.minecolonies.api.util;
+
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A connected water surface, with its extent and the spots to fish it from.
+ */
+public class WaterBody
+{
+    /**
+     * The height of the water surface.
+     */
+    private final int surfaceY;
+
+    /**
+     * The extent of the water surface.
+     */
+    private final int minX;
+    private final int minZ;
+    private final int maxX;
+    private final int maxZ;
+
+    /**
+     * The number of water surface blocks.
+     */
+    private final int size;
+
+    /**
+     * The fishing spots, the first position is the water to fish in, the second is the land to stand on.
+     */
+    private final List<Tuple<BlockPos, BlockPos>> fishingSpots;
+
+    /**
+     * Create a new water body.
+     *
+     * @param surfaceY     the height of the water surface.
+     * @param minX         the min x of the surface.
+     * @param minZ         the min z of the surface.
+     * @param maxX         the max x of the surface.
+     * @param maxZ         the max z of the surface.
+     * @param size         the number of water surface blocks.
+     * @param fishingSpots the fishing spots.
+     */
+    public WaterBody(
+      final int surfaceY,
+      final int minX,
+      final int minZ,
+      final int maxX,
+      final int maxZ,
+      final int size,
+      @NotNull final List<Tuple<BlockPos, BlockPos>> fishingSpots)
+    {
+        this.surfaceY = surfaceY;
+        this.minX = minX;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxZ = maxZ;
+        this.size = size;
+        this.fishingSpots = new ArrayList<>(fishingSpots);
+    }
+
+    /**
+     * Get the height of the water surface.
+     *
+     * @return the y coordinate.
+     */
+    public int getSurfaceY()
+    {
+        return surfaceY;
+    }
+
+    /**
+     * Get the number of water surface blocks.
+     *
+     * @return the size.
+     */
+    public int getSize()
+    {
+        return size;
+    }
+
+    /**
+     * Check if a position is on or right next to the water surface.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    public boolean isNear(@NotNull final BlockPos pos)
+    {
+        return pos.getY() >= surfaceY - 1 && pos.getY() <= surfaceY + 2
+                 && pos.getX() >= minX - 1 && pos.getX() <= maxX + 1
+                 && pos.getZ() >= minZ - 1 && pos.getZ() <= maxZ + 1;
+    }
+
+    /**
+     * Get the fishing spots.
+     *
+     * @return an unmodifiable list of the water and land position tuples.
+     */
+    @NotNull
+    public List<Tuple<BlockPos, BlockPos>> getFishingSpots()
+    {
+        return Collections.unmodifiableList(fishingSpots);
+    }
+
+    /**
+     * Remove a fishing spot which turned out to be unusable.
+     *
+     * @param spot the spot.
+     * @return true if it was a spot of this body.
+     */
+    public boolean removeFishingSpot(@NotNull final Tuple<BlockPos, BlockPos> spot)
+    {
+        return fishingSpots.remove(spot);
+    }
+}
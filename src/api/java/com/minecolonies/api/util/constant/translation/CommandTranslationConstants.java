@@ -100,6 +100,20 @@ public class CommandTranslationConstants
     @NonNls
     public static final String COMMAND_BACKUP_FAILED                    = "com.minecolonies.command.backup.failed";
     @NonNls
+    public static final String COMMAND_PROFILE_STARTED                  = "com.minecolonies.command.profile.started";
+    @NonNls
+    public static final String COMMAND_PROFILE_STOPPED                  = "com.minecolonies.command.profile.stopped";
+    @NonNls
+    public static final String COMMAND_PROFILE_RESET                    = "com.minecolonies.command.profile.reset";
+    @NonNls
+    public static final String COMMAND_PROFILE_DUMPED                   = "com.minecolonies.command.profile.dumped";
+    @NonNls
+    public static final String COMMAND_PROFILE_DUMP_FAILED              = "com.minecolonies.command.profile.dumpfailed";
+    @NonNls
+    public static final String COMMAND_PROFILE_SCHEDULER                = "com.minecolonies.command.profile.scheduler";
+    @NonNls
+    public static final String COMMAND_PROFILE_SCHEDULER_COLONY         = "com.minecolonies.command.profile.schedulercolony";
+    @NonNls
     public static final String COMMAND_HELP_INFO_WIKI                   = "com.minecolonies.command.help.wiki";
     @NonNls
     public static final String COMMAND_HELP_INFO_DISCORD                = "com.minecolonies.command.help.discord";
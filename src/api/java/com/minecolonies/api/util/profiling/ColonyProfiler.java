@@ -0,0 +1,267 @@
+package com.minecolonies.api.util.profiling;
+
+import com.minecolonies.api.colony.IColony;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opt-in profiler of the colony hot paths. Instrumented code wraps its work in {@link #start()} and {@link #end(ProfilerSection, Object, long)}. While the profiler
+ * is stopped this costs one field read, while running every sample is recorded in a histogram per section and key and emitted as {@link ProfilerSampleEvent}.
+ * <p>
+ * Keys are compared by equality. Colonies are keyed by dimension and id, so no colony instance is kept alive by the profiler, and their entries are dropped by
+ * {@link #removeColony(IColony)} when the colony is deleted. Colonies are reported by id and name, classes by their simple name and everything else by its string
+ * representation, which is only created for reports.
+ */
+public final class ColonyProfiler
+{
+    /**
+     * If samples are recorded.
+     */
+    private static volatile boolean running = false;
+
+    /**
+     * The histograms by section and key.
+     */
+    private static final Map<ProfilerSection, Map<Object, ProfilerHistogram>> HISTOGRAMS = new EnumMap<>(ProfilerSection.class);
+
+    static
+    {
+        for (final ProfilerSection section : ProfilerSection.values())
+        {
+            HISTOGRAMS.put(section, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * System time the current recording started.
+     */
+    private static long startedAt = 0;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyProfiler()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Start recording samples.
+     */
+    public static void startRecording()
+    {
+        if (!running)
+        {
+            startedAt = System.currentTimeMillis();
+            running = true;
+        }
+    }
+
+    /**
+     * Stop recording samples, the recorded samples are kept.
+     */
+    public static void stopRecording()
+    {
+        running = false;
+    }
+
+    /**
+     * Drop all recorded samples.
+     */
+    public static void reset()
+    {
+        HISTOGRAMS.values().forEach(Map::clear);
+        startedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Drop the recorded samples of a deleted colony.
+     *
+     * @param colony the colony.
+     */
+    public static void removeColony(@NotNull final IColony colony)
+    {
+        final ColonyKey key = new ColonyKey(colony);
+        for (final Map<Object, ProfilerHistogram> histograms : HISTOGRAMS.values())
+        {
+            histograms.remove(key);
+        }
+    }
+
+    /**
+     * Check if samples are recorded.
+     *
+     * @return true if so.
+     */
+    public static boolean isRunning()
+    {
+        return running;
+    }
+
+    /**
+     * Start measuring a piece of work.
+     *
+     * @return the start time to pass to {@link #end(ProfilerSection, Object, long)}, 0 if the profiler is stopped.
+     */
+    public static long start()
+    {
+        return running ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Finish measuring a piece of work.
+     *
+     * @param section the section of the work.
+     * @param key     the key of the work within the section.
+     * @param start   the value returned by {@link #start()}.
+     */
+    public static void end(@NotNull final ProfilerSection section, @NotNull final Object key, final long start)
+    {
+        if (start == 0)
+        {
+            return;
+        }
+
+        final long nanos = System.nanoTime() - start;
+        final Object histogramKey = key instanceof IColony ? new ColonyKey((IColony) key) : key;
+        HISTOGRAMS.get(section).computeIfAbsent(histogramKey, k -> new ProfilerHistogram()).record(nanos);
+
+        final ProfilerSampleEvent event = new ProfilerSampleEvent();
+        if (event.isEnabled())
+        {
+            event.section = section.name();
+            event.key = getKeyName(key);
+            event.nanos = nanos;
+            event.commit();
+        }
+    }
+
+    /**
+     * Get the report lines of the keys with the highest total time over all sections.
+     *
+     * @param count the max number of lines, 0 for all.
+     * @return the lines, starting with a header.
+     */
+    @NotNull
+    public static List<String> getReport(final int count)
+    {
+        final List<Map.Entry<String, ProfilerHistogram>> entries = new ArrayList<>();
+        for (final Map.Entry<ProfilerSection, Map<Object, ProfilerHistogram>> section : HISTOGRAMS.entrySet())
+        {
+            for (final Map.Entry<Object, ProfilerHistogram> entry : section.getValue().entrySet())
+            {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(section.getKey().name() + " " + getKeyName(entry.getKey()), entry.getValue()));
+            }
+        }
+        entries.sort(Comparator.comparingLong((Map.Entry<String, ProfilerHistogram> e) -> e.getValue().getTotal()).reversed());
+
+        final List<String> lines = new ArrayList<>();
+        final long seconds = Math.max(1, (System.currentTimeMillis() - startedAt) / 1000);
+        lines.add(String.format("Recorded %ds, %s. total ms | ms/s | count | avg us | p99 us | max us | section key", seconds, running ? "running" : "stopped"));
+        for (int i = 0; i < entries.size() && (count <= 0 || i < count); i++)
+        {
+            final ProfilerHistogram histogram = entries.get(i).getValue();
+            lines.add(String.format("%.1f | %.2f | %d | %.1f | %.1f | %.1f | %s",
+              histogram.getTotal() / 1e6,
+              histogram.getTotal() / 1e6 / seconds,
+              histogram.getCount(),
+              histogram.getTotal() / 1e3 / Math.max(1, histogram.getCount()),
+              histogram.getPercentile(0.99) / 1e3,
+              histogram.getMax() / 1e3,
+              entries.get(i).getKey()));
+        }
+        return lines;
+    }
+
+    /**
+     * Write the full report to a file.
+     *
+     * @param file the file.
+     * @throws IOException if writing failed.
+     */
+    public static void dump(@NotNull final Path file) throws IOException
+    {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (final Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8))
+        {
+            for (final String line : getReport(0))
+            {
+                writer.write(line);
+                writer.write(System.lineSeparator());
+            }
+        }
+    }
+
+    /**
+     * Get the reported name of a key.
+     *
+     * @param key the key.
+     * @return the name.
+     */
+    private static String getKeyName(final Object key)
+    {
+        if (key instanceof IColony)
+        {
+            return "colony " + ((IColony) key).getID() + " " + ((IColony) key).getName();
+        }
+        if (key instanceof ColonyKey)
+        {
+            return "colony " + ((ColonyKey) key).id + " " + ((ColonyKey) key).name;
+        }
+        return key instanceof Class ? ((Class<?>) key).getSimpleName() : String.valueOf(key);
+    }
+
+    /**
+     * Histogram key of a colony, equal for the same dimension and id.
+     */
+    private static final class ColonyKey
+    {
+        private final ResourceKey<Level> dimension;
+        private final int                id;
+        private final String             name;
+
+        /**
+         * Create the key of a colony.
+         *
+         * @param colony the colony.
+         */
+        private ColonyKey(final IColony colony)
+        {
+            this.dimension = colony.getDimension();
+            this.id = colony.getID();
+            this.name = colony.getName();
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof ColonyKey))
+            {
+                return false;
+            }
+            final ColonyKey key = (ColonyKey) o;
+            return id == key.id && dimension.equals(key.dimension);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * dimension.hashCode() + id;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.minecolonies.api.util.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of durations with power of two buckets. Recording is lock free and safe from any thread.
+ */
+public final class ProfilerHistogram
+{
+    /**
+     * Number of buckets, bucket i holds durations from 2^i to 2^(i+1) nanoseconds.
+     */
+    private static final int BUCKETS = Long.SIZE;
+
+    /**
+     * The sample count per bucket.
+     */
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    /**
+     * The number of samples.
+     */
+    private final AtomicLong count = new AtomicLong();
+
+    /**
+     * The sum of all samples.
+     */
+    private final AtomicLong total = new AtomicLong();
+
+    /**
+     * The largest sample.
+     */
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a sample.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    public void record(final long nanos)
+    {
+        final long value = Math.max(nanos, 1);
+        buckets.incrementAndGet(BUCKETS - 1 - Long.numberOfLeadingZeros(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Get the number of samples.
+     *
+     * @return the count.
+     */
+    public long getCount()
+    {
+        return count.get();
+    }
+
+    /**
+     * Get the sum of all samples.
+     *
+     * @return the total in nanoseconds.
+     */
+    public long getTotal()
+    {
+        return total.get();
+    }
+
+    /**
+     * Get the largest sample.
+     *
+     * @return the max in nanoseconds.
+     */
+    public long getMax()
+    {
+        return max.get();
+    }
+
+    /**
+     * Estimate a percentile, as the upper bound of the bucket it falls into.
+     *
+     * @param percentile the percentile, between 0 and 1.
+     * @return the estimate in nanoseconds.
+     */
+    public long getPercentile(final double percentile)
+    {
+        final long samples = count.get();
+        if (samples == 0)
+        {
+            return 0;
+        }
+
+        final long rank = (long) Math.ceil(samples * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            seen += buckets.get(i);
+            if (seen >= rank)
+            {
+                // Shifting past bit 62 overflows, those buckets are bounded by the max only.
+                return i >= BUCKETS - 2 ? getMax() : Math.min(1L << (i + 1), getMax());
+            }
+        }
+        return getMax();
+    }
+}
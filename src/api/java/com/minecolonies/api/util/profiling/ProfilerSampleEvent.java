@@ -0,0 +1,23 @@
+package com.minecolonies.api.util.profiling;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event of one profiled sample, committed while the {@link ColonyProfiler} is running and the event is enabled in the recording.
+ */
+@Name("minecolonies.ProfilerSample")
+@Label("Colony Profiler Sample")
+@Category("MineColonies")
+@StackTrace(false)
+public class ProfilerSampleEvent extends Event
+{
+    @Label("Section")
+    public String section;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    public long nanos;
+}
@@ -0,0 +1,36 @@
+package com.minecolonies.api.util.profiling;
+
+/**
+ * The instrumented parts of the mod, each with its own set of keyed histograms in the {@link ColonyProfiler}.
+ */
+public enum ProfilerSection
+{
+    /**
+     * Colony state machine ticks, by colony id.
+     */
+    COLONY_TICK,
+    /**
+     * Scheduled periodic colony work, by work type.
+     */
+    COLONY_WORK,
+    /**
+     * Building colony ticks, by building type.
+     */
+    BUILDING_TICK,
+    /**
+     * State machine transitions, by the state they were checked in.
+     */
+    AI_STATE,
+    /**
+     * Path searches on the pathfinding executor, by path job type.
+     */
+    PATHFINDING,
+    /**
+     * Request resolve attempts during assignment, by resolver type.
+     */
+    REQUEST_ASSIGNMENT,
+    /**
+     * Colony view synchronisation, by colony id.
+     */
+    VIEW_SYNC
+}
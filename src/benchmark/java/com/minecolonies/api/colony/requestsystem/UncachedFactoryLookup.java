@@ -0,0 +1,34 @@
+package com.minecolonies.api.colony.requestsystem;
+
+import com.minecolonies.api.colony.requestsystem.factory.IFactory;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Gives the benchmarks access to the uncached output factory lookup of the {@link StandardFactoryController}, which is not part of its public API.
+ */
+public final class UncachedFactoryLookup
+{
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private UncachedFactoryLookup()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Resolve the output factory for a plain class without the resolution caches.
+     *
+     * @param controller  the factory controller.
+     * @param outputClass the output class.
+     * @return the factory.
+     * @throws IllegalArgumentException when no factory produces the given class.
+     */
+    public static IFactory<?, ?> getFactoryForOutput(@NotNull final StandardFactoryController controller, @NotNull final Class<?> outputClass)
+      throws IllegalArgumentException
+    {
+        return controller.getUncachedFactoryForOutput(outputClass);
+    }
+}
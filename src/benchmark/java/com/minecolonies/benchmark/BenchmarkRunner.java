@@ -0,0 +1,162 @@
+package com.minecolonies.benchmark;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.gametest.framework.GameTestHelper;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.function.IntSupplier;
+
+/**
+ * Times benchmark bodies inside the game test server, where the game and all mods are fully loaded.
+ * <p>
+ * A body is run for a number of warmup iterations first, then for the measured iterations. The time per operation of the measured iterations is logged and appended
+ * to the results file in the working directory, one line per benchmark, so runs before and after a change can be compared.
+ */
+public final class BenchmarkRunner
+{
+    /**
+     * The template all benchmarks run on, a flat stone platform.
+     */
+    public static final String PLATFORM = "benchmark/platform";
+
+    /**
+     * The property selecting the benchmarks to run by name prefix, empty for all.
+     */
+    private static final String INCLUDE_PROPERTY = "minecolonies.benchmark.include";
+
+    /**
+     * The file results are appended to.
+     */
+    private static final Path RESULTS = Paths.get("benchmark-results.csv");
+
+    /**
+     * The default number of warmup iterations.
+     */
+    public static final int WARMUP = 5;
+
+    /**
+     * The default number of measured iterations.
+     */
+    public static final int ITERATIONS = 10;
+
+    /**
+     * Sink for benchmark results, so the work producing them is not optimized away.
+     */
+    private static volatile int sink;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private BenchmarkRunner()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Check if a benchmark is selected by the include property.
+     *
+     * @param name the name of the benchmark.
+     * @return true if it should run.
+     */
+    public static boolean isSelected(@NotNull final String name)
+    {
+        return name.startsWith(System.getProperty(INCLUDE_PROPERTY, ""));
+    }
+
+    /**
+     * Run and time a benchmark body with the default iterations and finish the test.
+     *
+     * @param helper     the game test helper.
+     * @param name       the name of the benchmark.
+     * @param operations the number of operations one run of the body does.
+     * @param body       the body, returns any value derived from its work.
+     */
+    public static void run(@NotNull final GameTestHelper helper, @NotNull final String name, final int operations, @NotNull final IntSupplier body)
+    {
+        if (isSelected(name))
+        {
+            measure(name, WARMUP, ITERATIONS, operations, body);
+        }
+        helper.succeed();
+    }
+
+    /**
+     * Run and time a benchmark body.
+     *
+     * @param name       the name of the benchmark.
+     * @param warmup     the number of warmup iterations.
+     * @param iterations the number of measured iterations.
+     * @param operations the number of operations one run of the body does.
+     * @param body       the body, returns any value derived from its work.
+     */
+    public static void measure(@NotNull final String name, final int warmup, final int iterations, final int operations, @NotNull final IntSupplier body)
+    {
+        for (int i = 0; i < warmup; i++)
+        {
+            consume(body.getAsInt());
+        }
+
+        long total = 0;
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < iterations; i++)
+        {
+            final long start = System.nanoTime();
+            consume(body.getAsInt());
+            final long elapsed = System.nanoTime() - start;
+            total += elapsed;
+            best = Math.min(best, elapsed);
+        }
+
+        report(name, (double) total / iterations / operations, (double) best / operations, iterations * (long) operations);
+    }
+
+    /**
+     * Report the result of a benchmark timed by the caller.
+     *
+     * @param name       the name of the benchmark.
+     * @param average    the average nanoseconds per operation.
+     * @param best       the best nanoseconds per operation.
+     * @param operations the number of measured operations.
+     */
+    public static void report(@NotNull final String name, final double average, final double best, final long operations)
+    {
+        Log.getLogger().info(String.format("Benchmark %s: %.1f ns/op average, %.1f ns/op best, %d operations", name, average, best, operations));
+
+        try
+        {
+            final boolean header = !Files.exists(RESULTS);
+            try (final Writer writer = Files.newBufferedWriter(RESULTS, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND))
+            {
+                if (header)
+                {
+                    writer.write("time,benchmark,average ns/op,best ns/op,operations" + System.lineSeparator());
+                }
+                writer.write(String.format(Locale.ROOT, "%d,%s,%.1f,%.1f,%d%n", System.currentTimeMillis(), name, average, best, operations));
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to write the benchmark results", e);
+        }
+    }
+
+    /**
+     * Consume a benchmark result.
+     *
+     * @param value the result.
+     */
+    public static void consume(final int value)
+    {
+        sink += value;
+    }
+}
@@ -0,0 +1,139 @@
+package com.minecolonies.benchmark;
+
+import com.ldtteam.structurize.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.placement.BlockPlacementResult;
+import com.ldtteam.structurize.placement.StructurePhasePlacementResult;
+import com.ldtteam.structurize.placement.StructurePlacer;
+import com.ldtteam.structurize.storage.StructurePacks;
+import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.util.LoadOnlyStructureHandler;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.entity.ai.util.BillOfMaterials;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import static com.ldtteam.structurize.placement.AbstractBlueprintIterator.NULL_POS;
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+import static com.minecolonies.benchmark.BenchmarkRunner.PLATFORM;
+
+/**
+ * Benchmarks of the builder resource calculation of the town hall blueprint placed at the town hall of a new colony: computing the bill of materials, diffing it
+ * against the world, and stepping the placer over the blueprint like before the bill.
+ */
+@GameTestHolder(MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class BillOfMaterialsBenchmarks
+{
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private BillOfMaterialsBenchmarks()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Compute the bill of materials, diff it against the world, and get the requirements through the placer. The time is reported per blueprint position.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void billOfMaterials(final GameTestHelper helper)
+    {
+        if (!BenchmarkRunner.isSelected("billOfMaterials"))
+        {
+            helper.succeed();
+            return;
+        }
+
+        final IColony colony = ColonyBenchmarks.createColony(helper);
+        final IBuilding townHall = colony.getBuildingManager().getBuilding(colony.getCenter());
+        final Blueprint blueprint = townHall == null ? null : loadBlueprint(townHall);
+        if (blueprint == null)
+        {
+            ColonyBenchmarks.deleteColony(helper, colony);
+            helper.fail("No town hall blueprint in the benchmark colony");
+            return;
+        }
+
+        final LoadOnlyStructureHandler handler = new LoadOnlyStructureHandler(helper.getLevel(), townHall.getPosition(), blueprint, new PlacementSettings(), true);
+        final int positions = blueprint.getBlockInfoAsMap().size();
+
+        BenchmarkRunner.measure("billOfMaterialsCompute", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, positions, () ->
+        {
+            final BillOfMaterials bill = new BillOfMaterials(handler);
+            bill.compute(handler, Integer.MAX_VALUE);
+            return bill.size();
+        });
+
+        final BillOfMaterials bill = new BillOfMaterials(handler);
+        bill.compute(handler, Integer.MAX_VALUE);
+        BenchmarkRunner.measure("billOfMaterialsDiff", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, positions, () ->
+        {
+            final int[] items = {0};
+            bill.forEachMissing(handler, 0, Integer.MAX_VALUE, (pos, state) -> false, pos -> Blocks.STONE.defaultBlockState(), stack -> items[0] += stack.getCount());
+            return items[0];
+        });
+
+        BenchmarkRunner.measure("billOfMaterialsPlacer", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, positions, () -> getRequirementsFromPlacer(handler));
+
+        Log.getLogger().info(String.format("Benchmark billOfMaterials: %d blueprint positions, %d positions in the bill", positions, bill.size()));
+        ColonyBenchmarks.deleteColony(helper, colony);
+        helper.succeed();
+    }
+
+    /**
+     * Load the blueprint of a building, the first level one if the building is not built yet.
+     *
+     * @param building the building.
+     * @return the blueprint or null if none is found.
+     */
+    private static Blueprint loadBlueprint(final IBuilding building)
+    {
+        final Blueprint blueprint = StructurePacks.getBlueprint(building.getStructurePack(), building.getBlueprintPath(), true);
+        if (blueprint == null && building.getBlueprintPath().endsWith("0.blueprint"))
+        {
+            return StructurePacks.getBlueprint(building.getStructurePack(), building.getBlueprintPath().replace("0.blueprint", "1.blueprint"), true);
+        }
+        return blueprint;
+    }
+
+    /**
+     * Get the requirements of all positions by stepping the placer over the blueprint, the way they were calculated before the bill of materials.
+     *
+     * @param handler the handler with the blueprint.
+     * @return the number of required items.
+     */
+    private static int getRequirementsFromPlacer(final LoadOnlyStructureHandler handler)
+    {
+        final StructurePlacer placer = new StructurePlacer(handler);
+        BlockPos progress = NULL_POS;
+        int items = 0;
+        StructurePhasePlacementResult result;
+        do
+        {
+            result = placer.executeStructureStep(handler.getWorld(),
+              null,
+              progress,
+              StructurePlacer.Operation.GET_RES_REQUIREMENTS,
+              () -> placer.getIterator().increment(),
+              false);
+            progress = result.getIteratorPos();
+            for (final ItemStack stack : result.getBlockResult().getRequiredItems())
+            {
+                items += stack.getCount();
+            }
+        }
+        while (result.getBlockResult().getResult() != BlockPlacementResult.Result.FINISHED);
+        return items;
+    }
+}
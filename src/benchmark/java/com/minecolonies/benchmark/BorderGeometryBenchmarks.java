@@ -0,0 +1,94 @@
+package com.minecolonies.benchmark;
+
+import com.minecolonies.coremod.client.render.worldevent.ColonyBorderGeometry;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.util.Random;
+
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+import static com.minecolonies.benchmark.BenchmarkRunner.PLATFORM;
+
+/**
+ * Builds the colony border geometry of a view full of irregular claims of several colonies, the work of a full border rebuild without any GPU upload.
+ */
+@GameTestHolder(MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class BorderGeometryBenchmarks
+{
+    /**
+     * The view range in chunks.
+     */
+    private static final int RANGE = 16;
+
+    /**
+     * The number of colonies in view.
+     */
+    private static final int COLONIES = 6;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private BorderGeometryBenchmarks()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Build the segments of all claimed chunks, the time is reported per segment.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void borderGeometry(final GameTestHelper helper)
+    {
+        final Long2IntMap claims = createClaims();
+        BenchmarkRunner.run(helper, "borderGeometry", claims.size(), () ->
+        {
+            int vertices = 0;
+            for (final Long2IntMap.Entry entry : claims.long2IntEntrySet())
+            {
+                final int chunkX = ChunkPos.getX(entry.getLongKey());
+                final int chunkZ = ChunkPos.getZ(entry.getLongKey());
+                final int sides = ColonyBorderGeometry.getBorderSides(claims, chunkX, chunkZ, entry.getIntValue());
+                vertices += ColonyBorderGeometry.buildSegment(chunkX, chunkZ, sides, chunkX == 0, chunkZ == 0).length;
+            }
+            return vertices;
+        });
+    }
+
+    /**
+     * Claim a seeded, irregular area around every colony center.
+     *
+     * @return the claims.
+     */
+    private static Long2IntMap createClaims()
+    {
+        final Long2IntMap claims = new Long2IntOpenHashMap();
+        final Random random = new Random(42L);
+        for (int colony = 1; colony <= COLONIES; colony++)
+        {
+            final int centerX = random.nextInt(2 * RANGE) - RANGE;
+            final int centerZ = random.nextInt(2 * RANGE) - RANGE;
+            final int radius = 3 + random.nextInt(6);
+            for (int x = -radius; x <= radius; x++)
+            {
+                for (int z = -radius; z <= radius; z++)
+                {
+                    if (x * x + z * z <= radius * radius && random.nextInt(8) != 0)
+                    {
+                        claims.putIfAbsent(ChunkPos.asLong(centerX + x, centerZ + z), colony);
+                    }
+                }
+            }
+        }
+        return claims;
+    }
+}
@@ -0,0 +1,382 @@
+package com.minecolonies.benchmark;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.blocks.ModBlocks;
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.modules.IAssignsCitizen;
+import com.minecolonies.api.colony.buildings.modules.IAssignsJob;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyView;
+import com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobMoveToLocation;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraftforge.common.util.FakePlayerFactory;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.minecolonies.api.util.constant.Constants.DEFAULT_STYLE;
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+import static com.minecolonies.benchmark.BenchmarkRunner.PLATFORM;
+
+/**
+ * Benchmarks which need a running world. Each builds a colony on an empty platform, measures and reports the timings, and deletes the colony again.
+ */
+@GameTestHolder(MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class ColonyBenchmarks
+{
+    /**
+     * The number of ticks to run the colony for, set by the benchmark run.
+     */
+    private static final String TICKS_PROPERTY = "minecolonies.benchmark.ticks";
+
+    /**
+     * The ticks to run the colony for if not set.
+     */
+    private static final int DEFAULT_TICKS = 1200;
+
+    /**
+     * The most ticks the colony may run for, the timeout of the tick benchmark.
+     */
+    private static final int MAX_TICKS = 72000;
+
+    /**
+     * The number of citizens of the generated colony.
+     */
+    private static final int CITIZENS = 50;
+
+    /**
+     * The number of citizens of the large colony of the tick benchmark.
+     */
+    private static final int LARGE_CITIZENS = 150;
+
+    /**
+     * The number of huts of the large colony of the tick benchmark.
+     */
+    private static final int BUILDINGS = 200;
+
+    /**
+     * The distance between two huts of the large colony.
+     */
+    private static final int HUT_SPACING = 3;
+
+    /**
+     * The side length of the platform.
+     */
+    private static final int PLATFORM_SIZE = 48;
+
+    /**
+     * The number of requests created by the request benchmark.
+     */
+    private static final int REQUESTS = 1000;
+
+    /**
+     * The number of path searches per iteration.
+     */
+    private static final int SEARCHES = 10;
+
+    /**
+     * The batch of the tick benchmark, it runs alone so no other test adds to the server tick time.
+     */
+    private static final String TICK_BATCH = "colonyTick";
+
+    /**
+     * The relative position of the town hall, the middle of the platform.
+     */
+    private static final BlockPos TOWN_HALL = new BlockPos(24, 1, 24);
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyBenchmarks()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Tick a large colony for the configured number of ticks: a town hall, about two hundred built huts of all kinds and citizens which are all housed and
+     * employed. Reports the wall time per tick as average and the average server tick time of the last ticks as best.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM, timeoutTicks = MAX_TICKS + 20, batch = TICK_BATCH)
+    public static void colonyTick(final GameTestHelper helper)
+    {
+        if (!BenchmarkRunner.isSelected("colonyTick"))
+        {
+            helper.succeed();
+            return;
+        }
+
+        final IColony colony = createColony(helper);
+        final List<IBuilding> buildings = addBuildings(helper, colony);
+        colony.getCitizenManager().setMaxCitizens(LARGE_CITIZENS);
+        populate(helper, colony, buildings);
+
+        final int ticks = Math.min(Integer.getInteger(TICKS_PROPERTY, DEFAULT_TICKS), MAX_TICKS);
+        final long start = System.nanoTime();
+        helper.runAfterDelay(ticks, () -> {
+            final long elapsed = System.nanoTime() - start;
+            Log.getLogger().info(String.format("Benchmark colonyTick: %d buildings, %d citizens", colony.getBuildingManager().getBuildings().size(),
+              colony.getCitizenManager().getCurrentCitizenCount()));
+            BenchmarkRunner.report("colonyTick", (double) elapsed / ticks, helper.getLevel().getServer().getAverageTickTime() * 1_000_000.0, ticks);
+            deleteColony(helper, colony);
+            helper.succeed();
+        });
+    }
+
+    /**
+     * Place huts on a grid over the platform, cycling through the hut types, and complete their first level.
+     *
+     * @param helper the game test helper.
+     * @param colony the colony to add them to.
+     * @return the added buildings.
+     */
+    private static List<IBuilding> addBuildings(final GameTestHelper helper, final IColony colony)
+    {
+        final AbstractBlockHut<?>[] huts = {ModBlocks.blockHutHome, ModBlocks.blockHutBaker, ModBlocks.blockHutBuilder, ModBlocks.blockHutDeliveryman,
+          ModBlocks.blockHutBlacksmith, ModBlocks.blockHutStonemason, ModBlocks.blockHutHome, ModBlocks.blockHutFarmer, ModBlocks.blockHutFisherman,
+          ModBlocks.blockHutGuardTower, ModBlocks.blockHutShepherd, ModBlocks.blockHutCowboy, ModBlocks.blockHutHome, ModBlocks.blockHutSwineHerder,
+          ModBlocks.blockHutChickenHerder, ModBlocks.blockHutCook, ModBlocks.blockHutSmeltery, ModBlocks.blockHutComposter, ModBlocks.blockHutHome,
+          ModBlocks.blockHutLibrary, ModBlocks.blockHutSawmill, ModBlocks.blockHutStoneSmeltery, ModBlocks.blockHutCrusher, ModBlocks.blockHutSifter,
+          ModBlocks.blockHutHome, ModBlocks.blockHutFlorist, ModBlocks.blockHutEnchanter, ModBlocks.blockHutUniversity, ModBlocks.blockHutHospital,
+          ModBlocks.blockHutSchool, ModBlocks.blockHutHome, ModBlocks.blockHutGlassblower, ModBlocks.blockHutDyer, ModBlocks.blockHutFletcher,
+          ModBlocks.blockHutMechanic, ModBlocks.blockHutPlantation, ModBlocks.blockHutHome, ModBlocks.blockHutConcreteMixer, ModBlocks.blockHutBeekeeper,
+          ModBlocks.blockHutGraveyard, ModBlocks.blockHutAlchemist, ModBlocks.blockHutLumberjack, ModBlocks.blockHutMiner};
+
+        final List<IBuilding> buildings = new ArrayList<>();
+        final ServerLevel level = helper.getLevel();
+        for (int x = 1; x < PLATFORM_SIZE && buildings.size() < BUILDINGS; x += HUT_SPACING)
+        {
+            for (int z = 1; z < PLATFORM_SIZE && buildings.size() < BUILDINGS; z += HUT_SPACING)
+            {
+                final BlockPos relative = new BlockPos(x, 1, z);
+                if (relative.distManhattan(TOWN_HALL) < HUT_SPACING)
+                {
+                    continue;
+                }
+
+                helper.setBlock(relative, huts[buildings.size() % huts.length]);
+                final BlockEntity hut = level.getBlockEntity(helper.absolutePos(relative));
+                if (hut instanceof AbstractTileEntityColonyBuilding)
+                {
+                    final IBuilding building = colony.getBuildingManager().addNewBuilding((AbstractTileEntityColonyBuilding) hut, level);
+                    if (building != null)
+                    {
+                        building.setBuildingLevel(1);
+                        building.onUpgradeComplete(1);
+                        buildings.add(building);
+                    }
+                }
+            }
+        }
+        return buildings;
+    }
+
+    /**
+     * Spawn citizens and give each a home and a job, as far as the buildings have room.
+     *
+     * @param helper    the game test helper.
+     * @param colony    the colony.
+     * @param buildings the buildings to house and employ the citizens in.
+     */
+    private static void populate(final GameTestHelper helper, final IColony colony, final List<IBuilding> buildings)
+    {
+        final List<IAssignsCitizen> homes = new ArrayList<>();
+        final List<IAssignsCitizen> jobs = new ArrayList<>();
+        for (final IBuilding building : buildings)
+        {
+            for (final IAssignsCitizen module : building.getModules(IAssignsCitizen.class))
+            {
+                (module instanceof IAssignsJob ? jobs : homes).add(module);
+            }
+        }
+
+        int home = 0;
+        int job = 0;
+        for (int i = 0; i < LARGE_CITIZENS; i++)
+        {
+            final ICitizenData citizen = colony.getCitizenManager().createAndRegisterCivilianData();
+            while (home < homes.size() && homes.get(home).isFull())
+            {
+                home++;
+            }
+            if (home < homes.size())
+            {
+                homes.get(home).assignCitizen(citizen);
+            }
+            while (job < jobs.size() && jobs.get(job).isFull())
+            {
+                job++;
+            }
+            if (job < jobs.size())
+            {
+                jobs.get(job).assignCitizen(citizen);
+            }
+            colony.getCitizenManager().spawnOrCreateCitizen(citizen, helper.getLevel(), colony.getCenter().above());
+        }
+    }
+
+    /**
+     * Search paths across the platform through a seeded field of pillars, the time is reported per search.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void pathSearch(final GameTestHelper helper)
+    {
+        final Random random = new Random(42L);
+        for (int i = 0; i < 400; i++)
+        {
+            final BlockPos pillar = new BlockPos(2 + random.nextInt(44), 1, 2 + random.nextInt(44));
+            helper.setBlock(pillar, Blocks.STONE);
+            helper.setBlock(pillar.above(), Blocks.STONE);
+        }
+
+        final Mob mob = helper.spawnWithNoFreeWill(EntityType.VILLAGER, new BlockPos(1, 1, 1));
+        final BlockPos start = helper.absolutePos(new BlockPos(1, 1, 1));
+        final BlockPos end = helper.absolutePos(new BlockPos(46, 1, 46));
+
+        BenchmarkRunner.run(helper, "pathSearch", SEARCHES, () ->
+        {
+            int found = 0;
+            for (int i = 0; i < SEARCHES; i++)
+            {
+                final Path path = new PathJobMoveToLocation(helper.getLevel(), start, end, 100, mob).call();
+                if (path != null && path.canReach())
+                {
+                    found++;
+                }
+            }
+            return found;
+        });
+    }
+
+    /**
+     * Create and assign requests of the town hall for different items once, as every request changes the state of the request system, the time is reported
+     * per request.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void requestAssignment(final GameTestHelper helper)
+    {
+        final IColony colony = createColony(helper);
+        final IBuilding townHall = colony.getBuildingManager().getBuilding(colony.getCenter());
+        if (townHall == null)
+        {
+            deleteColony(helper, colony);
+            helper.fail("No town hall in the benchmark colony");
+            return;
+        }
+
+        final ItemStack[] items = {new ItemStack(Items.OAK_LOG), new ItemStack(Items.COBBLESTONE), new ItemStack(Items.BREAD), new ItemStack(Items.IRON_INGOT)};
+        if (BenchmarkRunner.isSelected("requestAssignment"))
+        {
+            final long start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++)
+            {
+                colony.getRequestManager().createAndAssignRequest(townHall.getRequester(), new Stack(items[i % items.length], 1 + i % 64, 1));
+            }
+            final double perRequest = (double) (System.nanoTime() - start) / REQUESTS;
+            BenchmarkRunner.report("requestAssignment", perRequest, perRequest, REQUESTS);
+        }
+
+        deleteColony(helper, colony);
+        helper.succeed();
+    }
+
+    /**
+     * Serialize the full view of a colony with citizens, the time is reported per view.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void viewSerialization(final GameTestHelper helper)
+    {
+        final IColony colony = createColony(helper);
+        for (int i = 0; i < CITIZENS; i++)
+        {
+            colony.getCitizenManager().createAndRegisterCivilianData();
+        }
+
+        if (BenchmarkRunner.isSelected("viewSerialization"))
+        {
+            BenchmarkRunner.measure("viewSerialization", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, 1, () ->
+            {
+                final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+                ColonyView.serializeNetworkData((Colony) colony, buf, true);
+                final int bytes = buf.writerIndex();
+                buf.release();
+                return bytes;
+            });
+        }
+
+        deleteColony(helper, colony);
+        helper.succeed();
+    }
+
+    /**
+     * Create a colony with a town hall in the middle of the platform, owned by a fake player.
+     *
+     * @param helper the game test helper.
+     * @return the colony.
+     */
+    @NotNull
+    static IColony createColony(final GameTestHelper helper)
+    {
+        final ServerLevel level = helper.getLevel();
+        final BlockPos center = helper.absolutePos(TOWN_HALL);
+        helper.setBlock(TOWN_HALL, ModBlocks.blockHutTownHall);
+
+        IColonyManager.getInstance().createColony(level, center, FakePlayerFactory.getMinecraft(level), "benchmark", DEFAULT_STYLE);
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(level, center);
+        if (colony == null)
+        {
+            throw new IllegalStateException("Unable to create the benchmark colony at " + center);
+        }
+
+        final BlockEntity townHall = level.getBlockEntity(center);
+        if (townHall instanceof AbstractTileEntityColonyBuilding)
+        {
+            colony.getBuildingManager().addNewBuilding((AbstractTileEntityColonyBuilding) townHall, level);
+        }
+        colony.getCitizenManager().setMaxCitizens(CITIZENS);
+        return colony;
+    }
+
+    /**
+     * Delete a benchmark colony, so the following benchmarks start from an empty world.
+     *
+     * @param helper the game test helper.
+     * @param colony the colony.
+     */
+    static void deleteColony(final GameTestHelper helper, final IColony colony)
+    {
+        IColonyManager.getInstance().deleteColonyByWorld(colony.getID(), false, helper.getLevel());
+    }
+}
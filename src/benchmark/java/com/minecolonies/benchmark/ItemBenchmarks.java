@@ -0,0 +1,179 @@
+package com.minecolonies.benchmark;
+
+import com.minecolonies.api.blocks.ModBlocks;
+import com.minecolonies.api.crafting.ItemKey;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.tileentities.MinecoloniesTileEntities;
+import com.minecolonies.api.tileentities.TileEntityRack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.minecolonies.api.util.constant.Constants.*;
+import static com.minecolonies.benchmark.BenchmarkRunner.PLATFORM;
+
+/**
+ * Benchmarks of item hashing and lookups over large inventories, like the count aggregation of buildings and warehouses does.
+ */
+@GameTestHolder(MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class ItemBenchmarks
+{
+    /**
+     * The number of stacks in the mixed inventory.
+     */
+    private static final int STACKS = 5000;
+
+    /**
+     * The number of books in the warehouse.
+     */
+    private static final int BOOKS = 5000;
+
+    /**
+     * The number of slots of a fully upgraded rack.
+     */
+    private static final int RACK_SLOTS = DEFAULT_SIZE + 3 * SLOT_PER_LINE;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ItemBenchmarks()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Count a mixed inventory into a map keyed by storage, then look every stack up again.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void itemStorageCount(final GameTestHelper helper)
+    {
+        final List<ItemStack> inventory = SyntheticInventories.mixed(STACKS);
+        BenchmarkRunner.run(helper, "itemStorageCount", STACKS, () ->
+        {
+            final Map<ItemStorage, Integer> counts = new HashMap<>();
+            for (final ItemStack stack : inventory)
+            {
+                counts.merge(new ItemStorage(stack), stack.getCount(), Integer::sum);
+            }
+            int found = 0;
+            for (final ItemStack stack : inventory)
+            {
+                found += counts.get(new ItemStorage(stack));
+            }
+            return found;
+        });
+    }
+
+    /**
+     * Create the exact and the NBT ignoring key of every stack of a mixed inventory.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void itemKeyCreate(final GameTestHelper helper)
+    {
+        final List<ItemStack> inventory = SyntheticInventories.mixed(STACKS);
+        BenchmarkRunner.run(helper, "itemKeyCreate", STACKS, () ->
+        {
+            int hash = 0;
+            for (final ItemStack stack : inventory)
+            {
+                hash += ItemKey.of(stack).hashCode();
+                hash += ItemKey.of(stack, true, true).hashCode();
+            }
+            return hash;
+        });
+    }
+
+    /**
+     * Rebuild the content of a warehouse of racks full of enchanted books which are all different, the worst case for item lookups as every book is the same item.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void rackRebuild(final GameTestHelper helper)
+    {
+        final List<TileEntityRack> racks = new ArrayList<>();
+        final List<CompoundTag> saved = new ArrayList<>();
+        fillWarehouse(racks, saved);
+
+        BenchmarkRunner.run(helper, "rackRebuild", racks.size(), () ->
+        {
+            for (int i = 0; i < racks.size(); i++)
+            {
+                racks.get(i).load(saved.get(i));
+            }
+            return racks.size();
+        });
+    }
+
+    /**
+     * Count every book of the warehouse exactly, like requests for a specific book do, and all books ignoring their NBT.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void rackCount(final GameTestHelper helper)
+    {
+        final List<TileEntityRack> racks = new ArrayList<>();
+        fillWarehouse(racks, new ArrayList<>());
+        final List<ItemStack> books = SyntheticInventories.enchantedBooks(BOOKS);
+        final ItemStack anyBook = new ItemStack(Items.ENCHANTED_BOOK);
+
+        BenchmarkRunner.run(helper, "rackCount", books.size(), () ->
+        {
+            int count = 0;
+            for (final ItemStack book : books)
+            {
+                for (final TileEntityRack rack : racks)
+                {
+                    count += rack.getCount(book, false, false);
+                }
+            }
+            for (final TileEntityRack rack : racks)
+            {
+                count += rack.getCount(anyBook, true, true);
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Fill fully upgraded racks with all different enchanted books.
+     *
+     * @param racks the list to add the racks to.
+     * @param saved the list to add the saved racks to, loading them rebuilds the content.
+     */
+    private static void fillWarehouse(final List<TileEntityRack> racks, final List<CompoundTag> saved)
+    {
+        final List<ItemStack> books = SyntheticInventories.enchantedBooks(BOOKS);
+        for (int first = 0; first < books.size(); first += RACK_SLOTS)
+        {
+            final TileEntityRack rack = new TileEntityRack(MinecoloniesTileEntities.RACK.get(), BlockPos.ZERO, ModBlocks.blockRack.defaultBlockState(), RACK_SLOTS);
+            for (int slot = 0; slot < RACK_SLOTS && first + slot < books.size(); slot++)
+            {
+                rack.getInventory().setStackInSlot(slot, books.get(first + slot));
+            }
+
+            final CompoundTag tag = rack.saveWithoutMetadata();
+            rack.load(tag);
+            racks.add(rack);
+            saved.add(tag);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.minecolonies.benchmark;
+
+import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.UncachedFactoryLookup;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
+import io.netty.buffer.Unpooled;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+import static com.minecolonies.benchmark.BenchmarkRunner.PLATFORM;
+
+/**
+ * Benchmarks of the request system serialization and factory lookups, on a request manager holding as many open requests as a large, long running colony.
+ */
+@GameTestHolder(MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class RequestSystemBenchmarks
+{
+    /**
+     * The number of requests of the request manager.
+     */
+    private static final int REQUESTS = 10000;
+
+    /**
+     * The number of lookups of every class per iteration.
+     */
+    private static final int LOOKUPS = 10000;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private RequestSystemBenchmarks()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Save a request manager holding many requests to NBT, in the current format with a type dictionary and in the legacy format with a class name per compound.
+     * The time is reported per save, the sizes are logged.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void requestManagerSave(final GameTestHelper helper)
+    {
+        withRequests(helper, "requestManagerSave", manager ->
+        {
+            BenchmarkRunner.measure("requestManagerSave", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, 1, () -> manager.serializeNBT().size());
+            BenchmarkRunner.measure("requestManagerSaveLegacy", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, 1, () -> writeLegacy(manager).size());
+
+            Log.getLogger().info(String.format("Benchmark requestManagerSave: %d requests, %d bytes, legacy data stores %d bytes",
+              REQUESTS,
+              sizeOf(manager.serializeNBT()),
+              sizeOf(writeLegacy(manager))));
+        });
+    }
+
+    /**
+     * Load a request manager holding many requests from NBT, in the current format and the data stores in the legacy format. The time is reported per load.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void requestManagerLoad(final GameTestHelper helper)
+    {
+        withRequests(helper, "requestManagerLoad", manager ->
+        {
+            final CompoundTag saved = manager.serializeNBT();
+            BenchmarkRunner.measure("requestManagerLoad", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, 1, () ->
+            {
+                final StandardRequestManager loaded = new StandardRequestManager(manager.getColony());
+                loaded.deserializeNBT(saved);
+                return loaded.getRequestIdentitiesDataStore().getIdentities().size();
+            });
+
+            final CompoundTag legacy = writeLegacy(manager);
+            BenchmarkRunner.measure("requestManagerLoadLegacy", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, 1, () ->
+            {
+                final Object dataStores = StandardFactoryController.getInstance().deserialize(legacy);
+                return dataStores.hashCode();
+            });
+        });
+    }
+
+    /**
+     * Look up the output factories of the request system classes, through the per class cache and the way it was done before the cache. The time is reported per
+     * lookup.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void factoryLookup(final GameTestHelper helper)
+    {
+        withRequests(helper, "factoryLookup", manager ->
+        {
+            final IRequest<?> request = manager.getRequestIdentitiesDataStore().getIdentities().values().iterator().next();
+            final Class<?>[] classes = {request.getClass(), request.getId().getClass(), request.getRequester().getClass(),
+              request.getRequester().getLocation().getClass(), request.getRequest().getClass()};
+            final List<TypeToken<?>> tokens = new ArrayList<>();
+            for (final Class<?> type : classes)
+            {
+                tokens.add(TypeToken.of(type));
+            }
+
+            final StandardFactoryController controller = StandardFactoryController.getInstance();
+            BenchmarkRunner.measure("factoryLookup", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, LOOKUPS * tokens.size(), () ->
+            {
+                int found = 0;
+                for (int i = 0; i < LOOKUPS; i++)
+                {
+                    for (final TypeToken<?> token : tokens)
+                    {
+                        found += controller.getFactoryForOutput(token).getSerializationId();
+                    }
+                }
+                return found;
+            });
+            BenchmarkRunner.measure("factoryLookupUncached", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, LOOKUPS * classes.length, () ->
+            {
+                int found = 0;
+                for (int i = 0; i < LOOKUPS; i++)
+                {
+                    for (final Class<?> type : classes)
+                    {
+                        found += UncachedFactoryLookup.getFactoryForOutput(controller, type).getSerializationId();
+                    }
+                }
+                return found;
+            });
+        });
+    }
+
+    /**
+     * Serialize all requests of the request manager to the network buffer, like the view sync does, and to NBT. The time is reported per request.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void requestSerialize(final GameTestHelper helper)
+    {
+        withRequests(helper, "requestSerialize", manager ->
+        {
+            final Collection<IRequest<?>> requests = manager.getRequestIdentitiesDataStore().getIdentities().values();
+            final StandardFactoryController controller = StandardFactoryController.getInstance();
+            BenchmarkRunner.measure("requestSerializeBuffer", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, requests.size(), () ->
+            {
+                final FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+                for (final IRequest<?> request : requests)
+                {
+                    controller.serialize(buffer, request);
+                }
+                final int bytes = buffer.writerIndex();
+                buffer.release();
+                return bytes;
+            });
+            BenchmarkRunner.measure("requestSerializeNbt", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, requests.size(), () ->
+            {
+                int size = 0;
+                for (final IRequest<?> request : requests)
+                {
+                    size += controller.serialize(request).size();
+                }
+                return size;
+            });
+        });
+    }
+
+    /**
+     * Run a benchmark on a request manager of a new colony holding many open requests of the town hall, if the benchmark is selected.
+     *
+     * @param helper    the game test helper.
+     * @param name      the name of the benchmark.
+     * @param benchmark the benchmark, gets the request manager.
+     */
+    static void withRequests(final GameTestHelper helper, @NotNull final String name, @NotNull final Consumer<StandardRequestManager> benchmark)
+    {
+        if (!BenchmarkRunner.isSelected(name))
+        {
+            helper.succeed();
+            return;
+        }
+
+        final IColony colony = ColonyBenchmarks.createColony(helper);
+        final IBuilding townHall = colony.getBuildingManager().getBuilding(colony.getCenter());
+        if (townHall == null)
+        {
+            ColonyBenchmarks.deleteColony(helper, colony);
+            helper.fail("No town hall in the benchmark colony");
+            return;
+        }
+
+        final StandardRequestManager manager = (StandardRequestManager) colony.getRequestManager();
+        final ItemStack[] items = {new ItemStack(Items.OAK_LOG), new ItemStack(Items.COBBLESTONE), new ItemStack(Items.BREAD), new ItemStack(Items.IRON_INGOT)};
+        for (int i = 0; i < REQUESTS; i++)
+        {
+            manager.createRequest(townHall.getRequester(), new Stack(items[i % items.length], 1 + i % 64, 1));
+        }
+
+        benchmark.accept(manager);
+
+        ColonyBenchmarks.deleteColony(helper, colony);
+        helper.succeed();
+    }
+
+    /**
+     * Write the data stores of a request manager, which hold all requests, the legacy way with the class name in every compound.
+     *
+     * @param manager the request manager.
+     * @return the written data stores.
+     */
+    private static CompoundTag writeLegacy(final StandardRequestManager manager)
+    {
+        return StandardFactoryController.getInstance().serialize(manager.getDataStoreManager());
+    }
+
+    /**
+     * Get the written size of a compound, as it is stored in the save before compression.
+     *
+     * @param compound the compound.
+     * @return the size in bytes.
+     */
+    private static int sizeOf(final CompoundTag compound)
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream output = new DataOutputStream(bytes))
+        {
+            NbtIo.write(compound, output);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to measure the size of a compound", e);
+        }
+        return bytes.size();
+    }
+}
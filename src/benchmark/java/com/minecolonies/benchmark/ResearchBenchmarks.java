@@ -0,0 +1,126 @@
+package com.minecolonies.benchmark;
+
+import com.minecolonies.api.research.effects.IResearchEffect;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
+import com.minecolonies.coremod.research.GlobalResearchEffect;
+import com.minecolonies.coremod.research.ResearchEffectManager;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+import static com.minecolonies.benchmark.BenchmarkRunner.PLATFORM;
+
+/**
+ * Benchmarks of research effect strength lookups, through pre-resolved handles, by effect id and the way it was done before the strength table.
+ */
+@GameTestHolder(MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class ResearchBenchmarks
+{
+    /**
+     * The number of applied effects, about as many as a colony with all research done.
+     */
+    private static final int EFFECTS = 100;
+
+    /**
+     * The number of looked up effects, half of them are not applied.
+     */
+    private static final int LOOKED_UP = 2 * EFFECTS;
+
+    /**
+     * The number of lookups of every effect per iteration.
+     */
+    private static final int LOOKUPS = 1000;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ResearchBenchmarks()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Look up effect strengths by handle, by id, and from a plain map of the effects like before the strength table. The time is reported per lookup.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void researchEffectLookup(final GameTestHelper helper)
+    {
+        final ResearchEffectManager manager = new ResearchEffectManager();
+        final Map<ResourceLocation, IResearchEffect<?>> effectMap = new HashMap<>();
+        final ResourceLocation[] ids = new ResourceLocation[LOOKED_UP];
+        final ResearchEffectHandle[] handles = new ResearchEffectHandle[LOOKED_UP];
+        for (int i = 0; i < LOOKED_UP; i++)
+        {
+            ids[i] = new ResourceLocation(MOD_ID, "effects/benchmark" + i);
+            handles[i] = ResearchEffectHandle.of(ids[i]);
+            if (i % 2 == 0)
+            {
+                final GlobalResearchEffect effect = new GlobalResearchEffect(ids[i], i, i);
+                manager.applyEffect(effect);
+                effectMap.put(ids[i], effect);
+            }
+        }
+
+        final int operations = LOOKUPS * LOOKED_UP;
+        if (BenchmarkRunner.isSelected("researchEffectLookupHandle"))
+        {
+            BenchmarkRunner.measure("researchEffectLookupHandle", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, operations, () ->
+            {
+                double total = 0;
+                for (int i = 0; i < LOOKUPS; i++)
+                {
+                    for (final ResearchEffectHandle handle : handles)
+                    {
+                        total += manager.getEffectStrength(handle);
+                    }
+                }
+                return (int) total;
+            });
+        }
+        if (BenchmarkRunner.isSelected("researchEffectLookupId"))
+        {
+            BenchmarkRunner.measure("researchEffectLookupId", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, operations, () ->
+            {
+                double total = 0;
+                for (int i = 0; i < LOOKUPS; i++)
+                {
+                    for (final ResourceLocation id : ids)
+                    {
+                        total += manager.getEffectStrength(id);
+                    }
+                }
+                return (int) total;
+            });
+        }
+        if (BenchmarkRunner.isSelected("researchEffectLookupMap"))
+        {
+            BenchmarkRunner.measure("researchEffectLookupMap", BenchmarkRunner.WARMUP, BenchmarkRunner.ITERATIONS, operations, () ->
+            {
+                double total = 0;
+                for (int i = 0; i < LOOKUPS; i++)
+                {
+                    for (final ResourceLocation id : ids)
+                    {
+                        if (effectMap.containsKey(id) && effectMap.get(id) instanceof GlobalResearchEffect)
+                        {
+                            total += ((GlobalResearchEffect) effectMap.get(id)).getEffect();
+                        }
+                    }
+                }
+                return (int) total;
+            });
+        }
+        helper.succeed();
+    }
+}
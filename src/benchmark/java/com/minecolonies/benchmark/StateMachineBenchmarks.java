@@ -0,0 +1,122 @@
+package com.minecolonies.benchmark;
+
+import com.minecolonies.api.entity.ai.statemachine.states.IState;
+import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
+import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingTransition;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.minecolonies.api.util.constant.Constants.MOD_ID;
+import static com.minecolonies.benchmark.BenchmarkRunner.PLATFORM;
+
+/**
+ * Ticks many state machines with as many transitions as a worker AI, most of which are not due or whose condition fails, like a colony full of idle citizens.
+ */
+@GameTestHolder(MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class StateMachineBenchmarks
+{
+    /**
+     * The number of state machines.
+     */
+    private static final int MACHINES = 500;
+
+    /**
+     * The number of transitions per state machine.
+     */
+    private static final int TRANSITIONS = 30;
+
+    /**
+     * The number of ticks until a machine moves to the next state.
+     */
+    private static final int TICKS_PER_STATE = 40;
+
+    /**
+     * The number of ticks per measured iteration.
+     */
+    private static final int TICKS = 200;
+
+    /**
+     * The states of the benchmarked machines.
+     */
+    private enum BenchmarkState implements IState
+    {
+        IDLE,
+        WORKING,
+        DUMPING
+    }
+
+    /**
+     * The number of ticks run, drives the state changes.
+     */
+    private static int ticks = 0;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private StateMachineBenchmarks()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Tick all state machines, the time is reported per machine tick.
+     *
+     * @param helper the game test helper.
+     */
+    @GameTest(template = PLATFORM)
+    public static void stateMachineTick(final GameTestHelper helper)
+    {
+        final List<TickRateStateMachine<BenchmarkState>> machines = createMachines();
+        BenchmarkRunner.run(helper, "stateMachineTick", MACHINES * TICKS, () ->
+        {
+            for (int tick = 0; tick < TICKS; tick++)
+            {
+                ticks++;
+                for (final TickRateStateMachine<BenchmarkState> machine : machines)
+                {
+                    machine.tick();
+                }
+            }
+            return machines.get(0).getState().ordinal();
+        });
+    }
+
+    /**
+     * Create the state machines. Each state gets a share of transitions with different rates, one of which moves on to the next state.
+     *
+     * @return the machines.
+     */
+    private static List<TickRateStateMachine<BenchmarkState>> createMachines()
+    {
+        final BenchmarkState[] states = BenchmarkState.values();
+        final List<TickRateStateMachine<BenchmarkState>> machines = new ArrayList<>();
+        for (int i = 0; i < MACHINES; i++)
+        {
+            final TickRateStateMachine<BenchmarkState> machine = new TickRateStateMachine<>(BenchmarkState.IDLE, e -> {});
+            for (int t = 0; t < TRANSITIONS; t++)
+            {
+                final BenchmarkState state = states[t % states.length];
+                final BenchmarkState next = states[(t + 1) % states.length];
+                final int rate = 1 + t % 20;
+                if (t < states.length)
+                {
+                    machine.addTransition(new TickingTransition<>(state, () -> ticks % TICKS_PER_STATE == 0, () -> next, rate));
+                }
+                else
+                {
+                    machine.addTransition(new TickingTransition<>(state, () -> false, () -> next, rate));
+                }
+            }
+            machines.add(machine);
+        }
+        return machines;
+    }
+}
@@ -0,0 +1,105 @@
+package com.minecolonies.benchmark;
+
+import net.minecraft.core.Registry;
+import net.minecraft.world.item.EnchantedBookItem;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.enchantment.Enchantment;
+import net.minecraft.world.item.enchantment.EnchantmentInstance;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates large fake inventories for the benchmarks. Generation is seeded, so every run measures the same contents.
+ */
+public final class SyntheticInventories
+{
+    /**
+     * The seed of the generated contents.
+     */
+    private static final long SEED = 42L;
+
+    /**
+     * Plain items mixed into the inventories.
+     */
+    private static final Item[] PLAIN_ITEMS = {Items.OAK_LOG, Items.COBBLESTONE, Items.WHEAT, Items.IRON_INGOT, Items.BREAD, Items.TORCH, Items.STICK, Items.COAL};
+
+    /**
+     * Damageable items mixed into the inventories.
+     */
+    private static final Item[] TOOLS = {Items.IRON_PICKAXE, Items.IRON_AXE, Items.IRON_SHOVEL, Items.FISHING_ROD, Items.SHEARS};
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private SyntheticInventories()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Generate enchanted books which are all different. There are fewer enchantment and level combinations than books, so the repair cost tells them apart.
+     *
+     * @param count the number of books.
+     * @return the books.
+     */
+    @NotNull
+    public static List<ItemStack> enchantedBooks(final int count)
+    {
+        final List<EnchantmentInstance> combinations = new ArrayList<>();
+        for (final Enchantment enchantment : Registry.ENCHANTMENT)
+        {
+            for (int level = enchantment.getMinLevel(); level <= enchantment.getMaxLevel(); level++)
+            {
+                combinations.add(new EnchantmentInstance(enchantment, level));
+            }
+        }
+
+        final List<ItemStack> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+        {
+            final ItemStack book = EnchantedBookItem.createForEnchantment(combinations.get(i % combinations.size()));
+            book.setRepairCost(i / combinations.size());
+            books.add(book);
+        }
+        return books;
+    }
+
+    /**
+     * Generate a mixed inventory of plain stacks, damaged tools and enchanted books.
+     *
+     * @param count the number of stacks.
+     * @return the stacks.
+     */
+    @NotNull
+    public static List<ItemStack> mixed(final int count)
+    {
+        final Random random = new Random(SEED);
+        final List<ItemStack> books = enchantedBooks((count + 3) / 4);
+        final List<ItemStack> stacks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+        {
+            switch (i % 4)
+            {
+                case 0:
+                    stacks.add(books.get(i / 4));
+                    break;
+                case 1:
+                    final ItemStack tool = new ItemStack(TOOLS[random.nextInt(TOOLS.length)]);
+                    tool.setDamageValue(random.nextInt(tool.getMaxDamage()));
+                    stacks.add(tool);
+                    break;
+                default:
+                    stacks.add(new ItemStack(PLAIN_ITEMS[random.nextInt(PLAIN_ITEMS.length)], 1 + random.nextInt(64)));
+                    break;
+            }
+        }
+        return stacks;
+    }
+}
@@ -1,6 +1,7 @@
 package com.minecolonies.apiimp.initializer;
 
 import com.minecolonies.api.entity.citizen.happiness.ExpirationBasedHappinessModifier;
+import com.minecolonies.api.entity.citizen.happiness.HappinessDependency;
 import com.minecolonies.api.entity.citizen.happiness.HappinessRegistry;
 import com.minecolonies.api.entity.citizen.happiness.StaticHappinessModifier;
 import com.minecolonies.api.entity.citizen.happiness.TimeBasedHappinessModifier;
@@ -38,10 +39,10 @@ public final class ModHappinessFactorTypeInitializer
 
 
         HappinessRegistry.schoolFunction = DEFERRED_REGISTER_HAPPINESS_FUNCTION.register(SCHOOL_FUNCTION.getPath(), () -> new HappinessFunctionEntry(data -> data.isChild() ? data.getJob() instanceof JobPupil ? 2.0 : 0.0 : 1.0));
-        HappinessRegistry.securityFunction = DEFERRED_REGISTER_HAPPINESS_FUNCTION.register(SECURITY_FUNCTION.getPath(), () -> new HappinessFunctionEntry(data -> getGuardFactor(data.getColony())));
-        HappinessRegistry.socialFunction = DEFERRED_REGISTER_HAPPINESS_FUNCTION.register(SOCIAL_FUNCTION.getPath(), () -> new HappinessFunctionEntry(data -> getSocialModifier(data.getColony())));
-        HappinessRegistry.saturationFunction = DEFERRED_REGISTER_HAPPINESS_FUNCTION.register(SATURATION_FUNCTION.getPath(), () -> new HappinessFunctionEntry(data -> (data.getSaturation() + 5.0) / 10.0));
-        HappinessRegistry.mysticalSiteFunction = DEFERRED_REGISTER_HAPPINESS_FUNCTION.register(MYSTICAL_SITE_FUNCTION.getPath(), () -> new HappinessFunctionEntry(data -> getMysticalSiteFactor(data.getColony())));
+        HappinessRegistry.securityFunction = DEFERRED_REGISTER_HAPPINESS_FUNCTION.register(SECURITY_FUNCTION.getPath(), () -> new HappinessFunctionEntry(data -> getGuardFactor(data.getColony()), HappinessDependency.COLONY));
+        HappinessRegistry.socialFunction = DEFERRED_REGISTER_HAPPINESS_FUNCTION.register(SOCIAL_FUNCTION.getPath(), () -> new HappinessFunctionEntry(data -> getSocialModifier(data.getColony()), HappinessDependency.COLONY));
+        HappinessRegistry.saturationFunction = DEFERRED_REGISTER_HAPPINESS_FUNCTION.register(SATURATION_FUNCTION.getPath(), () -> new HappinessFunctionEntry(data -> (data.getSaturation() + 5.0) / 10.0, HappinessDependency.SATURATION));
+        HappinessRegistry.mysticalSiteFunction = DEFERRED_REGISTER_HAPPINESS_FUNCTION.register(MYSTICAL_SITE_FUNCTION.getPath(), () -> new HappinessFunctionEntry(data -> getMysticalSiteFactor(data.getColony()), HappinessDependency.COLONY));
 
         HappinessRegistry.housingFunction = DEFERRED_REGISTER_HAPPINESS_FUNCTION.register(HOUSING_FUNCTION.getPath(), () -> new HappinessFunctionEntry(data -> data.getHomeBuilding() == null ? 0.0 : data.getHomeBuilding().getBuildingLevel() / 3.0));
         HappinessRegistry.unemploymentFunction = DEFERRED_REGISTER_HAPPINESS_FUNCTION.register(UNEMPLOYMENT_FUNCTION.getPath(), () -> new HappinessFunctionEntry(data -> data.isChild() ? 1.0 : (data.getWorkBuilding() == null ? 0.5 : data.getWorkBuilding().getBuildingLevel() > 3 ? 2.0 : 1.0)));
@@ -222,8 +222,9 @@ public class WindowHutAllInventory extends AbstractWindowSkeleton
 
         final List<ItemStorage> filterItems = new ArrayList<>();
         storedItems.forEach((storage, amount) -> {
-            storage.setAmount(amount);
-            filterItems.add(storage);
+            final ItemStorage total = storage.copy();
+            total.setAmount(amount);
+            filterItems.add(total);
         });
         final Predicate<ItemStorage> filterPredicate = stack -> filter.isEmpty()
                                                                   || stack.getItemStack().getDescriptionId().toLowerCase(Locale.US).contains(filter.toLowerCase(Locale.US))
@@ -0,0 +1,216 @@
+package com.minecolonies.coremod.client.render.worldevent;
+
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Geometry of the colony border lines, one segment per claimed chunk.
+ * <p>
+ * Pure functions from claim data to line vertices, no rendering state is involved, so the geometry can be built and measured without a GPU. A segment only depends on
+ * the claim of its chunk, which of its four neighbours belong to another colony and whether the player stands in its row or column.
+ */
+public final class ColonyBorderGeometry
+{
+    /**
+     * Border side flags.
+     */
+    public static final int NORTH = 1;
+    public static final int SOUTH = 2;
+    public static final int WEST  = 4;
+    public static final int EAST  = 8;
+
+    /**
+     * Claim of chunks missing from the claim data, never equal to a colony.
+     */
+    private static final int NO_DATA = -1;
+
+    private static final int CHUNK_SIZE        = 16;
+    private static final int CHUNK_HEIGHT      = 256;
+    private static final int PLAYER_CHUNK_STEP = CHUNK_SIZE / 4;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyBorderGeometry()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the sides of a chunk which border a chunk not owned by the same colony.
+     *
+     * @param claims   the owning colony by chunk, see {@link ChunkPos#asLong(int, int)}.
+     * @param chunkX   the chunk x.
+     * @param chunkZ   the chunk z.
+     * @param colonyId the colony owning the chunk.
+     * @return the border side flags.
+     */
+    public static int getBorderSides(final Long2IntMap claims, final int chunkX, final int chunkZ, final int colonyId)
+    {
+        int sides = 0;
+        if (claims.getOrDefault(ChunkPos.asLong(chunkX, chunkZ - 1), NO_DATA) != colonyId)
+        {
+            sides |= NORTH;
+        }
+        if (claims.getOrDefault(ChunkPos.asLong(chunkX, chunkZ + 1), NO_DATA) != colonyId)
+        {
+            sides |= SOUTH;
+        }
+        if (claims.getOrDefault(ChunkPos.asLong(chunkX - 1, chunkZ), NO_DATA) != colonyId)
+        {
+            sides |= WEST;
+        }
+        if (claims.getOrDefault(ChunkPos.asLong(chunkX + 1, chunkZ), NO_DATA) != colonyId)
+        {
+            sides |= EAST;
+        }
+        return sides;
+    }
+
+    /**
+     * Build the border lines of a chunk. The sides in the row or column of the player get a finer grid.
+     *
+     * @param chunkX        the chunk x.
+     * @param chunkZ        the chunk z.
+     * @param sides         the border side flags.
+     * @param playerChunkX  if the player is in the same chunk column, for the north and south sides.
+     * @param playerChunkZ  if the player is in the same chunk row, for the west and east sides.
+     * @return the line vertices, x y z per vertex and two vertices per line.
+     */
+    public static float[] buildSegment(final int chunkX, final int chunkZ, final int sides, final boolean playerChunkX, final boolean playerChunkZ)
+    {
+        final FloatArrayList vertices = new FloatArrayList();
+        final float minX = chunkX * CHUNK_SIZE;
+        final float maxX = minX + CHUNK_SIZE;
+        final float minZ = chunkZ * CHUNK_SIZE;
+        final float maxZ = minZ + CHUNK_SIZE;
+        final boolean north = (sides & NORTH) != 0;
+        final boolean south = (sides & SOUTH) != 0;
+        final boolean west = (sides & WEST) != 0;
+        final boolean east = (sides & EAST) != 0;
+
+        // vert lines
+        if (north || west)
+        {
+            line(vertices, minX, 0, minZ, minX, CHUNK_HEIGHT, minZ);
+        }
+        if (north || east)
+        {
+            line(vertices, maxX, 0, minZ, maxX, CHUNK_HEIGHT, minZ);
+        }
+        if (south || west)
+        {
+            line(vertices, minX, 0, maxZ, minX, CHUNK_HEIGHT, maxZ);
+        }
+        if (south || east)
+        {
+            line(vertices, maxX, 0, maxZ, maxX, CHUNK_HEIGHT, maxZ);
+        }
+
+        // horizontal lines
+        if (north)
+        {
+            alongX(vertices, minX, maxX, minZ, playerChunkX);
+        }
+        if (south)
+        {
+            alongX(vertices, minX, maxX, maxZ, playerChunkX);
+        }
+        if (west)
+        {
+            alongZ(vertices, minX, minZ, maxZ, playerChunkZ);
+        }
+        if (east)
+        {
+            alongZ(vertices, maxX, minZ, maxZ, playerChunkZ);
+        }
+
+        return vertices.toFloatArray();
+    }
+
+    /**
+     * Add the lines of a side running along x.
+     *
+     * @param vertices the vertices to add to.
+     * @param minX     the start x.
+     * @param maxX     the end x.
+     * @param z        the z of the side.
+     * @param fine     if the finer grid of the player chunk is used.
+     */
+    private static void alongX(final FloatArrayList vertices, final float minX, final float maxX, final float z, final boolean fine)
+    {
+        if (fine)
+        {
+            for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+            {
+                line(vertices, minX + shift, 0, z, minX + shift, CHUNK_HEIGHT, z);
+            }
+            for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
+            {
+                line(vertices, minX, y, z, maxX, y, z);
+            }
+        }
+        else
+        {
+            for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
+            {
+                line(vertices, minX, y, z, maxX, y, z);
+            }
+        }
+    }
+
+    /**
+     * Add the lines of a side running along z.
+     *
+     * @param vertices the vertices to add to.
+     * @param x        the x of the side.
+     * @param minZ     the start z.
+     * @param maxZ     the end z.
+     * @param fine     if the finer grid of the player chunk is used.
+     */
+    private static void alongZ(final FloatArrayList vertices, final float x, final float minZ, final float maxZ, final boolean fine)
+    {
+        if (fine)
+        {
+            for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+            {
+                line(vertices, x, 0, minZ + shift, x, CHUNK_HEIGHT, minZ + shift);
+            }
+            for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
+            {
+                line(vertices, x, y, minZ, x, y, maxZ);
+            }
+        }
+        else
+        {
+            for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
+            {
+                line(vertices, x, y, minZ, x, y, maxZ);
+            }
+        }
+    }
+
+    /**
+     * Add a line.
+     *
+     * @param vertices the vertices to add to.
+     * @param x1       start x.
+     * @param y1       start y.
+     * @param z1       start z.
+     * @param x2       end x.
+     * @param y2       end y.
+     * @param z2       end z.
+     */
+    private static void line(final FloatArrayList vertices, final float x1, final float y1, final float z1, final float x2, final float y2, final float z2)
+    {
+        vertices.add(x1);
+        vertices.add(y1);
+        vertices.add(z1);
+        vertices.add(x2);
+        vertices.add(y2);
+        vertices.add(z2);
+    }
+}
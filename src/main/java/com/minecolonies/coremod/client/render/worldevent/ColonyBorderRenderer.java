@@ -6,35 +6,50 @@ import com.ldtteam.structurize.util.WorldRenderMacros;
 import com.minecolonies.api.IMinecoloniesAPI;
 import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.coremod.MineColonies;
-import com.minecolonies.coremod.util.MutableChunkPos;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.BufferBuilder;
 import com.mojang.blaze3d.vertex.Tesselator;
 import com.mojang.blaze3d.vertex.VertexBuffer;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.renderer.GameRenderer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.Nullable;
 
 import java.awt.*;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
 
+/**
+ * Renders the colony borders and ticketed chunks while the build tool is held.
+ * <p>
+ * The border geometry is kept as one segment per claimed chunk. When the player changes chunk or the claims are refreshed, only the segments whose claim, neighbours or
+ * player row and column changed are built again, see {@link ColonyBorderGeometry}. All segments are rebuilt only when the view range, the colour setting or the
+ * nearest colony changes.
+ */
 public class ColonyBorderRenderer
 {
     private static final int RENDER_DIST_THRESHOLD = 3;
-    private static final int CHUNK_SIZE = 16;
-    private static final int CHUNK_HEIGHT = 256;
-    private static final int PLAYER_CHUNK_STEP = CHUNK_SIZE / 4;
 
-    private static VertexBuffer colonies           = null;
-    private static VertexBuffer chunktickets       = null;
-    private static ChunkPos                     lastPlayerChunkPos = null;
-    private static IColonyView lastColony = null;
+    /**
+     * Interval in ticks in which the claims are checked for changes while the player stands still.
+     */
+    private static final int CLAIM_REFRESH_TICKS = 20;
+
+    private static final BorderMesh colonies           = new BorderMesh();
+    private static final BorderMesh chunktickets       = new BorderMesh();
+    private static ChunkPos         lastPlayerChunkPos = null;
+    private static IColonyView      lastColony         = null;
+    private static long             nextClaimRefresh   = 0;
 
     static void render(final WorldEventContext ctx)
     {
@@ -44,15 +59,16 @@ public class ColonyBorderRenderer
         }
 
         final ChunkPos playerChunkPos = new ChunkPos(ctx.clientPlayer.blockPosition());
+        final long gameTime = ctx.clientLevel.getGameTime();
 
-        if (lastColony != ctx.nearestColony || !lastPlayerChunkPos.equals(playerChunkPos))
+        if (lastColony != ctx.nearestColony || !playerChunkPos.equals(lastPlayerChunkPos) || gameTime >= nextClaimRefresh)
         {
             lastColony = ctx.nearestColony;
             lastPlayerChunkPos = playerChunkPos;
+            nextClaimRefresh = gameTime + CLAIM_REFRESH_TICKS;
 
-            final Map<ChunkPos, Integer> coloniesMap = new HashMap<>();
-            final Map<ChunkPos, Integer> chunkticketsMap = new HashMap<>();
-            final BufferBuilder bufferbuilder = Tesselator.getInstance().getBuilder();
+            final Long2IntMap coloniesMap = new Long2IntOpenHashMap();
+            final Long2IntMap chunkticketsMap = new Long2IntOpenHashMap();
             final int nearestColonyId = ctx.nearestColony.getID();
             final int playerRenderDist = Math.max(ctx.clientRenderDist - RENDER_DIST_THRESHOLD, 2);
             final int range = Math.max(ctx.clientRenderDist, MineColonies.getConfig().getServer().maxColonySize.get());
@@ -63,10 +79,10 @@ public class ColonyBorderRenderer
                 {
                     final LevelChunk chunk = ctx.clientLevel.getChunk(playerChunkPos.x + chunkX, playerChunkPos.z + chunkZ);
                     if (chunk.isEmpty()) { continue; }
-                    final ChunkPos chunkPos = chunk.getPos();
+                    final long chunkPos = chunk.getPos().toLong();
 
                     chunk.getCapability(CLOSE_COLONY_CAP, null).ifPresent(cap -> coloniesMap.put(chunkPos, cap.getOwningColony()));
-                    if (ctx.nearestColony.getTicketedChunks().contains(chunkPos.toLong()))
+                    if (ctx.nearestColony.getTicketedChunks().contains(chunkPos))
                     {
                         chunkticketsMap.put(chunkPos, nearestColonyId);
                     }
@@ -77,20 +93,13 @@ public class ColonyBorderRenderer
                 }
             }
 
-            if (colonies != null)
-            {
-                colonies.close();
-            }
-            if (chunktickets != null)
-            {
-                chunktickets.close();
-            }
-            colonies = draw(bufferbuilder, coloniesMap, nearestColonyId, playerChunkPos, playerRenderDist);
-            chunktickets = draw(bufferbuilder, chunkticketsMap, nearestColonyId, playerChunkPos, playerRenderDist);
+            final BufferBuilder bufferbuilder = Tesselator.getInstance().getBuilder();
+            colonies.update(bufferbuilder, coloniesMap, nearestColonyId, playerChunkPos, playerRenderDist);
+            chunktickets.update(bufferbuilder, chunkticketsMap, nearestColonyId, playerChunkPos, playerRenderDist);
             bufferbuilder.unsetDefaultColor();
         }
 
-        final VertexBuffer p = Screen.hasControlDown() ? chunktickets : colonies;
+        final VertexBuffer p = Screen.hasControlDown() ? chunktickets.buffer : colonies.buffer;
         if (p == null)
         {
             return;
@@ -105,215 +114,230 @@ public class ColonyBorderRenderer
         MatrixUtils.popShaderMVstack();
     }
 
-    private static VertexBuffer draw(final BufferBuilder bufferbuilder,
-        final Map<ChunkPos, Integer> mapToDraw,
-        final int playerColonyId,
-        final ChunkPos playerChunkPos,
-        final int playerRenderDist)
+    /**
+     * Cleanup on logout.
+     */
+    public static void cleanup()
     {
-        final MutableChunkPos mutableChunkPos = new MutableChunkPos(0, 0);
-        final Map<Integer, Color> colonyColours = new HashMap<>();
-        final boolean useColonyColour = IMinecoloniesAPI.getInstance().getConfig().getClient().colonyteamborders.get();
-
-        bufferbuilder.begin(WorldRenderMacros.LINES.mode(), WorldRenderMacros.LINES.format());
-        mapToDraw.forEach((chunkPos, colonyId) -> {
-            if (colonyId == 0 || chunkPos.x <= playerChunkPos.x - playerRenderDist || chunkPos.x >= playerChunkPos.x + playerRenderDist
-                || chunkPos.z <= playerChunkPos.z - playerRenderDist || chunkPos.z >= playerChunkPos.z + playerRenderDist)
-            {
-                return;
-            }
-
-            final boolean isPlayerChunkX = colonyId == playerColonyId && chunkPos.x == playerChunkPos.x;
-            final boolean isPlayerChunkZ = colonyId == playerColonyId && chunkPos.z == playerChunkPos.z;
-            final float minX = chunkPos.getMinBlockX();
-            final float maxX = chunkPos.getMaxBlockX() + 1.0f;
-            final float minZ = chunkPos.getMinBlockZ();
-            final float maxZ = chunkPos.getMaxBlockZ() + 1.0f;
-            final int testedColonyId = colonyId;
+        colonies.clear();
+        chunktickets.clear();
+        lastColony = null;
+        lastPlayerChunkPos = null;
+        nextClaimRefresh = 0;
+    }
 
-            if (useColonyColour)
-            {
-                final Color colour = colonyColours.computeIfAbsent(colonyId, id ->
-                {
-                    final IColonyView colony = IMinecoloniesAPI.getInstance().getColonyManager().getColonyView(id, Minecraft.getInstance().level.dimension());
-                    final ChatFormatting team = colony != null ? colony.getTeamColonyColor()
-                            : id == playerColonyId ? ChatFormatting.WHITE : ChatFormatting.RED;
-                    return new Color(team.getColor());
-                });
+    /**
+     * The border segment of a single chunk.
+     *
+     * @param colonyId     the colony owning the chunk.
+     * @param sides        the border side flags.
+     * @param playerChunkX if the player is in the same chunk column.
+     * @param playerChunkZ if the player is in the same chunk row.
+     * @param vertices     the line vertices.
+     */
+    private record Segment(int colonyId, int sides, boolean playerChunkX, boolean playerChunkZ, float[] vertices)
+    {
+        /**
+         * Check if the segment was built for the given state.
+         *
+         * @param colonyId     the colony owning the chunk.
+         * @param sides        the border side flags.
+         * @param playerChunkX if the player is in the same chunk column.
+         * @param playerChunkZ if the player is in the same chunk row.
+         * @return true if nothing changed.
+         */
+        private boolean matches(final int colonyId, final int sides, final boolean playerChunkX, final boolean playerChunkZ)
+        {
+            return this.colonyId == colonyId && this.sides == sides && this.playerChunkX == playerChunkX && this.playerChunkZ == playerChunkZ;
+        }
+    }
 
-                bufferbuilder.defaultColor(colour.getRed(), colour.getGreen(), colour.getBlue(), colour.getAlpha());
-            }
-            else if (colonyId == playerColonyId)
-            {
-                bufferbuilder.defaultColor(255, 255, 255, 255);
-            }
-            else
-            {
-                bufferbuilder.defaultColor(255, 70, 70, 255);
-            }
+    /**
+     * The segments of one kind of border and the buffer they are uploaded to.
+     */
+    private static final class BorderMesh
+    {
+        /**
+         * The segments by chunk.
+         */
+        private final Long2ObjectMap<Segment> segments = new Long2ObjectOpenHashMap<>();
 
-            mutableChunkPos.setX(chunkPos.x);
-            mutableChunkPos.setZ(chunkPos.z - 1);
-            final boolean north = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
+        /**
+         * The view range the segments were built for.
+         */
+        private int renderDist = -1;
 
-            mutableChunkPos.setZ(chunkPos.z + 1);
-            final boolean south = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
+        /**
+         * The colour setting the buffer was built with.
+         */
+        private boolean useColonyColour;
 
-            mutableChunkPos.setX(chunkPos.x + 1);
-            mutableChunkPos.setZ(chunkPos.z);
-            final boolean east = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
+        /**
+         * The nearest colony the buffer was coloured for.
+         */
+        private int nearestColonyId = -1;
 
-            mutableChunkPos.setX(chunkPos.x - 1);
-            final boolean west = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
+        /**
+         * The uploaded segments, null if there are none.
+         */
+        @Nullable
+        private VertexBuffer buffer;
 
-            // vert lines
-            if (north || west)
-            {
-                bufferbuilder.vertex(minX, 0, minZ).endVertex();
-                bufferbuilder.vertex(minX, CHUNK_HEIGHT, minZ).endVertex();
-            }
-            if (north || east)
-            {
-                bufferbuilder.vertex(maxX, 0, minZ).endVertex();
-                bufferbuilder.vertex(maxX, CHUNK_HEIGHT, minZ).endVertex();
-            }
-            if (south || west)
-            {
-                bufferbuilder.vertex(minX, 0, maxZ).endVertex();
-                bufferbuilder.vertex(minX, CHUNK_HEIGHT, maxZ).endVertex();
-            }
-            if (south || east)
+        /**
+         * Update the segments to the given claims and upload them if any changed.
+         *
+         * @param bufferbuilder    the buffer builder to use.
+         * @param claims           the owning colony by chunk, 0 for none.
+         * @param playerColonyId   the colony nearest to the player.
+         * @param playerChunkPos   the chunk of the player.
+         * @param playerRenderDist the view range in chunks.
+         */
+        private void update(
+          final BufferBuilder bufferbuilder,
+          final Long2IntMap claims,
+          final int playerColonyId,
+          final ChunkPos playerChunkPos,
+          final int playerRenderDist)
+        {
+            final boolean colonyColour = IMinecoloniesAPI.getInstance().getConfig().getClient().colonyteamborders.get();
+            boolean changed = false;
+            if (renderDist != playerRenderDist || useColonyColour != colonyColour || nearestColonyId != playerColonyId)
             {
-                bufferbuilder.vertex(maxX, 0, maxZ).endVertex();
-                bufferbuilder.vertex(maxX, CHUNK_HEIGHT, maxZ).endVertex();
+                renderDist = playerRenderDist;
+                useColonyColour = colonyColour;
+                nearestColonyId = playerColonyId;
+                segments.clear();
+                changed = true;
             }
 
-            // horizontal lines
-            if (north)
+            final Iterator<Long2ObjectMap.Entry<Segment>> iterator = segments.long2ObjectEntrySet().iterator();
+            while (iterator.hasNext())
             {
-                if (isPlayerChunkX)
+                final long chunk = iterator.next().getLongKey();
+                if (claims.getOrDefault(chunk, 0) == 0 || !isVisible(chunk, playerChunkPos))
                 {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
-                    {
-                        bufferbuilder.vertex(minX + shift, 0, minZ).endVertex();
-                        bufferbuilder.vertex(minX + shift, CHUNK_HEIGHT, minZ).endVertex();
-                    }
-                    for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
-                    {
-                        bufferbuilder.vertex(minX, y, minZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, minZ).endVertex();
-                    }
-                }
-                else
-                {
-                    for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
-                    {
-                        bufferbuilder.vertex(minX, y, minZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, minZ).endVertex();
-                    }
+                    iterator.remove();
+                    changed = true;
                 }
             }
-            if (south)
+
+            for (final Long2IntMap.Entry entry : claims.long2IntEntrySet())
             {
-                if (isPlayerChunkX)
+                final long chunk = entry.getLongKey();
+                final int colonyId = entry.getIntValue();
+                if (colonyId == 0 || !isVisible(chunk, playerChunkPos))
                 {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
-                    {
-                        bufferbuilder.vertex(minX + shift, 0, maxZ).endVertex();
-                        bufferbuilder.vertex(minX + shift, CHUNK_HEIGHT, maxZ).endVertex();
-                    }
-                    for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
-                    {
-                        bufferbuilder.vertex(minX, y, maxZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, maxZ).endVertex();
-                    }
+                    continue;
                 }
-                else
+
+                final int chunkX = ChunkPos.getX(chunk);
+                final int chunkZ = ChunkPos.getZ(chunk);
+                final int sides = ColonyBorderGeometry.getBorderSides(claims, chunkX, chunkZ, colonyId);
+                final boolean playerChunkX = colonyId == playerColonyId && chunkX == playerChunkPos.x;
+                final boolean playerChunkZ = colonyId == playerColonyId && chunkZ == playerChunkPos.z;
+
+                final Segment segment = segments.get(chunk);
+                if (segment == null || !segment.matches(colonyId, sides, playerChunkX, playerChunkZ))
                 {
-                    for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
-                    {
-                        bufferbuilder.vertex(minX, y, maxZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, maxZ).endVertex();
-                    }
+                    segments.put(chunk, new Segment(colonyId, sides, playerChunkX, playerChunkZ, ColonyBorderGeometry.buildSegment(chunkX, chunkZ, sides, playerChunkX, playerChunkZ)));
+                    changed = true;
                 }
             }
-            if (west)
+
+            if (changed)
+            {
+                upload(bufferbuilder, playerColonyId);
+            }
+        }
+
+        /**
+         * Check if a chunk is within the view range.
+         *
+         * @param chunk          the chunk.
+         * @param playerChunkPos the chunk of the player.
+         * @return true if its border is drawn.
+         */
+        private boolean isVisible(final long chunk, final ChunkPos playerChunkPos)
+        {
+            final int chunkX = ChunkPos.getX(chunk);
+            final int chunkZ = ChunkPos.getZ(chunk);
+            return chunkX > playerChunkPos.x - renderDist && chunkX < playerChunkPos.x + renderDist
+                     && chunkZ > playerChunkPos.z - renderDist && chunkZ < playerChunkPos.z + renderDist;
+        }
+
+        /**
+         * Upload all segments into a new buffer.
+         *
+         * @param bufferbuilder  the buffer builder to use.
+         * @param playerColonyId the colony nearest to the player.
+         */
+        private void upload(final BufferBuilder bufferbuilder, final int playerColonyId)
+        {
+            final Map<Integer, Color> colonyColours = new HashMap<>();
+
+            bufferbuilder.begin(WorldRenderMacros.LINES.mode(), WorldRenderMacros.LINES.format());
+            for (final Segment segment : segments.values())
             {
-                if (isPlayerChunkZ)
+                final int colonyId = segment.colonyId();
+                if (useColonyColour)
                 {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+                    final Color colour = colonyColours.computeIfAbsent(colonyId, id ->
                     {
-                        bufferbuilder.vertex(minX, 0, minZ + shift).endVertex();
-                        bufferbuilder.vertex(minX, CHUNK_HEIGHT, minZ + shift).endVertex();
-                    }
-                    for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
-                    {
-                        bufferbuilder.vertex(minX, y, minZ).endVertex();
-                        bufferbuilder.vertex(minX, y, maxZ).endVertex();
-                    }
+                        final IColonyView colony = IMinecoloniesAPI.getInstance().getColonyManager().getColonyView(id, Minecraft.getInstance().level.dimension());
+                        final ChatFormatting team = colony != null ? colony.getTeamColonyColor()
+                                : id == playerColonyId ? ChatFormatting.WHITE : ChatFormatting.RED;
+                        return new Color(team.getColor());
+                    });
+
+                    bufferbuilder.defaultColor(colour.getRed(), colour.getGreen(), colour.getBlue(), colour.getAlpha());
                 }
-                else
+                else if (colonyId == playerColonyId)
                 {
-                    for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
-                    {
-                        bufferbuilder.vertex(minX, y, minZ).endVertex();
-                        bufferbuilder.vertex(minX, y, maxZ).endVertex();
-                    }
+                    bufferbuilder.defaultColor(255, 255, 255, 255);
                 }
-            }
-            if (east)
-            {
-                if (isPlayerChunkZ)
+                else
                 {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
-                    {
-                        bufferbuilder.vertex(maxX, 0, minZ + shift).endVertex();
-                        bufferbuilder.vertex(maxX, CHUNK_HEIGHT, minZ + shift).endVertex();
-                    }
-                    for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
-                    {
-                        bufferbuilder.vertex(maxX, y, minZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, maxZ).endVertex();
-                    }
+                    bufferbuilder.defaultColor(255, 70, 70, 255);
                 }
-                else
+
+                final float[] vertices = segment.vertices();
+                for (int i = 0; i < vertices.length; i += 3)
                 {
-                    for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
-                    {
-                        bufferbuilder.vertex(maxX, y, minZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, maxZ).endVertex();
-                    }
+                    bufferbuilder.vertex(vertices[i], vertices[i + 1], vertices[i + 2]).endVertex();
                 }
             }
-        });
 
-        final BufferBuilder.RenderedBuffer renderedBuffer = bufferbuilder.endOrDiscardIfEmpty();
-        if (renderedBuffer == null)
-        {
-            return null;
-        }
-        // create bytebuffer copy since buffer builder uses slice
-        final VertexBuffer vertexBuffer = new VertexBuffer();
-        vertexBuffer.bind();
-        vertexBuffer.upload(renderedBuffer);
-        VertexBuffer.unbind();
-        return vertexBuffer;
-    }
+            if (buffer != null)
+            {
+                buffer.close();
+                buffer = null;
+            }
 
-    /**
-     * Cleanup on logout.
-     */
-    public static void cleanup()
-    {
-        if (colonies != null)
-        {
-            colonies.close();
+            final BufferBuilder.RenderedBuffer renderedBuffer = bufferbuilder.endOrDiscardIfEmpty();
+            if (renderedBuffer == null)
+            {
+                return;
+            }
+            // create bytebuffer copy since buffer builder uses slice
+            buffer = new VertexBuffer();
+            buffer.bind();
+            buffer.upload(renderedBuffer);
+            VertexBuffer.unbind();
         }
-        if (chunktickets != null)
+
+        /**
+         * Drop all segments and the buffer.
+         */
+        private void clear()
         {
-            chunktickets.close();
+            segments.clear();
+            renderDist = -1;
+            nearestColonyId = -1;
+            if (buffer != null)
+            {
+                buffer.close();
+                buffer = null;
+            }
         }
-        lastColony = null;
-        lastPlayerChunkPos = null;
     }
 }
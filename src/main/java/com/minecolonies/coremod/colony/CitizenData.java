@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony;
 
 import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.colony.CitizenNameFile;
+import com.minecolonies.api.colony.CitizenViewSection;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
@@ -16,10 +17,12 @@ import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.Skill;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenSkillHandler;
+import com.minecolonies.api.entity.citizen.happiness.HappinessDependency;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.quests.IQuestInstance;
 import com.minecolonies.api.quests.IQuestDeliveryObjective;
 import com.minecolonies.api.quests.IQuestManager;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.coremod.MineColonies;
@@ -72,6 +75,12 @@ import static com.minecolonies.api.util.constant.translation.DebugTranslationCon
 @SuppressWarnings({Suppression.BIG_CLASS, "PMD.ExcessiveClassLength"})
 public class CitizenData implements ICitizenData
 {
+    /**
+     * Pre-resolved research effect handles.
+     */
+    private static final ResearchEffectHandle WALKING_EFFECT = ResearchEffectHandle.of(WALKING);
+    private static final ResearchEffectHandle HEALTH_BOOST_EFFECT = ResearchEffectHandle.of(HEALTH_BOOST);
+
     /**
      * The max health.
      */
@@ -87,6 +96,11 @@ public class CitizenData implements ICitizenData
      */
     private static final int MIN_SATURATION = 0;
 
+    /**
+     * The saturation at which the citizen counts as hungry for the social happiness of the colony.
+     */
+    private static final double HUNGRY_SATURATION = 1;
+
     /**
      * Possible texture suffixes.
      */
@@ -174,6 +188,11 @@ public class CitizenData implements ICitizenData
      */
     private boolean dirty;
 
+    /**
+     * The view sections changed since the last sync, see {@link CitizenViewSection}.
+     */
+    private int dirtySections = CitizenViewSection.ALL;
+
     /**
      * Its entitity.
      */
@@ -337,7 +356,8 @@ public class CitizenData implements ICitizenData
     @Override
     public void setEntity(@Nullable final AbstractCivilianEntity citizen)
     {
-        if (entity.get() != null)
+        final AbstractEntityCitizen previous = entity.get();
+        if (previous != null)
         {
             entity.clear();
         }
@@ -347,12 +367,27 @@ public class CitizenData implements ICitizenData
             entity = new WeakReference<>((AbstractEntityCitizen) citizen);
             citizen.setCivilianData(this);
         }
+
+        if (previous != citizen)
+        {
+            // Health and the sick count of the social factor read the entity, a citizen without one counts as healthy.
+            onHappinessDependencyChanged(true);
+        }
     }
 
     @Override
     public void markDirty()
     {
         dirty = true;
+        dirtySections = CitizenViewSection.ALL;
+        colony.getCitizenManager().markDirty();
+    }
+
+    @Override
+    public void markDirty(@NotNull final CitizenViewSection section)
+    {
+        dirty = true;
+        dirtySections |= section.getMask();
         colony.getCitizenManager().markDirty();
     }
 
@@ -746,7 +781,7 @@ public class CitizenData implements ICitizenData
     public void setPaused(final boolean p)
     {
         this.paused = p;
-        markDirty();
+        markDirty(CitizenViewSection.CORE);
     }
 
     @Override
@@ -771,6 +806,13 @@ public class CitizenData implements ICitizenData
     public void clearDirty()
     {
         dirty = false;
+        dirtySections = 0;
+    }
+
+    @Override
+    public int getDirtySections()
+    {
+        return dirtySections;
     }
 
     @Override
@@ -804,6 +846,7 @@ public class CitizenData implements ICitizenData
 
         homeBuilding = building;
         markDirty();
+        onHappinessDependencyChanged(true);
 
         if (getEntity().isPresent() && getEntity().get().getCitizenJobHandler().getColonyJob() == null)
         {
@@ -863,6 +906,7 @@ public class CitizenData implements ICitizenData
             }
 
             markDirty();
+            onHappinessDependencyChanged(false);
         }
     }
 
@@ -907,6 +951,7 @@ public class CitizenData implements ICitizenData
         getEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
 
         markDirty();
+        onHappinessDependencyChanged(true);
     }
 
     @Override
@@ -924,111 +969,141 @@ public class CitizenData implements ICitizenData
     @Override
     public void serializeViewNetworkData(@NotNull final FriendlyByteBuf buf)
     {
-        buf.writeUtf(name);
-        buf.writeBoolean(female);
+        serializeViewNetworkData(buf, CitizenViewSection.ALL);
+    }
 
-        buf.writeInt(getEntity().map(AbstractEntityCitizen::getId).orElse(-1));
+    @Override
+    public void serializeViewNetworkData(@NotNull final FriendlyByteBuf buf, final int sections)
+    {
+        buf.writeVarInt(sections);
 
-        buf.writeBoolean(paused);
+        if (CitizenViewSection.CORE.isIn(sections))
+        {
+            buf.writeUtf(name);
+            buf.writeBoolean(female);
 
-        buf.writeBoolean(isChild);
+            buf.writeInt(getEntity().map(AbstractEntityCitizen::getId).orElse(-1));
 
-        buf.writeBoolean(homeBuilding != null);
-        if (homeBuilding != null)
-        {
-            buf.writeBlockPos(homeBuilding.getID());
-        }
+            buf.writeBoolean(paused);
 
-        buf.writeBoolean(workBuilding != null);
-        if (workBuilding != null)
-        {
-            buf.writeBlockPos(workBuilding.getID());
-        }
+            buf.writeBoolean(isChild);
 
-        // If the entity is not present we assumes standard values.
-        buf.writeFloat(getEntity().map(AbstractEntityCitizen::getHealth).orElse(MAX_HEALTH));
-        buf.writeFloat(getEntity().map(AbstractEntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
+            buf.writeBoolean(homeBuilding != null);
+            if (homeBuilding != null)
+            {
+                buf.writeBlockPos(homeBuilding.getID());
+            }
 
-        buf.writeDouble(getSaturation());
-        buf.writeDouble(citizenHappinessHandler.getHappiness(getColony(), this));
+            buf.writeBoolean(workBuilding != null);
+            if (workBuilding != null)
+            {
+                buf.writeBlockPos(workBuilding.getID());
+            }
 
-        buf.writeNbt(citizenSkillHandler.write());
+            // If the entity is not present we assumes standard values.
+            buf.writeFloat(getEntity().map(AbstractEntityCitizen::getHealth).orElse(MAX_HEALTH));
+            buf.writeFloat(getEntity().map(AbstractEntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
 
-        buf.writeUtf((job != null) ? job.getJobRegistryEntry().getTranslationKey() : "");
+            buf.writeDouble(getSaturation());
+            buf.writeDouble(citizenHappinessHandler.getHappiness(getColony(), this));
 
-        buf.writeInt(colony.getID());
+            buf.writeUtf((job != null) ? job.getJobRegistryEntry().getTranslationKey() : "");
 
-        final CompoundTag compound = new CompoundTag();
-        compound.put("inventory", inventory.write(new ListTag()));
-        buf.writeNbt(compound);
-        buf.writeBlockPos(lastPosition);
+            buf.writeInt(colony.getID());
 
-        if (colony.getWorld() != null)
-        {
-            final List<IInteractionResponseHandler> subInteractions = citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).toList();
+            buf.writeBlockPos(lastPosition);
 
-            buf.writeInt(subInteractions.size());
-            for (final IInteractionResponseHandler interactionHandler : subInteractions)
-            {
-                buf.writeNbt(interactionHandler.serializeNBT());
-            }
+            buf.writeInt(status != null ? status.getId() : -1);
         }
-        else
+
+        if (CitizenViewSection.INVENTORY.isIn(sections))
         {
-            buf.writeInt(0);
+            inventory.serialize(buf);
         }
 
-        final CompoundTag happinessCompound = new CompoundTag();
-        citizenHappinessHandler.write(happinessCompound);
-        buf.writeNbt(happinessCompound);
-
-        buf.writeInt(status != null ? status.getId() : -1);
-
-        buf.writeBoolean(job != null);
-        if (job != null)
+        if (CitizenViewSection.SKILLS.isIn(sections))
         {
-            job.serializeToView(buf);
+            citizenSkillHandler.serialize(buf);
         }
 
-        if (colony.getCitizenManager().getCivilian(partner) == null)
+        if (CitizenViewSection.INTERACTIONS.isIn(sections))
         {
-            partner = 0;
-        }
+            if (colony.getWorld() != null)
+            {
+                final List<IInteractionResponseHandler> subInteractions = citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).toList();
 
-        siblings.removeIf(s -> colony.getCitizenManager().getCivilian(s) == null);
-        children.removeIf(c -> colony.getCitizenManager().getCivilian(c) == null);
+                buf.writeInt(subInteractions.size());
+                for (final IInteractionResponseHandler interactionHandler : subInteractions)
+                {
+                    buf.writeNbt(interactionHandler.serializeNBT());
+                }
+            }
+            else
+            {
+                buf.writeInt(0);
+            }
 
-        buf.writeInt(partner);
-        buf.writeInt(siblings.size());
-        for (int sibling : siblings)
-        {
-            buf.writeInt(sibling);
+            buf.writeInt(availableQuests.size());
+            for (final ResourceLocation av : availableQuests)
+            {
+                buf.writeResourceLocation(av);
+            }
+
+            buf.writeInt(participatingQuests.size());
+            for (final ResourceLocation av : participatingQuests)
+            {
+                buf.writeResourceLocation(av);
+            }
         }
-        buf.writeInt(children.size());
-        for (int child : children)
+
+        if (CitizenViewSection.HAPPINESS.isIn(sections))
         {
-            buf.writeInt(child);
+            final CompoundTag happinessCompound = new CompoundTag();
+            citizenHappinessHandler.write(happinessCompound);
+            buf.writeNbt(happinessCompound);
         }
-        buf.writeUtf(parents.getA());
-        buf.writeUtf(parents.getB());
 
-        buf.writeInt(availableQuests.size());
-        for (final ResourceLocation av : availableQuests)
+        if (CitizenViewSection.JOB.isIn(sections))
         {
-            buf.writeResourceLocation(av);
+            buf.writeBoolean(job != null);
+            if (job != null)
+            {
+                job.serializeToView(buf);
+            }
         }
 
-        buf.writeInt(participatingQuests.size());
-        for (final ResourceLocation av : participatingQuests)
+        if (CitizenViewSection.FAMILY.isIn(sections))
         {
-            buf.writeResourceLocation(av);
+            if (colony.getCitizenManager().getCivilian(partner) == null)
+            {
+                partner = 0;
+            }
+
+            siblings.removeIf(s -> colony.getCitizenManager().getCivilian(s) == null);
+            children.removeIf(c -> colony.getCitizenManager().getCivilian(c) == null);
+
+            buf.writeInt(partner);
+            buf.writeInt(siblings.size());
+            for (int sibling : siblings)
+            {
+                buf.writeInt(sibling);
+            }
+            buf.writeInt(children.size());
+            for (int child : children)
+            {
+                buf.writeInt(child);
+            }
+            buf.writeUtf(parents.getA());
+            buf.writeUtf(parents.getB());
         }
     }
 
     @Override
     public void increaseSaturation(final double extraSaturation)
     {
+        final double previous = this.saturation;
         this.saturation = Math.min(MAX_SATURATION, this.saturation + Math.abs(extraSaturation));
+        onSaturationChanged(previous);
     }
 
     @Override
@@ -1036,8 +1111,10 @@ public class CitizenData implements ICitizenData
     {
         if (colony != null && colony.isActive())
         {
+            final double previous = this.saturation;
             this.saturation = Math.max(MIN_SATURATION, this.saturation - Math.abs(extraSaturation * MineColonies.getConfig().getServer().foodModifier.get()));
             this.justAte = false;
+            onSaturationChanged(previous);
         }
     }
 
@@ -1068,7 +1145,39 @@ public class CitizenData implements ICitizenData
     @Override
     public void setSaturation(final double saturation)
     {
+        final double previous = this.saturation;
         this.saturation = saturation;
+        onSaturationChanged(previous);
+    }
+
+    /**
+     * Update the saturation happiness factor after the saturation changed. The colony facts only count hungry citizens, so they are only outdated when the
+     * citizen gets hungry or is fed again.
+     *
+     * @param previous the saturation before the change.
+     */
+    private void onSaturationChanged(final double previous)
+    {
+        if (previous == saturation)
+        {
+            return;
+        }
+
+        citizenHappinessHandler.markDirty(HappinessDependency.SATURATION);
+        if ((previous <= HUNGRY_SATURATION) != (saturation <= HUNGRY_SATURATION) && colony != null)
+        {
+            colony.getCitizenManager().getHappinessFacts().invalidate();
+        }
+    }
+
+    @Override
+    public void onHappinessDependencyChanged(final boolean colonyFact)
+    {
+        citizenHappinessHandler.markDirty(HappinessDependency.CITIZEN);
+        if (colonyFact && colony != null)
+        {
+            colony.getCitizenManager().getHappinessFacts().invalidate();
+        }
     }
 
     @Override
@@ -1142,7 +1251,12 @@ public class CitizenData implements ICitizenData
     @Override
     public void setIsChild(final boolean isChild)
     {
-        this.isChild = isChild;
+        if (this.isChild != isChild)
+        {
+            this.isChild = isChild;
+            // School and unemployment depend on being a child, the social factor counts unemployed adults.
+            onHappinessDependencyChanged(true);
+        }
         markDirty();
 
         if (colony != null)
@@ -1457,7 +1571,7 @@ public class CitizenData implements ICitizenData
 
         if (!toRemove.isEmpty())
         {
-            markDirty();
+            markDirty(CitizenViewSection.INTERACTIONS);
         }
 
         for (final IInteractionResponseHandler handler : toRemove)
@@ -1483,7 +1597,7 @@ public class CitizenData implements ICitizenData
             {
                 this.citizenChatOptions.put(childHandler.getId(), (ServerCitizenInteraction) childHandler);
             }
-            markDirty();
+            markDirty(CitizenViewSection.INTERACTIONS);
         }
     }
 
@@ -1496,7 +1610,11 @@ public class CitizenData implements ICitizenData
     @Override
     public void setIdleAtJob(final boolean idle)
     {
-        this.idle = idle;
+        if (this.idle != idle)
+        {
+            this.idle = idle;
+            onHappinessDependencyChanged(false);
+        }
     }
 
     @Override
@@ -1555,7 +1673,7 @@ public class CitizenData implements ICitizenData
     {
         if (this.status != status)
         {
-            markDirty();
+            markDirty(CitizenViewSection.CORE);
         }
         this.status = status;
     }
@@ -1592,12 +1710,12 @@ public class CitizenData implements ICitizenData
             citizen.getNavigation().getPathingOptions().setCanClimbVines(((EntityCitizen) citizen).canClimbVines());
 
             final AttributeModifier speedModifier = new AttributeModifier(RESEARCH_BONUS_MULTIPLIER,
-              colony.getResearchManager().getResearchEffects().getEffectStrength(WALKING),
+              colony.getResearchManager().getResearchEffects().getEffectStrength(WALKING_EFFECT),
               AttributeModifier.Operation.MULTIPLY_TOTAL);
             AttributeModifierUtils.addModifier(citizen, speedModifier, Attributes.MOVEMENT_SPEED);
 
             final AttributeModifier healthModLevel =
-              new AttributeModifier(HEALTH_BOOST.toString(), colony.getResearchManager().getResearchEffects().getEffectStrength(HEALTH_BOOST), AttributeModifier.Operation.ADDITION);
+              new AttributeModifier(HEALTH_BOOST.toString(), colony.getResearchManager().getResearchEffects().getEffectStrength(HEALTH_BOOST_EFFECT), AttributeModifier.Operation.ADDITION);
             AttributeModifierUtils.addHealthModifier(citizen, healthModLevel);
         }
     }
@@ -1765,7 +1883,7 @@ public class CitizenData implements ICitizenData
         {
             citizenChatOptions.put(comp, new QuestDialogueInteraction(comp, ChatPriority.CHITCHAT, quest.getId(), index, this));
         }
-        this.markDirty();
+        this.markDirty(CitizenViewSection.INTERACTIONS);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.colony;
 
 import com.minecolonies.api.MinecoloniesAPIProxy;
+import com.minecolonies.api.colony.CitizenViewSection;
 import com.minecolonies.api.colony.ICitizenDataView;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
@@ -21,9 +22,7 @@ import com.minecolonies.coremod.entity.citizen.citizenhandlers.CitizenHappinessH
 import com.minecolonies.coremod.entity.citizen.citizenhandlers.CitizenSkillHandler;
 import net.minecraft.client.Minecraft;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.world.InteractionHand;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
@@ -33,16 +32,12 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_OFFHAND_HELD_ITEM_SLOT;
-
 /**
  * The CitizenDataView is the client-side representation of a CitizenData. Views contain the CitizenData's data that is relevant to a Client, in a more client-friendly form.
  * Mutable operations on a View result in a message to the server to perform the operation.
  */
 public class CitizenDataView implements ICitizenDataView
 {
-    private static final String TAG_HELD_ITEM_SLOT = "HeldItemSlot";
-
     /**
      * The resource location for the blocking overlay.
      */
@@ -293,97 +288,116 @@ public class CitizenDataView implements ICitizenDataView
     @Override
     public void deserialize(@NotNull final FriendlyByteBuf buf)
     {
-        name = buf.readUtf(32767);
-        female = buf.readBoolean();
-        entityId = buf.readInt();
-        paused = buf.readBoolean();
-        isChild = buf.readBoolean();
+        final int sections = buf.readVarInt();
 
-        homeBuilding = buf.readBoolean() ? buf.readBlockPos() : null;
-        workBuilding = buf.readBoolean() ? buf.readBlockPos() : null;
+        if (CitizenViewSection.CORE.isIn(sections))
+        {
+            name = buf.readUtf(32767);
+            female = buf.readBoolean();
+            entityId = buf.readInt();
+            paused = buf.readBoolean();
+            isChild = buf.readBoolean();
 
-        // Attributes
-        health = buf.readFloat();
-        maxHealth = buf.readFloat();
+            homeBuilding = buf.readBoolean() ? buf.readBlockPos() : null;
+            workBuilding = buf.readBoolean() ? buf.readBlockPos() : null;
 
-        saturation = buf.readDouble();
-        happiness = buf.readDouble();
+            // Attributes
+            health = buf.readFloat();
+            maxHealth = buf.readFloat();
 
-        citizenSkillHandler.read(buf.readNbt());
+            saturation = buf.readDouble();
+            happiness = buf.readDouble();
 
-        job = buf.readUtf(32767);
+            job = buf.readUtf(32767);
 
-        colonyId = buf.readInt();
+            colonyId = buf.readInt();
 
-        final CompoundTag compound = buf.readNbt();
-        inventory = new InventoryCitizen(this.name, true);
-        final ListTag ListNBT = compound.getList("inventory", 10);
-        this.inventory.read(ListNBT);
-        this.inventory.setHeldItem(InteractionHand.MAIN_HAND, compound.getInt(TAG_HELD_ITEM_SLOT));
-        this.inventory.setHeldItem(InteractionHand.OFF_HAND, compound.getInt(TAG_OFFHAND_HELD_ITEM_SLOT));
+            position = buf.readBlockPos();
 
-        position = buf.readBlockPos();
+            int statusindex = buf.readInt();
+            statusIcon = statusindex >= 0 ? VisibleCitizenStatus.getForId(statusindex) : null;
+        }
 
-        citizenChatOptions.clear();
-        final int size = buf.readInt();
-        for (int i = 0; i < size; i++)
+        if (CitizenViewSection.INVENTORY.isIn(sections))
         {
-            final CompoundTag compoundNBT = buf.readNbt();
-            final ServerCitizenInteraction handler =
-              (ServerCitizenInteraction) MinecoloniesAPIProxy.getInstance().getInteractionResponseHandlerDataManager().createFrom(this, compoundNBT);
-            citizenChatOptions.put(handler.getInquiry(), handler);
+            inventory = new InventoryCitizen(this.name, true);
+            inventory.deserialize(buf);
         }
 
-        sortedInteractions = citizenChatOptions.values().stream().sorted(Comparator.comparingInt(e -> e.getPriority().getPriority())).collect(Collectors.toList());
-
-        citizenHappinessHandler.read(buf.readNbt());
-
-        int statusindex = buf.readInt();
-        statusIcon = statusindex >= 0 ? VisibleCitizenStatus.getForId(statusindex) : null;
-
-        if (buf.readBoolean())
+        if (CitizenViewSection.SKILLS.isIn(sections))
         {
-            final IColonyView colonyView = IColonyManager.getInstance().getColonyView(colonyId, Minecraft.getInstance().level.dimension());
-            jobView = IJobDataManager.getInstance().createViewFrom(colonyView, this, buf);
+            citizenSkillHandler.deserialize(buf);
         }
-        else
+
+        if (CitizenViewSection.INTERACTIONS.isIn(sections))
         {
-            jobView = null;
-        }
+            citizenChatOptions.clear();
+            final int size = buf.readInt();
+            for (int i = 0; i < size; i++)
+            {
+                final CompoundTag compoundNBT = buf.readNbt();
+                final ServerCitizenInteraction handler =
+                  (ServerCitizenInteraction) MinecoloniesAPIProxy.getInstance().getInteractionResponseHandlerDataManager().createFrom(this, compoundNBT);
+                citizenChatOptions.put(handler.getInquiry(), handler);
+            }
 
-        children.clear();
-        siblings.clear();
+            sortedInteractions = citizenChatOptions.values().stream().sorted(Comparator.comparingInt(e -> e.getPriority().getPriority())).collect(Collectors.toList());
 
-        partner = buf.readInt();
-        final int siblingsSize = buf.readInt();
-        for (int i = 0; i < siblingsSize; i++)
-        {
-            siblings.add(buf.readInt());
+            availableQuests.clear();
+            participatingQuests.clear();
+
+            final int avSize = buf.readInt();
+            for (int i = 0; i < avSize; i++)
+            {
+                availableQuests.add(buf.readResourceLocation());
+            }
+
+            final int partSize = buf.readInt();
+            for (int i = 0; i < partSize; i++)
+            {
+                participatingQuests.add(buf.readResourceLocation());
+            }
         }
 
-        final int childrenSize = buf.readInt();
-        for (int i = 0; i < childrenSize; i++)
+        if (CitizenViewSection.HAPPINESS.isIn(sections))
         {
-            children.add(buf.readInt());
+            citizenHappinessHandler.read(buf.readNbt());
         }
 
-        final String parentA = buf.readUtf();
-        final String parentB = buf.readUtf();
-        parents = new Tuple<>(parentA, parentB);
-
-        availableQuests.clear();
-        participatingQuests.clear();
-
-        final int avSize = buf.readInt();
-        for (int i = 0; i < avSize; i++)
+        if (CitizenViewSection.JOB.isIn(sections))
         {
-            availableQuests.add(buf.readResourceLocation());
+            if (buf.readBoolean())
+            {
+                final IColonyView colonyView = IColonyManager.getInstance().getColonyView(colonyId, Minecraft.getInstance().level.dimension());
+                jobView = IJobDataManager.getInstance().createViewFrom(colonyView, this, buf);
+            }
+            else
+            {
+                jobView = null;
+            }
         }
 
-        final int partSize = buf.readInt();
-        for (int i = 0; i < partSize; i++)
+        if (CitizenViewSection.FAMILY.isIn(sections))
         {
-            participatingQuests.add(buf.readResourceLocation());
+            children.clear();
+            siblings.clear();
+
+            partner = buf.readInt();
+            final int siblingsSize = buf.readInt();
+            for (int i = 0; i < siblingsSize; i++)
+            {
+                siblings.add(buf.readInt());
+            }
+
+            final int childrenSize = buf.readInt();
+            for (int i = 0; i < childrenSize; i++)
+            {
+                children.add(buf.readInt());
+            }
+
+            final String parentA = buf.readUtf();
+            final String parentB = buf.readUtf();
+            parents = new Tuple<>(parentA, parentB);
         }
     }
 
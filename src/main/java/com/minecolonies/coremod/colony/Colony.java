@@ -23,8 +23,11 @@ import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.NbtTagConstants;
 import com.minecolonies.api.util.constant.Suppression;
+import com.minecolonies.api.util.profiling.ColonyProfiler;
+import com.minecolonies.api.util.profiling.ProfilerSection;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.ColonyWorkScheduler.ColonyWorkType;
 import com.minecolonies.coremod.colony.managers.*;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.pvp.AttackingPlayer;
@@ -159,6 +162,11 @@ public class Colony implements IColony
      */
     private final IReproductionManager reproductionManager = new ReproductionManager(this);
 
+    /**
+     * Water body manager of the colony.
+     */
+    private final IWaterBodyManager waterBodyManager = new WaterBodyManager(this);
+
     /**
      * Event description manager of the colony.
      */
@@ -256,6 +264,12 @@ public class Colony implements IColony
      */
     private IRequestManager requestManager;
 
+    /**
+     * The saved request manager, deserialized on first access so colonies nobody visits don't pay for it at world load.
+     */
+    @Nullable
+    private volatile CompoundTag requestManagerTag;
+
     /**
      * The request manager assigned to the colony.
      */
@@ -386,16 +400,35 @@ public class Colony implements IColony
         colonyStateMachine.addTransition(new TickingTransition<>(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, citizenManager::tickCitizenData, () -> ACTIVE, TICKS_SECOND * 3));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> submitWork(ColonyWorkType.CITIZENS, citizenManager::tickCitizenData), () -> ACTIVE, TICKS_SECOND * 3));
 
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateSubscribers, () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> submitWork(ColonyWorkType.SUBSCRIBERS, this::updateSubscribers), () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> submitWork(ColonyWorkType.REQUESTS, this::tickRequests), () -> ACTIVE, UPDATE_RS_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> submitWork(ColonyWorkType.SLOW, this::worldTickSlow), () -> ACTIVE, MAX_TICKRATE));
         colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
     }
 
+    /**
+     * Queue periodic work on the server wide scheduler. The work is skipped if the colony is no longer active when it runs.
+     *
+     * @param type the type of work.
+     * @param work the work.
+     * @return false
+     */
+    private boolean submitWork(final ColonyWorkType type, final Runnable work)
+    {
+        ColonyWorkScheduler.getInstance().submit(this, type, () ->
+        {
+            if (getState() == ACTIVE)
+            {
+                work.run();
+            }
+        });
+        return false;
+    }
+
     /**
      * Updates the state the colony is in.
      *
@@ -431,7 +464,9 @@ public class Colony implements IColony
      */
     private boolean updateSubscribers()
     {
+        final long start = ColonyProfiler.start();
         packageManager.updateSubscribers();
+        ColonyProfiler.end(ProfilerSection.VIEW_SYNC, this, start);
         return false;
     }
 
@@ -461,6 +496,7 @@ public class Colony implements IColony
         visitorManager.onColonyTick(this);
         updateAttackingPlayers();
         eventManager.onColonyTick(this);
+        raidManager.onColonyTick();
         buildingManager.onColonyTick(this);
         graveManager.onColonyTick(this);
         workManager.onColonyTick(this);
@@ -841,10 +877,7 @@ public class Colony implements IColony
         }
 
         this.requestManager.reset();
-        if (compound.contains(TAG_REQUESTMANAGER))
-        {
-            this.requestManager.deserializeNBT(compound.getCompound(TAG_REQUESTMANAGER));
-        }
+        this.requestManagerTag = compound.contains(TAG_REQUESTMANAGER) ? compound.getCompound(TAG_REQUESTMANAGER) : null;
         this.lastOnlineTime = compound.getLong(TAG_LAST_ONLINE);
         if (compound.contains(TAG_COL_TEXT))
         {
@@ -954,7 +987,8 @@ public class Colony implements IColony
         compound.putInt(TAG_ABANDONED, packageManager.getLastContactInHours());
         compound.putBoolean(TAG_MANUAL_HOUSING, manualHousing);
         compound.putBoolean(TAG_MOVE_IN, moveIn);
-        compound.put(TAG_REQUESTMANAGER, getRequestManager().serializeNBT());
+        final CompoundTag savedRequestManager = requestManagerTag;
+        compound.put(TAG_REQUESTMANAGER, savedRequestManager != null ? savedRequestManager : requestManager.serializeNBT());
         compound.putString(TAG_PACK, pack);
         compound.putBoolean(TAG_AUTO_DELETE, canColonyBeAutoDeleted);
         compound.putInt(TAG_TEAM_COLOR, colonyTeamColor.ordinal());
@@ -1137,7 +1171,9 @@ public class Colony implements IColony
             return;
         }
 
+        final long start = ColonyProfiler.start();
         colonyStateMachine.tick();
+        ColonyProfiler.end(ProfilerSection.COLONY_TICK, this, start);
     }
 
     /**
@@ -1313,9 +1349,27 @@ public class Colony implements IColony
     @Override
     public IRequestManager getRequestManager()
     {
+        if (requestManagerTag != null)
+        {
+            loadRequestManager();
+        }
         return requestManager;
     }
 
+    /**
+     * Deserialize the saved request manager, if not done yet.
+     */
+    private synchronized void loadRequestManager()
+    {
+        final CompoundTag tag = requestManagerTag;
+        if (tag != null)
+        {
+            // Cleared first, the request system looks up the manager of the colony while it is deserialized.
+            requestManagerTag = null;
+            requestManager.deserializeNBT(tag);
+        }
+    }
+
     /**
      * Marks the instance dirty.
      */
@@ -1600,6 +1654,12 @@ public class Colony implements IColony
         return reproductionManager;
     }
 
+    @Override
+    public IWaterBodyManager getWaterBodyManager()
+    {
+        return waterBodyManager;
+    }
+
     @Override
     public IEventDescriptionManager getEventDescriptionManager()
     {
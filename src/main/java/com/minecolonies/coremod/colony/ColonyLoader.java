@@ -0,0 +1,98 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.util.BackUpHelper;
+import net.minecraft.nbt.CompoundTag;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Reads saved colony files in parallel at world load.
+ * <p>
+ * Only the file read and the decompression and parsing of the NBT run on worker threads, as they touch nothing but the file. Building the colonies from the read
+ * data creates item stacks, fires capability events and reads registries and static state, so it is left to the caller on the server thread.
+ */
+public final class ColonyLoader
+{
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ColonyLoader()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Read the given colony files, in parallel if there is more than one, and wait for all of them.
+     *
+     * @param files the files to read.
+     * @return the read compounds in the order of the files, null for the files which could not be read.
+     */
+    @NotNull
+    public static List<CompoundTag> readAll(@NotNull final List<File> files)
+    {
+        final List<CompoundTag> compounds = new ArrayList<>(files.size());
+        final int threads = Math.min(files.size(), Runtime.getRuntime().availableProcessors());
+        if (threads <= 1)
+        {
+            for (final File file : files)
+            {
+                compounds.add(BackUpHelper.loadNBTFromPath(file));
+            }
+            return compounds;
+        }
+
+        final long start = System.nanoTime();
+        final ExecutorService pool = Executors.newFixedThreadPool(threads, runnable ->
+        {
+            final Thread thread = new Thread(runnable, "Minecolonies Colony Loader");
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((thread1, throwable) -> Log.getLogger().error("Minecolonies Colony Loader errored! ", throwable));
+            return thread;
+        });
+
+        try
+        {
+            final List<Future<CompoundTag>> futures = new ArrayList<>(files.size());
+            for (final File file : files)
+            {
+                futures.add(pool.submit(() -> BackUpHelper.loadNBTFromPath(file)));
+            }
+
+            for (final Future<CompoundTag> future : futures)
+            {
+                try
+                {
+                    compounds.add(future.get());
+                }
+                catch (final ExecutionException e)
+                {
+                    Log.getLogger().warn("Something went wrong reading a colony file, please report this to the administrators", e.getCause());
+                    compounds.add(null);
+                }
+            }
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            Log.getLogger().error("Interrupted while reading colony files", e);
+            while (compounds.size() < files.size())
+            {
+                compounds.add(null);
+            }
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+
+        Log.getLogger().info(String.format("Read %d colony files on %d threads in %d ms", files.size(), threads, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        return compounds;
+    }
+}
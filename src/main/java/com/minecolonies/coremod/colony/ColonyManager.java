@@ -11,6 +11,7 @@ import com.minecolonies.api.compatibility.ICompatibilityManager;
 import com.minecolonies.api.crafting.IRecipeManager;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.profiling.ColonyProfiler;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.client.gui.WindowReactivateBuilding;
@@ -200,6 +201,7 @@ public final class ColonyManager implements IColonyManager
             }
 
             cap.deleteColony(id);
+            ColonyProfiler.removeColony(colony);
             BackUpHelper.markColonyDeleted(colony.getID(), colony.getDimension());
             colony.getImportantMessageEntityPlayers()
               .forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewRemoveMessage(colony.getID(), colony.getDimension()), (ServerPlayer) player));
@@ -604,6 +606,8 @@ public final class ColonyManager implements IColonyManager
             {
                 c.onServerTick(event);
             }
+
+            ColonyWorkScheduler.getInstance().tick();
         }
     }
 
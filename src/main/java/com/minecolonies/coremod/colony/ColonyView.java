@@ -1498,6 +1498,12 @@ public final class ColonyView implements IColonyView
         return null;
     }
 
+    @Override
+    public IWaterBodyManager getWaterBodyManager()
+    {
+        return null;
+    }
+
     @Override
     public IEventDescriptionManager getEventDescriptionManager()
     {
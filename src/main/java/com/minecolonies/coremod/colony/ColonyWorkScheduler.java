@@ -0,0 +1,312 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.profiling.ColonyProfiler;
+import com.minecolonies.api.util.profiling.ProfilerSection;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
+import static com.minecolonies.api.util.constant.ColonyConstants.UPDATE_RS_INTERVAL;
+import static com.minecolonies.api.util.constant.ColonyConstants.UPDATE_SUBSCRIBERS_INTERVAL;
+import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
+import static com.minecolonies.coremod.MineColonies.getConfig;
+
+/**
+ * Server wide scheduler for the periodic work of all colonies.
+ * <p>
+ * Colonies submit their heavy periodic work instead of running it in their own tick, so colonies in the same phase don't all run it on the same tick. Once per server
+ * tick the queued work runs, earliest deadline first, until the configured time budget is used up. Remaining work carries over to the next tick. Work past its
+ * deadline runs regardless of the budget, so nothing starves.
+ * <p>
+ * Every colony gets its own phase within the max delay of a work type, so work submitted by many colonies on the same tick gets different deadlines and overdue
+ * work is still spread over several ticks. The max delay of every type is below the interval it is submitted in, so queued work always runs before it is
+ * submitted again.
+ */
+public final class ColonyWorkScheduler
+{
+    /**
+     * The scheduler instance.
+     */
+    private static final ColonyWorkScheduler INSTANCE = new ColonyWorkScheduler();
+
+    /**
+     * Weight of the previous average in the per tick usage average.
+     */
+    private static final double USAGE_DECAY = 0.99;
+
+    /**
+     * The queued work, earliest deadline first.
+     */
+    private final PriorityQueue<Work> queue = new PriorityQueue<>(Comparator.comparingLong((Work w) -> w.deadline).thenComparingLong(w -> w.sequence));
+
+    /**
+     * The queued work, to not queue the same work of a colony twice.
+     */
+    private final Set<Work> queued = new HashSet<>();
+
+    /**
+     * Usage of every colony which ran work recently.
+     */
+    private final Map<IColony, Usage> usage = new WeakHashMap<>();
+
+    /**
+     * The number of server ticks run.
+     */
+    private long tick = 0;
+
+    /**
+     * Sequence of submitted work, keeps the submission order for equal deadlines.
+     */
+    private long sequence = 0;
+
+    /**
+     * Get the scheduler instance.
+     *
+     * @return the scheduler.
+     */
+    public static ColonyWorkScheduler getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Private constructor, use {@link #getInstance()}.
+     */
+    private ColonyWorkScheduler()
+    {
+    }
+
+    /**
+     * Queue work of a colony. Ignored if the same type of work of the colony is still queued.
+     *
+     * @param colony the colony.
+     * @param type   the type of work.
+     * @param work   the work.
+     */
+    public void submit(@NotNull final IColony colony, @NotNull final ColonyWorkType type, @NotNull final Runnable work)
+    {
+        final Work entry = new Work(colony, type, work, tick + 1 + Math.floorMod(getPhase(colony), type.getMaxDelay()), sequence++);
+        if (queued.add(entry))
+        {
+            queue.add(entry);
+        }
+    }
+
+    /**
+     * Get the phase of a colony, which spreads the deadlines of colonies submitting on the same tick.
+     *
+     * @param colony the colony.
+     * @return the phase, any int.
+     */
+    private static int getPhase(final IColony colony)
+    {
+        return 31 * colony.getDimension().location().hashCode() + colony.getID() * 7;
+    }
+
+    /**
+     * Run the queued work within the budget of this server tick.
+     */
+    public void tick()
+    {
+        tick++;
+        final long start = System.nanoTime();
+        final long budget = TimeUnit.MILLISECONDS.toNanos(getConfig().getServer().colonyTickBudget.get());
+
+        long now = start;
+        while (!queue.isEmpty())
+        {
+            final Work work = queue.peek();
+            if (now - start >= budget && work.deadline > tick)
+            {
+                break;
+            }
+
+            queue.poll();
+            queued.remove(work);
+            if (work.colony.getWorld() == null)
+            {
+                // The colony was unloaded while the work was queued.
+                continue;
+            }
+
+            final long profileStart = ColonyProfiler.start();
+            try
+            {
+                work.work.run();
+            }
+            catch (final RuntimeException e)
+            {
+                Log.getLogger().warn("Colony work " + work.type + " of colony " + work.colony.getID() + " threw an exception:", e);
+            }
+
+            ColonyProfiler.end(ProfilerSection.COLONY_WORK, work.type, profileStart);
+
+            final long end = System.nanoTime();
+            usage.computeIfAbsent(work.colony, c -> new Usage()).add(end - now);
+            now = end;
+        }
+
+        for (final Usage colonyUsage : usage.values())
+        {
+            colonyUsage.endTick();
+        }
+    }
+
+    /**
+     * Get the average time the work of a colony took per server tick, recently.
+     *
+     * @param colony the colony.
+     * @return the average in nanoseconds.
+     */
+    public double getAverageNanosPerTick(@NotNull final IColony colony)
+    {
+        final Usage colonyUsage = usage.get(colony);
+        return colonyUsage == null ? 0 : colonyUsage.average;
+    }
+
+    /**
+     * Drop all queued work and usage, called when the server stops so no colony of the stopped server is kept.
+     */
+    public void clear()
+    {
+        queue.clear();
+        queued.clear();
+        usage.clear();
+    }
+
+    /**
+     * Get the number of queued pieces of work.
+     *
+     * @return the number.
+     */
+    public int getQueuedCount()
+    {
+        return queue.size();
+    }
+
+    /**
+     * The types of periodic colony work, with the number of server ticks they may be delayed by the budget. The delay is below the interval the work is submitted in.
+     */
+    public enum ColonyWorkType
+    {
+        SUBSCRIBERS(UPDATE_SUBSCRIBERS_INTERVAL / 2),
+        CITIZENS(TICKS_SECOND),
+        REQUESTS(UPDATE_RS_INTERVAL - 1),
+        SLOW(MAX_TICKRATE / 5);
+
+        /**
+         * The maximum delay in ticks.
+         */
+        private final int maxDelay;
+
+        /**
+         * Create a new work type.
+         *
+         * @param maxDelay the maximum delay in ticks.
+         */
+        ColonyWorkType(final int maxDelay)
+        {
+            this.maxDelay = maxDelay;
+        }
+
+        /**
+         * Get the maximum delay of the work.
+         *
+         * @return the delay in ticks.
+         */
+        public int getMaxDelay()
+        {
+            return maxDelay;
+        }
+    }
+
+    /**
+     * A queued piece of work, equal to other work of the same type and colony.
+     */
+    private static final class Work
+    {
+        private final IColony        colony;
+        private final ColonyWorkType type;
+        private final Runnable       work;
+        private final long           deadline;
+        private final long           sequence;
+
+        /**
+         * Create new work.
+         *
+         * @param colony   the colony.
+         * @param type     the type.
+         * @param work     the work.
+         * @param deadline the tick the work has to run at the latest.
+         * @param sequence the submission sequence.
+         */
+        private Work(final IColony colony, final ColonyWorkType type, final Runnable work, final long deadline, final long sequence)
+        {
+            this.colony = colony;
+            this.type = type;
+            this.work = work;
+            this.deadline = deadline;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Work))
+            {
+                return false;
+            }
+            final Work other = (Work) o;
+            return colony == other.colony && type == other.type;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * System.identityHashCode(colony) + type.hashCode();
+        }
+    }
+
+    /**
+     * The time spent on the work of one colony.
+     */
+    private static final class Usage
+    {
+        /**
+         * Nanoseconds spent in the current tick.
+         */
+        private long current = 0;
+
+        /**
+         * Moving average of the nanoseconds spent per tick.
+         */
+        private double average = 0;
+
+        /**
+         * Add time spent in the current tick.
+         *
+         * @param nanos the nanoseconds.
+         */
+        private void add(final long nanos)
+        {
+            current += nanos;
+        }
+
+        /**
+         * Fold the current tick into the average.
+         */
+        private void endTick()
+        {
+            average = average * USAGE_DECAY + current * (1 - USAGE_DECAY);
+            current = 0;
+        }
+    }
+}
@@ -109,9 +109,9 @@ public class VisitorData extends CitizenData implements IVisitorData
     }
 
     @Override
-    public void serializeViewNetworkData(@NotNull final FriendlyByteBuf buf)
+    public void serializeViewNetworkData(@NotNull final FriendlyByteBuf buf, final int sections)
     {
-        super.serializeViewNetworkData(buf);
+        super.serializeViewNetworkData(buf, sections);
         buf.writeItem(recruitCost);
         buf.writeInt(recruitCost.getCount());
         if (textureUUID == null)
@@ -82,6 +82,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -158,6 +159,11 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
      */
     protected List<IBuildingModule> modules = new ArrayList<>();
 
+    /**
+     * Index of the registered modules by queried class or interface, filled lazily and reset whenever a module is registered.
+     */
+    private final Map<Class<?>, List<IBuildingModule>> moduleIndex = new ConcurrentHashMap<>();
+
     /**
      * Constructor for a AbstractBuilding.
      *
@@ -175,26 +181,17 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public boolean hasModule(final Class<? extends IBuildingModule> clazz)
     {
-        for (final IBuildingModule module : modules)
-        {
-            if (clazz.isInstance(module))
-            {
-                return true;
-            }
-        }
-        return false;
+        return !getIndexedModules(clazz).isEmpty();
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> T getFirstModuleOccurance(final Class<T> clazz)
     {
-        for (final IBuildingModule module : modules)
+        final List<T> matching = getIndexedModules(clazz);
+        if (!matching.isEmpty())
         {
-            if (clazz.isInstance(module))
-            {
-                return (T) module;
-            }
+            return matching.get(0);
         }
 
         throw new IllegalStateException("The module of class: " + clazz.toString() + "should never be null! Building:"+getBuildingType().getTranslationKey()+" pos:"+getID().toShortString());
@@ -204,25 +201,19 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public <T extends IBuildingModule> Optional<T> getFirstOptionalModuleOccurance(final Class<T> clazz)
     {
-        for (final IBuildingModule module : modules)
-        {
-            if (clazz.isInstance(module))
-            {
-                return Optional.of((T) module);
-            }
-        }
-        return Optional.empty();
+        final List<T> matching = getIndexedModules(clazz);
+        return matching.isEmpty() ? Optional.empty() : Optional.of(matching.get(0));
     }
 
     @NotNull
     @Override
     public <T extends IBuildingModule> T getModuleMatching(final Class<T> clazz, final Predicate<? super T> modulePredicate)
     {
-        for (final IBuildingModule module : modules)
+        for (final T module : getIndexedModules(clazz))
         {
-            if (clazz.isInstance(module) && modulePredicate.test((T) module))
+            if (modulePredicate.test(module))
             {
-                return (T) module;
+                return module;
             }
         }
         throw new IllegalArgumentException("no matching module for Building:"+getBuildingType().getTranslationKey()+" pos:"+getID().toShortString());
@@ -232,16 +223,41 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
     @Override
     public <T extends IBuildingModule> List<T> getModules(final Class<T> clazz)
     {
-        return this.modules.stream()
-          .filter(clazz::isInstance)
-          .map(c -> (T) c)
-          .collect(Collectors.toList());
+        return getIndexedModules(clazz);
+    }
+
+    /**
+     * Get the modules matching the given class or interface from the module index, filling the index on first access.
+     *
+     * @param clazz the module's class or interface.
+     * @param <T>   the module type.
+     * @return the unmodifiable list of matching modules, in registration order.
+     */
+    @SuppressWarnings(UNCHECKED)
+    private <T extends IBuildingModule> List<T> getIndexedModules(final Class<? extends T> clazz)
+    {
+        List<IBuildingModule> matching = moduleIndex.get(clazz);
+        if (matching == null)
+        {
+            final List<IBuildingModule> found = new ArrayList<>();
+            for (final IBuildingModule module : modules)
+            {
+                if (clazz.isInstance(module))
+                {
+                    found.add(module);
+                }
+            }
+            matching = found.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(found);
+            moduleIndex.put(clazz, matching);
+        }
+        return (List<T>) matching;
     }
 
     @Override
     public void registerModule(@NotNull final IBuildingModule module)
     {
         this.modules.add(module);
+        this.moduleIndex.clear();
     }
 
     /**
@@ -951,6 +967,13 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         calculateCorners();
         this.isBuilt = true;
 
+        // Housing, employment and the mystical site happiness depend on building levels.
+        colony.getCitizenManager().getHappinessFacts().invalidate();
+        for (final AbstractAssignedCitizenModule module : getModules(AbstractAssignedCitizenModule.class))
+        {
+            module.getAssignedCitizen().forEach(citizen -> citizen.onHappinessDependencyChanged(false));
+        }
+
         final List<IToken<?>> playerRequests = colony.getRequestManager().getPlayerResolver().getAllAssignedRequests();
         final List<IToken<?>> retryingRequests = colony.getRequestManager().getRetryingRequestResolver().getAllAssignedRequests();
 
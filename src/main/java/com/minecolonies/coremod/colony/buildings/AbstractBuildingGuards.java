@@ -11,6 +11,7 @@ import com.minecolonies.api.entity.ai.statemachine.AIOneTimeEventTarget;
 import com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.pathfinding.PathResult;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.MessageUtils;
@@ -59,6 +60,12 @@ import static com.minecolonies.coremod.util.ServerUtils.getPlayerFromUUID;
 @SuppressWarnings({"squid:MaximumInheritanceDepth", "squid:S1448"})
 public abstract class AbstractBuildingGuards extends AbstractBuilding implements IGuardBuilding
 {
+    /**
+     * Pre-resolved research effect handles.
+     */
+    private static final ResearchEffectHandle ARCHER_USE_ARROWS_EFFECT = ResearchEffectHandle.of(ARCHER_USE_ARROWS);
+    private static final ResearchEffectHandle TELESCOPE_EFFECT = ResearchEffectHandle.of(TELESCOPE);
+
     /**
      * Settings.
      */
@@ -180,7 +187,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuilding implements
                 return false;
             }
 
-            return getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_USE_ARROWS) > 0;
+            return getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_USE_ARROWS_EFFECT) > 0;
         }, new Tuple<>(128, true));
     }
 
@@ -562,7 +569,7 @@ public abstract class AbstractBuildingGuards extends AbstractBuilding implements
         final IColony colonyAtPosition = IColonyManager.getInstance().getColonyByPosFromDim(rallyLocation.getDimension(), rallyLocation.getInDimensionLocation());
         if (colonyAtPosition == null || colonyAtPosition.getID() != colony.getID())
         {
-            if (getColony().getResearchManager().getResearchEffects().getEffectStrength(TELESCOPE) <= 0 || BlockPosUtil.getDistance2D(rallyLocation.getInDimensionLocation(), colony.getCenter()) > 500)
+            if (getColony().getResearchManager().getResearchEffects().getEffectStrength(TELESCOPE_EFFECT) <= 0 || BlockPosUtil.getDistance2D(rallyLocation.getInDimensionLocation(), colony.getCenter()) > 500)
             {
                 outOfRange = true;
             }
@@ -9,6 +9,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.Stack;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.WorldUtil;
@@ -33,6 +34,12 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_QUANTITY;
  */
 public class MinimumStockModule extends AbstractBuildingModule implements IMinimumStockModule, IPersistentModule, ITickingModule, IAltersRequiredItems
 {
+    /**
+     * Pre-resolved research effect handles.
+     */
+    private static final ResearchEffectHandle MINIMUM_STOCK_EFFECT = ResearchEffectHandle.of(MINIMUM_STOCK);
+    private static final ResearchEffectHandle MIN_ORDER_EFFECT = ResearchEffectHandle.of(MIN_ORDER);
+
     /**
      * Minimum stock it can hold per level.
      */
@@ -55,7 +62,7 @@ public class MinimumStockModule extends AbstractBuildingModule implements IMinim
      */
     private int minimumStockSize()
     {
-        final double increase = 1 + building.getColony().getResearchManager().getResearchEffects().getEffectStrength(MINIMUM_STOCK);
+        final double increase = 1 + building.getColony().getResearchManager().getResearchEffects().getEffectStrength(MINIMUM_STOCK_EFFECT);
 
         return (int) (building.getBuildingLevel() * STOCK_PER_LEVEL * increase);
     }
@@ -124,7 +131,7 @@ public class MinimumStockModule extends AbstractBuildingModule implements IMinim
                 final int count = InventoryUtils.hasBuildingEnoughElseCount(this.building, new ItemStorage(itemStack, true), target);
                 final int delta = target - count;
                 final IToken<?> request = getMatchingRequest(itemStack, list);
-                if (delta > (building.getColony().getResearchManager().getResearchEffects().getEffectStrength(MIN_ORDER) > 0 ? target / 4 : 0))
+                if (delta > (building.getColony().getResearchManager().getResearchEffects().getEffectStrength(MIN_ORDER_EFFECT) > 0 ? target / 4 : 0))
                 {
                     if (request == null)
                     {
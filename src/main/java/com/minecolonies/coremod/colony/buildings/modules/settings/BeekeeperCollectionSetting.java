@@ -9,6 +9,7 @@ import com.ldtteam.blockui.views.View;
 import com.minecolonies.api.colony.buildings.modules.settings.ISettingKey;
 import com.minecolonies.api.colony.buildings.modules.settings.ISettingsModuleView;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBeekeeper;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -21,6 +22,11 @@ import static com.minecolonies.api.research.util.ResearchConstants.BEEKEEP_2;
 
 public class BeekeeperCollectionSetting extends StringSetting
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle BEEKEEP_2_EFFECT = ResearchEffectHandle.of(BEEKEEP_2);
+
     /**
      * Cached research.
      */
@@ -55,7 +61,7 @@ public class BeekeeperCollectionSetting extends StringSetting
       final ISettingsModuleView settingsModuleView,
       final IBuildingView building, final BOWindow window)
     {
-        hasResearch = building.getColony().getResearchManager().getResearchEffects().getEffectStrength(BEEKEEP_2) > 0;
+        hasResearch = building.getColony().getResearchManager().getResearchEffects().getEffectStrength(BEEKEEP_2_EFFECT) > 0;
         Loader.createFromXMLFile(new ResourceLocation("minecolonies:gui/layouthuts/layoutstringsetting.xml"), (View) pane);
         pane.findPaneOfTypeByID("id", Text.class).setText(Component.literal(key.getUniqueId().toString()));
         pane.findPaneOfTypeByID("trigger", ButtonImage.class).setHandler(button -> settingsModuleView.trigger(key));
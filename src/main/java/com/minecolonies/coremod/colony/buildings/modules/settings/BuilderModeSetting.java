@@ -5,6 +5,7 @@ import com.ldtteam.structurize.placement.StructureIterators;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.buildings.modules.ISettingsModule;
 import com.minecolonies.api.colony.buildings.modules.settings.ISettingsModuleView;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingBuilder;
 import org.jetbrains.annotations.NotNull;
 
@@ -18,6 +19,11 @@ import static com.minecolonies.api.research.util.ResearchConstants.BUILDER_MODE;
  */
 public class BuilderModeSetting extends StringSetting
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle BUILDER_MODE_EFFECT = ResearchEffectHandle.of(BUILDER_MODE);
+
     /**
      * Create the builder mode setting.
      */
@@ -41,13 +47,13 @@ public class BuilderModeSetting extends StringSetting
     @Override
     public boolean isActive(final ISettingsModule module)
     {
-        return module.getBuilding().getColony().getResearchManager().getResearchEffects().getEffectStrength(BUILDER_MODE) > 0;
+        return module.getBuilding().getColony().getResearchManager().getResearchEffects().getEffectStrength(BUILDER_MODE_EFFECT) > 0;
     }
 
     @Override
     public boolean isActive(final ISettingsModuleView module)
     {
-        return module.getColony().getResearchManager().getResearchEffects().getEffectStrength(BUILDER_MODE) > 0;
+        return module.getColony().getResearchManager().getResearchEffects().getEffectStrength(BUILDER_MODE_EFFECT) > 0;
     }
 
     @NotNull
@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.buildings.modules.settings;
 
 import com.minecolonies.api.colony.buildings.modules.ISettingsModule;
 import com.minecolonies.api.colony.buildings.modules.settings.ISettingsModuleView;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 
 import java.util.List;
 
@@ -12,6 +13,11 @@ import static com.minecolonies.api.research.util.ResearchConstants.RECIPE_MODE;
  */
 public class CrafterRecipeSetting extends StringSettingWithDesc
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle RECIPE_MODE_EFFECT = ResearchEffectHandle.of(RECIPE_MODE);
+
     /**
      * Different setting possibilities.
      */
@@ -39,12 +45,12 @@ public class CrafterRecipeSetting extends StringSettingWithDesc
     @Override
     public boolean isActive(final ISettingsModule module)
     {
-        return module.getBuilding().getColony().getResearchManager().getResearchEffects().getEffectStrength(RECIPE_MODE) > 0;
+        return module.getBuilding().getColony().getResearchManager().getResearchEffects().getEffectStrength(RECIPE_MODE_EFFECT) > 0;
     }
 
     @Override
     public boolean isActive(final ISettingsModuleView module)
     {
-        return module.getColony().getResearchManager().getResearchEffects().getEffectStrength(RECIPE_MODE) > 0;
+        return module.getColony().getResearchManager().getResearchEffects().getEffectStrength(RECIPE_MODE_EFFECT) > 0;
     }
 }
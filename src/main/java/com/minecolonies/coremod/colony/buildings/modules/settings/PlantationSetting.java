@@ -9,6 +9,7 @@ import com.ldtteam.blockui.views.BOWindow;
 import com.minecolonies.api.colony.buildings.modules.settings.ISettingKey;
 import com.minecolonies.api.colony.buildings.modules.settings.ISettingsModuleView;
 import com.minecolonies.api.colony.buildings.views.IBuildingView;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import net.minecraft.network.chat.MutableComponent;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -25,6 +26,11 @@ import static com.minecolonies.api.research.util.ResearchConstants.PLANT_2;
  */
 public class PlantationSetting extends StringSetting
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle PLANT_2_EFFECT = ResearchEffectHandle.of(PLANT_2);
+
     public static final String SUGAR_CANE_AND_CACTUS = Items.SUGAR_CANE.getDescriptionId() + PlantationSetting.SPLIT_TOKEN + Items.CACTUS.getDescriptionId();
     public static final String CACTUS_AND_BAMBOO     = Items.CACTUS.getDescriptionId() + PlantationSetting.SPLIT_TOKEN + Items.BAMBOO.getDescriptionId();
     public static final String BAMBOO_AND_SUGAR_CANE = Items.BAMBOO.getDescriptionId() + PlantationSetting.SPLIT_TOKEN + Items.SUGAR_CANE.getDescriptionId();
@@ -62,7 +68,7 @@ public class PlantationSetting extends StringSetting
     public void setupHandler(
       final ISettingKey<?> key, final Pane pane, final ISettingsModuleView settingsModuleView, final IBuildingView building, final BOWindow window)
     {
-        hasResearch = building.getColony().getResearchManager().getResearchEffects().getEffectStrength(PLANT_2) > 0;
+        hasResearch = building.getColony().getResearchManager().getResearchEffects().getEffectStrength(PLANT_2_EFFECT) > 0;
         Loader.createFromXMLFile(new ResourceLocation("minecolonies:gui/layouthuts/layoutstringsetting.xml"), (View) pane);
         pane.findPaneOfTypeByID("id", Text.class).setText(Component.literal(key.getUniqueId().toString()));
         pane.findPaneOfTypeByID("trigger", ButtonImage.class).setHandler(button -> settingsModuleView.trigger(key));
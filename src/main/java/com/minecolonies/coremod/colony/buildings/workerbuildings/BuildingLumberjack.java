@@ -21,6 +21,7 @@ import com.minecolonies.coremod.colony.buildings.modules.settings.BoolSetting;
 import com.minecolonies.coremod.colony.buildings.modules.settings.DynamicTreesSetting;
 import com.minecolonies.coremod.colony.buildings.modules.settings.SettingKey;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeRegistry;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -44,6 +45,7 @@ import java.util.function.Predicate;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_NETHER_TREE_LIST;
 import static com.minecolonies.api.util.constant.ToolLevelConstants.TOOL_LEVEL_WOOD_OR_GOLD;
 import static com.minecolonies.coremod.entity.ai.citizen.lumberjack.EntityAIWorkLumberjack.SAPLINGS_LIST;
+import static com.minecolonies.coremod.entity.ai.citizen.lumberjack.EntityAIWorkLumberjack.SEARCH_LIMIT;
 
 /**
  * The lumberjacks building.
@@ -78,6 +80,11 @@ public class BuildingLumberjack extends AbstractBuilding
      */
     private BlockPos endRestriction = null;
 
+    /**
+     * The known trees in the work area.
+     */
+    private final TreeRegistry treeRegistry = new TreeRegistry();
+
     /**
      * The maximum upgrade of the building.
      */
@@ -266,6 +273,31 @@ public class BuildingLumberjack extends AbstractBuilding
         return this.endRestriction;
     }
 
+    /**
+     * Get the registry of the known trees in the work area, the restricted area or the search range around the hut.
+     *
+     * @return the registry.
+     */
+    public TreeRegistry getTreeRegistry()
+    {
+        if (shouldRestrict())
+        {
+            treeRegistry.setArea(colony.getWorld(), startRestriction, endRestriction);
+        }
+        else
+        {
+            treeRegistry.setArea(colony.getWorld(), getPosition().offset(-SEARCH_LIMIT, 0, -SEARCH_LIMIT), getPosition().offset(SEARCH_LIMIT, 0, SEARCH_LIMIT));
+        }
+        return treeRegistry;
+    }
+
+    @Override
+    public void onDestroyed()
+    {
+        super.onDestroyed();
+        treeRegistry.clearArea();
+    }
+
     /**
      * Returns early if no worker is assigned Iterates over the nether tree position list If position is a fungus, grows it depending on worker's level If the block has changed,
      * removes the position from the list and returns early If the position is not a fungus, removes the position from the list
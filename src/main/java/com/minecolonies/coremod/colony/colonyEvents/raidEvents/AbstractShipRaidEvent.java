@@ -18,6 +18,8 @@ import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.pirateEvent.ShipBasedRaiderUtils;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.pirateEvent.ShipSize;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowField;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowFieldHolder;
 import com.minecolonies.coremod.util.CreativeRaiderStructureHandler;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
@@ -42,6 +44,7 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.SpawnerBlockEntity;
 import net.minecraft.world.level.pathfinder.Path;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -155,6 +158,11 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
      */
     private List<BlockPos> wayPoints = new ArrayList<>();
 
+    /**
+     * Flow field shared by the raiders walking into the colony.
+     */
+    private final RaidFlowFieldHolder flowField = new RaidFlowFieldHolder();
+
     /**
      * Create a new ship based raid event.
      *
@@ -536,6 +544,17 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
         return wayPoints;
     }
 
+    /**
+     * Get the distance field the raiders of this event walk along.
+     *
+     * @return the field, null if none is complete yet.
+     */
+    @Nullable
+    public RaidFlowField getFlowField()
+    {
+        return flowField.get(colony, wayPoints);
+    }
+
     /**
      * Set the pathing for this raids spawnpoint
      *
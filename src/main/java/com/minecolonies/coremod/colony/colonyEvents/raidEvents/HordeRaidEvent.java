@@ -18,6 +18,8 @@ import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.api.util.constant.NbtTagConstants;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.barbarianEvent.Horde;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.pirateEvent.ShipBasedRaiderUtils;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowField;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowFieldHolder;
 import com.minecolonies.coremod.network.messages.client.PlayAudioMessage;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
@@ -40,6 +42,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.pathfinder.Path;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -142,6 +145,11 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
      */
     private List<BlockPos> wayPoints = new ArrayList<>();
 
+    /**
+     * Flow field shared by the raiders walking into the colony.
+     */
+    private final RaidFlowFieldHolder flowField = new RaidFlowFieldHolder();
+
     public HordeRaidEvent(IColony colony)
     {
         this.colony = colony;
@@ -546,6 +554,17 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
         return wayPoints;
     }
 
+    /**
+     * Get the distance field the raiders of this event walk along.
+     *
+     * @return the field, null if none is complete yet.
+     */
+    @Nullable
+    public RaidFlowField getFlowField()
+    {
+        return flowField.get(colony, wayPoints);
+    }
+
     /**
      * Set the pathing for this raids spawnpoint
      *
@@ -0,0 +1,169 @@
+package com.minecolonies.coremod.colony.jobs;
+
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.Tuple;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The task queue of a courier as an ordered route of legs, every leg going from where the items are picked up to where they are dropped off. Consecutive tasks with
+ * the same stops share a leg, so they are walked as one trip.
+ * <p>
+ * New tasks are placed by nearest insertion: at the place in the route which adds the least walking, estimated by the straight distances between the stops.
+ */
+public class CourierRoute
+{
+    /**
+     * The queue the route was built from.
+     */
+    private final List<IToken<?>> tokens = new ArrayList<>();
+
+    /**
+     * The legs of the route, in order.
+     */
+    private final List<Leg> legs = new ArrayList<>();
+
+    /**
+     * Check if the route was built from the given queue.
+     *
+     * @param queue the task queue.
+     * @return true if so.
+     */
+    public boolean isBuiltFrom(@NotNull final List<IToken<?>> queue)
+    {
+        return tokens.equals(queue);
+    }
+
+    /**
+     * Remove all tasks.
+     */
+    public void clear()
+    {
+        tokens.clear();
+        legs.clear();
+    }
+
+    /**
+     * Append a task to the route.
+     *
+     * @param token    the token of the task.
+     * @param from     where the items are picked up.
+     * @param to       where the items are dropped off.
+     * @param priority the priority of the task.
+     */
+    public void add(@NotNull final IToken<?> token, @NotNull final BlockPos from, @NotNull final BlockPos to, final int priority)
+    {
+        final Leg last = legs.isEmpty() ? null : legs.get(legs.size() - 1);
+        if (last != null && last.from.equals(from) && last.to.equals(to))
+        {
+            last.taskCount++;
+            last.maxPriority = Math.max(last.maxPriority, priority);
+        }
+        else
+        {
+            legs.add(new Leg(from, to, tokens.size(), priority));
+        }
+        tokens.add(token);
+    }
+
+    /**
+     * Get the number of tasks on the route.
+     *
+     * @return the number.
+     */
+    public int size()
+    {
+        return tokens.size();
+    }
+
+    /**
+     * Find the cheapest place to insert a task. Tasks with a higher priority are never overtaken.
+     *
+     * @param start    where the courier is.
+     * @param from     where the items of the task are picked up.
+     * @param to       where the items of the task are dropped off.
+     * @param priority the priority of the task.
+     * @return the additional walking in blocks and the index in the task queue to insert at.
+     */
+    @NotNull
+    public Tuple<Double, Integer> getInsertion(@NotNull final BlockPos start, @NotNull final BlockPos from, @NotNull final BlockPos to, final int priority)
+    {
+        int firstLeg = 0;
+        for (int i = 0; i < legs.size(); i++)
+        {
+            if (legs.get(i).maxPriority > priority)
+            {
+                firstLeg = i + 1;
+            }
+        }
+
+        final double legLength = BlockPosUtil.getDistance(from, to);
+        double bestCost = Double.MAX_VALUE;
+        int bestIndex = tokens.size();
+        BlockPos previous = start;
+        for (int i = 0; i <= legs.size(); i++)
+        {
+            final Leg next = i < legs.size() ? legs.get(i) : null;
+            if (i >= firstLeg)
+            {
+                double cost = BlockPosUtil.getDistance(previous, from) + legLength;
+                if (next != null)
+                {
+                    cost += BlockPosUtil.getDistance(to, next.from) - BlockPosUtil.getDistance(previous, next.from);
+                }
+
+                if (cost < bestCost)
+                {
+                    bestCost = cost;
+                    bestIndex = next == null ? tokens.size() : next.firstTask;
+                }
+            }
+
+            if (next == null)
+            {
+                break;
+            }
+
+            if (i + 1 >= firstLeg && next.from.equals(from) && next.to.equals(to))
+            {
+                // Carried along on a trip which is made anyway.
+                return new Tuple<>(0.0, next.firstTask + next.taskCount);
+            }
+            previous = next.to;
+        }
+
+        return new Tuple<>(bestCost, bestIndex);
+    }
+
+    /**
+     * A trip from a pick up to a drop off position.
+     */
+    private static final class Leg
+    {
+        private final BlockPos from;
+        private final BlockPos to;
+        private final int      firstTask;
+        private int            taskCount = 1;
+        private int            maxPriority;
+
+        /**
+         * Create a new leg with one task.
+         *
+         * @param from      where the items are picked up.
+         * @param to        where the items are dropped off.
+         * @param firstTask the index of the task in the queue.
+         * @param priority  the priority of the task.
+         */
+        private Leg(final BlockPos from, final BlockPos to, final int firstTask, final int priority)
+        {
+            this.from = from;
+            this.to = to;
+            this.firstTask = firstTask;
+            this.maxPriority = priority;
+        }
+    }
+}
@@ -55,11 +55,26 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
      */
     public static final double BONUS_SPEED_PER_LEVEL = 0.003;
 
+    /**
+     * Score added per queued task when scoring a new request, in blocks of walking.
+     */
+    private static final double QUEUED_TASK_SCORE = 5;
+
+    /**
+     * Max distance between the pick up positions of deliveries which are carried together.
+     */
+    private static final double BATCH_SOURCE_DISTANCE = 16;
+
     /**
      * Old field for backwards compatibility.
      */
     private int ongoingDeliveries;
 
+    /**
+     * The task queue as a route, rebuilt when the queue changed.
+     */
+    private final CourierRoute route = new CourierRoute();
+
     /**
      * Instantiates the job for the deliveryman.
      *
@@ -172,7 +187,8 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         {
             if (newState)
             {
-                getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof Delivery || request.getRequest() instanceof Pickup);
+                getColony().getRequestManager().onRequestableTypeAvailable(Delivery.class);
+                getColony().getRequestManager().onRequestableTypeAvailable(Pickup.class);
             }
             else
             {
@@ -231,7 +247,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
             }
         }
 
-        getTaskQueueFromDataStore().add(Math.max(0, insertionIndex + offset), token);
+        taskQueue.add(Math.min(taskQueue.size(), Math.max(0, insertionIndex + offset)), token);
 
         if (newRequest instanceof StandardRequests.PickupRequest && newRequest.getRequest().getPriority() == getPlayerActionPriority(true))
         {
@@ -387,7 +403,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
             {
                 final Delivery current = (Delivery) compareRequest.getRequest();
                 final Delivery newDev = request.getRequest();
-                if (haveTasksSameSourceAndDest(current, newDev))
+                if (areTasksCompatible(current, newDev))
                 {
                     return 0;
                 }
@@ -398,17 +414,19 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     }
 
     /**
-     * Check if two deliveries have the same source and destination.
+     * Check if two deliveries can be carried together, which is the case if they have the same destination and are picked up close to each other.
      *
      * @param requestA the first request.
      * @param requestB the second request.
      * @return true if so.
      */
-    private boolean haveTasksSameSourceAndDest(@NotNull final Delivery requestA, @NotNull final Delivery requestB)
+    private boolean areTasksCompatible(@NotNull final Delivery requestA, @NotNull final Delivery requestB)
     {
         if (requestA.getTarget().equals(requestB.getTarget()))
         {
-            if (requestA.getStart().equals(requestB.getStart()))
+            if (requestA.getStart().equals(requestB.getStart())
+                  || (requestA.getStart().getDimension().equals(requestB.getStart().getDimension())
+                        && BlockPosUtil.getDistance(requestA.getStart().getInDimensionLocation(), requestB.getStart().getInDimensionLocation()) <= BATCH_SOURCE_DISTANCE))
             {
                 return true;
             }
@@ -442,7 +460,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
                 {
                     final Delivery current = (Delivery) compareRequest.getRequest();
                     final Delivery newDev = request.getRequest();
-                    if (haveTasksSameSourceAndDest(current, newDev))
+                    if (areTasksCompatible(current, newDev))
                     {
                         deliveryList.add((IRequest<? extends Delivery>) compareRequest);
                     }
@@ -453,7 +471,8 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     }
 
     /**
-     * Calculates a score an position for a delivery, the bigger the score the worse the request fits.
+     * Calculates a score an position for a delivery, the bigger the score the worse the request fits. The score is the walking the request adds to the route of the
+     * courier, plus a fixed amount per queued task to spread the work over all couriers.
      *
      * @param newRequest to check
      * @return tuple of score and index to place at.
@@ -461,135 +480,69 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
     @NotNull
     public Tuple<Double, Integer> getScoreForDelivery(final IRequest<?> newRequest)
     {
-        final List<IToken<?>> requestTokens = getTaskQueueFromDataStore();
-
-        double totalScore = 10000;
-        int bestRequestIndex = Math.max(0, requestTokens.size());
-
-        if (requestTokens.isEmpty())
+        updateRoute();
+        final BlockPos from = getRouteFrom(newRequest);
+        final BlockPos to = getRouteTo(newRequest);
+        if (from == null || to == null || !(newRequest.getRequest() instanceof AbstractDeliverymanRequestable))
         {
-            // No task, compare with dman pos
-            totalScore = getClosenessFactorTo(getSource(newRequest),
-              getTarget(newRequest),
-              getCitizen().getLastPosition(),
-              getTarget(newRequest));
-
-            totalScore -= ((AbstractDeliverymanRequestable) newRequest.getRequest()).getPriority();
+            return new Tuple<>(Double.MAX_VALUE, route.size());
         }
 
-        for (int i = 0; i < requestTokens.size(); i++)
-        {
-            final IRequest<?> compareRequest = getColony().getRequestManager().getRequestForToken(requestTokens.get(i));
-            if (compareRequest == null)
-            {
-                continue;
-            }
-
-            if (compareRequest.getRequest() instanceof AbstractDeliverymanRequestable)
-            {
-                double score = getScoreOfRequestComparedTo(newRequest, compareRequest, i);
-
-                if (score <= totalScore)
-                {
-                    bestRequestIndex = i + getPickupOrRequestOffset(newRequest, compareRequest);
-                    totalScore = score;
-                }
-            }
-        }
-
-        totalScore += bestRequestIndex;
-
-        return new Tuple<>(totalScore, bestRequestIndex);
+        final Tuple<Double, Integer> insertion =
+          route.getInsertion(getCitizen().getLastPosition(), from, to, ((AbstractDeliverymanRequestable) newRequest.getRequest()).getPriority());
+        return new Tuple<>(insertion.getA() + route.size() * QUEUED_TASK_SCORE, insertion.getB());
     }
 
     /**
-     * Calculates a score between two requesting making them compareable in many aspects.
-     *
-     * @param source         source request
-     * @param comparing      comparing request
-     * @param comparingIndex index of the comparing request in our taskque. Use taskque size when comparing a request not on the que.
-     * @return compare score of the two requests, lower is better.
+     * Rebuild the route if the task queue changed since it was built.
      */
-    public double getScoreOfRequestComparedTo(final IRequest<?> source, final IRequest<?> comparing, final int comparingIndex)
+    private void updateRoute()
     {
-        if (!(comparing != null && comparing.getRequest() instanceof AbstractDeliverymanRequestable && source != null
-                && source.getRequest() instanceof AbstractDeliverymanRequestable))
+        final List<IToken<?>> queue = getTaskQueueFromDataStore();
+        if (route.isBuiltFrom(queue))
         {
-            return 100;
+            return;
         }
 
-        // Closeness compared to the existing request
-        double score = getClosenessFactorTo(getSource(source), getTarget(source), getSource(comparing), getTarget(comparing));
-        // Priority of the existing request in diff to priority of the newly incomming one
-        score += (((AbstractDeliverymanRequestable) comparing.getRequest()).getPriority() - ((AbstractDeliverymanRequestable) source.getRequest()).getPriority()) * 0.5;
-
-        // Additional score for alternating between pickup and delivery
-        score += getPickUpRequestScore(source, comparing);
-
-        // Worse score the more requests we have to overtake
-        score += getTaskQueue().size() - comparingIndex;
-
-        return score;
-    }
-
-    /**
-     * Gets the right task insertion order for pickups, if a new request fitting an existing request is added and the existing is a pickup and the new is a delivery it should be
-     * infront.
-     *
-     * @param newRequest the new request to add
-     * @param existing   the existing request
-     * @return 1 for inserting after existing, 0 for infront
-     */
-    private static int getPickupOrRequestOffset(final IRequest<?> newRequest, final IRequest<?> existing)
-    {
-        if (newRequest.getRequest() instanceof Delivery && existing.getRequest() instanceof Pickup)
+        route.clear();
+        BlockPos previous = getCitizen().getLastPosition();
+        for (final IToken<?> token : queue)
         {
-            return 0;
-        }
+            final IRequest<?> request = getColony().getRequestManager().getRequestForToken(token);
+            final BlockPos from = request == null ? null : getRouteFrom(request);
+            final BlockPos to = request == null ? null : getRouteTo(request);
+            if (from == null || to == null || !(request.getRequest() instanceof AbstractDeliverymanRequestable))
+            {
+                // Keep the route aligned with the queue, the task won't need any walking.
+                route.add(token, previous, previous, 0);
+                continue;
+            }
 
-        return 1;
+            route.add(token, from, to, ((AbstractDeliverymanRequestable) request.getRequest()).getPriority());
+            previous = to;
+        }
     }
 
     /**
-     * Score for how nicely pickups and deliveries alternate
+     * Gets where the courier picks up the items of a request.
      *
-     * @param newRequest the new request
-     * @param existing   existing request
-     * @return better score for when alternating deliveries and pickups nicely
+     * @param request the request.
+     * @return the position.
      */
-    private static int getPickUpRequestScore(final IRequest<?> newRequest, final IRequest<?> existing)
+    private BlockPos getRouteFrom(final IRequest<?> request)
     {
-        if (newRequest.getRequest() instanceof Pickup && existing.getRequest() instanceof Delivery
-              || newRequest.getRequest() instanceof Delivery && existing.getRequest() instanceof Pickup)
-        {
-            return 0;
-        }
-
-        return 3;
+        return request.getRequest() instanceof Pickup ? getTarget(request) : getSource(request);
     }
 
     /**
-     * Calculates the closeness factor for two different delivery vectors
+     * Gets where the courier drops off the items of a request.
      *
-     * @param source1 source of first request
-     * @param target1 target of first request
-     * @param source2 source of second request
-     * @param target2 target of second request
-     * @return closeness factor, representing how close these positions are to eachother. The lower the closer they are.
+     * @param request the request.
+     * @return the position.
      */
-    public static double getClosenessFactorTo(final BlockPos source1, final BlockPos target1, final BlockPos source2, final BlockPos target2)
+    private BlockPos getRouteTo(final IRequest<?> request)
     {
-        final double newLength = BlockPosUtil.getDistance(target1, source1);
-        if (newLength <= 0)
-        {
-            // Return a relatively high value(bad) when the distance is bad.
-            return 10;
-        }
-
-        final double targetCloseness = BlockPosUtil.getDistance(target1, target2) / newLength;
-        final double sourceCloseness = BlockPosUtil.getDistance(source1, source2) / newLength;
-
-        return (targetCloseness + sourceCloseness) * 5;
+        return request.getRequest() instanceof Pickup ? getSource(request) : getTarget(request);
     }
 
     /**
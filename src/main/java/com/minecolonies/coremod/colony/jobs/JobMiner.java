@@ -3,6 +3,7 @@ package com.minecolonies.coremod.colony.jobs;
 import net.minecraft.resources.ResourceLocation;
 import com.minecolonies.api.client.render.modeltype.ModModelTypes;
 import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.coremod.entity.ai.citizen.miner.EntityAIStructureMiner;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.damagesource.DamageSource;
@@ -15,6 +16,11 @@ import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES;
  */
 public class JobMiner extends AbstractJobStructure<EntityAIStructureMiner, JobMiner>
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle FIRE_RES_EFFECT = ResearchEffectHandle.of(FIRE_RES);
+
     /**
      * Creates a new instance of the miner job.
      *
@@ -55,7 +61,7 @@ public class JobMiner extends AbstractJobStructure<EntityAIStructureMiner, JobMi
     {
         if (damageSource == DamageSource.LAVA || damageSource == DamageSource.IN_FIRE || damageSource == DamageSource.ON_FIRE)
         {
-            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES) > 0;
+            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES_EFFECT) > 0;
         }
 
         return super.ignoresDamage(damageSource);
@@ -5,6 +5,7 @@ import com.minecolonies.api.client.render.modeltype.ModModelTypes;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.colony.jobs.IJobWithExternalWorkStations;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.coremod.colony.buildings.modules.QuarryModule;
 import com.minecolonies.coremod.entity.ai.citizen.miner.EntityAIQuarrier;
 import net.minecraft.resources.ResourceLocation;
@@ -22,6 +23,11 @@ import static com.minecolonies.api.research.util.ResearchConstants.FIRE_RES;
  */
 public class JobQuarrier extends AbstractJobStructure<EntityAIQuarrier, JobQuarrier> implements IJobWithExternalWorkStations
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle FIRE_RES_EFFECT = ResearchEffectHandle.of(FIRE_RES);
+
     /**
      * Creates a new instance of the miner job.
      *
@@ -87,7 +93,7 @@ public class JobQuarrier extends AbstractJobStructure<EntityAIQuarrier, JobQuarr
     {
         if (damageSource == DamageSource.LAVA || damageSource == DamageSource.IN_FIRE || damageSource == DamageSource.ON_FIRE)
         {
-            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES) > 0;
+            return getColony().getResearchManager().getResearchEffects().getEffectStrength(FIRE_RES_EFFECT) > 0;
         }
 
         return super.ignoresDamage(damageSource);
@@ -11,7 +11,9 @@ import com.minecolonies.api.colony.managers.interfaces.ICitizenManager;
 import com.minecolonies.api.entity.ModEntities;
 import com.minecolonies.api.entity.citizen.AbstractCivilianEntity;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.citizen.happiness.ColonyHappinessFacts;
 import com.minecolonies.api.entity.citizen.happiness.IHappinessModifier;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.*;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
@@ -50,6 +52,11 @@ import static com.minecolonies.api.util.constant.TranslationConstants.*;
 
 public class CitizenManager implements ICitizenManager
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle CITIZEN_CAP_EFFECT = ResearchEffectHandle.of(CITIZEN_CAP);
+
     /**
      * Map of citizens with ID,CitizenData
      */
@@ -96,6 +103,11 @@ public class CitizenManager implements ICitizenManager
      */
     private boolean areCitizensSleeping;
 
+    /**
+     * The colony wide happiness facts.
+     */
+    private final ColonyHappinessFacts happinessFacts = new ColonyHappinessFacts();
+
     /**
      * Creates the Citizenmanager for a colony.
      *
@@ -174,6 +186,7 @@ public class CitizenManager implements ICitizenManager
         citizens.putAll(NBTUtils.streamCompound(compound.getList(TAG_CITIZENS, Tag.TAG_COMPOUND))
                           .map(this::deserializeCitizen)
                           .collect(Collectors.toMap(ICitizenData::getId, Function.identity())));
+        happinessFacts.invalidate();
 
         // Update child state after loading citizen data
         colony.updateHasChilds();
@@ -206,17 +219,21 @@ public class CitizenManager implements ICitizenManager
     {
         if (isCitizensDirty || !newSubscribers.isEmpty())
         {
+            // Players that already know the colony only receive the changed sections, new subscribers get the full citizen.
             final Set<ServerPlayer> players = new HashSet<>();
             if (isCitizensDirty)
             {
                 players.addAll(closeSubscribers);
+                players.removeAll(newSubscribers);
             }
-            players.addAll(newSubscribers);
             for (@NotNull final ICitizenData citizen : citizens.values())
             {
-                if (citizen.isDirty() || !newSubscribers.isEmpty())
+                newSubscribers.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewCitizenViewMessage(colony, citizen), player));
+
+                if (citizen.isDirty() && !players.isEmpty())
                 {
-                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                    final int sections = citizen.getDirtySections();
+                    players.forEach(player -> Network.getNetwork().sendToPlayer(new ColonyViewCitizenViewMessage(colony, citizen, sections), player));
                 }
             }
         }
@@ -317,6 +334,7 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCivilian();
         citizens.put(citizenData.getId(), citizenData);
+        happinessFacts.invalidate();
 
         return citizenData;
     }
@@ -343,6 +361,7 @@ public class CitizenManager implements ICitizenManager
         final ICitizenData citizenData = deserializeCitizen(compoundNBT);
         citizenData.onResurrect();
         citizens.put(citizenData.getId(), citizenData);
+        happinessFacts.invalidate();
         spawnOrCreateCitizen(citizenData, world, spawnPos);
         return citizenData;
     }
@@ -357,6 +376,7 @@ public class CitizenManager implements ICitizenManager
 
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        happinessFacts.invalidate();
 
         for (@NotNull final IBuilding building : colony.getBuildingManager().getBuildings().values())
         {
@@ -489,7 +509,7 @@ public class CitizenManager implements ICitizenManager
     {
         if(MinecoloniesAPIProxy.getInstance().getGlobalResearchTree().hasResearchEffect(CITIZEN_CAP))
         {
-            final double max = 25 + colony.getResearchManager().getResearchEffects().getEffectStrength(CITIZEN_CAP);
+            final double max = 25 + colony.getResearchManager().getResearchEffects().getEffectStrength(CITIZEN_CAP_EFFECT);
             return Math.min(max, MineColonies.getConfig().getServer().maxCitizenPerColony.get());
         }
         else
@@ -530,9 +550,16 @@ public class CitizenManager implements ICitizenManager
         }
     }
 
+    @Override
+    public ColonyHappinessFacts getHappinessFacts()
+    {
+        return happinessFacts;
+    }
+
     @Override
     public void checkCitizensForHappiness()
     {
+        happinessFacts.invalidate();
         for (final ICitizenData citizenData : citizens.values())
         {
             citizenData.getCitizenHappinessHandler().processDailyHappiness(citizenData);
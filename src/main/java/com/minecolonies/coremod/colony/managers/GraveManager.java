@@ -5,6 +5,7 @@ import com.minecolonies.api.colony.GraveData;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.managers.interfaces.IGraveManager;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.tileentities.TileEntityGrave;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InventoryUtils;
@@ -39,6 +40,11 @@ import static com.minecolonies.api.util.constant.TranslationConstants.*;
 
 public class GraveManager implements IGraveManager
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle GRAVE_DECAY_BONUS_EFFECT = ResearchEffectHandle.of(GRAVE_DECAY_BONUS);
+
     /**
      * List of grave in the colony.
      */
@@ -298,7 +304,7 @@ public class GraveManager implements IGraveManager
                 InventoryUtils.dropItemHandler(citizenData.getInventory(), world, pos.getX(), pos.getY(), pos.getZ());
             }
 
-            graveEntity.delayDecayTimer(colony.getResearchManager().getResearchEffects().getEffectStrength(GRAVE_DECAY_BONUS));
+            graveEntity.delayDecayTimer(colony.getResearchManager().getResearchEffects().getEffectStrength(GRAVE_DECAY_BONUS_EFFECT));
 
             GraveData graveData = new GraveData();
             graveData.setCitizenName(citizenData.getName());
@@ -205,6 +205,11 @@ public class RaidManager implements IRaiderManager
      */
     private String nextForcedType = INITIAL_NEXT_RAID_TYPE;
 
+    /**
+     * Spawn points searched ahead of time.
+     */
+    private final RaidSpawnCandidates spawnCandidates = new RaidSpawnCandidates();
+
     /**
      * Creates the RaidManager for a colony.
      *
@@ -411,13 +416,92 @@ public class RaidManager implements IRaiderManager
         return job.getResult();
     }
 
+    @Override
+    public void onColonyTick()
+    {
+        // Without loaded buildings there is nothing to search from, the search would only log that it aborted.
+        if (colony.getWorld() != null && canHaveRaiderEvents() && hasLoadedBuilding())
+        {
+            spawnCandidates.refresh(this::findSpawnLocation, this::isUsableSpawnPoint, this::getSpawnPointRank);
+        }
+    }
+
     /**
-     * Calculate a random spawn point along the colony's border
+     * Check if any building of the colony is loaded.
      *
-     * @return Returns the random blockPos
+     * @return true if at least one is.
+     */
+    private boolean hasLoadedBuilding()
+    {
+        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+        {
+            if (WorldUtil.isEntityBlockLoaded(colony.getWorld(), building.getPosition()))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void onBuildingChanged(@NotNull final IBuilding building, final boolean removed)
+    {
+        spawnCandidates.onBuildingChanged(building, removed);
+    }
+
+    /**
+     * Get a spawn point along the colony's border, from the points searched ahead of time if possible.
+     *
+     * @return Returns the blockPos
      */
     @Override
     public BlockPos calculateSpawnLocation()
+    {
+        final BlockPos candidate = spawnCandidates.take(this::isUsableSpawnPoint);
+        if (candidate != null)
+        {
+            return candidate;
+        }
+
+        return findSpawnLocation(colony.getWorld().random.nextInt(360));
+    }
+
+    /**
+     * Check if a spawn point found earlier can still be used.
+     *
+     * @param spawnPos the spawn point.
+     * @return true if it is loaded and still valid.
+     */
+    private boolean isUsableSpawnPoint(final BlockPos spawnPos)
+    {
+        return WorldUtil.isEntityBlockLoaded(colony.getWorld(), spawnPos)
+                 && isValidSpawnPoint(colony.getBuildingManager().getBuildings().values(), spawnPos)
+                 && !isOtherColony(spawnPos.getX(), spawnPos.getZ());
+    }
+
+    /**
+     * Rank a spawn point by its distance to the closest building, further away is better.
+     *
+     * @param spawnPos the spawn point.
+     * @return the rank.
+     */
+    private double getSpawnPointRank(final BlockPos spawnPos)
+    {
+        double closest = Double.MAX_VALUE;
+        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+        {
+            closest = Math.min(closest, BlockPosUtil.getDistance2D(building.getPosition(), spawnPos));
+        }
+        return closest;
+    }
+
+    /**
+     * Search a spawn point along the colony's border in a direction.
+     *
+     * @param degree the direction in degrees.
+     * @return the spawn point, or null if none was found.
+     */
+    private BlockPos findSpawnLocation(final int degree)
     {
         BlockPos locationSum = new BlockPos(0, 0, 0);
         int amount = 0;
@@ -440,8 +524,7 @@ public class RaidManager implements IRaiderManager
         // Calculate center on loaded buildings, to find a nice distance for raiders
         final BlockPos calcCenter = new BlockPos(locationSum.getX() / amount, locationSum.getY() / amount, locationSum.getZ() / amount);
 
-        // Get a random point on a circle around the colony,far out for the direction
-        final int degree = colony.getWorld().random.nextInt(360);
+        // Get a point on a circle around the colony,far out for the direction
         int x = (int) Math.round(500 * Math.cos(Math.toRadians(degree)));
         int z = (int) Math.round(500 * Math.sin(Math.toRadians(degree)));
         final BlockPos advanceTowards = calcCenter.offset(x, 0, z);
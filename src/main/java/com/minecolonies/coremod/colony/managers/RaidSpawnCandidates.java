@@ -0,0 +1,165 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.buildings.IBuilding;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Ranked raid spawn points around a colony, one per direction. The points are searched ahead of time a few at a time, so starting a raid is a lookup.
+ * <p>
+ * Directions are searched again when a new or upgraded building invalidates their point, when a removed building might allow a point where there was none, and
+ * round robin to notice border chunks which got loaded or unloaded.
+ */
+public class RaidSpawnCandidates
+{
+    /**
+     * Number of directions around the colony.
+     */
+    public static final int SECTORS = 16;
+
+    /**
+     * Max number of directions searched per refresh.
+     */
+    private static final int SEARCHES_PER_REFRESH = 2;
+
+    /**
+     * The spawn point of every direction, null if none was found.
+     */
+    private final BlockPos[] candidates = new BlockPos[SECTORS];
+
+    /**
+     * The rank of every spawn point, higher is better.
+     */
+    private final double[] ranks = new double[SECTORS];
+
+    /**
+     * How often every spawn point was used, to spread raids over all directions.
+     */
+    private final int[] uses = new int[SECTORS];
+
+    /**
+     * Directions which have to be searched again.
+     */
+    private final BitSet dirty = new BitSet(SECTORS);
+
+    /**
+     * The next direction to check round robin.
+     */
+    private int nextCheck = 0;
+
+    /**
+     * Create the candidates, all directions still have to be searched.
+     */
+    public RaidSpawnCandidates()
+    {
+        dirty.set(0, SECTORS);
+    }
+
+    /**
+     * Get the direction a sector searches in.
+     *
+     * @param sector the sector.
+     * @return the direction in degrees.
+     */
+    public static int getDegree(final int sector)
+    {
+        return sector * 360 / SECTORS;
+    }
+
+    /**
+     * Update the spawn points after a building changed.
+     *
+     * @param building the building.
+     * @param removed  true if it was removed, else it was added or upgraded.
+     */
+    public void onBuildingChanged(@NotNull final IBuilding building, final boolean removed)
+    {
+        for (int sector = 0; sector < SECTORS; sector++)
+        {
+            // A removed building can only free up directions without a point, a new or upgraded one can only block existing points.
+            final boolean outdated = removed
+                                       ? candidates[sector] == null
+                                       : candidates[sector] != null && !RaidManager.isValidSpawnPoint(Collections.singletonList(building), candidates[sector]);
+            if (outdated)
+            {
+                candidates[sector] = null;
+                dirty.set(sector);
+            }
+        }
+    }
+
+    /**
+     * Search the dirty directions, or if there are none check the next direction.
+     *
+     * @param search   searches the spawn point in a direction in degrees.
+     * @param isUsable checks if a found spawn point can still be used.
+     * @param rank     ranks a spawn point.
+     */
+    public void refresh(
+      @NotNull final IntFunction<BlockPos> search,
+      @NotNull final Predicate<BlockPos> isUsable,
+      @NotNull final ToDoubleFunction<BlockPos> rank)
+    {
+        for (int i = 0; i < SEARCHES_PER_REFRESH; i++)
+        {
+            int sector = dirty.nextSetBit(0);
+            if (sector < 0)
+            {
+                sector = nextCheck;
+                nextCheck = (nextCheck + 1) % SECTORS;
+                if (candidates[sector] != null && isUsable.test(candidates[sector]))
+                {
+                    return;
+                }
+            }
+
+            dirty.clear(sector);
+            candidates[sector] = search.apply(getDegree(sector));
+            ranks[sector] = candidates[sector] == null ? 0 : rank.applyAsDouble(candidates[sector]);
+        }
+    }
+
+    /**
+     * Take the least used usable spawn point, the highest ranked on equal use.
+     *
+     * @param isUsable checks if a spawn point can still be used.
+     * @return the spawn point, or null if there is none.
+     */
+    @Nullable
+    public BlockPos take(@NotNull final Predicate<BlockPos> isUsable)
+    {
+        int best = -1;
+        for (int sector = 0; sector < SECTORS; sector++)
+        {
+            if (candidates[sector] == null || (best >= 0 && (uses[sector] > uses[best] || (uses[sector] == uses[best] && ranks[sector] <= ranks[best]))))
+            {
+                continue;
+            }
+
+            if (isUsable.test(candidates[sector]))
+            {
+                best = sector;
+            }
+            else
+            {
+                candidates[sector] = null;
+                dirty.set(sector);
+            }
+        }
+
+        if (best < 0)
+        {
+            return null;
+        }
+
+        uses[best]++;
+        return candidates[best];
+    }
+}
@@ -21,6 +21,8 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.api.util.profiling.ColonyProfiler;
+import com.minecolonies.api.util.profiling.ProfilerSection;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.Network;
 import com.minecolonies.coremod.blocks.huts.BlockHutTavern;
@@ -36,11 +38,14 @@ import com.minecolonies.coremod.network.messages.client.colony.ColonyViewRemoveB
 import com.minecolonies.coremod.quests.objectives.IBuildingUpgradeObjectiveTemplate;
 import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
 import com.minecolonies.coremod.tileentities.TileEntityDecorationController;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
@@ -51,6 +56,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
@@ -77,6 +83,11 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
      */
     private final List<BlockPos> fields = new ArrayList<>();
 
+    /**
+     * Fields of the colony, by the chunks their range overlaps.
+     */
+    private final Long2ObjectMap<List<BlockPos>> fieldsByChunk = new Long2ObjectOpenHashMap<>();
+
     /**
      * The warehouse building position. Initially null.
      */
@@ -266,7 +277,9 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         {
             if (WorldUtil.isBlockLoaded(colony.getWorld(), building.getPosition()))
             {
+                final long start = ColonyProfiler.start();
                 building.onColonyTick(colony);
+                ColonyProfiler.end(ProfilerSection.BUILDING_TICK, building.getBuildingType().getRegistryName(), start);
             }
         }
     }
@@ -541,6 +554,14 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         return Collections.unmodifiableList(fields);
     }
 
+    @NotNull
+    @Override
+    public List<BlockPos> getFieldsInChunk(final int chunkX, final int chunkZ)
+    {
+        final List<BlockPos> chunkFields = fieldsByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+        return chunkFields == null ? Collections.emptyList() : Collections.unmodifiableList(chunkFields);
+    }
+
     @Override
     public void addNewField(final AbstractScarecrowTileEntity tileEntity, final BlockPos pos, final Level world)
     {
@@ -612,6 +633,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
                 }
 
                 colony.getRequestManager().onProviderAddedToColony(building);
+                colony.getRaiderManager().onBuildingChanged(building, false);
 
                 setMaxChunk(building);
             }
@@ -679,6 +701,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
 
         colony.getRequestManager().onProviderRemovedFromColony(building);
         colony.getRequestManager().onRequesterRemovedFromColony(building.getRequester());
+        colony.getRaiderManager().onBuildingChanged(building, true);
 
         colony.getCitizenManager().calculateMaxCitizens();
     }
@@ -687,7 +710,16 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
     public void removeField(final BlockPos pos)
     {
         this.markFieldsDirty();
-        fields.remove(pos);
+        if (fields.remove(pos))
+        {
+            forEachFieldChunk(pos, chunk -> {
+                final List<BlockPos> chunkFields = fieldsByChunk.get(chunk);
+                if (chunkFields != null && chunkFields.remove(pos) && chunkFields.isEmpty())
+                {
+                    fieldsByChunk.remove(chunk);
+                }
+            });
+        }
         colony.markDirty();
     }
 
@@ -907,10 +939,28 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         if (!fields.contains(pos))
         {
             fields.add(pos);
+            forEachFieldChunk(pos, chunk -> fieldsByChunk.computeIfAbsent(chunk, key -> new ArrayList<>()).add(pos));
         }
         colony.markDirty();
     }
 
+    /**
+     * Run an action for every chunk the range of a field overlaps.
+     *
+     * @param pos    the field position.
+     * @param action the action, receiving the packed chunk position.
+     */
+    private static void forEachFieldChunk(@NotNull final BlockPos pos, @NotNull final LongConsumer action)
+    {
+        for (int chunkX = (pos.getX() - ScarecrowTileEntity.MAX_RANGE) >> 4; chunkX <= (pos.getX() + ScarecrowTileEntity.MAX_RANGE) >> 4; chunkX++)
+        {
+            for (int chunkZ = (pos.getZ() - ScarecrowTileEntity.MAX_RANGE) >> 4; chunkZ <= (pos.getZ() + ScarecrowTileEntity.MAX_RANGE) >> 4; chunkZ++)
+            {
+                action.accept(ChunkPos.asLong(chunkX, chunkZ));
+            }
+        }
+    }
+
     @Override
     public boolean canPlaceAt(final Block block, final BlockPos pos, final Player player)
     {
@@ -947,6 +997,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         if (building != null)
         {
             colony.getCitizenManager().calculateMaxCitizens();
+            colony.getRaiderManager().onBuildingChanged(building, false);
             markBuildingsDirty();
             if (buildBuildingObjectives.containsKey(building.getBuildingType()))
             {
@@ -2,12 +2,15 @@ package com.minecolonies.coremod.colony.managers;
 
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.managers.interfaces.IStatisticsManager;
-import it.unimi.dsi.fastutil.ints.Int2IntLinkedOpenHashMap;
+import com.minecolonies.coremod.MineColonies;
+import it.unimi.dsi.fastutil.ints.Int2IntAVLTreeMap;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -15,6 +18,9 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
  * Manager for colony related statistics.
+ * <p>
+ * Every stat keeps a running total since colony creation and the daily counts of the retained window as prefix sums, so totals and period queries are answered in
+ * constant time. Days outside of the retention window only remain part of the total.
  */
 public class StatisticsManager implements IStatisticsManager
 {
@@ -23,6 +29,13 @@ public class StatisticsManager implements IStatisticsManager
      */
     private static final String TAG_STAT_MANAGER    = "stat_manager";
     private static final String TAG_STAT            = "stat";
+    private static final String TAG_STAT_TOTAL      = "total";
+    private static final String TAG_STAT_DAYS       = "days";
+
+    /**
+     * The number of most recent days synced to the client, covers the largest interval shown in the town hall.
+     */
+    private static final int SYNC_WINDOW_DAYS = 100;
 
     /**
      * Colony reference
@@ -32,7 +45,13 @@ public class StatisticsManager implements IStatisticsManager
     /**
      * The current stats of the colony.
      */
-    private final Map<String, Int2IntLinkedOpenHashMap> stats = new HashMap<>();
+    private final Map<String, Stat> stats = new HashMap<>();
+
+    /**
+     * The saved stats, read on first access so colonies nobody visits don't pay for it at world load.
+     */
+    @Nullable
+    private ListTag unloadedStats;
 
     /**
      * Create a new stat manager.
@@ -52,75 +71,101 @@ public class StatisticsManager implements IStatisticsManager
     @Override
     public void incrementBy(final @NotNull String id, int qty)
     {
-        final Int2IntLinkedOpenHashMap innerMap = stats.computeIfAbsent(id, k -> new Int2IntLinkedOpenHashMap());
-        innerMap.addTo(colony.getDay(), qty);
+        loadStats();
+        final Stat stat = stats.computeIfAbsent(id, k -> new Stat());
+        final int day = colony.getDay();
+        stat.trim(day, getRetentionDays());
+        stat.add(day, qty);
     }
 
     @Override
     public int getStatTotal(final @NotNull String id)
     {
-        final Int2IntLinkedOpenHashMap stats = this.stats.getOrDefault(id, new Int2IntLinkedOpenHashMap());
-        int totalCount = 0;
-        for (final int count : stats.values())
-        {
-            totalCount += count;
-        }
-        return totalCount;
+        loadStats();
+        final Stat stat = stats.get(id);
+        return stat == null ? 0 : stat.total;
     }
 
     @Override
     public int getStatsInPeriod(final @NotNull String id, final int startDay, final int endDay)
     {
-        final Int2IntLinkedOpenHashMap stats = this.stats.getOrDefault(id, new Int2IntLinkedOpenHashMap());
-        int count = 0;
-        for (int day = startDay; day <= endDay; day++)
-        {
-            count += stats.get(day);
-        }
-        return count;
+        loadStats();
+        final Stat stat = stats.get(id);
+        return stat == null ? 0 : stat.getInPeriod(startDay, endDay);
     }
 
     @Override
     public @NotNull Set<String> getStatTypes()
     {
+        loadStats();
         return stats.keySet();
     }
 
     @Override
     public void serialize(@NotNull final FriendlyByteBuf buf)
     {
-        final CompoundTag statsCompound = new CompoundTag();
-        writeToNBT(statsCompound);
-        buf.writeNbt(statsCompound);
+        loadStats();
+        buf.writeVarInt(stats.size());
+        for (final Map.Entry<String, Stat> entry : stats.entrySet())
+        {
+            final Stat stat = entry.getValue();
+            final int start = Math.max(0, stat.length - SYNC_WINDOW_DAYS);
+
+            buf.writeUtf(entry.getKey());
+            buf.writeVarInt(stat.total);
+            buf.writeVarInt(stat.firstDay + start);
+            buf.writeVarInt(stat.length - start);
+            for (int i = start; i < stat.length; i++)
+            {
+                buf.writeVarInt(stat.getCount(i));
+            }
+        }
     }
 
     @Override
     public void deserialize(@NotNull final FriendlyByteBuf buf)
     {
-        readFromNBT(buf.readNbt());
+        unloadedStats = null;
+        stats.clear();
+        final int size = buf.readVarInt();
+        for (int i = 0; i < size; i++)
+        {
+            final String id = buf.readUtf();
+            final int total = buf.readVarInt();
+            final int firstDay = buf.readVarInt();
+            final int[] counts = new int[buf.readVarInt()];
+            for (int j = 0; j < counts.length; j++)
+            {
+                counts[j] = buf.readVarInt();
+            }
+
+            stats.put(id, new Stat(total, firstDay, counts));
+        }
     }
 
     @Override
     public void writeToNBT(@NotNull final CompoundTag compound)
     {
-        final ListTag statManagerNBT = new ListTag();
-        for (final Map.Entry<String, Int2IntLinkedOpenHashMap> stat : stats.entrySet())
+        if (unloadedStats != null && stats.isEmpty())
         {
-            final CompoundTag statCompound = new CompoundTag();
-            statCompound.putString(TAG_ID, stat.getKey());
-
-            final ListTag statNBT = new ListTag();
-            for (final Map.Entry<Integer, Integer> dailyStats : stat.getValue().entrySet())
-            {
-                final CompoundTag timeStampTag = new CompoundTag();
+            compound.put(TAG_STAT_MANAGER, unloadedStats);
+            return;
+        }
+        loadStats();
 
-                timeStampTag.putInt(TAG_TIME, dailyStats.getKey());
-                timeStampTag.putInt(TAG_QUANTITY, dailyStats.getValue());
+        final int retention = getRetentionDays();
+        final ListTag statManagerNBT = new ListTag();
+        for (final Map.Entry<String, Stat> entry : stats.entrySet())
+        {
+            final Stat stat = entry.getValue();
+            stat.trim(colony.getDay(), retention);
 
-                statNBT.add(timeStampTag);
-            }
+            final CompoundTag statCompound = new CompoundTag();
+            statCompound.putString(TAG_ID, entry.getKey());
+            statCompound.putInt(TAG_STAT_TOTAL, stat.total);
+            statCompound.putInt(TAG_DAY, stat.firstDay);
+            statCompound.putIntArray(TAG_STAT_DAYS, stat.getCounts());
 
-            statCompound.put(TAG_STAT, statNBT);
             statManagerNBT.add(statCompound);
         }
 
@@ -132,24 +177,242 @@ public class StatisticsManager implements IStatisticsManager
     {
         if (compound.contains(TAG_STAT_MANAGER))
         {
-            final ListTag statsNbts = compound.getList(TAG_STAT_MANAGER, Tag.TAG_COMPOUND);
-            for (int i = 0; i < statsNbts.size(); i++)
+            // Stats of a previous read are kept unless overwritten, so apply those first.
+            loadStats();
+            unloadedStats = compound.getList(TAG_STAT_MANAGER, Tag.TAG_COMPOUND);
+        }
+    }
+
+    /**
+     * Read the saved stats, if not done yet.
+     */
+    private void loadStats()
+    {
+        if (unloadedStats == null)
+        {
+            return;
+        }
+
+        final ListTag statsNbts = unloadedStats;
+        unloadedStats = null;
+        for (int i = 0; i < statsNbts.size(); i++)
+        {
+            final CompoundTag statCompound = statsNbts.getCompound(i);
+            final String id = statCompound.getString(TAG_ID);
+            if (statCompound.contains(TAG_STAT_DAYS))
             {
-                final CompoundTag statCompound = statsNbts.getCompound(i);
-                final String id = statCompound.getString(TAG_ID);
-                final ListTag timeStampNbts = statCompound.getList(TAG_STAT, Tag.TAG_COMPOUND);
-                final Int2IntLinkedOpenHashMap timeStamps = new Int2IntLinkedOpenHashMap();
-                for (int j = 0; j < timeStampNbts.size(); j++)
-                {
-                    final CompoundTag compoundTag = timeStampNbts.getCompound(j);
-                    final int day = compoundTag.getInt(TAG_TIME);
-                    final int qty = compoundTag.getInt(TAG_QUANTITY);
+                stats.put(id, new Stat(statCompound.getInt(TAG_STAT_TOTAL), statCompound.getInt(TAG_DAY), statCompound.getIntArray(TAG_STAT_DAYS)));
+            }
+            else
+            {
+                stats.put(id, readLegacyStat(statCompound.getList(TAG_STAT, Tag.TAG_COMPOUND)));
+            }
+        }
+    }
+
+    /**
+     * Read a stat stored in the old format, one compound per day.
+     *
+     * @param timeStampNbts the list of daily compounds.
+     * @return the stat, trimmed to the retention window ending at its last recorded day.
+     */
+    private Stat readLegacyStat(final ListTag timeStampNbts)
+    {
+        final Int2IntAVLTreeMap timeStamps = new Int2IntAVLTreeMap();
+        for (int j = 0; j < timeStampNbts.size(); j++)
+        {
+            final CompoundTag compoundTag = timeStampNbts.getCompound(j);
+            timeStamps.addTo(compoundTag.getInt(TAG_TIME), compoundTag.getInt(TAG_QUANTITY));
+        }
+
+        final Stat stat = new Stat();
+        if (timeStamps.isEmpty())
+        {
+            return stat;
+        }
+
+        final int retention = getRetentionDays();
+        final int lastDay = timeStamps.lastIntKey();
+        for (final Int2IntMap.Entry entry : timeStamps.int2IntEntrySet())
+        {
+            if (entry.getIntKey() > lastDay - retention)
+            {
+                stat.add(entry.getIntKey(), entry.getIntValue());
+            }
+            else
+            {
+                stat.total += entry.getIntValue();
+            }
+        }
+        return stat;
+    }
+
+    /**
+     * Get the number of days kept per stat.
+     *
+     * @return the configured retention.
+     */
+    private static int getRetentionDays()
+    {
+        return MineColonies.getConfig().getServer().statisticsRetentionDays.get();
+    }
+
+    /**
+     * A single statistic, its running total and the prefix sums of the retained days.
+     */
+    private static final class Stat
+    {
+        /**
+         * The total since colony creation, including days no longer retained.
+         */
+        private int total;
+
+        /**
+         * The day the first prefix sum belongs to.
+         */
+        private int firstDay;
+
+        /**
+         * The number of days in the window.
+         */
+        private int length;
+
+        /**
+         * Prefix sums, prefix[i] is the sum of all days from firstDay to firstDay + i.
+         */
+        private int[] prefix;
+
+        /**
+         * Create an empty stat.
+         */
+        private Stat()
+        {
+            this.prefix = new int[8];
+        }
+
+        /**
+         * Create a stat from its stored daily counts.
+         *
+         * @param total    the total since colony creation.
+         * @param firstDay the day of the first count.
+         * @param counts   the daily counts.
+         */
+        private Stat(final int total, final int firstDay, final int[] counts)
+        {
+            this.total = total;
+            this.firstDay = firstDay;
+            this.length = counts.length;
+            this.prefix = new int[Math.max(8, counts.length)];
+            int sum = 0;
+            for (int i = 0; i < counts.length; i++)
+            {
+                sum += counts[i];
+                prefix[i] = sum;
+            }
+        }
+
+        /**
+         * Add a quantity to the given day.
+         *
+         * @param day the day.
+         * @param qty the quantity.
+         */
+        private void add(final int day, final int qty)
+        {
+            total += qty;
+            if (length == 0)
+            {
+                firstDay = day;
+            }
 
-                    timeStamps.put(day, qty);
+            final int index = day - firstDay;
+            if (index < 0)
+            {
+                // Before the retained window, only counts towards the total.
+                return;
+            }
+
+            if (index >= length)
+            {
+                if (index >= prefix.length)
+                {
+                    prefix = Arrays.copyOf(prefix, Math.max(index + 1, prefix.length * 2));
                 }
+                Arrays.fill(prefix, length, index + 1, length == 0 ? 0 : prefix[length - 1]);
+                length = index + 1;
+            }
+
+            for (int i = index; i < length; i++)
+            {
+                prefix[i] += qty;
+            }
+        }
+
+        /**
+         * Drop the days that fell out of the retention window. They remain part of the total.
+         *
+         * @param currentDay the current day.
+         * @param retention  the number of days to keep.
+         */
+        private void trim(final int currentDay, final int retention)
+        {
+            final int drop = Math.min(length, currentDay - retention + 1 - firstDay);
+            if (drop <= 0)
+            {
+                return;
+            }
 
-                stats.put(id, timeStamps);
+            final int base = prefix[drop - 1];
+            length -= drop;
+            for (int i = 0; i < length; i++)
+            {
+                prefix[i] = prefix[i + drop] - base;
+            }
+            firstDay += drop;
+        }
+
+        /**
+         * Get the count of the day at the given window index.
+         *
+         * @param index the index.
+         * @return the count of that day.
+         */
+        private int getCount(final int index)
+        {
+            return index == 0 ? prefix[0] : prefix[index] - prefix[index - 1];
+        }
+
+        /**
+         * Get the daily counts of the window.
+         *
+         * @return the counts, one per day starting at firstDay.
+         */
+        private int[] getCounts()
+        {
+            final int[] counts = new int[length];
+            for (int i = 0; i < length; i++)
+            {
+                counts[i] = getCount(i);
+            }
+            return counts;
+        }
+
+        /**
+         * Get the sum of the days in the given period, limited to the retained window.
+         *
+         * @param startDay the first day, inclusive.
+         * @param endDay   the last day, inclusive.
+         * @return the sum.
+         */
+        private int getInPeriod(final int startDay, final int endDay)
+        {
+            final int start = Math.max(0, startDay - firstDay);
+            final int end = Math.min(length - 1, endDay - firstDay);
+            if (start > end)
+            {
+                return 0;
             }
+            return prefix[end] - (start == 0 ? 0 : prefix[start - 1]);
         }
     }
 }
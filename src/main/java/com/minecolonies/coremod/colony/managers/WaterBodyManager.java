@@ -0,0 +1,517 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.colony.managers.interfaces.IWaterBodyManager;
+import com.minecolonies.api.util.Pond;
+import com.minecolonies.api.util.Tuple;
+import com.minecolonies.api.util.WaterBody;
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
+
+/**
+ * Catalogues the water bodies around the colony. Chunks are catalogued on demand, by flood filling the water surfaces found in them, and stay catalogued until a
+ * fluid or shore block in them changes, or they expire to catch changes no event was fired for.
+ */
+public class WaterBodyManager implements IWaterBodyManager
+{
+    /**
+     * Max number of chunks catalogued per call.
+     */
+    private static final int CHUNKS_PER_CATALOGUE = 8;
+
+    /**
+     * Max number of surface blocks of a single water body, so the sea is not flood filled as a whole.
+     */
+    private static final int MAX_BODY_SIZE = 4096;
+
+    /**
+     * Max number of fishing spots kept per water body.
+     */
+    private static final int MAX_SPOTS_PER_BODY = 16;
+
+    /**
+     * Min square distance between two fishing spots.
+     */
+    private static final int MIN_SPOT_DISTANCE_SQ = 40;
+
+    /**
+     * Ticks after which a catalogued chunk is catalogued again.
+     */
+    private static final long CHUNK_EXPIRY = 24000;
+
+    /**
+     * The colony of the manager.
+     */
+    private final IColony colony;
+
+    /**
+     * The game time every catalogued chunk was catalogued at.
+     */
+    private final Long2LongMap cataloguedChunks = new Long2LongOpenHashMap();
+
+    /**
+     * The water bodies touching every chunk.
+     */
+    private final Long2ObjectMap<List<CataloguedBody>> bodiesByChunk = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The water body of every catalogued surface column.
+     */
+    private final Long2ObjectMap<CataloguedBody> bodiesByColumn = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * All catalogued water bodies.
+     */
+    private final List<CataloguedBody> bodies = new ArrayList<>();
+
+    /**
+     * Creates the water body manager for a colony.
+     *
+     * @param colony the colony.
+     */
+    public WaterBodyManager(@NotNull final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Notify the water body managers of the colonies claiming the chunk of a change, found through the chunk capability. Changes in unclaimed chunks are caught when
+     * the catalogued chunk expires.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     * @param fluid true if a fluid was placed or removed, else another block changed.
+     */
+    public static void markChanged(@NotNull final Level world, @NotNull final BlockPos pos, final boolean fluid)
+    {
+        final LevelChunk chunk = world.getChunkSource().getChunkNow(pos.getX() >> 4, pos.getZ() >> 4);
+        if (chunk == null)
+        {
+            return;
+        }
+
+        final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null).resolve().orElse(null);
+        if (cap == null)
+        {
+            return;
+        }
+
+        final int owningColony = cap.getOwningColony();
+        if (owningColony != 0)
+        {
+            markChanged(world, owningColony, pos, fluid);
+        }
+        for (final int colonyId : cap.getStaticClaimColonies())
+        {
+            if (colonyId != owningColony)
+            {
+                markChanged(world, colonyId, pos, fluid);
+            }
+        }
+    }
+
+    /**
+     * Notify the water body manager of a colony of a change.
+     *
+     * @param world    the world.
+     * @param colonyId the id of the colony.
+     * @param pos      the changed position.
+     * @param fluid    true if a fluid was placed or removed, else another block changed.
+     */
+    private static void markChanged(@NotNull final Level world, final int colonyId, @NotNull final BlockPos pos, final boolean fluid)
+    {
+        final IColony colony = IColonyManager.getInstance().getColonyByWorld(colonyId, world);
+        if (colony == null)
+        {
+            return;
+        }
+
+        if (fluid)
+        {
+            colony.getWaterBodyManager().onFluidChanged(pos);
+        }
+        else
+        {
+            colony.getWaterBodyManager().onBlockChanged(pos);
+        }
+    }
+
+    @Override
+    public boolean catalogue(@NotNull final BlockPos center, final int range)
+    {
+        final Level world = colony.getWorld();
+        if (world == null)
+        {
+            return false;
+        }
+
+        final long expiry = world.getGameTime() - CHUNK_EXPIRY;
+        int catalogued = 0;
+        for (int chunkX = (center.getX() - range) >> 4; chunkX <= (center.getX() + range) >> 4; chunkX++)
+        {
+            for (int chunkZ = (center.getZ() - range) >> 4; chunkZ <= (center.getZ() + range) >> 4; chunkZ++)
+            {
+                final long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+                if (cataloguedChunks.containsKey(chunkKey) && cataloguedChunks.get(chunkKey) > expiry)
+                {
+                    continue;
+                }
+
+                final LevelChunk chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if (chunk == null)
+                {
+                    continue;
+                }
+
+                if (catalogued >= CHUNKS_PER_CATALOGUE)
+                {
+                    return false;
+                }
+
+                invalidateChunk(chunkKey);
+                catalogueChunk(world, chunk);
+                cataloguedChunks.put(chunkKey, world.getGameTime());
+                catalogued++;
+            }
+        }
+        return true;
+    }
+
+    @NotNull
+    @Override
+    public List<WaterBody> getWaterBodies(@NotNull final BlockPos center, final int range)
+    {
+        final List<WaterBody> result = new ArrayList<>();
+        for (final CataloguedBody body : bodies)
+        {
+            for (final Tuple<BlockPos, BlockPos> spot : body.body.getFishingSpots())
+            {
+                if (isInRange(spot.getB(), center, range))
+                {
+                    result.add(body.body);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    @Override
+    public Tuple<BlockPos, BlockPos> findFishingSpot(@NotNull final BlockPos center, final int range, @NotNull final List<Tuple<BlockPos, BlockPos>> excluded)
+    {
+        Tuple<BlockPos, BlockPos> best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (final CataloguedBody body : bodies)
+        {
+            for (final Tuple<BlockPos, BlockPos> spot : body.body.getFishingSpots())
+            {
+                final double distance = spot.getB().distSqr(center);
+                if (distance >= bestDistance || !isInRange(spot.getB(), center, range) || isCloseToAny(spot, excluded))
+                {
+                    continue;
+                }
+
+                best = spot;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public void discardFishingSpot(@NotNull final Tuple<BlockPos, BlockPos> spot)
+    {
+        final CataloguedBody body = bodiesByColumn.get(columnKey(spot.getA().getX(), spot.getA().getZ()));
+        if (body != null)
+        {
+            body.body.removeFishingSpot(spot);
+        }
+    }
+
+    @Override
+    public void onBlockChanged(@NotNull final BlockPos pos)
+    {
+        final long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        final List<CataloguedBody> chunkBodies = bodiesByChunk.get(chunkKey);
+        if (chunkBodies == null)
+        {
+            return;
+        }
+
+        for (final CataloguedBody body : chunkBodies)
+        {
+            if (body.body.isNear(pos))
+            {
+                invalidateChunk(chunkKey);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onFluidChanged(@NotNull final BlockPos pos)
+    {
+        invalidateChunk(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+    }
+
+    /**
+     * Forget a chunk and every water body touching it. The other chunks those bodies touch are forgotten as well, so the bodies are rebuilt as a whole.
+     *
+     * @param chunkKey the chunk.
+     */
+    private void invalidateChunk(final long chunkKey)
+    {
+        cataloguedChunks.remove(chunkKey);
+        final List<CataloguedBody> chunkBodies = bodiesByChunk.remove(chunkKey);
+        if (chunkBodies == null)
+        {
+            return;
+        }
+
+        for (final CataloguedBody body : chunkBodies)
+        {
+            bodies.remove(body);
+            for (final LongIterator iterator = body.columns.iterator(); iterator.hasNext(); )
+            {
+                bodiesByColumn.remove(iterator.nextLong());
+            }
+
+            for (final LongIterator iterator = body.chunks.iterator(); iterator.hasNext(); )
+            {
+                final long otherChunk = iterator.nextLong();
+                cataloguedChunks.remove(otherChunk);
+                final List<CataloguedBody> otherBodies = bodiesByChunk.get(otherChunk);
+                if (otherBodies != null)
+                {
+                    otherBodies.remove(body);
+                    if (otherBodies.isEmpty())
+                    {
+                        bodiesByChunk.remove(otherChunk);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Flood fill every water surface in a chunk which is not part of a water body yet.
+     *
+     * @param world the world.
+     * @param chunk the chunk.
+     */
+    private void catalogueChunk(@NotNull final Level world, @NotNull final LevelChunk chunk)
+    {
+        final ChunkPos chunkPos = chunk.getPos();
+        for (int x = chunkPos.getMinBlockX(); x <= chunkPos.getMaxBlockX(); x++)
+        {
+            for (int z = chunkPos.getMinBlockZ(); z <= chunkPos.getMaxBlockZ(); z++)
+            {
+                if (bodiesByColumn.containsKey(columnKey(x, z)))
+                {
+                    continue;
+                }
+
+                final int y = chunk.getHeight(Heightmap.Types.WORLD_SURFACE, x & 15, z & 15);
+                if (chunk.getBlockState(new BlockPos(x, y, z)).getBlock() == Blocks.WATER)
+                {
+                    floodFill(world, x, y, z);
+                }
+            }
+        }
+    }
+
+    /**
+     * Flood fill a water surface and register it as a water body.
+     *
+     * @param world the world.
+     * @param x     the x coordinate of the first surface block.
+     * @param y     the height of the surface.
+     * @param z     the z coordinate of the first surface block.
+     */
+    private void floodFill(@NotNull final Level world, final int x, final int y, final int z)
+    {
+        final CataloguedBody body = new CataloguedBody();
+        final List<Tuple<BlockPos, BlockPos>> spots = new ArrayList<>();
+        final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        int minX = x;
+        int minZ = z;
+        int maxX = x;
+        int maxZ = z;
+
+        body.columns.add(columnKey(x, z));
+        queue.enqueue(columnKey(x, z));
+        while (!queue.isEmpty())
+        {
+            final long column = queue.dequeueLong();
+            final BlockPos water = new BlockPos(BlockPos.getX(column), y, BlockPos.getZ(column));
+            body.chunks.add(ChunkPos.asLong(water.getX() >> 4, water.getZ() >> 4));
+            minX = Math.min(minX, water.getX());
+            minZ = Math.min(minZ, water.getZ());
+            maxX = Math.max(maxX, water.getX());
+            maxZ = Math.max(maxZ, water.getZ());
+
+            for (final Direction direction : Direction.Plane.HORIZONTAL)
+            {
+                final BlockPos next = water.relative(direction);
+                final long nextColumn = columnKey(next.getX(), next.getZ());
+                if (body.columns.contains(nextColumn) || bodiesByColumn.containsKey(nextColumn))
+                {
+                    continue;
+                }
+
+                final BlockState state = getStateIfLoaded(world, next);
+                if (state == null)
+                {
+                    continue;
+                }
+
+                if (state.getBlock() == Blocks.WATER)
+                {
+                    final BlockState above = getStateIfLoaded(world, next.above());
+                    if (above != null && above.isAir() && body.columns.size() < MAX_BODY_SIZE)
+                    {
+                        body.columns.add(nextColumn);
+                        queue.enqueue(nextColumn);
+                    }
+                }
+                else if (state.getMaterial().isSolid() && spots.size() < MAX_SPOTS_PER_BODY)
+                {
+                    addFishingSpot(world, spots, water, next.above());
+                }
+            }
+        }
+
+        body.body = new WaterBody(y, minX, minZ, maxX, maxZ, body.columns.size(), spots);
+        bodies.add(body);
+        for (final LongIterator iterator = body.columns.iterator(); iterator.hasNext(); )
+        {
+            bodiesByColumn.put(iterator.nextLong(), body);
+        }
+        for (final LongIterator iterator = body.chunks.iterator(); iterator.hasNext(); )
+        {
+            bodiesByChunk.computeIfAbsent(iterator.nextLong(), key -> new ArrayList<>()).add(body);
+        }
+    }
+
+    /**
+     * Add a fishing spot if the fisherman can stand there, the water is big enough and there is no other spot close by.
+     *
+     * @param world the world.
+     * @param spots the spots found so far.
+     * @param water the water to fish in.
+     * @param stand the position to stand on.
+     */
+    private static void addFishingSpot(
+      @NotNull final Level world,
+      @NotNull final List<Tuple<BlockPos, BlockPos>> spots,
+      @NotNull final BlockPos water,
+      @NotNull final BlockPos stand)
+    {
+        for (final Tuple<BlockPos, BlockPos> spot : spots)
+        {
+            if (spot.getB().distSqr(stand) < MIN_SPOT_DISTANCE_SQ)
+            {
+                return;
+            }
+        }
+
+        final BlockState feet = getStateIfLoaded(world, stand);
+        final BlockState head = getStateIfLoaded(world, stand.above());
+        if (feet == null || head == null
+              || feet.getMaterial().isSolid() || feet.getMaterial().isLiquid()
+              || head.getMaterial().isSolid() || head.getMaterial().isLiquid())
+        {
+            return;
+        }
+
+        if (Pond.checkWater(world, water))
+        {
+            spots.add(new Tuple<>(water, stand));
+        }
+    }
+
+    /**
+     * Check if a fishing spot is one of or close to the given spots.
+     *
+     * @param spot  the spot.
+     * @param spots the spots to compare to.
+     * @return true if so.
+     */
+    private static boolean isCloseToAny(@NotNull final Tuple<BlockPos, BlockPos> spot, @NotNull final List<Tuple<BlockPos, BlockPos>> spots)
+    {
+        for (final Tuple<BlockPos, BlockPos> other : spots)
+        {
+            if (other.equals(spot) || other.getB().distSqr(spot.getB()) < MIN_SPOT_DISTANCE_SQ)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if a position is in the horizontal range of another.
+     *
+     * @param pos    the position.
+     * @param center the center of the range.
+     * @param range  the range.
+     * @return true if so.
+     */
+    private static boolean isInRange(@NotNull final BlockPos pos, @NotNull final BlockPos center, final int range)
+    {
+        return Math.abs(pos.getX() - center.getX()) <= range && Math.abs(pos.getZ() - center.getZ()) <= range;
+    }
+
+    /**
+     * Get a block state without loading the chunk.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the state, or null if the chunk is not loaded.
+     */
+    @Nullable
+    private static BlockState getStateIfLoaded(@NotNull final Level world, @NotNull final BlockPos pos)
+    {
+        final LevelChunk chunk = world.getChunkSource().getChunkNow(pos.getX() >> 4, pos.getZ() >> 4);
+        return chunk == null ? null : chunk.getBlockState(pos);
+    }
+
+    /**
+     * Get the key of a column.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return the key.
+     */
+    private static long columnKey(final int x, final int z)
+    {
+        return BlockPos.asLong(x, 0, z);
+    }
+
+    /**
+     * A water body with the surface columns and chunks it covers.
+     */
+    private static final class CataloguedBody
+    {
+        private final LongSet columns = new LongOpenHashSet();
+        private final LongSet chunks  = new LongOpenHashSet();
+        private WaterBody body;
+    }
+}
@@ -14,6 +14,8 @@ import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.api.util.profiling.ColonyProfiler;
+import com.minecolonies.api.util.profiling.ProfilerSection;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedBlacklistAssignmentRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
@@ -171,7 +173,9 @@ public class RequestHandler implements IRequestHandler
             if (previousResolver == null)
             {
                 //Skip if attempt failed (aka attemptResult == null)
+                final long start = ColonyProfiler.start();
                 attemptResult = resolver.attemptResolveRequest(new WrappedBlacklistAssignmentRequestManager(manager, resolverTokenBlackList), request);
+                ColonyProfiler.end(ProfilerSection.REQUEST_ASSIGNMENT, resolver.getClass(), start);
                 if (attemptResult != null)
                 {
                     previousResolver = resolver;
@@ -183,7 +187,9 @@ public class RequestHandler implements IRequestHandler
                 final int currentResolverMetric = resolver.getSuitabilityMetric(request);
                 if (currentResolverMetric < previousMetric)
                 {
+                    final long start = ColonyProfiler.start();
                     @Nullable List<IToken<?>> tempAttemptResolveRequest = resolver.attemptResolveRequest(new WrappedBlacklistAssignmentRequestManager(manager, resolverTokenBlackList), request);
+                    ColonyProfiler.end(ProfilerSection.REQUEST_ASSIGNMENT, resolver.getClass(), start);
                     if (tempAttemptResolveRequest != null)
                     {
                         previousResolver = resolver;
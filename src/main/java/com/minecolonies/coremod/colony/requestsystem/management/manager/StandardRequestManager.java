@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.*;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
+import com.minecolonies.api.colony.requestsystem.factory.TypeDictionary;
 import com.minecolonies.api.colony.requestsystem.management.*;
 import com.minecolonies.api.colony.requestsystem.management.update.UpdateType;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
@@ -25,6 +26,7 @@ import com.minecolonies.coremod.colony.requestsystem.management.handlers.*;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -57,6 +59,8 @@ public class StandardRequestManager implements IStandardRequestManager
     private static final String NBT_ID_PLAYER                       = "PlayerRequestResolverId";
     private static final String NBT_ID_RETRYING                     = "RetryingRequestResolverId";
     private static final String NBT_VERSION                         = "Version";
+    private static final String NBT_FORMAT                          = "Format";
+    private static final String NBT_TYPE_DICTIONARY                 = "TypeDictionary";
     ////---------------------------NBTTags-------------------------\\\\
 
     private IToken<?> requestIdentitiesDataStoreId;
@@ -106,6 +110,12 @@ public class StandardRequestManager implements IStandardRequestManager
 
     private int version = -1;
 
+    /**
+     * The save format written by this manager. Format 1 refers to the stored types through a type dictionary written once per save, older saves carry the class
+     * name in every compound.
+     */
+    private static final int SAVE_FORMAT = 1;
+
     public StandardRequestManager(@NotNull final IColony colony)
     {
         this.colony = colony;
@@ -374,6 +384,30 @@ public class StandardRequestManager implements IStandardRequestManager
         getResolverHandler().onColonyUpdate(shouldTriggerReassign);
     }
 
+    /**
+     * Method used to wake the waiting requests matching a newly available stack. Only the player and retrying resolver hold waiting requests.
+     *
+     * @param stack The stack.
+     */
+    @Override
+    public void onItemsAvailable(@NotNull final ItemStack stack)
+    {
+        getPlayerResolver().onItemsAvailable(this, stack);
+        getRetryingRequestResolver().onItemsAvailable(this, stack);
+    }
+
+    /**
+     * Method used to wake the waiting requests of a newly resolvable type. Only the player and retrying resolver hold waiting requests.
+     *
+     * @param type The requestable type.
+     */
+    @Override
+    public void onRequestableTypeAvailable(@NotNull final Class<? extends IRequestable> type)
+    {
+        getPlayerResolver().onRequestableTypeAvailable(this, type);
+        getRetryingRequestResolver().onRequestableTypeAvailable(this, type);
+    }
+
     /**
      * Get the player resolve.
      *
@@ -424,7 +458,23 @@ public class StandardRequestManager implements IStandardRequestManager
     {
         final CompoundTag systemCompound = new CompoundTag();
         systemCompound.putInt(NBT_VERSION, version);
+        systemCompound.putInt(NBT_FORMAT, SAVE_FORMAT);
 
+        final TypeDictionary dictionary = new TypeDictionary();
+        getFactoryController().withTypeDictionary(dictionary, () -> writeDataStores(systemCompound));
+        systemCompound.put(NBT_TYPE_DICTIONARY, dictionary.write());
+
+        return systemCompound;
+    }
+
+    /**
+     * Write the data stores and their ids into the given compound.
+     *
+     * @param systemCompound the compound to write to.
+     * @return the same compound.
+     */
+    private CompoundTag writeDataStores(final CompoundTag systemCompound)
+    {
         systemCompound.put(NBT_DATASTORE, getFactoryController().serialize(dataStoreManager));
         systemCompound.put(NBT_ID_REQUEST_IDENTITIES, getFactoryController().serialize(requestIdentitiesDataStoreId));
         systemCompound.put(NBT_ID_REQUEST_RESOLVER_IDENTITIES, getFactoryController().serialize(requestResolverIdentitiesDataStoreId));
@@ -451,6 +501,27 @@ public class StandardRequestManager implements IStandardRequestManager
           CompoundTag::getInt,
           v -> version = v);
 
+        final TypeDictionary dictionary = nbt.getInt(NBT_FORMAT) >= SAVE_FORMAT
+                                            ? TypeDictionary.read(nbt.getList(NBT_TYPE_DICTIONARY, Tag.TAG_STRING))
+                                            : new TypeDictionary();
+        getFactoryController().withTypeDictionary(dictionary, () -> readDataStores(nbt));
+
+        if (dataStoreManager == null)
+        {
+            reset();
+        }
+
+        updateIfRequired();
+    }
+
+    /**
+     * Read the data stores and their ids from the given compound.
+     *
+     * @param nbt the compound to read from.
+     * @return the same compound.
+     */
+    private CompoundTag readDataStores(final CompoundTag nbt)
+    {
         executeDeserializationStepOrMarkForUpdate(nbt,
           NBT_DATASTORE,
           CompoundTag::getCompound,
@@ -487,12 +558,7 @@ public class StandardRequestManager implements IStandardRequestManager
           CompoundTag::getCompound,
           c -> retryingRequestResolverId = getFactoryController().deserialize(c));
 
-        if (dataStoreManager == null)
-        {
-            reset();
-        }
-
-        updateIfRequired();
+        return nbt;
     }
 
     @Override
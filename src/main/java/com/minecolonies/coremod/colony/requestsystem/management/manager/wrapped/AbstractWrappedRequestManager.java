@@ -283,6 +283,18 @@ public abstract class AbstractWrappedRequestManager implements IRequestManager
         throw new UnsupportedOperationException("This method cannot be used by Wrapped Request Managers!");
     }
 
+    @Override
+    public void onItemsAvailable(@NotNull final ItemStack stack)
+    {
+        throw new UnsupportedOperationException("This method cannot be used by Wrapped Request Managers!");
+    }
+
+    @Override
+    public void onRequestableTypeAvailable(@NotNull final Class<? extends IRequestable> type)
+    {
+        throw new UnsupportedOperationException("This method cannot be used by Wrapped Request Managers!");
+    }
+
     @Override
     public Logger getLogger()
     {
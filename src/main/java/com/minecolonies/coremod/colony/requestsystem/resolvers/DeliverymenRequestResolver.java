@@ -34,6 +34,13 @@ import java.util.List;
  */
 public abstract class DeliverymenRequestResolver<R extends IRequestable> extends AbstractRequestResolver<R>
 {
+    /**
+     * The request a courier was last chosen for, with the courier and its score and queue position.
+     */
+    private IToken<?>              chosenRequest;
+    private ICitizenData           chosenCourier;
+    private Tuple<Double, Integer> chosenScore;
+
     public DeliverymenRequestResolver(
       @NotNull final ILocation location,
       @NotNull final IToken<?> token)
@@ -94,23 +101,7 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
             return null;
         }
 
-        ICitizenData chosenCourier = null;
-
-        Tuple<Double, Integer> bestScore = null;
-        for (final ICitizenData citizen : getResolveAbleDeliverymen(manager))
-        {
-            if (citizen.isWorking())
-            {
-                Tuple<Double, Integer> localScore = ((JobDeliveryman) citizen.getJob()).getScoreForDelivery(request);
-                if (bestScore == null || localScore.getA() < bestScore.getA())
-                {
-                    bestScore = localScore;
-                    chosenCourier = citizen;
-                }
-            }
-        }
-
-        if (chosenCourier == null)
+        if (!chooseCourier(manager, request))
         {
             return null;
         }
@@ -121,17 +112,42 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
     @Override
     public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends R> request) throws RuntimeException
     {
-        ICitizenData chosenCourier = null;
+        // The request is usually resolved right after the attempt, reuse the courier chosen then.
+        if (!request.getId().equals(chosenRequest) || !chosenCourier.isWorking() || !(chosenCourier.getJob() instanceof JobDeliveryman))
+        {
+            if (!chooseCourier(manager, request))
+            {
+                return;
+            }
+        }
+
+        final JobDeliveryman job = (JobDeliveryman) chosenCourier.getJob();
+        job.addRequest(request.getId(), chosenScore.getB());
+        chosenRequest = null;
+        chosenCourier = null;
+        chosenScore = null;
+    }
 
-        Tuple<Double, Integer> bestScore = null;
+    /**
+     * Choose the courier whose route the request fits best.
+     *
+     * @param manager the request manager.
+     * @param request the request.
+     * @return true if a courier was found.
+     */
+    private boolean chooseCourier(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends R> request)
+    {
+        chosenRequest = null;
+        chosenCourier = null;
+        chosenScore = null;
         for (final ICitizenData citizen : getResolveAbleDeliverymen(manager))
         {
             if (citizen.isWorking())
             {
                 Tuple<Double, Integer> localScore = ((JobDeliveryman) citizen.getJob()).getScoreForDelivery(request);
-                if (bestScore == null || localScore.getA() < bestScore.getA())
+                if (chosenScore == null || localScore.getA() < chosenScore.getA())
                 {
-                    bestScore = localScore;
+                    chosenScore = localScore;
                     chosenCourier = citizen;
                 }
             }
@@ -139,11 +155,11 @@ public abstract class DeliverymenRequestResolver<R extends IRequestable> extends
 
         if (chosenCourier == null)
         {
-            return;
+            return false;
         }
 
-        final JobDeliveryman job = (JobDeliveryman) chosenCourier.getJob();
-        job.addRequest(request.getId(), bestScore.getB());
+        chosenRequest = request.getId();
+        return true;
     }
 
     @Nullable
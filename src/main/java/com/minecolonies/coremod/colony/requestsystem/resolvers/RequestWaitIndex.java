@@ -0,0 +1,162 @@
+package com.minecolonies.coremod.colony.requestsystem.resolvers;
+
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.requestable.StackList;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.ItemKey;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Index of the requests waiting in a resolver, by the requestable types and items of the request and its parents. Used to wake only the waiting requests which match
+ * a change, instead of testing all of them.
+ * <p>
+ * Requests are indexed lazily on the first lookup after they were added, as on load the requests are not known yet when the resolver is restored. Items are keyed
+ * ignoring damage and NBT, so the candidates are a superset of the matching requests and still have to be tested. Deliverables which can't be keyed by item, like
+ * tools or tags, are candidates for every item.
+ */
+public class RequestWaitIndex
+{
+    /**
+     * The requests which were added but not indexed yet.
+     */
+    private final Set<IToken<?>> pending = new HashSet<>();
+
+    /**
+     * The keys every indexed request was indexed with.
+     */
+    private final Map<IToken<?>, Set<Object>> keys = new HashMap<>();
+
+    /**
+     * The indexed requests by item key or requestable type.
+     */
+    private final Map<Object, Set<IToken<?>>> requests = new HashMap<>();
+
+    /**
+     * The indexed requests with a deliverable which can't be keyed by item.
+     */
+    private final Set<IToken<?>> anyItem = new HashSet<>();
+
+    /**
+     * Add a waiting request.
+     *
+     * @param token the token of the request.
+     */
+    public void add(@NotNull final IToken<?> token)
+    {
+        if (!keys.containsKey(token))
+        {
+            pending.add(token);
+        }
+    }
+
+    /**
+     * Remove a request which is not waiting anymore.
+     *
+     * @param token the token of the request.
+     */
+    public void remove(@NotNull final IToken<?> token)
+    {
+        pending.remove(token);
+        anyItem.remove(token);
+        final Set<Object> requestKeys = keys.remove(token);
+        if (requestKeys != null)
+        {
+            for (final Object key : requestKeys)
+            {
+                final Set<IToken<?>> tokens = requests.get(key);
+                tokens.remove(token);
+                if (tokens.isEmpty())
+                {
+                    requests.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove all requests.
+     */
+    public void clear()
+    {
+        pending.clear();
+        keys.clear();
+        requests.clear();
+        anyItem.clear();
+    }
+
+    /**
+     * Get the waiting requests which might be delivered with the given stack.
+     *
+     * @param manager the request manager.
+     * @param stack   the stack.
+     * @return the tokens of the candidates.
+     */
+    @NotNull
+    public Set<IToken<?>> getCandidates(@NotNull final IRequestManager manager, @NotNull final ItemStack stack)
+    {
+        indexPending(manager);
+        final Set<IToken<?>> candidates = new HashSet<>(anyItem);
+        candidates.addAll(requests.getOrDefault(ItemKey.of(stack, true, true), Collections.emptySet()));
+        return candidates;
+    }
+
+    /**
+     * Get the waiting requests which have the given requestable type in their chain.
+     *
+     * @param manager the request manager.
+     * @param type    the exact requestable type.
+     * @return the tokens of the candidates.
+     */
+    @NotNull
+    public Set<IToken<?>> getCandidates(@NotNull final IRequestManager manager, @NotNull final Class<?> type)
+    {
+        indexPending(manager);
+        return new HashSet<>(requests.getOrDefault(type, Collections.emptySet()));
+    }
+
+    /**
+     * Index the added requests with the keys of the request and its parents, which the resolvers also test on a change.
+     *
+     * @param manager the request manager.
+     */
+    private void indexPending(@NotNull final IRequestManager manager)
+    {
+        for (final IToken<?> token : pending)
+        {
+            final Set<Object> requestKeys = new HashSet<>();
+            IRequest<?> request = manager.getRequestForToken(token);
+            while (request != null)
+            {
+                final Object requestable = request.getRequest();
+                requestKeys.add(requestable.getClass());
+                if (requestable instanceof Stack)
+                {
+                    requestKeys.add(ItemKey.of(((Stack) requestable).getStack(), true, true));
+                }
+                else if (requestable instanceof StackList)
+                {
+                    ((StackList) requestable).getStacks().forEach(stack -> requestKeys.add(ItemKey.of(stack, true, true)));
+                }
+                else if (requestable instanceof IDeliverable)
+                {
+                    anyItem.add(token);
+                }
+
+                request = request.hasParent() ? manager.getRequestForToken(request.getParent()) : null;
+            }
+
+            keys.put(token, requestKeys);
+            for (final Object key : requestKeys)
+            {
+                requests.computeIfAbsent(key, k -> new HashSet<>()).add(token);
+            }
+        }
+        pending.clear();
+    }
+}
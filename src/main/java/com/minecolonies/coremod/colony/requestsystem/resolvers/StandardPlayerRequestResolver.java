@@ -48,6 +48,11 @@ public class StandardPlayerRequestResolver implements IPlayerRequestResolver
     @NotNull
     private final Set<IToken<?>> assignedRequests = new HashSet<>();
 
+    /**
+     * Index of the assigned requests, to find the ones matching a change.
+     */
+    private final RequestWaitIndex waitIndex = new RequestWaitIndex();
+
     public StandardPlayerRequestResolver(@NotNull final ILocation location, @NotNull final IToken<?> token)
     {
         super();
@@ -133,12 +138,14 @@ public class StandardPlayerRequestResolver implements IPlayerRequestResolver
             }
         }
         assignedRequests.add(request.getId());
+        waitIndex.add(request.getId());
     }
 
     @Override
     public void onAssignedRequestBeingCancelled(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IRequestable> request)
     {
         assignedRequests.remove(request.getId());
+        waitIndex.remove(request.getId());
     }
 
     @Override
@@ -176,12 +183,43 @@ public class StandardPlayerRequestResolver implements IPlayerRequestResolver
     public void onSystemReset()
     {
         assignedRequests.clear();
+        waitIndex.clear();
     }
 
     @Override
     public void onColonyUpdate(@NotNull final IRequestManager manager, @NotNull final Predicate<IRequest<?>> shouldTriggerReassign)
     {
-        new ArrayList<>(assignedRequests).stream()
+        reassignMatching(manager, shouldTriggerReassign, new ArrayList<>(assignedRequests));
+    }
+
+    @Override
+    public void onItemsAvailable(@NotNull final IRequestManager manager, @NotNull final ItemStack stack)
+    {
+        reassignMatching(manager,
+          request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(stack),
+          waitIndex.getCandidates(manager, stack));
+    }
+
+    @Override
+    public void onRequestableTypeAvailable(@NotNull final IRequestManager manager, @NotNull final Class<? extends IRequestable> type)
+    {
+        reassignMatching(manager, request -> type.isInstance(request.getRequest()), waitIndex.getCandidates(manager, type));
+    }
+
+    /**
+     * Reassign the given assigned requests, or their parents, which match the predicate.
+     *
+     * @param manager               the request manager.
+     * @param shouldTriggerReassign the predicate.
+     * @param tokens                the tokens of the requests to check, tokens which are not assigned to this resolver are ignored.
+     */
+    private void reassignMatching(
+      @NotNull final IRequestManager manager,
+      @NotNull final Predicate<IRequest<?>> shouldTriggerReassign,
+      @NotNull final Collection<IToken<?>> tokens)
+    {
+        tokens.stream()
+          .filter(assignedRequests::contains)
           .map(manager::getRequestForToken)
           .forEach(request ->
           {
@@ -193,6 +231,7 @@ public class StandardPlayerRequestResolver implements IPlayerRequestResolver
                       if (newResolverToken != null && !newResolverToken.equals(token))
                       {
                           assignedRequests.remove(request.getId());
+                          waitIndex.remove(request.getId());
                       }
                   }
                   else
@@ -213,6 +252,7 @@ public class StandardPlayerRequestResolver implements IPlayerRequestResolver
                               if (newResolverToken != getId())
                               {
                                   assignedRequests.remove(request.getId());
+                                  waitIndex.remove(request.getId());
                                   break;
                               }
                           }
@@ -226,5 +266,7 @@ public class StandardPlayerRequestResolver implements IPlayerRequestResolver
     {
         this.assignedRequests.clear();
         this.assignedRequests.addAll(assignedRequests);
+        this.waitIndex.clear();
+        assignedRequests.forEach(waitIndex::add);
     }
 }
@@ -8,6 +8,8 @@ import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.requestable.IRetryable;
 import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
@@ -16,6 +18,7 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.world.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -36,6 +39,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     private       IToken<?>                   current;
     private final HashMap<IToken<?>, Integer> delays           = new HashMap<>();
     private final HashMap<IToken<?>, Integer> assignedRequests = new HashMap<>();
+    private final RequestWaitIndex            waitIndex        = new RequestWaitIndex();
 
     public StandardRetryingRequestResolver(final IFactoryController factoryController, final IRequestManager manager)
     {
@@ -107,6 +111,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         delays.put(request.getId(), getMaximalDelayBetweenRetriesInTicks());
         assignedRequests.put(request.getId(), assignedRequests.containsKey(request.getId()) ? assignedRequests.get(request.getId()) + 1 : 1);
+        waitIndex.add(request.getId());
     }
 
     @Nullable
@@ -125,6 +130,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
         {
             delays.remove(request.getId());
             assignedRequests.remove(request.getId());
+            waitIndex.remove(request.getId());
         }
     }
 
@@ -169,6 +175,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
             catch (Exception ex)
             {
                 assignedRequests.remove(t);
+                waitIndex.remove(t);
                 delays.remove(t);
                 return false;
             }
@@ -180,6 +187,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
             if (resultingResolver != null && !resultingResolver.equals(getId()))
             {
                 assignedRequests.remove(t);
+                waitIndex.remove(t);
                 delays.remove(t);
             }
 
@@ -203,6 +211,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     public void onSystemReset()
     {
         assignedRequests.clear();
+        waitIndex.clear();
         delays.clear();
     }
 
@@ -247,6 +256,8 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         this.assignedRequests.clear();
         this.assignedRequests.putAll(newAssignedRequests);
+        this.waitIndex.clear();
+        newAssignedRequests.keySet().forEach(waitIndex::add);
 
         this.delays.clear();
         this.delays.putAll(newDelays);
@@ -265,7 +276,37 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void onColonyUpdate(@NotNull final IRequestManager manager, @NotNull final Predicate<IRequest<?>> shouldTriggerReassign)
     {
-        new ArrayList<>(assignedRequests.keySet()).stream()
+        reassignMatching(manager, shouldTriggerReassign, new ArrayList<>(assignedRequests.keySet()));
+    }
+
+    @Override
+    public void onItemsAvailable(@NotNull final IRequestManager manager, @NotNull final ItemStack stack)
+    {
+        reassignMatching(manager,
+          request -> request.getRequest() instanceof IDeliverable && ((IDeliverable) request.getRequest()).matches(stack),
+          waitIndex.getCandidates(manager, stack));
+    }
+
+    @Override
+    public void onRequestableTypeAvailable(@NotNull final IRequestManager manager, @NotNull final Class<? extends IRequestable> type)
+    {
+        reassignMatching(manager, request -> type.isInstance(request.getRequest()), waitIndex.getCandidates(manager, type));
+    }
+
+    /**
+     * Reassign the given assigned requests, or their parents, which match the predicate.
+     *
+     * @param manager               the request manager.
+     * @param shouldTriggerReassign the predicate.
+     * @param tokens                the tokens of the requests to check, tokens which are not assigned to this resolver are ignored.
+     */
+    private void reassignMatching(
+      @NotNull final IRequestManager manager,
+      @NotNull final Predicate<IRequest<?>> shouldTriggerReassign,
+      @NotNull final Collection<IToken<?>> tokens)
+    {
+        tokens.stream()
+          .filter(assignedRequests::containsKey)
           .map(manager::getRequestForToken)
           .forEach(request ->
           {
@@ -277,6 +318,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
                       if (newResolverToken != null && !newResolverToken.equals(getId()))
                       {
                           assignedRequests.remove(request.getId());
+                          waitIndex.remove(request.getId());
                       }
                   }
                   else
@@ -297,6 +339,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
                               if (newResolverToken != getId())
                               {
                                   assignedRequests.remove(request.getId());
+                                  waitIndex.remove(request.getId());
                                   break;
                               }
                           }
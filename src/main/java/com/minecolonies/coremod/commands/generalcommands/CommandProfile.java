@@ -0,0 +1,169 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.util.profiling.ColonyProfiler;
+import com.minecolonies.coremod.colony.ColonyWorkScheduler;
+import com.minecolonies.coremod.commands.commandTypes.IMCCommand;
+import com.minecolonies.coremod.commands.commandTypes.IMCOPCommand;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+import static com.minecolonies.api.util.constant.translation.CommandTranslationConstants.*;
+
+/**
+ * Controls the colony profiler: start, stop, reset, report the top entries or dump the full report to a file. The report also shows the colony work scheduler.
+ */
+public class CommandProfile implements IMCOPCommand
+{
+    /**
+     * Argument name of the number of report lines.
+     */
+    private static final String COUNT_ARG = "count";
+
+    /**
+     * Report lines shown when no count is given.
+     */
+    private static final int DEFAULT_REPORT_LINES = 10;
+
+    /**
+     * Shows the report by default.
+     *
+     * @param context the context of the command execution
+     */
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        return report(context, DEFAULT_REPORT_LINES);
+    }
+
+    /**
+     * Start the profiler.
+     *
+     * @param context the context of the command execution
+     * @return 1
+     */
+    private int start(final CommandContext<CommandSourceStack> context)
+    {
+        ColonyProfiler.startRecording();
+        context.getSource().sendSuccess(Component.translatable(COMMAND_PROFILE_STARTED), true);
+        return 1;
+    }
+
+    /**
+     * Stop the profiler.
+     *
+     * @param context the context of the command execution
+     * @return 1
+     */
+    private int stop(final CommandContext<CommandSourceStack> context)
+    {
+        ColonyProfiler.stopRecording();
+        context.getSource().sendSuccess(Component.translatable(COMMAND_PROFILE_STOPPED), true);
+        return 1;
+    }
+
+    /**
+     * Drop the recorded samples.
+     *
+     * @param context the context of the command execution
+     * @return 1
+     */
+    private int reset(final CommandContext<CommandSourceStack> context)
+    {
+        ColonyProfiler.reset();
+        context.getSource().sendSuccess(Component.translatable(COMMAND_PROFILE_RESET), true);
+        return 1;
+    }
+
+    /**
+     * Send the entries with the highest total time, then the state of the colony work scheduler and the colonies with the most scheduled work per tick.
+     *
+     * @param context the context of the command execution
+     * @param count   the number of entries.
+     * @return 1
+     */
+    private int report(final CommandContext<CommandSourceStack> context, final int count)
+    {
+        for (final String line : ColonyProfiler.getReport(count))
+        {
+            context.getSource().sendSuccess(Component.literal(line), false);
+        }
+
+        final ColonyWorkScheduler scheduler = ColonyWorkScheduler.getInstance();
+        context.getSource().sendSuccess(Component.translatable(COMMAND_PROFILE_SCHEDULER, scheduler.getQueuedCount()), false);
+        final List<IColony> colonies = new ArrayList<>(IColonyManager.getInstance().getAllColonies());
+        colonies.sort(Comparator.comparingDouble((IColony colony) -> scheduler.getAverageNanosPerTick(colony)).reversed());
+        for (int i = 0; i < colonies.size() && i < count; i++)
+        {
+            final IColony colony = colonies.get(i);
+            context.getSource().sendSuccess(Component.translatable(COMMAND_PROFILE_SCHEDULER_COLONY,
+              colony.getID(),
+              colony.getName(),
+              String.format("%.3f", scheduler.getAverageNanosPerTick(colony) / 1e6)), false);
+        }
+        return 1;
+    }
+
+    /**
+     * Write the full report to the minecolonies folder of the world.
+     *
+     * @param context the context of the command execution
+     * @return 1 if written, 0 if not.
+     */
+    private int dump(final CommandContext<CommandSourceStack> context)
+    {
+        final Path file = context.getSource()
+                            .getServer()
+                            .getWorldPath(LevelResource.ROOT)
+                            .resolve(FILENAME_MINECOLONIES_PATH)
+                            .resolve("profile-" + System.currentTimeMillis() + ".txt");
+        try
+        {
+            ColonyProfiler.dump(file);
+        }
+        catch (final IOException e)
+        {
+            context.getSource().sendFailure(Component.translatable(COMMAND_PROFILE_DUMP_FAILED, e.getMessage()));
+            return 0;
+        }
+
+        context.getSource().sendSuccess(Component.translatable(COMMAND_PROFILE_DUMPED, file.toString()), true);
+        return 1;
+    }
+
+    /**
+     * Name string of the command.
+     */
+    @Override
+    public String getName()
+    {
+        return "profile";
+    }
+
+    @Override
+    public LiteralArgumentBuilder<CommandSourceStack> build()
+    {
+        return IMCCommand.newLiteral(getName())
+                 .executes(this::checkPreConditionAndExecute)
+                 .then(IMCCommand.newLiteral("start").executes(executePreConditionCheck().then(this::start)))
+                 .then(IMCCommand.newLiteral("stop").executes(executePreConditionCheck().then(this::stop)))
+                 .then(IMCCommand.newLiteral("reset").executes(executePreConditionCheck().then(this::reset)))
+                 .then(IMCCommand.newLiteral("dump").executes(executePreConditionCheck().then(this::dump)))
+                 .then(IMCCommand.newLiteral("report")
+                         .executes(this::checkPreConditionAndExecute)
+                         .then(IMCCommand.newArgument(COUNT_ARG, IntegerArgumentType.integer(1))
+                                 .executes(executePreConditionCheck().then(context -> report(context, IntegerArgumentType.getInteger(context, COUNT_ARG))))));
+    }
+}
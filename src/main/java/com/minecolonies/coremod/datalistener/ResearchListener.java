@@ -9,6 +9,7 @@ import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.research.IGlobalResearchTree;
 import com.minecolonies.api.research.IResearchRequirement;
 import com.minecolonies.api.research.effects.IResearchEffect;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.Tuple;
 import com.minecolonies.coremod.research.GlobalResearch;
@@ -134,6 +135,8 @@ public class ResearchListener extends SimpleJsonResourceReloadListener
                     category.add(5f);
                 }
                 effectCategories.put(category.getId(), category);
+                // Intern the effect id, so colony effect tables are sized for all known effects up front.
+                ResearchEffectHandle.of(category.getId());
             }
             // Files which declare effect: or effectType:, but lack ID or have the wrong types are malformed.
             else if (effectJson.has(RESEARCH_EFFECT_PROP))
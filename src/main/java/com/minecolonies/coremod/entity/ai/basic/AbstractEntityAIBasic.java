@@ -92,6 +92,21 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
      */
     private static final int PICKUP_ATTEMPTS = 10;
 
+    /**
+     * Distance to the closest player within which the AI runs every tick.
+     */
+    private static final double FULL_DETAIL_DISTANCE = 64;
+
+    /**
+     * The AI tick rate while no player is close.
+     */
+    private static final int DISTANT_TICK_RATE = 4;
+
+    /**
+     * The AI tick rate while waiting for a request to be fulfilled.
+     */
+    private static final int DORMANT_TICK_RATE = 20;
+
     /**
      * The block the ai is currently working at or wants to work.
      */
@@ -187,6 +202,11 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
             and does not stop execution
            */
           new AIEventTarget(AIBlockingEventType.AI_BLOCKING, () -> true, this::updateVisualState, 20),
+          /*
+            Pick the tick rate of the AI,
+            does not stop execution
+           */
+          new AIEventTarget(AIBlockingEventType.AI_BLOCKING, () -> true, this::updateLevelOfDetail, TICKS_SECOND),
           /*
             If waitingForSomething returns true
             stop execution to wait for it.
@@ -472,6 +492,47 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
         return null;
     }
 
+    /**
+     * Lower the tick rate of the AI while no player is close or while it only waits for requests, and restore it once that changes. Delays and transition rates are
+     * counted in game ticks, so the worker works at the same pace, the AI just checks less often.
+     * <p>
+     * The level of detail only applies to states without transitions running every tick, those keep running every tick. Distant workers still run the full AI, there
+     * is no mode which progresses their work abstractly.
+     *
+     * @return null to continue execution.
+     */
+    private IAIState updateLevelOfDetail()
+    {
+        int tickRate = 1;
+        if (canReduceTickRate() && !building.getColony().getRaiderManager().isRaided())
+        {
+            if (getState() == NEEDS_ITEM && building.hasOpenSyncRequest(worker.getCitizenData()))
+            {
+                tickRate = DORMANT_TICK_RATE;
+            }
+            else if (!world.hasNearbyAlivePlayer(worker.getX(), worker.getY(), worker.getZ(), FULL_DETAIL_DISTANCE))
+            {
+                tickRate = DISTANT_TICK_RATE;
+            }
+        }
+
+        if (tickRate != getTickRate())
+        {
+            getStateAI().setTickRate(tickRate);
+        }
+        return null;
+    }
+
+    /**
+     * Check if the AI may run at a lower tick rate while no player is around or it waits for requests.
+     *
+     * @return true if so.
+     */
+    protected boolean canReduceTickRate()
+    {
+        return true;
+    }
+
     /**
      * Can be overridden in implementations.
      * <p>
@@ -1292,24 +1353,8 @@ public abstract class AbstractEntityAIBasic<J extends AbstractJob<?, J>, B exten
             return heldSlot >= 0 ? heldSlot : 0;
         }
 
-        int bestSlot = -1;
-        int bestLevel = Integer.MAX_VALUE;
-        @NotNull final InventoryCitizen inventory = worker.getInventoryCitizen();
         final int maxToolLevel = worker.getCitizenColonyHandler().getWorkBuilding().getMaxToolLevel();
-
-        for (int i = 0; i < worker.getInventoryCitizen().getSlots(); i++)
-        {
-            final ItemStack item = inventory.getStackInSlot(i);
-            final int level = ItemStackUtils.getMiningLevel(item, toolType);
-
-            if (level > -1 && level >= required && level < bestLevel && ItemStackUtils.verifyToolLevel(item, level, required, maxToolLevel))
-            {
-                bestSlot = i;
-                bestLevel = level;
-            }
-        }
-
-        return bestSlot;
+        return worker.getInventoryCitizen().getToolIndex().getBestSlot(toolType, required, maxToolLevel);
     }
 
     /**
@@ -5,6 +5,7 @@ import com.minecolonies.api.entity.ai.citizen.guards.GuardGear;
 import com.minecolonies.api.entity.ai.citizen.guards.GuardGearBuilder;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.InventoryFunctions;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -36,6 +37,11 @@ import static com.minecolonies.api.util.constant.ToolLevelConstants.*;
  */
 public abstract class AbstractEntityAIFight<J extends AbstractJobGuard<J>, B extends AbstractBuildingGuards> extends AbstractEntityAIInteract<J, B>
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle SHIELD_USAGE_EFFECT = ResearchEffectHandle.of(SHIELD_USAGE);
+
 
     /**
      * Tools and Items needed by the worker.
@@ -84,6 +90,13 @@ public abstract class AbstractEntityAIFight<J extends AbstractJobGuard<J>, B ext
         itemsNeeded.add(GuardGearBuilder.buildGearForLevel(ARMOR_LEVEL_LEATHER, ARMOR_LEVEL_GOLD, LEATHER_BUILDING_LEVEL_RANGE, GOLD_BUILDING_LEVEL_RANGE));
     }
 
+    @Override
+    protected boolean canReduceTickRate()
+    {
+        // Guards have to react to threats in time, also when nobody is watching.
+        return false;
+    }
+
     /**
      * Redirects the guard to their building.
      *
@@ -144,7 +157,7 @@ public abstract class AbstractEntityAIFight<J extends AbstractJobGuard<J>, B ext
                 {
                     continue;
                 }
-                if (item.getItemNeeded() == ToolType.SHIELD && worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SHIELD_USAGE) <= 0)
+                if (item.getItemNeeded() == ToolType.SHIELD && worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SHIELD_USAGE_EFFECT) <= 0)
                 {
                     continue;
                 }
@@ -26,6 +26,7 @@ import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.items.ModTags;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.MineColonies;
@@ -79,6 +80,11 @@ import static com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler.S
  */
 public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?, J>, B extends AbstractBuildingStructureBuilder> extends AbstractEntityAIInteract<J, B>
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle BLOCK_PLACE_SPEED_EFFECT = ResearchEffectHandle.of(BLOCK_PLACE_SPEED);
+
     /**
      * The current structure task to be build.
      */
@@ -107,15 +113,8 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
     /**
      * Predicate defining things we don't want the builders to ever touch.
      */
-    protected TriPredicate<BlueprintPositionInfo, BlockPos, IStructureHandler> DONT_TOUCH_PREDICATE = (info, worldPos, handler) ->
-    {
-        final BlockState worldState = handler.getWorld().getBlockState(worldPos);
-
-        return worldState.getBlock() instanceof IBuilderUndestroyable
-                 || worldState.getBlock() == Blocks.BEDROCK
-                 || (info.getBlockInfo().getState().getBlock() instanceof AbstractBlockHut && handler.getWorldPos().equals(worldPos)
-                       && worldState.getBlock() instanceof AbstractBlockHut);
-    };
+    protected TriPredicate<BlueprintPositionInfo, BlockPos, IStructureHandler> DONT_TOUCH_PREDICATE =
+      (info, worldPos, handler) -> isDontTouch(info.getBlockInfo().getState(), worldPos, handler);
 
     /**
      * Position where the Builders constructs from.
@@ -324,6 +323,24 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         return worker.isWorkerAtSiteWithMove(workFrom, STANDARD_WORKING_RANGE) || MathUtils.twoDimDistance(worker.blockPosition(), workFrom) < MIN_WORKING_RANGE;
     }
 
+    /**
+     * Check if the builder must never touch the given position.
+     *
+     * @param blueprintState the state the blueprint wants at the position.
+     * @param worldPos       the world position.
+     * @param handler        the structure handler.
+     * @return true if the position is left as it is.
+     */
+    protected static boolean isDontTouch(final BlockState blueprintState, final BlockPos worldPos, final IStructureHandler handler)
+    {
+        final BlockState worldState = handler.getWorld().getBlockState(worldPos);
+
+        return worldState.getBlock() instanceof IBuilderUndestroyable
+                 || worldState.getBlock() == Blocks.BEDROCK
+                 || (blueprintState.getBlock() instanceof AbstractBlockHut && handler.getWorldPos().equals(worldPos)
+                       && worldState.getBlock() instanceof AbstractBlockHut);
+    }
+
     /**
      * Checks for blocks that need to be treated as deco
      */
@@ -505,7 +522,7 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
 
         if (MineColonies.getConfig().getServer().builderBuildBlockDelay.get() > 0)
         {
-            final double decrease = 1 - worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_PLACE_SPEED);
+            final double decrease = 1 - worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_PLACE_SPEED_EFFECT);
 
             setDelay((int) (
               (MineColonies.getConfig().getServer().builderBuildBlockDelay.get() * PROGRESS_MULTIPLIER / (getPlaceSpeedLevel() / 2 + PROGRESS_MULTIPLIER))
@@ -26,6 +26,7 @@ import com.minecolonies.coremod.colony.colonyEvents.buildingEvents.BuildingUpgra
 import com.minecolonies.coremod.colony.jobs.AbstractJobStructure;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuilding;
 import com.minecolonies.coremod.colony.workorders.WorkOrderMiner;
+import com.minecolonies.coremod.entity.ai.util.BillOfMaterials;
 import com.minecolonies.coremod.entity.ai.util.BuildingStructureHandler;
 import com.minecolonies.coremod.entity.ai.util.WorkerLoadOnlyStructureHandler;
 import net.minecraft.core.BlockPos;
@@ -49,11 +50,17 @@ import static com.minecolonies.api.util.constant.StatisticsConstants.BUILD_REMOV
 public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJobStructure<?, J>, B extends AbstractBuildingStructureBuilder>
   extends AbstractEntityAIStructure<J, B>
 {
+    /**
+     * Max number of blueprint positions the bill of materials is computed or diffed for per call.
+     */
+    private static final int BILL_STEP = 1000;
+
     /**
      * Possible request stages
      */
     protected enum RequestStage
     {
+        BILL,
         SOLID,
         DECO,
         ENTITIES
@@ -69,6 +76,17 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
      */
     protected BlockPos requestProgress = null;
 
+    /**
+     * The bill of materials the needed resources are currently filled from.
+     */
+    @Nullable
+    private BillOfMaterials bill = null;
+
+    /**
+     * The index of the next bill position to diff against the world.
+     */
+    private int billProgress = 0;
+
     /**
      * Variable telling us if we already recalculated the list.
      * We don't want to persist this anywhere on purpose.
@@ -221,11 +239,68 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         return super.waitForRequests();
     }
 
+    /**
+     * Get the cached bill of materials of the blueprint of the work order.
+     *
+     * @param structure the load only handler of the blueprint.
+     * @return the bill or null if none is available and the passes have to be stepped through.
+     */
+    @Nullable
+    private BillOfMaterials getBill(final WorkerLoadOnlyStructureHandler<J, B> structure)
+    {
+        final IWorkOrder workOrder = job.getWorkOrder();
+        if (workOrder.getStructurePack() == null || workOrder.getStructurePath() == null)
+        {
+            return null;
+        }
+
+        return BillOfMaterials.get(workOrder.getStructurePack(), workOrder.getStructurePath(), workOrder.getRotation(), workOrder.isMirrored(), structure);
+    }
+
+    /**
+     * Fill the needed resources of the solid and deco pass from the bill of materials of the work order, one step per call. Every step computes more of the bill if
+     * it is not complete yet and diffs the computed positions against the world, so the first materials are requested right away also on large blueprints.
+     *
+     * @param structure the load only handler of the blueprint.
+     * @return true once all positions are diffed.
+     */
+    private boolean requestFromBill(final WorkerLoadOnlyStructureHandler<J, B> structure)
+    {
+        final BillOfMaterials current = getBill(structure);
+        if (current == null)
+        {
+            building.resetNeededResources();
+            bill = null;
+            billProgress = 0;
+            requestState = RequestStage.SOLID;
+            return false;
+        }
+
+        if (current != bill)
+        {
+            building.resetNeededResources();
+            bill = current;
+            billProgress = 0;
+        }
+
+        final boolean complete = bill.compute(structure, BILL_STEP);
+        billProgress = bill.forEachMissing(structure, billProgress, BILL_STEP, (pos, state) -> isDontTouch(state, pos, structure), this::getSolidSubstitution,
+          stack -> building.addNeededResource(stack, stack.getCount()));
+        if (!complete || billProgress < bill.size())
+        {
+            return false;
+        }
+
+        bill = null;
+        billProgress = 0;
+        return true;
+    }
+
     @Override
     public boolean requestMaterials()
     {
         StructurePhasePlacementResult result;
-        final WorkerLoadOnlyStructureHandler structure = new WorkerLoadOnlyStructureHandler(world,
+        final WorkerLoadOnlyStructureHandler<J, B> structure = new WorkerLoadOnlyStructureHandler<>(world,
           structurePlacer.getB().getWorldPos(),
           structurePlacer.getB().getBluePrint(),
           new PlacementSettings(),
@@ -245,12 +320,20 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
             final AbstractBuildingStructureBuilder buildingWorker = building;
             buildingWorker.resetNeededResources();
             requestProgress = NULL_POS;
-            requestState = RequestStage.SOLID;
+            bill = null;
+            billProgress = 0;
+            requestState = RequestStage.BILL;
         }
 
         final RequestStage currState = requestState;
         switch (currState)
         {
+            case BILL:
+                if (requestFromBill(structure))
+                {
+                    requestState = RequestStage.ENTITIES;
+                }
+                return false;
             case SOLID:
                 result = placer.executeStructureStep(world,
                   null,
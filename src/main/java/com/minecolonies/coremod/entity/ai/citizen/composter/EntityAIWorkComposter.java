@@ -7,6 +7,7 @@ import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.MessageUtils;
@@ -43,6 +44,11 @@ import static com.minecolonies.api.util.constant.TranslationConstants.*;
 
 public class EntityAIWorkComposter extends AbstractEntityAIInteract<JobComposter, BuildingComposter>
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle PODZOL_CHANCE_EFFECT = ResearchEffectHandle.of(PODZOL_CHANCE);
+
     /**
      * Base xp gain for the composter.
      */
@@ -316,7 +322,7 @@ public class EntityAIWorkComposter extends AbstractEntityAIInteract<JobComposter
                  * 5% chance (by default) for podzol, else dirt.
                  * Two researches to increase it to 10% and 15%, respectively.
                  */
-                if (((worker.getRandom().nextInt(100)) + 1) <= (5 * (1 + worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(PODZOL_CHANCE))))
+                if (((worker.getRandom().nextInt(100)) + 1) <= (5 * (1 + worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(PODZOL_CHANCE_EFFECT))))
                 {
                     InventoryUtils.addItemStackToItemHandler(worker.getInventoryCitizen(), new ItemStack(Blocks.PODZOL, MineColonies.getConfig().getServer().dirtFromCompost.get()));
                 }
@@ -12,7 +12,9 @@ import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.items.ModItems;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.tileentities.AbstractScarecrowTileEntity;
+import com.minecolonies.api.tileentities.ScarecrowCellState;
 import com.minecolonies.api.tileentities.ScarecrowFieldStage;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -74,6 +76,11 @@ import static com.minecolonies.api.util.constant.TranslationConstants.NO_SEED_SE
  */
 public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, BuildingFarmer>
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle FARMING_EFFECT = ResearchEffectHandle.of(FARMING);
+
     /**
      * Return to chest after this amount of stacks.
      */
@@ -277,8 +284,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
         final BlockEntity entity = world.getBlockEntity(currentField);
         if (entity instanceof ScarecrowTileEntity && ((ScarecrowTileEntity) entity).needsWork())
         {
-            if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowFieldStage.PLANTED && checkIfShouldExecute((ScarecrowTileEntity) entity,
-              pos -> this.findHarvestableSurface(pos) != null))
+            if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowFieldStage.PLANTED && checkIfShouldExecute((ScarecrowTileEntity) entity, FARMER_HARVEST))
             {
                 return FARMER_HARVEST;
             }
@@ -286,8 +292,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
             {
                 return canGoPlanting((ScarecrowTileEntity) entity, building);
             }
-            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowFieldStage.EMPTY && checkIfShouldExecute((ScarecrowTileEntity) entity,
-              pos -> this.findHoeableSurface(pos, (ScarecrowTileEntity) entity) != null))
+            else if (((ScarecrowTileEntity) entity).getFieldStage() == ScarecrowFieldStage.EMPTY && checkIfShouldExecute((ScarecrowTileEntity) entity, FARMER_HOE))
             {
                 return FARMER_HOE;
             }
@@ -337,28 +342,75 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
     }
 
     /**
-     * Handles the offset of the field for the farmer. Checks if the field needs a certain operation checked with a given predicate.
+     * Handles the offset of the field for the farmer. Checks if any cell of the field needs the work of the given state, starting at the first cell.
+     *
+     * @param field the field object.
+     * @param state the work state to check for.
+     * @return true if a cell needing the work was found.
+     */
+    private boolean checkIfShouldExecute(@NotNull final ScarecrowTileEntity field, @NotNull final IAIState state)
+    {
+        workingOffset = null;
+        workingOffset = nextActionableCell(field, state);
+        return workingOffset != null;
+    }
+
+    /**
+     * Classifies the cell at a position by the work it needs, without changing the world.
      *
-     * @param field     the field object.
-     * @param predicate the predicate to test.
-     * @return true if a harvestable crop was found.
+     * @param position the position of the cell.
+     * @param field    the field of the cell.
+     * @return the state of the cell.
      */
-    private boolean checkIfShouldExecute(@NotNull final ScarecrowTileEntity field, @NotNull final Predicate<BlockPos> predicate)
+    private ScarecrowCellState classifyCell(@NotNull final BlockPos position, @NotNull final ScarecrowTileEntity field)
     {
-        BlockPos position;
-        do
+        final BlockPos surface = getSurfacePos(position);
+        if (surface == null)
         {
-            workingOffset = nextValidCell(field);
-            if (workingOffset == null)
-            {
-                return false;
-            }
+            return ScarecrowCellState.NONE;
+        }
 
-            position = field.getBlockPos().below().south(workingOffset.getZ()).east(workingOffset.getX());
+        final BlockState state = world.getBlockState(surface.above());
+        final Block block = state.getBlock();
+        if (block == Blocks.PUMPKIN || block == Blocks.MELON)
+        {
+            return ScarecrowCellState.HARVESTABLE;
         }
-        while (!predicate.test(position));
 
-        return true;
+        if (isCrop(block))
+        {
+            return ((CropBlock) block).isMaxAge(state) ? ScarecrowCellState.HARVESTABLE : ScarecrowCellState.GROWING;
+        }
+
+        if (findPlantableSurface(position, field) != null)
+        {
+            return ScarecrowCellState.NEEDS_PLANT;
+        }
+        return findHoeableSurface(position, field) != null ? ScarecrowCellState.NEEDS_HOE : ScarecrowCellState.NONE;
+    }
+
+    /**
+     * Get the cell states the given work state acts on. Growing crops are only visited for harvesting while there is compost to grow them.
+     *
+     * @param state the work state.
+     * @return the predicate of the wanted cell states.
+     */
+    private Predicate<ScarecrowCellState> getWantedCellStates(@NotNull final IAIState state)
+    {
+        if (state == FARMER_HOE)
+        {
+            return cellState -> cellState == ScarecrowCellState.NEEDS_HOE;
+        }
+        if (state == FARMER_PLANT)
+        {
+            return cellState -> cellState == ScarecrowCellState.NEEDS_PLANT;
+        }
+        if (state == FARMER_HARVEST)
+        {
+            final boolean hasCompost = InventoryUtils.getItemCountInItemHandler(worker.getInventoryCitizen(), this::isCompost) > 0;
+            return cellState -> cellState == ScarecrowCellState.HARVESTABLE || (hasCompost && cellState == ScarecrowCellState.GROWING);
+        }
+        return cellState -> false;
     }
 
     /**
@@ -476,55 +528,17 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
     private int cell = -1;
 
     /**
-     * Fetch the next available block within the field. Uses mathemajical quadratic equations to determine the coordinates by an index. Considers max radii set in the field gui.
+     * Fetch the next cell of the field needing the work of the given state, in the working order of the field. Cells which need no work are skipped without
+     * walking to them. Considers max radii set in the field gui.
      *
-     * @return the new offset position
+     * @param field the field.
+     * @param state the work state.
+     * @return the new offset position, or null if no cell is left.
      */
-    protected BlockPos nextValidCell(AbstractScarecrowTileEntity field)
-    {
-        int ring, ringCell, x, z;
-        Direction facing;
-
-        if (workingOffset == null)
-        {
-            cell = -1;
-        }
-
-        do
-        {
-            if (++cell == getLargestCell())
-            {
-                return null;
-            }
-            ring = (int) Math.floor((Math.sqrt(cell + 1) + 1) / 2.0);
-            ringCell = cell - (int) (4 * Math.pow(ring - 1, 2) + 4 * (ring - 1));
-            facing = Direction.from2DDataValue(Math.floorDiv(ringCell, 2 * ring));
-
-
-            if (facing.getAxis() == Direction.Axis.Z)
-            {
-                x = (facing == Direction.NORTH ? -1 : 1) * (ring - (ringCell % (2 * ring)));
-                z = (facing == Direction.NORTH ? -1 : 1) * ring;
-            }
-            else
-            {
-                x = (facing == Direction.WEST ? -1 : 1) * ring;
-                z = (facing == Direction.EAST ? -1 : 1) * (ring - (ringCell % (2 * ring)));
-            }
-        }
-        while (
-          -z > field.getRadius(Direction.NORTH)
-            || x > field.getRadius(Direction.EAST)
-            || z > field.getRadius(Direction.SOUTH)
-            || -x > field.getRadius(Direction.WEST)
-        );
-
-        return new BlockPos(x, 0, z);
-    }
-
-    protected int getLargestCell()
+    private BlockPos nextActionableCell(@NotNull final ScarecrowTileEntity field, @NotNull final IAIState state)
     {
-        return (int) Math.pow(ScarecrowTileEntity.getMaxRange() * 2 + 1, 2);
+        cell = field.findNextCell(workingOffset == null ? -1 : cell, getWantedCellStates(state), pos -> classifyCell(pos, field));
+        return cell == -1 ? null : ScarecrowTileEntity.getCellOffset(cell);
     }
 
     /**
@@ -608,11 +622,12 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
                     default:
                         return PREPARING;
                 }
+                scarecrow.markCellStale(position);
                 prevPos = position;
                 setDelay(getLevelDelay());
             }
 
-            workingOffset = nextValidCell(scarecrow);
+            workingOffset = nextActionableCell(scarecrow, getState());
             if (workingOffset == null)
             {
                 shouldDumpInventory = true;
@@ -858,7 +873,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
     @Override
     protected List<ItemStack> increaseBlockDrops(final List<ItemStack> drops)
     {
-        final double increaseCrops = worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(FARMING);
+        final double increaseCrops = worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(FARMING_EFFECT);
         if (increaseCrops == 0)
         {
             return drops;
@@ -890,7 +905,7 @@ public class EntityAIWorkFarmer extends AbstractEntityAICrafting<JobFarmer, Buil
         final int fortune = ItemStackUtils.getFortuneOf(tool);
         final BlockState state = world.getBlockState(pos);
 
-        final double chance = worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(FARMING);
+        final double chance = worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(FARMING_EFFECT);
 
         final NonNullList<ItemStack> drops = NonNullList.create();
         state.getDrops(new LootContext.Builder((ServerLevel) world).withLuck(fortune)
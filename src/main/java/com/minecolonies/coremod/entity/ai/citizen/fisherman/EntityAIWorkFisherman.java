@@ -1,11 +1,12 @@
 package com.minecolonies.coremod.entity.ai.citizen.fisherman;
 
 import com.minecolonies.api.colony.interactionhandling.ChatPriority;
+import com.minecolonies.api.colony.managers.interfaces.IWaterBodyManager;
 import com.minecolonies.api.entity.ModEntities;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
-import com.minecolonies.api.entity.pathfinding.WaterPathResult;
+import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.loot.ModLootTables;
 import com.minecolonies.api.sounds.EventType;
 import com.minecolonies.api.util.*;
@@ -17,6 +18,7 @@ import com.minecolonies.coremod.entity.NewBobberEntity;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAISkill;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.util.WorkerUtil;
+import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -121,27 +123,27 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman, B
     private int executedRotations = 0;
 
     /**
-     * The PathResult when the fisherman searches water.
+     * Connects the citizen with the fishingHook.
      */
     @Nullable
-    private WaterPathResult pathResult;
+    private NewBobberEntity entityFishHook;
 
     /**
-     * The Previous PathResult when the fisherman already found water.
+     * Hook stuck counter. Don't immediately retrieve until a bit of time passed.
      */
-    @Nullable
-    private WaterPathResult lastPathResult;
+    private int stuckCounter = 3;
 
     /**
-     * Connects the citizen with the fishingHook.
+     * The fishing spot picked from the catalogue, until the path to it showed it can be reached.
      */
     @Nullable
-    private NewBobberEntity entityFishHook;
+    private Tuple<BlockPos, BlockPos> pendingSpot = null;
 
     /**
-     * Hook stuck counter. Don't immediately retrieve until a bit of time passed.
+     * The path to the pending fishing spot.
      */
-    private int stuckCounter = 3;
+    @Nullable
+    private PathResult<?> pathToSpot = null;
 
     /**
      * Constructor for the Fisherman. Defines the tasks the fisherman executes.
@@ -300,6 +302,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman, B
         }
         if (executedRotations >= MAX_ROTATIONS)
         {
+            building.getColony().getWaterBodyManager().discardFishingSpot(job.getWater());
             job.removeFromPonds(job.getWater());
             job.setWater(null);
             executedRotations = 0;
@@ -310,6 +313,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman, B
         {
             if (!world.getBlockState(job.getWater().getB()).getMaterial().isSolid() && world.getBlockState(job.getWater().getB().below()).getMaterial().isLiquid())
             {
+                building.getColony().getWaterBodyManager().discardFishingSpot(job.getWater());
                 job.removeFromPonds(job.getWater());
                 job.setWater(null);
                 executedRotations = 0;
@@ -338,10 +342,8 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman, B
 
         //Reset executedRotations when fisherman searches a new Pond
         executedRotations = 0;
-        //If he can't find any pond, tell that to the player
         //If 20 ponds are already stored, take a random stored location
-        //the fishman should not go to find water when fishman can find water but cant find pond
-        if (job.getPonds().size() >= MAX_PONDS || (lastPathResult != null && lastPathResult.pond == null && job.getPonds().size() > 0))
+        if (job.getPonds().size() >= MAX_PONDS)
         {
             return setRandomWater();
         }
@@ -349,7 +351,7 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman, B
     }
 
     /**
-     * If the fisherman can't find 20 ponds or already has found 20, the fisherman should randomly choose a fishing spot from the previously found ones.
+     * If the fisherman can't find new ponds or already has found 20, the fisherman should randomly choose a fishing spot from the previously found ones.
      *
      * @return the next IAIState.
      */
@@ -357,20 +359,11 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman, B
     {
         if (job.getPonds().isEmpty())
         {
-            if ((pathResult != null && pathResult.failedToReachDestination() && lastPathResult == null) || (lastPathResult != null && lastPathResult.isEmpty
-                                                                                                              && !lastPathResult.isCancelled()))
-            {
-                if (worker.getCitizenData() != null)
-                {
-                    worker.getCitizenData().triggerInteraction(new StandardInteraction(Component.translatable(WATER_TOO_FAR), ChatPriority.IMPORTANT));
-                }
-            }
-
-            if (pathResult == null || !pathResult.isInProgress())
+            //If he can't find any pond, tell that to the player
+            if (worker.getCitizenData() != null)
             {
-                pathResult = worker.getNavigation().moveToWater(SEARCH_RANGE, 1.0D, job.getPonds());
+                worker.getCitizenData().triggerInteraction(new StandardInteraction(Component.translatable(WATER_TOO_FAR), ChatPriority.IMPORTANT));
             }
-
             return START_WORKING;
         }
         job.setWater(job.getPonds().get(worker.getRandom().nextInt(job.getPonds().size())));
@@ -378,38 +371,46 @@ public class EntityAIWorkFisherman extends AbstractEntityAISkill<JobFisherman, B
     }
 
     /**
-     * Uses the pathFinding system to search close water spots which possibilitate fishing. Sets a number of possible water pools and sets the water pool the fisherman should fish
-     * now.
+     * Picks the closest fishing spot around the hut from the colony water body catalogue, which the fisherman has not visited yet, and paths to it. Sets the water pool the
+     * fisherman should fish now once the path reaches it, spots which can't be reached are discarded.
      *
      * @return the next IAIState the fisherman should switch to, after executing this method
      */
     private IAIState findNewWater()
     {
-        if (pathResult == null)
+        final IWaterBodyManager waterBodyManager = building.getColony().getWaterBodyManager();
+        if (pendingSpot != null)
         {
-            pathResult = worker.getNavigation().moveToWater(SEARCH_RANGE, 1.0D, job.getPonds());
-            return getState();
-        }
-        if (pathResult.failedToReachDestination())
-        {
-            return setRandomWater();
-        }
-        if (pathResult.isPathReachingDestination())
-        {
-            if (pathResult.pond != null)
+            if (pathToSpot != null && !pathToSpot.isDone())
             {
-                job.setWater(new Tuple<>(pathResult.pond, pathResult.parent));
-                job.addToPonds(pathResult.pond, pathResult.parent);
+                return getState();
             }
-            lastPathResult = pathResult;
-            pathResult = null;
+
+            final Tuple<BlockPos, BlockPos> spot = pendingSpot;
+            final boolean unreachable = pathToSpot != null && pathToSpot.failedToReachDestination();
+            pendingSpot = null;
+            pathToSpot = null;
+            if (unreachable)
+            {
+                waterBodyManager.discardFishingSpot(spot);
+                return getState();
+            }
+
+            job.setWater(spot);
+            job.addToPonds(spot.getA(), spot.getB());
             return FISHERMAN_CHECK_WATER;
         }
-        if (pathResult.isCancelled())
+
+        final boolean catalogued = waterBodyManager.catalogue(building.getPosition(), SEARCH_RANGE);
+        final Tuple<BlockPos, BlockPos> spot = waterBodyManager.findFishingSpot(building.getPosition(), SEARCH_RANGE, job.getPonds());
+        if (spot == null)
         {
-            pathResult = null;
-            return PREPARING;
+            return catalogued ? setRandomWater() : getState();
         }
+
+        // The path is followed afterwards, walking to the water picks it up.
+        pendingSpot = spot;
+        pathToSpot = worker.getNavigation().moveToXYZ(spot.getB().getX(), spot.getB().getY(), spot.getB().getZ(), 1.0D);
         return getState();
     }
 
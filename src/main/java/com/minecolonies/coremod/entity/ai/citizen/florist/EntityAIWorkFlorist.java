@@ -1,7 +1,9 @@
 package com.minecolonies.coremod.entity.ai.citizen.florist;
 
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.compatibility.CompatibilityManager;
+import com.minecolonies.api.compatibility.ItemClassification;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
@@ -17,7 +19,6 @@ import com.minecolonies.coremod.colony.interactionhandling.StandardInteraction;
 import com.minecolonies.coremod.colony.jobs.JobFlorist;
 import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIInteract;
 import com.minecolonies.coremod.tileentities.TileEntityCompostedDirt;
-import net.minecraft.tags.ItemTags;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -135,7 +136,8 @@ public class EntityAIWorkFlorist extends AbstractEntityAIInteract<JobFlorist, Bu
     protected void updateRenderMetaData()
     {
         worker.setRenderMetadata(
-          (InventoryUtils.hasItemInItemHandler(worker.getItemHandlerCitizen(), stack -> stack.is(ItemTags.FLOWERS)) ? RENDER_META_FLOWERS : "")
+          (InventoryUtils.hasItemInItemHandler(worker.getItemHandlerCitizen(),
+            stack -> IColonyManager.getInstance().getCompatibilityManager().hasClassification(stack.getItem(), ItemClassification.FLOWER)) ? RENDER_META_FLOWERS : "")
           + (getState() == IDLE ? "" : RENDER_META_WORKING));
     }
 
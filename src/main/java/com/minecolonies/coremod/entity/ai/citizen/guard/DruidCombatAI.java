@@ -8,6 +8,7 @@ import com.minecolonies.api.entity.combat.threat.IThreatTableEntity;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.entity.pathfinding.PathingOptions;
 import com.minecolonies.api.items.ModItems;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
@@ -49,6 +50,11 @@ import static com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIFight.SPE
  */
 public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle DRUID_USE_POTIONS_EFFECT = ResearchEffectHandle.of(DRUID_USE_POTIONS);
+
     /**
      * List of potential positive effects.
      */
@@ -137,7 +143,7 @@ public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
         final ItemStack stack = new ItemStack(Items.SPLASH_POTION);
         boolean gotMaterial = false;
         BiPredicate<LivingEntity, MobEffect> predicate;
-        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DRUID_USE_POTIONS) > 0
+        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DRUID_USE_POTIONS_EFFECT) > 0
               && InventoryUtils.hasItemInItemHandler(user.getInventoryCitizen(), item -> item.getItem() == ModItems.magicpotion))
         {
             gotMaterial = true;
@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.ai.citizen.guard;
 
 import com.minecolonies.api.items.ModItems;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.jobs.JobDruid;
@@ -20,6 +21,11 @@ import static com.minecolonies.api.research.util.ResearchConstants.DRUID_USE_POT
 @SuppressWarnings("squid:MaximumInheritanceDepth")
 public class EntityAIDruid extends AbstractEntityAIGuard<JobDruid, AbstractBuildingGuards>
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle DRUID_USE_POTIONS_EFFECT = ResearchEffectHandle.of(DRUID_USE_POTIONS);
+
     /**
      * Potion meta data.
      */
@@ -47,7 +53,7 @@ public class EntityAIDruid extends AbstractEntityAIGuard<JobDruid, AbstractBuild
     {
         super.atBuildingActions();
 
-        if (worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DRUID_USE_POTIONS) > 0)
+        if (worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DRUID_USE_POTIONS_EFFECT) > 0)
         {
             // Mistletoes and water bottles
             InventoryUtils.transferXOfFirstSlotInProviderWithIntoNextFreeSlotInItemHandler(building,
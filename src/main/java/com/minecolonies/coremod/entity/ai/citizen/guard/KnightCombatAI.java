@@ -9,6 +9,7 @@ import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.entity.combat.CombatAIStates;
 import com.minecolonies.api.entity.combat.threat.IThreatTableEntity;
 import com.minecolonies.api.entity.pathfinding.PathResult;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.SoundUtils;
@@ -52,6 +53,14 @@ import static com.minecolonies.coremod.entity.ai.citizen.guard.AbstractEntityAIG
  */
 public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
 {
+    /**
+     * Pre-resolved research effect handles.
+     */
+    private static final ResearchEffectHandle SHIELD_USAGE_EFFECT = ResearchEffectHandle.of(SHIELD_USAGE);
+    private static final ResearchEffectHandle KNIGHT_TAUNT_EFFECT = ResearchEffectHandle.of(KNIGHT_TAUNT);
+    private static final ResearchEffectHandle KNIGHT_WHIRLWIND_EFFECT = ResearchEffectHandle.of(KNIGHT_WHIRLWIND);
+    private static final ResearchEffectHandle MELEE_DAMAGE_EFFECT = ResearchEffectHandle.of(MELEE_DAMAGE);
+
     /**
      * Combat icon
      */
@@ -104,7 +113,7 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
     {
         final int shieldSlot = InventoryUtils.findFirstSlotInItemHandlerWith(user.getInventoryCitizen(), Items.SHIELD);
         if (shieldSlot != -1 && target != null && target.isAlive() && nextAttackTime - user.level.getGameTime() >= MIN_TIME_TO_ATTACK &&
-              user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SHIELD_USAGE) > 0)
+              user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SHIELD_USAGE_EFFECT) > 0)
         {
             user.getCitizenItemHandler().setHeldItem(InteractionHand.OFF_HAND, shieldSlot);
             user.startUsingItem(InteractionHand.OFF_HAND);
@@ -168,7 +177,7 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
         target.hurt(source, (float) damageToBeDealt);
         target.setLastHurtByMob(user);
 
-        if (target instanceof Mob && user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(KNIGHT_TAUNT) > 0)
+        if (target instanceof Mob && user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(KNIGHT_TAUNT_EFFECT) > 0)
         {
             ((Mob) target).setTarget(user);
             if (target instanceof IThreatTableEntity)
@@ -191,7 +200,7 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
      */
     private void doAoeAttack(final DamageSource source, final double damageToBeDealt)
     {
-        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(KNIGHT_WHIRLWIND) > 0
+        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(KNIGHT_WHIRLWIND_EFFECT) > 0
               && user.getRandom().nextInt(KNOCKBACK_CHANCE) == 0)
         {
             List<LivingEntity> entities = user.level.getEntitiesOfClass(LivingEntity.class, user.getBoundingBox().inflate(2.0D, 0.5D, 2.0D));
@@ -259,7 +268,7 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
             addDmg += EnchantmentHelper.getDamageBonus(heldItem, target.getMobType()) / 2.5;
         }
 
-        addDmg += user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_DAMAGE);
+        addDmg += user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_DAMAGE_EFFECT);
 
         if (user.getHealth() <= user.getMaxHealth() * 0.2D)
         {
@@ -5,6 +5,7 @@ import com.minecolonies.api.entity.citizen.Skill;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.entity.pathfinding.PathingOptions;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.ToolType;
@@ -43,6 +44,14 @@ import static com.minecolonies.coremod.entity.ai.citizen.guard.AbstractEntityAIG
  */
 public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
 {
+    /**
+     * Pre-resolved research effect handles.
+     */
+    private static final ResearchEffectHandle DOUBLE_ARROWS_EFFECT = ResearchEffectHandle.of(DOUBLE_ARROWS);
+    private static final ResearchEffectHandle ARROW_PIERCE_EFFECT = ResearchEffectHandle.of(ARROW_PIERCE);
+    private static final ResearchEffectHandle ARCHER_DAMAGE_EFFECT = ResearchEffectHandle.of(ARCHER_DAMAGE);
+    private static final ResearchEffectHandle ARCHER_USE_ARROWS_EFFECT = ResearchEffectHandle.of(ARCHER_USE_ARROWS);
+
     /**
      * Visible combat icon
      */
@@ -134,9 +143,9 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
         user.swing(InteractionHand.MAIN_HAND);
 
         int amountOfArrows = 1;
-        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS) > 0)
+        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS_EFFECT) > 0)
         {
-            if (user.getRandom().nextDouble() < user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS))
+            if (user.getRandom().nextDouble() < user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(DOUBLE_ARROWS_EFFECT))
             {
                 amountOfArrows++;
             }
@@ -146,7 +155,7 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
         {
             final AbstractArrow arrow = CombatUtils.createArrowForShooter(user);
 
-            if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARROW_PIERCE) > 0)
+            if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARROW_PIERCE_EFFECT) > 0)
             {
                 arrow.setPierceLevel((byte) 2);
             }
@@ -230,9 +239,9 @@ public class RangerCombatAI extends AttackMoveAI<EntityCitizen>
         final ItemStack heldItem = user.getItemInHand(InteractionHand.MAIN_HAND);
         damage += EnchantmentHelper.getDamageBonus(heldItem, target.getMobType()) / 2.5;
         damage += EnchantmentHelper.getItemEnchantmentLevel(Enchantments.POWER_ARROWS, heldItem);
-        damage += user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_DAMAGE);
+        damage += user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_DAMAGE_EFFECT);
 
-        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_USE_ARROWS) > 0)
+        if (user.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_USE_ARROWS_EFFECT) > 0)
         {
             int slot = InventoryUtils.findFirstSlotInItemHandlerWith(user.getInventoryCitizen(), item -> item.getItem() instanceof ArrowItem);
             if (slot != -1)
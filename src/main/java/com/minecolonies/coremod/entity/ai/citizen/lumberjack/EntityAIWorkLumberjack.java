@@ -1,11 +1,14 @@
 package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
 
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.compatibility.Compatibility;
+import com.minecolonies.api.compatibility.ItemClassification;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.citizen.VisibleCitizenStatus;
 import com.minecolonies.api.entity.pathfinding.PathResult;
-import com.minecolonies.api.entity.pathfinding.TreePathResult;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.ToolType;
@@ -26,7 +29,6 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.tags.BlockTags;
-import net.minecraft.tags.ItemTags;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.item.BlockItem;
@@ -67,13 +69,9 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
     public static final int SEARCH_RANGE = 50;
 
     /**
-     * If no trees are found, increment the range.
+     * The range around the hut in which an unrestricted lumberjack looks for trees.
      */
-    private static final int SEARCH_INCREMENT = 5;
-    /**
-     * If this limit is reached, no trees are found.
-     */
-    private static final int SEARCH_LIMIT     = 150;
+    public static final int SEARCH_LIMIT = 150;
 
     /**
      * List of saplings.
@@ -112,11 +110,6 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
      */
     private static final int WAIT_BEFORE_SEARCH = 400;
 
-    /**
-     * Time in ticks before incrementing the search radius.
-     */
-    private static final int WAIT_BEFORE_INCREMENT = 20;
-
     /**
      * Return to chest after half a stack.
      */
@@ -154,20 +147,14 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
     private boolean checkedInHut = false;
 
     /**
-     * The active pathfinding job used to walk to trees.
-     */
-    @Nullable
-    private TreePathResult pathResult;
-
-    /**
-     * A counter by how much the tree search radius has been increased by now.
+     * The current path to the tree
      */
-    private int searchIncrement = 0;
+    private PathResult<?> pathToTree;
 
     /**
-     * The current path to the tree
+     * The distance to the working position when the current path to the tree was started.
      */
-    private PathResult<?> pathToTree;
+    private double pathStartDistance = 0;
 
     @Override
     protected int getActionRewardForCraftingSuccess()
@@ -292,7 +279,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
      */
     private IAIState waitBeforeCheckingAgain()
     {
-        pathResult = null;
+        pathToTree = null;
 
         if (hasNotDelayed(WAIT_BEFORE_SEARCH))
         {
@@ -339,7 +326,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
         if (getState() == LUMBERJACK_GATHERING_2)
         {
             // we're only interested in saplings at this point
-            return stack.is(ItemTags.SAPLINGS) || stack.is(fungi);
+            return IColonyManager.getInstance().getCompatibilityManager().hasClassification(stack.getItem(), ItemClassification.SAPLING) || stack.is(fungi);
         }
 
         return super.isItemWorthPickingUp(stack);
@@ -364,84 +351,45 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
     }
 
     /**
-     * Search for a tree.
+     * Pick the nearest known tree in the work area. Pathfinding is only used afterwards, to walk to it.
      *
-     * @return LUMBERJACK_GATHERING if job was canceled.
+     * @return the next state.
      */
     private IAIState findTree()
     {
         worker.getCitizenData().setVisibleStatus(SEARCH);
 
-        if (pathResult != null && pathResult.isComputing())
-        {
-            return getState();
-        }
-        if (pathResult == null)
-        {
-            if (building.shouldRestrict())
-            {
-                final BlockPos startPos = building.getStartRestriction();
-                final BlockPos endPos = building.getEndRestriction();
-
-                pathResult = worker.getNavigation()
-                               .moveToTree(startPos,
-                                 endPos,
-                                 1.0D,
-                                 building.getModuleMatching(ItemListModule.class, m -> m.getId().equals(SAPLINGS_LIST)).getList(),
-                                 building.getSetting(BuildingLumberjack.DYNAMIC_TREES_SIZE).getValue(),
-                                 worker.getCitizenColonyHandler().getColony());
-            }
-            else
-            {
-                pathResult = worker.getNavigation()
-                               .moveToTree(SEARCH_RANGE + searchIncrement,
-                                 1.0D,
-                                 building.getModuleMatching(ItemListModule.class, m -> m.getId().equals(SAPLINGS_LIST)).getList(),
-                                 building.getSetting(BuildingLumberjack.DYNAMIC_TREES_SIZE).getValue(),
-                                 worker.getCitizenColonyHandler().getColony());
-            }
-            return getState();
-        }
-        if (pathResult.isDone())
-        {
-            return setNewTree(building);
-        }
-
-        // None of the above yielded a result, report no trees found.
-        return LUMBERJACK_NO_TREES_FOUND;
-    }
+        final TreeRegistry registry = building.getTreeRegistry();
+        final boolean restricted = building.shouldRestrict();
+        final List<ItemStorage> treesToNotCut = building.getModuleMatching(ItemListModule.class, m -> m.getId().equals(SAPLINGS_LIST)).getList();
+        final int dynTreeSize = building.getSetting(BuildingLumberjack.DYNAMIC_TREES_SIZE).getValue();
+        final IColony colony = building.getColony();
 
-    private IAIState setNewTree(final BuildingLumberjack building)
-    {
-        if (pathResult.treeLocation == null)
+        final BlockPos treePos = registry.findNearest(world,
+          restricted ? worker.blockPosition() : building.getPosition(),
+          pos -> Tree.checkTree(world, pos, treesToNotCut, dynTreeSize) && Tree.checkIfInColony(pos, colony, world, restricted));
+        if (treePos == null)
         {
-            if (!building.shouldRestrict() && searchIncrement + SEARCH_RANGE <= SEARCH_LIMIT)
-            {
-                searchIncrement += SEARCH_INCREMENT;
-                setDelay(WAIT_BEFORE_INCREMENT);
-            }
-            else
+            if (registry.isScanComplete())
             {
+                // Look at the whole area again next time, things may have changed without an event.
+                registry.restartScan();
                 return LUMBERJACK_NO_TREES_FOUND;
             }
+            return getState();
         }
-        else
-        {
-            job.setTree(new Tree(world, pathResult.treeLocation, building.shouldRestrict() ? null : building.getColony()));
 
-            // Check if tree creation was successful
-            if (job.getTree().isTree())
-            {
-                job.getTree().findLogs(world, building.shouldRestrict() ? null : building.getColony());
-                return LUMBERJACK_CHOP_TREE;
-            }
-            else
-            {
-                job.setTree(null);
-            }
+        job.setTree(new Tree(world, treePos, restricted ? null : colony));
+        if (job.getTree().isTree())
+        {
+            job.getTree().findLogs(world, restricted ? null : colony);
+            pathToTree = null;
+            workFrom = null;
+            return LUMBERJACK_CHOP_TREE;
         }
-        pathResult = null;
 
+        job.setTree(null);
+        registry.remove(treePos);
         return getState();
     }
 
@@ -477,10 +425,20 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
         if (building.shouldRestrict() && !BlockPosUtil.isInArea(building.getStartRestriction(), building.getEndRestriction(), job.getTree().getLocation()))
         {
             job.setTree(null);
-            pathResult = null;
+            pathToTree = null;
             return START_WORKING;
         }
 
+        if (isTreeUnreachable())
+        {
+            // Skip it until the area is scanned again, instead of walking the partial path to it over and over.
+            building.getTreeRegistry().markUnreachable(job.getTree().getLocation());
+            job.setTree(null);
+            pathToTree = null;
+            workFrom = null;
+            return LUMBERJACK_SEARCHING_TREE;
+        }
+
         if (job.getTree().hasLogs() || (shouldBreakLeaves && job.getTree().hasLeaves()) || checkedInHut)
         {
             if (!walkToTree(job.getTree().getStumpLocations().isEmpty() ? job.getTree().getLocation() : job.getTree().getStumpLocations().get(0)))
@@ -507,7 +465,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
             else
             {
                 job.setTree(null);
-                pathResult = null;
+                pathToTree = null;
                 checkedInHut = false;
             }
 
@@ -627,6 +585,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
 
         if (pathToTree == null || !pathToTree.isInProgress())
         {
+            pathStartDistance = MathUtils.twoDimDistance(worker.blockPosition(), workFrom);
             pathToTree = ((MinecoloniesAdvancedPathNavigate) worker.getNavigation()).setPathJob(new PathJobMoveToWithPassable(world,
               AbstractPathJob.prepareStart(worker),
               workFrom,
@@ -638,6 +597,22 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
         return false;
     }
 
+    /**
+     * Check if the lumberjack walked the whole partial path to the current tree without getting any closer, so the tree can't be reached from here.
+     *
+     * @return true if so.
+     */
+    private boolean isTreeUnreachable()
+    {
+        if (pathToTree == null || pathToTree.isInProgress() || !pathToTree.failedToReachDestination() || workFrom == null)
+        {
+            return false;
+        }
+
+        final double distance = MathUtils.twoDimDistance(worker.blockPosition(), workFrom);
+        return distance > MIN_WORKING_RANGE && distance >= pathStartDistance - MIN_WORKING_RANGE;
+    }
+
     /**
      * Checks whether the given blockstate is passable
      *
@@ -765,7 +740,7 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
         if (plantSapling(job.getTree().getLocation()))
         {
             job.setTree(null);
-            pathResult = null;
+            pathToTree = null;
             checkedInHut = false;
         }
     }
@@ -5,6 +5,7 @@ import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.compatibility.Compatibility;
+import com.minecolonies.api.compatibility.ItemClassification;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.items.ModTags;
 import com.minecolonies.api.util.BlockPosUtil;
@@ -18,7 +19,6 @@ import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.BlockTags;
-import net.minecraft.tags.ItemTags;
 import net.minecraft.util.Tuple;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -268,7 +268,7 @@ public class Tree
                     continue;
                 }
 
-                if (stack.is(ItemTags.SAPLINGS))
+                if (IColonyManager.getInstance().getCompatibilityManager().hasClassification(stack.getItem(), ItemClassification.SAPLING))
                 {
                     IColonyManager.getInstance().getCompatibilityManager().connectLeafToSapling(blockState, stack);
                     return stack;
@@ -314,7 +314,7 @@ public class Tree
             {
                 for (ItemStack stack : list)
                 {
-                    if (stack.is(ItemTags.SAPLINGS))
+                    if (IColonyManager.getInstance().getCompatibilityManager().hasClassification(stack.getItem(), ItemClassification.SAPLING))
                     {
                         return list;
                     }
@@ -0,0 +1,409 @@
+package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
+
+import com.minecolonies.api.compatibility.Compatibility;
+import com.minecolonies.api.items.ModTags;
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.longs.*;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * The known tree bases in the work area of a lumberjack, by column. Lets the lumberjack pick the nearest tree directly, so pathfinding is only needed to walk to
+ * it.
+ * <p>
+ * The area is seeded lazily, a few loaded chunks per lookup, nearest to its center first. Afterwards columns are only checked again when a block event marked
+ * them dirty, entries of felled trees are dropped when they fail validation. Trees which were rejected, could not be reached or were in unloaded chunks are found
+ * again by a full rescan once the area has no trees left.
+ * <p>
+ * Registries are indexed by the chunks of their area, so block events find them even where the area reaches past the colony border.
+ */
+public class TreeRegistry
+{
+    /**
+     * Max number of chunks scanned per lookup.
+     */
+    private static final int CHUNKS_PER_LOOKUP = 4;
+
+    /**
+     * The registries with an area, by dimension and chunk. Only accessed on the server thread.
+     */
+    private static final Map<ResourceKey<Level>, Long2ObjectMap<List<TreeRegistry>>> REGISTRIES = new HashMap<>();
+
+    /**
+     * The dimension of the area, null if none is set.
+     */
+    private ResourceKey<Level> dimension = null;
+
+    /**
+     * The corners of the area, null if none is set.
+     */
+    private BlockPos start = null;
+    private BlockPos end   = null;
+
+    /**
+     * The chunks of the area which were not scanned yet.
+     */
+    private final LongArrayFIFOQueue unscannedChunks = new LongArrayFIFOQueue();
+
+    /**
+     * The columns which changed since they were scanned.
+     */
+    private final LongSet dirtyColumns = new LongOpenHashSet();
+
+    /**
+     * The known tree bases, by column.
+     */
+    private final Long2ObjectMap<BlockPos> trees = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The columns of known trees which could not be reached.
+     */
+    private final LongSet unreachableColumns = new LongOpenHashSet();
+
+    /**
+     * Set the area, resets the registry if it changed.
+     *
+     * @param world    the world of the area.
+     * @param startPos one corner of the area, null to clear it.
+     * @param endPos   the opposite corner, null to clear it.
+     */
+    public void setArea(@NotNull final Level world, @Nullable final BlockPos startPos, @Nullable final BlockPos endPos)
+    {
+        if (startPos == null || endPos == null)
+        {
+            clearArea();
+            return;
+        }
+
+        final BlockPos newStart = new BlockPos(Math.min(startPos.getX(), endPos.getX()), 0, Math.min(startPos.getZ(), endPos.getZ()));
+        final BlockPos newEnd = new BlockPos(Math.max(startPos.getX(), endPos.getX()), 0, Math.max(startPos.getZ(), endPos.getZ()));
+        if (!newStart.equals(start) || !newEnd.equals(end) || world.dimension() != dimension)
+        {
+            clearArea();
+            dimension = world.dimension();
+            start = newStart;
+            end = newEnd;
+            final Long2ObjectMap<List<TreeRegistry>> chunks = REGISTRIES.computeIfAbsent(dimension, key -> new Long2ObjectOpenHashMap<>());
+            forEachChunk(chunk -> chunks.computeIfAbsent(chunk, key -> new ArrayList<>()).add(this));
+            restartScan();
+        }
+    }
+
+    /**
+     * Remove the area and forget all trees.
+     */
+    public void clearArea()
+    {
+        if (start != null)
+        {
+            final Long2ObjectMap<List<TreeRegistry>> chunks = REGISTRIES.get(dimension);
+            if (chunks != null)
+            {
+                forEachChunk(chunk ->
+                {
+                    final List<TreeRegistry> registries = chunks.get(chunk);
+                    if (registries != null && registries.remove(this) && registries.isEmpty())
+                    {
+                        chunks.remove(chunk);
+                    }
+                });
+            }
+        }
+
+        dimension = null;
+        start = null;
+        end = null;
+        restartScan();
+    }
+
+    /**
+     * Forget all trees and scan the whole area again, the chunks nearest to its center first.
+     */
+    public void restartScan()
+    {
+        unscannedChunks.clear();
+        dirtyColumns.clear();
+        trees.clear();
+        unreachableColumns.clear();
+        if (start == null)
+        {
+            return;
+        }
+
+        final int centerX = (start.getX() + end.getX()) >> 5;
+        final int centerZ = (start.getZ() + end.getZ()) >> 5;
+        final LongComparator byDistance = (a, b) -> Integer.compare(chunkDistance(a, centerX, centerZ), chunkDistance(b, centerX, centerZ));
+        final LongList chunks = new LongArrayList();
+        forEachChunk(chunks::add);
+        chunks.sort(byDistance);
+        for (final LongIterator iterator = chunks.iterator(); iterator.hasNext(); )
+        {
+            unscannedChunks.enqueue(iterator.nextLong());
+        }
+    }
+
+    /**
+     * Check if every chunk of the area was scanned.
+     *
+     * @return true if so.
+     */
+    public boolean isScanComplete()
+    {
+        return unscannedChunks.isEmpty();
+    }
+
+    /**
+     * Mark the column of a changed block to be checked again.
+     *
+     * @param pos the position of the changed block.
+     */
+    public void markDirty(@NotNull final BlockPos pos)
+    {
+        if (isInArea(pos.getX(), pos.getZ()))
+        {
+            dirtyColumns.add(columnKey(pos.getX(), pos.getZ()));
+        }
+    }
+
+    /**
+     * Forget a tree until the next full rescan.
+     *
+     * @param pos the base of the tree.
+     */
+    public void remove(@NotNull final BlockPos pos)
+    {
+        trees.remove(columnKey(pos.getX(), pos.getZ()));
+    }
+
+    /**
+     * Skip a tree which could not be reached until the next full rescan.
+     *
+     * @param pos the base of the tree.
+     */
+    public void markUnreachable(@NotNull final BlockPos pos)
+    {
+        unreachableColumns.add(columnKey(pos.getX(), pos.getZ()));
+    }
+
+    /**
+     * Mark a changed block for every registry whose area contains it.
+     *
+     * @param world the world.
+     * @param pos   the position of the changed block.
+     */
+    public static void markChanged(@NotNull final Level world, @NotNull final BlockPos pos)
+    {
+        final Long2ObjectMap<List<TreeRegistry>> chunks = REGISTRIES.get(world.dimension());
+        if (chunks == null)
+        {
+            return;
+        }
+
+        final List<TreeRegistry> registries = chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (registries != null)
+        {
+            for (final TreeRegistry registry : registries)
+            {
+                registry.markDirty(pos);
+            }
+        }
+    }
+
+    /**
+     * Forget all registries, on server stop.
+     */
+    public static void clearAll()
+    {
+        REGISTRIES.clear();
+    }
+
+    /**
+     * Find the nearest known tree which passes validation. Entries which fail it are dropped.
+     *
+     * @param world  the world.
+     * @param from   the position to measure the distance from.
+     * @param isTree validates a tree base.
+     * @return the base of the tree, or null if no tree is known.
+     */
+    @Nullable
+    public BlockPos findNearest(@NotNull final Level world, @NotNull final BlockPos from, @NotNull final Predicate<BlockPos> isTree)
+    {
+        scanChunks(world);
+        scanDirtyColumns(world);
+
+        final List<BlockPos> candidates = new ArrayList<>(trees.values());
+        candidates.sort(Comparator.comparingDouble(pos -> pos.distSqr(from)));
+        for (final BlockPos pos : candidates)
+        {
+            if (unreachableColumns.contains(columnKey(pos.getX(), pos.getZ())) || !WorldUtil.isBlockLoaded(world, pos))
+            {
+                continue;
+            }
+
+            if (isTree.test(pos))
+            {
+                return pos;
+            }
+            remove(pos);
+        }
+        return null;
+    }
+
+    /**
+     * Scan the next loaded chunks of the area.
+     *
+     * @param world the world.
+     */
+    private void scanChunks(@NotNull final Level world)
+    {
+        for (int i = 0; i < CHUNKS_PER_LOOKUP && !unscannedChunks.isEmpty(); i++)
+        {
+            final long chunkKey = unscannedChunks.dequeueLong();
+            final LevelChunk chunk = world.getChunkSource().getChunkNow(ChunkPos.getX(chunkKey), ChunkPos.getZ(chunkKey));
+            if (chunk == null)
+            {
+                // Picked up by the next full rescan.
+                continue;
+            }
+
+            final int minX = Math.max(start.getX(), chunk.getPos().getMinBlockX());
+            final int maxX = Math.min(end.getX(), chunk.getPos().getMaxBlockX());
+            final int minZ = Math.max(start.getZ(), chunk.getPos().getMinBlockZ());
+            final int maxZ = Math.min(end.getZ(), chunk.getPos().getMaxBlockZ());
+            for (int x = minX; x <= maxX; x++)
+            {
+                for (int z = minZ; z <= maxZ; z++)
+                {
+                    scanColumn(chunk, x, z);
+                }
+            }
+        }
+    }
+
+    /**
+     * Scan the dirty columns in loaded chunks.
+     *
+     * @param world the world.
+     */
+    private void scanDirtyColumns(@NotNull final Level world)
+    {
+        for (final LongIterator iterator = dirtyColumns.iterator(); iterator.hasNext(); )
+        {
+            final long column = iterator.nextLong();
+            final int x = BlockPos.getX(column);
+            final int z = BlockPos.getZ(column);
+            final LevelChunk chunk = world.getChunkSource().getChunkNow(x >> 4, z >> 4);
+            if (chunk != null)
+            {
+                scanColumn(chunk, x, z);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Scan a column for the base of a tree, by following the logs down from the top most non leaf block.
+     *
+     * @param chunk the chunk of the column.
+     * @param x     the x coordinate.
+     * @param z     the z coordinate.
+     */
+    private void scanColumn(@NotNull final LevelChunk chunk, final int x, final int z)
+    {
+        final long column = columnKey(x, z);
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(x, chunk.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x & 15, z & 15), z);
+        if (!isLog(chunk.getBlockState(pos)))
+        {
+            trees.remove(column);
+            return;
+        }
+
+        while (pos.getY() > chunk.getMinBuildHeight() && isLog(chunk.getBlockState(pos.below())))
+        {
+            pos.move(0, -1, 0);
+        }
+
+        if (chunk.getBlockState(pos.below()).getMaterial().isSolid())
+        {
+            trees.put(column, pos.immutable());
+        }
+        else
+        {
+            trees.remove(column);
+        }
+    }
+
+    /**
+     * Run an action for every chunk of the area.
+     *
+     * @param action the action, gets the chunk key.
+     */
+    private void forEachChunk(@NotNull final LongConsumer action)
+    {
+        for (int chunkX = start.getX() >> 4; chunkX <= end.getX() >> 4; chunkX++)
+        {
+            for (int chunkZ = start.getZ() >> 4; chunkZ <= end.getZ() >> 4; chunkZ++)
+            {
+                action.accept(ChunkPos.asLong(chunkX, chunkZ));
+            }
+        }
+    }
+
+    /**
+     * Get the chessboard distance of a chunk to a center chunk.
+     *
+     * @param chunk   the chunk key.
+     * @param centerX the x coordinate of the center chunk.
+     * @param centerZ the z coordinate of the center chunk.
+     * @return the distance in chunks.
+     */
+    private static int chunkDistance(final long chunk, final int centerX, final int centerZ)
+    {
+        return Math.max(Math.abs(ChunkPos.getX(chunk) - centerX), Math.abs(ChunkPos.getZ(chunk) - centerZ));
+    }
+
+    /**
+     * Check if a block can be part of a tree trunk.
+     *
+     * @param state the block state.
+     * @return true if so.
+     */
+    private static boolean isLog(@NotNull final BlockState state)
+    {
+        return state.is(ModTags.tree) || Compatibility.isSlimeBlock(state.getBlock()) || Compatibility.isDynamicBlock(state.getBlock());
+    }
+
+    /**
+     * Check if a column is inside the area.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return true if so.
+     */
+    private boolean isInArea(final int x, final int z)
+    {
+        return start != null && x >= start.getX() && x <= end.getX() && z >= start.getZ() && z <= end.getZ();
+    }
+
+    /**
+     * Get the key of a column.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return the key.
+     */
+    private static long columnKey(final int x, final int z)
+    {
+        return BlockPos.asLong(x, 0, z);
+    }
+}
@@ -14,6 +14,7 @@ import com.minecolonies.api.entity.ai.citizen.guards.GuardGearBuilder;
 import com.minecolonies.api.entity.ai.statemachine.AITarget;
 import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.EntityUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -68,6 +69,13 @@ import static com.minecolonies.coremod.entity.ai.citizen.miner.EntityAIStructure
 
 public class EntityAIWorkNether extends AbstractEntityAICrafting<JobNetherWorker, BuildingNetherWorker>
 {
+    /**
+     * Pre-resolved research effect handles.
+     */
+    private static final ResearchEffectHandle SATURATION_EFFECT = ResearchEffectHandle.of(SATURATION);
+    private static final ResearchEffectHandle SATLIMIT_EFFECT = ResearchEffectHandle.of(SATLIMIT);
+    private static final ResearchEffectHandle REGENERATION_EFFECT = ResearchEffectHandle.of(REGENERATION);
+
 
     /**
      * Delay for each of the crafting operations.
@@ -875,7 +883,7 @@ public class EntityAIWorkNether extends AbstractEntityAICrafting<JobNetherWorker
             final ItemStack stack = worker.getInventoryCitizen().getStackInSlot(slot);
             final FoodProperties itemFood = stack.getItem().getFoodProperties(stack, worker);
             final double satIncrease =
-              itemFood.getNutrition() * (1.0 + worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATURATION));
+              itemFood.getNutrition() * (1.0 + worker.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATURATION_EFFECT));
 
             citizenData.increaseSaturation(satIncrease / 2.0);
             citizenData.getInventory().extractItem(slot, 1, false);
@@ -1007,11 +1015,11 @@ public class EntityAIWorkNether extends AbstractEntityAICrafting<JobNetherWorker
         double healAmount = 0D;
         if (citizen.getHealth() < citizen.getMaxHealth())
         {
-            final double limitDecrease = citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT);
+            final double limitDecrease = citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT_EFFECT);
 
             if (citizenData.getSaturation() >= FULL_SATURATION + limitDecrease)
             {
-                healAmount = 2 * (1.0 + citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 2 * (1.0 + citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_EFFECT));
             }
             else if (citizenData.getSaturation() < LOW_SATURATION)
             {
@@ -1019,7 +1027,7 @@ public class EntityAIWorkNether extends AbstractEntityAICrafting<JobNetherWorker
             }
             else
             {
-                healAmount = 1 * (1.0 + citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 1 * (1.0 + citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_EFFECT));
             }
 
             citizen.heal((float) healAmount);
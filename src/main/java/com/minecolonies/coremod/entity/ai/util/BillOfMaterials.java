@@ -0,0 +1,420 @@
+package com.minecolonies.coremod.entity.ai.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.ldtteam.structurize.api.util.ItemStackUtils;
+import com.ldtteam.structurize.blocks.ModBlocks;
+import com.ldtteam.structurize.blueprints.v1.Blueprint;
+import com.ldtteam.structurize.placement.handlers.placement.IPlacementHandler;
+import com.ldtteam.structurize.placement.handlers.placement.PlacementHandlers;
+import com.ldtteam.structurize.util.BlockInfo;
+import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.LoadOnlyStructureHandler;
+import com.minecolonies.api.util.Log;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The bill of materials of a blueprint, the items every position of the blueprint needs when built from scratch.
+ * <p>
+ * Bills are cached by structure pack, path, rotation and mirror and shared by all work orders of the same blueprint, wherever they are placed. Every work order
+ * diffs the shared bill against the world at its own placement. Computing the bill is done in steps of a limited number of positions, and the computed positions
+ * can be diffed while the rest is still computed. Positions with substitution blocks depend on the surrounding world and are resolved while diffing, as is the
+ * tile entity data moved to the placement.
+ */
+public final class BillOfMaterials
+{
+    /**
+     * Max number of cached bills.
+     */
+    private static final int CACHE_SIZE = 64;
+
+    /**
+     * Minutes a bill stays cached after its last use, so reloaded structure packs are picked up eventually.
+     */
+    private static final int CACHE_EXPIRY_MINUTES = 30;
+
+    /**
+     * The bills by blueprint and rotation.
+     */
+    private static final Cache<Key, BillOfMaterials> CACHE = CacheBuilder.newBuilder()
+                                                               .maximumSize(CACHE_SIZE)
+                                                               .expireAfterAccess(CACHE_EXPIRY_MINUTES, TimeUnit.MINUTES)
+                                                               .build();
+
+    /**
+     * The blueprint entries still to compute, null once the bill is complete.
+     */
+    @Nullable
+    private List<Map.Entry<BlockPos, BlockInfo>> pending;
+
+    /**
+     * The index of the next pending entry to compute.
+     */
+    private int computeIndex = 0;
+
+    /**
+     * The blueprint local positions.
+     */
+    private final List<BlockPos> positions = new ArrayList<>();
+
+    /**
+     * The blueprint states at the positions.
+     */
+    private final List<BlockState> states = new ArrayList<>();
+
+    /**
+     * If the blueprint has tile entity data at the positions.
+     */
+    private final List<Boolean> hasTileEntity = new ArrayList<>();
+
+    /**
+     * The items required for the positions, null if they have to be resolved against the world.
+     */
+    private final List<List<ItemStack>> items = new ArrayList<>();
+
+    /**
+     * The items stored in the tile entities at the positions, one stack per item.
+     */
+    private final List<List<ItemStack>> contents = new ArrayList<>();
+
+    /**
+     * Create a new bill of the blueprint loaded into the given handler, computed by {@link #compute(LoadOnlyStructureHandler, int)}.
+     *
+     * @param handler the handler with the blueprint.
+     */
+    public BillOfMaterials(@NotNull final LoadOnlyStructureHandler handler)
+    {
+        this.pending = new ArrayList<>(handler.getBluePrint().getBlockInfoAsMap().entrySet());
+    }
+
+    /**
+     * Get the bill of the blueprint loaded into the given handler, creating it the first time it is requested. The bill may not be complete yet.
+     *
+     * @param pack     the structure pack.
+     * @param path     the blueprint path.
+     * @param rotation the rotation of the blueprint in the handler.
+     * @param mirror   if the blueprint in the handler is mirrored.
+     * @param handler  the handler with the rotated blueprint.
+     * @return the bill or null if it could not be created.
+     */
+    @Nullable
+    public static BillOfMaterials get(
+      @NotNull final String pack,
+      @NotNull final String path,
+      final int rotation,
+      final boolean mirror,
+      @NotNull final LoadOnlyStructureHandler handler)
+    {
+        try
+        {
+            return CACHE.get(new Key(pack, path, rotation, mirror), () -> new BillOfMaterials(handler));
+        }
+        catch (final ExecutionException e)
+        {
+            Log.getLogger().warn("Unable to compute the bill of materials of: " + pack + ":" + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the number of computed positions of the bill, the end index of {@link #forEachMissing}.
+     *
+     * @return the number of positions.
+     */
+    public int size()
+    {
+        return positions.size();
+    }
+
+    /**
+     * Check if the bill is completely computed.
+     *
+     * @return true if so.
+     */
+    public boolean isComplete()
+    {
+        return pending == null;
+    }
+
+    /**
+     * Compute up to the given number of blueprint positions of the bill. The required items of a block do not depend on where it is placed, apart from the
+     * substitution blocks, so they are computed at the placement of the handler which happens to compute them.
+     *
+     * @param handler the handler with the blueprint placed at its final position.
+     * @param budget  the max number of positions to compute.
+     * @return true if the bill is complete.
+     */
+    public boolean compute(@NotNull final LoadOnlyStructureHandler handler, final int budget)
+    {
+        if (pending == null)
+        {
+            return true;
+        }
+
+        final Blueprint blueprint = handler.getBluePrint();
+        final Level world = handler.getWorld();
+        final BlockPos zeroPos = handler.getWorldPos().subtract(blueprint.getPrimaryBlockOffset());
+
+        final int end = (int) Math.min(pending.size(), (long) computeIndex + budget);
+        for (; computeIndex < end; computeIndex++)
+        {
+            final Map.Entry<BlockPos, BlockInfo> entry = pending.get(computeIndex);
+            final BlockState state = entry.getValue().getState();
+            if (state == null || state.isAir() || state.getBlock() == ModBlocks.blockSubstitution.get())
+            {
+                continue;
+            }
+
+            final BlockPos worldPos = zeroPos.offset(entry.getKey());
+            final CompoundTag teData = getTileEntityData(blueprint, worldPos, entry.getKey(), entry.getValue().getTileEntityData() != null);
+            positions.add(entry.getKey());
+            states.add(state);
+            hasTileEntity.add(teData != null);
+            items.add(isWorldDependent(state.getBlock()) ? null : getRequiredItems(world, worldPos, state, teData));
+            contents.add(teData == null ? Collections.emptyList() : getContents(teData, state));
+        }
+
+        if (computeIndex >= pending.size())
+        {
+            pending = null;
+        }
+        return pending == null;
+    }
+
+    /**
+     * Feed the items of up to the given number of computed positions which are not yet built in the world to the consumer, one call per position and item. Positions
+     * which are built but whose block entity misses some of the blueprint contents get the missing contents.
+     *
+     * @param handler           the handler with the blueprint placed at its final position.
+     * @param start             the index of the first position to diff.
+     * @param budget            the max number of positions to diff.
+     * @param dontTouch         positions, by world position and blueprint state, the builder will not touch.
+     * @param solidSubstitution the solid block a solid substitution block at a world position is replaced with.
+     * @param consumer          the consumer for the missing items.
+     * @return the index of the next position to diff, {@link #size()} when done.
+     */
+    public int forEachMissing(
+      @NotNull final LoadOnlyStructureHandler handler,
+      final int start,
+      final int budget,
+      @NotNull final BiPredicate<BlockPos, BlockState> dontTouch,
+      @NotNull final Function<BlockPos, BlockState> solidSubstitution,
+      @NotNull final Consumer<ItemStack> consumer)
+    {
+        final Level world = handler.getWorld();
+        final Blueprint blueprint = handler.getBluePrint();
+        final BlockPos zeroPos = handler.getWorldPos().subtract(blueprint.getPrimaryBlockOffset());
+
+        final int end = (int) Math.min(positions.size(), (long) start + budget);
+        for (int i = start; i < end; i++)
+        {
+            final BlockPos worldPos = zeroPos.offset(positions.get(i));
+            BlockState state = states.get(i);
+            if (dontTouch.test(worldPos, state))
+            {
+                continue;
+            }
+
+            if (state.getBlock() == ModBlocks.blockSolidSubstitution.get())
+            {
+                state = solidSubstitution.apply(worldPos);
+            }
+
+            final BlockState worldState = world.getBlockState(worldPos);
+            if (worldState.equals(state) || handler.shouldBlocksBeConsideredEqual(state, worldState))
+            {
+                forEachMissingContent(handler, world.getBlockEntity(worldPos), contents.get(i), consumer);
+                continue;
+            }
+
+            final List<ItemStack> required = items.get(i) == null
+                                               ? getRequiredItems(world, worldPos, state, getTileEntityData(blueprint, worldPos, positions.get(i), hasTileEntity.get(i)))
+                                               : items.get(i);
+            for (final ItemStack stack : required)
+            {
+                if (!handler.isStackFree(stack))
+                {
+                    consumer.accept(stack.copy());
+                }
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Feed the blueprint contents of a built position which its block entity does not hold yet to the consumer.
+     *
+     * @param handler     the handler.
+     * @param blockEntity the block entity in the world, may be null.
+     * @param contents    the blueprint contents of the position.
+     * @param consumer    the consumer for the missing items.
+     */
+    private static void forEachMissingContent(
+      @NotNull final LoadOnlyStructureHandler handler,
+      @Nullable final BlockEntity blockEntity,
+      @NotNull final List<ItemStack> contents,
+      @NotNull final Consumer<ItemStack> consumer)
+    {
+        for (final ItemStack content : contents)
+        {
+            if (handler.isStackFree(content))
+            {
+                continue;
+            }
+
+            final int present = blockEntity == null ? 0 : InventoryUtils.getItemCountInProvider(blockEntity, stack -> ItemStack.isSameItemSameTags(stack, content));
+            if (present < content.getCount())
+            {
+                final ItemStack missing = content.copy();
+                missing.setCount(content.getCount() - present);
+                consumer.accept(missing);
+            }
+        }
+    }
+
+    /**
+     * Get the tile entity data of a blueprint position, moved to its world position.
+     *
+     * @param blueprint     the blueprint.
+     * @param worldPos      the world position.
+     * @param localPos      the blueprint position.
+     * @param hasTileEntity if the blueprint has tile entity data at the position.
+     * @return the data or null if there is none.
+     */
+    @Nullable
+    private static CompoundTag getTileEntityData(final Blueprint blueprint, final BlockPos worldPos, final BlockPos localPos, final boolean hasTileEntity)
+    {
+        return hasTileEntity ? blueprint.getTileEntityData(worldPos, localPos) : null;
+    }
+
+    /**
+     * Check if the items a block requires depend on the surrounding world.
+     *
+     * @param block the blueprint block.
+     * @return true if so.
+     */
+    private static boolean isWorldDependent(final Block block)
+    {
+        return block == ModBlocks.blockSolidSubstitution.get() || block == ModBlocks.blockFluidSubstitution.get();
+    }
+
+    /**
+     * Get the items the placement handler responsible for the state requires.
+     *
+     * @param world          the world.
+     * @param worldPos       the world position.
+     * @param state          the state to place.
+     * @param tileEntityData the tile entity data of the position.
+     * @return the non empty required items.
+     */
+    private static List<ItemStack> getRequiredItems(final Level world, final BlockPos worldPos, final BlockState state, @Nullable final CompoundTag tileEntityData)
+    {
+        for (final IPlacementHandler placementHandler : PlacementHandlers.handlers)
+        {
+            if (placementHandler.canHandle(world, worldPos, state))
+            {
+                final List<ItemStack> required = new ArrayList<>(placementHandler.getRequiredItems(world, worldPos, state, tileEntityData, false));
+                required.removeIf(ItemStack::isEmpty);
+                return Collections.unmodifiableList(required);
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Get the items stored in the tile entity of a position, merged to one stack per item.
+     *
+     * @param tileEntityData the tile entity data.
+     * @param state          the blueprint state.
+     * @return the contents.
+     */
+    private static List<ItemStack> getContents(final CompoundTag tileEntityData, final BlockState state)
+    {
+        final List<ItemStack> merged = new ArrayList<>();
+        for (final ItemStack stack : ItemStackUtils.getItemStacksOfTileEntity(tileEntityData, state))
+        {
+            if (stack.isEmpty())
+            {
+                continue;
+            }
+
+            final ItemStack existing = merged.stream().filter(content -> ItemStack.isSameItemSameTags(content, stack)).findFirst().orElse(null);
+            if (existing == null)
+            {
+                merged.add(stack.copy());
+            }
+            else
+            {
+                existing.grow(stack.getCount());
+            }
+        }
+        return merged.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(merged);
+    }
+
+    /**
+     * Cache key of a bill.
+     */
+    private static final class Key
+    {
+        private final String  pack;
+        private final String  path;
+        private final int     rotation;
+        private final boolean mirror;
+
+        /**
+         * Create a new key.
+         *
+         * @param pack     the structure pack.
+         * @param path     the blueprint path.
+         * @param rotation the rotation.
+         * @param mirror   the mirror.
+         */
+        private Key(final String pack, final String path, final int rotation, final boolean mirror)
+        {
+            this.pack = pack;
+            this.path = path;
+            this.rotation = rotation;
+            this.mirror = mirror;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof Key))
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return rotation == key.rotation && mirror == key.mirror && pack.equals(key.pack) && path.equals(key.path);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(pack, path, rotation, mirror);
+        }
+    }
+}
@@ -33,6 +33,7 @@ import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.inventory.container.ContainerCitizenInventory;
 import com.minecolonies.api.items.ModItems;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.sounds.EventType;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.HappinessConstants;
@@ -134,6 +135,21 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     private static final double MAX_SPEED_FACTOR    = 0.5;
     private static final int    CALL_TO_HELP_AMOUNT = 2;
 
+    /**
+     * Pre-resolved research effect handles for per tick lookups.
+     */
+    private static final ResearchEffectHandle MORE_AIR_EFFECT = ResearchEffectHandle.of(MORE_AIR);
+    private static final ResearchEffectHandle SATURATION_EFFECT = ResearchEffectHandle.of(SATURATION);
+    private static final ResearchEffectHandle RAILS_EFFECT = ResearchEffectHandle.of(RAILS);
+    private static final ResearchEffectHandle VINES_EFFECT = ResearchEffectHandle.of(VINES);
+    private static final ResearchEffectHandle SATLIMIT_EFFECT = ResearchEffectHandle.of(SATLIMIT);
+    private static final ResearchEffectHandle REGENERATION_EFFECT = ResearchEffectHandle.of(REGENERATION);
+    private static final ResearchEffectHandle WORKING_IN_RAIN_EFFECT = ResearchEffectHandle.of(WORKING_IN_RAIN);
+    private static final ResearchEffectHandle BLOCK_ATTACKS_EFFECT = ResearchEffectHandle.of(BLOCK_ATTACKS);
+    private static final ResearchEffectHandle FLEEING_DAMAGE_EFFECT = ResearchEffectHandle.of(FLEEING_DAMAGE);
+    private static final ResearchEffectHandle MELEE_ARMOR_EFFECT = ResearchEffectHandle.of(MELEE_ARMOR);
+    private static final ResearchEffectHandle ARCHER_ARMOR_EFFECT = ResearchEffectHandle.of(ARCHER_ARMOR);
+
     /**
      * The citizen status handler.
      */
@@ -589,7 +605,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
                 final double satIncrease = usedStack.getItem().getFoodProperties(usedStack, this).getNutrition() * (1.0 + getCitizenColonyHandler().getColony()
                   .getResearchManager()
                   .getResearchEffects()
-                  .getEffectStrength(SATURATION));
+                  .getEffectStrength(SATURATION_EFFECT));
                 citizenData.increaseSaturation(satIncrease / 2.0);
 
                 addEffect(new MobEffectInstance(MobEffects.MOVEMENT_SPEED, 300));
@@ -633,7 +649,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             final double satIncrease = usedStack.getItem().getFoodProperties(usedStack, this).getNutrition() * (1.0 + getCitizenColonyHandler().getColony()
               .getResearchManager()
               .getResearchEffects()
-              .getEffectStrength(SATURATION));
+              .getEffectStrength(SATURATION_EFFECT));
             citizenData.increaseSaturation(satIncrease / 2.0);
 
 
@@ -788,7 +804,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     @Override
     public int getMaxAirSupply()
     {
-        if (getCitizenColonyHandler() != null && getCitizenColonyHandler().getColony() != null && getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(MORE_AIR) > 0)
+        if (getCitizenColonyHandler() != null && getCitizenColonyHandler().getColony() != null && getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(MORE_AIR_EFFECT) > 0)
         {
             return super.getMaxAirSupply() * 2;
         }
@@ -869,11 +885,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             final IColonyView colonyView = IColonyManager.getInstance().getColonyView(citizenColonyHandler.getColonyId(), level.dimension());
             if (colonyView != null)
             {
-                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS_EFFECT) > 0;
             }
             return false;
         }
-        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(RAILS_EFFECT) > 0;
     }
 
     /**
@@ -888,11 +904,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             final IColonyView colonyView = IColonyManager.getInstance().getColonyView(citizenColonyHandler.getColonyId(), level.dimension());
             if (colonyView != null)
             {
-                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(VINES) > 0;
+                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(VINES_EFFECT) > 0;
             }
             return false;
         }
-        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VINES) > 0;
+        return getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VINES_EFFECT) > 0;
     }
 
     /**
@@ -914,12 +930,12 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     {
         if (getHealth() < getMaxHealth())
         {
-            final double limitDecrease = getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT);
+            final double limitDecrease = getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SATLIMIT_EFFECT);
 
             final double healAmount;
             if (citizenData.getSaturation() >= FULL_SATURATION + limitDecrease)
             {
-                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 2 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_EFFECT));
             }
             else if (citizenData.getSaturation() < LOW_SATURATION)
             {
@@ -927,13 +943,13 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             }
             else
             {
-                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION));
+                healAmount = 1 * (1.0 + getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(REGENERATION_EFFECT));
             }
 
             heal((float) healAmount);
             if (healAmount > 0.1D)
             {
-                citizenData.markDirty();
+                citizenData.markDirty(CitizenViewSection.CORE);
             }
         }
     }
@@ -1152,7 +1168,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         if (citizenData != null)
         {
             citizenData.decreaseSaturation(citizenColonyHandler.getPerBuildingFoodCost());
-            citizenData.markDirty();
+            citizenData.markDirty(CitizenViewSection.CORE);
         }
     }
 
@@ -1165,7 +1181,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         if (citizenData != null)
         {
             citizenData.decreaseSaturation(citizenColonyHandler.getPerBuildingFoodCost() / 100.0);
-            citizenData.markDirty();
+            citizenData.markDirty(CitizenViewSection.CORE);
         }
     }
 
@@ -1462,7 +1478,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     private boolean shouldWorkWhileRaining()
     {
         return MineColonies.getConfig().getServer().workersAlwaysWorkInRain.get() ||
-                 getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(WORKING_IN_RAIN) > 0 ||
+                 getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(WORKING_IN_RAIN_EFFECT) > 0 ||
                  (citizenColonyHandler.getWorkBuilding() != null
                     && citizenColonyHandler.getWorkBuilding().hasModule(WorkerBuildingModule.class)
                     && citizenColonyHandler.getWorkBuilding().getFirstModuleOccurance(WorkerBuildingModule.class).canWorkDuringTheRain());
@@ -1634,9 +1650,9 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             {
                 if (citizenJobHandler.getColonyJob() instanceof JobKnight)
                 {
-                    if (citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS) > 0)
+                    if (citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS_EFFECT) > 0)
                     {
-                        if (getRandom().nextDouble() < citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS))
+                        if (getRandom().nextDouble() < citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_ATTACKS_EFFECT))
                         {
                             return false;
                         }
@@ -1646,7 +1662,7 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
                 if (citizenData.getWorkBuilding() instanceof AbstractBuildingGuards && ((AbstractBuildingGuards) citizenData.getWorkBuilding()).shallRetrieveOnLowHealth()
                       && getHealth() < ((int) getMaxHealth() * 0.2D))
                 {
-                    damageInc *= 1 - citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(FLEEING_DAMAGE);
+                    damageInc *= 1 - citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(FLEEING_DAMAGE_EFFECT);
                 }
             }
         }
@@ -1867,11 +1883,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
     {
         if (citizenJobHandler.getColonyJob() instanceof JobKnight)
         {
-            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_ARMOR)));
+            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(MELEE_ARMOR_EFFECT)));
         }
         else if (citizenJobHandler.getColonyJob() instanceof JobRanger)
         {
-            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_ARMOR)));
+            return (int) (super.getArmorValue() * (1 + citizenColonyHandler.getColony().getResearchManager().getResearchEffects().getEffectStrength(ARCHER_ARMOR_EFFECT)));
         }
         return super.getArmorValue();
     }
@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenDiseaseHandler;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingCook;
 import com.minecolonies.coremod.colony.jobs.JobHealer;
@@ -25,6 +26,12 @@ import static com.minecolonies.api.util.constant.StatisticsConstants.CITIZENS_HE
  */
 public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
 {
+    /**
+     * Pre-resolved research effect handles.
+     */
+    private static final ResearchEffectHandle MASKS_EFFECT = ResearchEffectHandle.of(MASKS);
+    private static final ResearchEffectHandle VACCINES_EFFECT = ResearchEffectHandle.of(VACCINES);
+
     /**
      * Health at which citizens seek a doctor.
      */
@@ -91,6 +98,7 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
                   citizen.getRandom().nextInt(configModifier * DISEASE_FACTOR) < citizenModifier)
             {
                 this.disease = IColonyManager.getInstance().getCompatibilityManager().getRandomDisease();
+                onSicknessChanged();
             }
         }
 
@@ -123,13 +131,25 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
               && citizen.getRandom().nextInt(ONE_HUNDRED_PERCENT) < 1)
         {
             if (citizen.getCitizenColonyHandler().getColony() != null
-                  && (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(MASKS) <= 0 || citizen.getRandom().nextBoolean()))
+                  && (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(MASKS_EFFECT) <= 0 || citizen.getRandom().nextBoolean()))
             {
                 this.disease = citizen.getCitizenDiseaseHandler().getDisease();
+                onSicknessChanged();
             }
         }
     }
 
+    /**
+     * Update the happiness of the citizen and the colony after the citizen became sick or was cured.
+     */
+    private void onSicknessChanged()
+    {
+        if (citizen.getCitizenData() != null)
+        {
+            citizen.getCitizenData().onHappinessDependencyChanged(true);
+        }
+    }
+
     @Override
     public boolean isSick()
     {
@@ -164,6 +184,7 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
     public void cure()
     {
         this.disease = "";
+        onSicknessChanged();
         if (citizen.getCitizenSleepHandler().isAsleep())
         {
             citizen.stopSleeping();
@@ -175,7 +196,7 @@ public class CitizenDiseaseHandler implements ICitizenDiseaseHandler
                 hospital.onWakeUp();
             }
 
-            if (citizen.getCitizenColonyHandler().getColony() != null && citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VACCINES) > 0)
+            if (citizen.getCitizenColonyHandler().getColony() != null && citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(VACCINES_EFFECT) > 0)
             {
                 immunityTicks = IMMUNITY_TIME * VACCINE_MODIFIER;
             }
@@ -5,6 +5,7 @@ import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.Skill;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenExperienceHandler;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.WorldUtil;
 import net.minecraft.world.entity.Entity;
@@ -25,6 +26,11 @@ import static com.minecolonies.api.util.constant.Constants.XP_PARTICLE_EXPLOSION
  */
 public class CitizenExperienceHandler implements ICitizenExperienceHandler
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle LEVELING_EFFECT = ResearchEffectHandle.of(LEVELING);
+
     /**
      * The percentage share primary skills get.
      */
@@ -94,7 +100,7 @@ public class CitizenExperienceHandler implements ICitizenExperienceHandler
             return;
         }
 
-        localXp *= (1 + citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(LEVELING));
+        localXp *= (1 + citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(LEVELING_EFFECT));
 
         localXp = citizen.getCitizenItemHandler().applyMending(localXp);
 
@@ -6,18 +6,17 @@ import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.colony.interactionhandling.InteractionValidatorRegistry;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenHappinessHandler;
 import com.minecolonies.api.entity.citizen.happiness.*;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.Tuple;
 import com.minecolonies.coremod.colony.interactionhandling.StandardInteraction;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 import static com.minecolonies.api.entity.citizen.happiness.HappinessRegistry.*;
 import static com.minecolonies.api.research.util.ResearchConstants.HAPPINESS;
@@ -41,6 +40,31 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
      */
     private double cachedHappiness = -1.0;
 
+    /**
+     * The last computed factor of every modifier.
+     */
+    private final Object2DoubleOpenHashMap<String> cachedFactors = new Object2DoubleOpenHashMap<>();
+
+    /**
+     * The modifiers whose factor has to be computed again.
+     */
+    private final Set<String> dirtyFactors = new HashSet<>();
+
+    /**
+     * The version of the colony happiness facts the colony dependent factors were computed with.
+     */
+    private int factsVersion = -1;
+
+    /**
+     * The happiness research effect strength the cached happiness was computed with.
+     */
+    private double cachedResearch = 0;
+
+    /**
+     * Pre-resolved handle of the happiness research effect.
+     */
+    private static final ResearchEffectHandle HAPPINESS_EFFECT = ResearchEffectHandle.of(HAPPINESS);
+
     /**
      * Create a new instance of the citizen happiness handler.
      *
@@ -91,7 +115,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
     public void addModifier(final IHappinessModifier modifier)
     {
         this.happinessFactors.put(modifier.getId(), modifier);
-        cachedHappiness = -1;
+        markFactorDirty(modifier.getId());
     }
 
     @Override
@@ -101,7 +125,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         if (modifier instanceof ITimeBasedHappinessModifier)
         {
             ((ITimeBasedHappinessModifier) modifier).reset();
-            cachedHappiness = -1;
+            markFactorDirty(name);
         }
     }
 
@@ -129,32 +153,79 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
                 citizenData.triggerInteraction(new StandardInteraction(Component.translatable(DEMANDS + happinessModifier.getId()), ChatPriority.CHITCHAT));
             }
         }
+        markDirty(HappinessDependency.DAY);
         cachedHappiness = -1;
     }
 
     @Override
     public double getHappiness(final IColony colony, final ICitizenData citizenData)
     {
-        if (cachedHappiness == -1)
+        final int colonyFactsVersion = colony.getCitizenManager().getHappinessFacts().getVersion();
+        if (factsVersion != colonyFactsVersion)
+        {
+            factsVersion = colonyFactsVersion;
+            markDirty(HappinessDependency.COLONY);
+        }
+
+        if (!dirtyFactors.isEmpty())
+        {
+            for (final String id : dirtyFactors)
+            {
+                final IHappinessModifier happinessModifier = happinessFactors.get(id);
+                if (happinessModifier != null)
+                {
+                    cachedFactors.put(id, happinessModifier.getFactor(citizenData));
+                }
+            }
+            dirtyFactors.clear();
+            cachedHappiness = -1;
+        }
+
+        final double research = colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS_EFFECT);
+        if (cachedHappiness == -1 || research != cachedResearch)
         {
             double total = 0.0;
             double totalWeight = 0.0;
             for (final IHappinessModifier happinessModifier : happinessFactors.values())
             {
-                final double factor = happinessModifier.getFactor(citizenData);
+                final double factor = cachedFactors.getDouble(happinessModifier.getId());
                 if (factor == 1.0)
                     continue;
                 total += factor * happinessModifier.getWeight();
                 totalWeight += happinessModifier.getWeight();
             }
 
-            final double happinessResult = (total / totalWeight) * (1 + colony.getResearchManager().getResearchEffects().getEffectStrength(HAPPINESS));
+            final double happinessResult = (total / totalWeight) * (1 + research);
 
+            cachedResearch = research;
             cachedHappiness = Math.min(10.0 * happinessResult, 10);
         }
         return cachedHappiness;
     }
 
+    @Override
+    public void markDirty(final HappinessDependency dependency)
+    {
+        for (final IHappinessModifier happinessModifier : happinessFactors.values())
+        {
+            if (happinessModifier.dependsOn(dependency))
+            {
+                dirtyFactors.add(happinessModifier.getId());
+            }
+        }
+    }
+
+    /**
+     * Mark the factor of a single modifier as outdated.
+     *
+     * @param id the id of the modifier.
+     */
+    private void markFactorDirty(final String id)
+    {
+        dirtyFactors.add(id);
+        cachedHappiness = -1;
+    }
+
     @Override
     public void read(final CompoundTag compound)
     {
@@ -180,6 +251,8 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
                 }
             }
         }
+        dirtyFactors.addAll(happinessFactors.keySet());
+        cachedHappiness = -1;
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.minecolonies.coremod.entity.citizen.citizenhandlers;
 
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenItemHandler;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -39,6 +40,12 @@ import static com.minecolonies.api.util.constant.Constants.DEFAULT_VOLUME;
 @SuppressWarnings("PMD.ExcessiveImports")
 public class CitizenItemHandler implements ICitizenItemHandler
 {
+    /**
+     * Pre-resolved research effect handles.
+     */
+    private static final ResearchEffectHandle TOOL_DURABILITY_EFFECT = ResearchEffectHandle.of(TOOL_DURABILITY);
+    private static final ResearchEffectHandle ARMOR_DURABILITY_EFFECT = ResearchEffectHandle.of(ARMOR_DURABILITY);
+
     /**
      * The citizen assigned to this manager.
      */
@@ -244,13 +251,13 @@ public class CitizenItemHandler implements ICitizenItemHandler
         }
 
         //Check if the effect exists first, to avoid unnecessary calls to random number generator.
-        if (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(TOOL_DURABILITY) > 0)
+        if (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(TOOL_DURABILITY_EFFECT) > 0)
         {
             if (citizen.getRandom().nextDouble() > (1 / (1 + citizen.getCitizenColonyHandler()
               .getColony()
               .getResearchManager()
               .getResearchEffects()
-              .getEffectStrength(TOOL_DURABILITY))))
+              .getEffectStrength(TOOL_DURABILITY_EFFECT))))
             {
                 return;
             }
@@ -334,13 +341,13 @@ public class CitizenItemHandler implements ICitizenItemHandler
                 continue;
             }
 
-            if (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARMOR_DURABILITY) > 0)
+            if (citizen.getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(ARMOR_DURABILITY_EFFECT) > 0)
             {
                 if (citizen.getRandom().nextDouble() > (1 / (1 + citizen.getCitizenColonyHandler()
                   .getColony()
                   .getResearchManager()
                   .getResearchEffects()
-                  .getEffectStrength(ARMOR_DURABILITY))))
+                  .getEffectStrength(ARMOR_DURABILITY_EFFECT))))
                 {
                     return;
                 }
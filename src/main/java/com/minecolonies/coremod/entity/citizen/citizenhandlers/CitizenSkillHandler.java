@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.citizen.citizenhandlers;
 
 import com.google.common.collect.ImmutableMap;
+import com.minecolonies.api.colony.CitizenViewSection;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.IBuilding;
@@ -15,6 +16,7 @@ import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.util.Tuple;
 import org.jetbrains.annotations.NotNull;
@@ -141,6 +143,26 @@ public class CitizenSkillHandler implements ICitizenSkillHandler
         }
     }
 
+    @Override
+    public void serialize(@NotNull final FriendlyByteBuf buf)
+    {
+        for (final Skill skill : Skill.values())
+        {
+            final Tuple<Integer, Double> entry = skillMap.get(skill);
+            buf.writeVarInt(entry == null ? 1 : entry.getA());
+            buf.writeDouble(entry == null ? 0 : entry.getB());
+        }
+    }
+
+    @Override
+    public void deserialize(@NotNull final FriendlyByteBuf buf)
+    {
+        for (final Skill skill : Skill.values())
+        {
+            skillMap.put(skill, new Tuple<>(buf.readVarInt(), buf.readDouble()));
+        }
+    }
+
     @Override
     public void tryLevelUpIntelligence(@NotNull final Random random, final double customChance, @NotNull final ICitizenData citizen)
     {
@@ -205,7 +227,7 @@ public class CitizenSkillHandler implements ICitizenSkillHandler
         if (level > tuple.getA())
         {
             levelUp(data);
-            data.markDirty();
+            data.markDirty(CitizenViewSection.SKILLS);
         }
     }
 
@@ -234,7 +256,7 @@ public class CitizenSkillHandler implements ICitizenSkillHandler
 
         if (level < tuple.getA())
         {
-            data.markDirty();
+            data.markDirty(CitizenViewSection.SKILLS);
         }
     }
 
@@ -3,6 +3,7 @@ package com.minecolonies.coremod.entity.mobs.aitasks;
 import com.minecolonies.api.blocks.decorative.AbstractBlockGate;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.coremod.MineColonies;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.entity.Mob;
@@ -21,6 +22,11 @@ import net.minecraft.world.entity.ai.goal.Goal.Flag;
  */
 public class EntityAIBreakDoor extends BreakDoorGoal
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle MECHANIC_ENHANCED_GATES_EFFECT = ResearchEffectHandle.of(MECHANIC_ENHANCED_GATES);
+
     /**
      * Previous break pos
      */
@@ -98,7 +104,7 @@ public class EntityAIBreakDoor extends BreakDoorGoal
             {
                 final IColony colony = ((AbstractEntityMinecoloniesMob) mob).getColony();
 
-                fasterBreakPerXNearby += colony.getResearchManager().getResearchEffects().getEffectStrength(MECHANIC_ENHANCED_GATES);
+                fasterBreakPerXNearby += colony.getResearchManager().getResearchEffects().getEffectStrength(MECHANIC_ENHANCED_GATES_EFFECT);
             }
             breakChance = Math.max(1,
               hardness / (1 + (mob.level.getEntitiesOfClass(AbstractEntityMinecoloniesMob.class, mob.getBoundingBox().inflate(5)).size() / fasterBreakPerXNearby)));
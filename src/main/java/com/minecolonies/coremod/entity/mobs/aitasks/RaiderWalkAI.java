@@ -10,9 +10,12 @@ import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingT
 import com.minecolonies.api.entity.combat.CombatAIStates;
 import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.coremod.colony.colonyEvents.raidEvents.AbstractShipRaidEvent;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.HordeRaidEvent;
 import com.minecolonies.coremod.colony.colonyEvents.raidEvents.pirateEvent.ShipBasedRaiderUtils;
+import com.minecolonies.coremod.entity.pathfinding.RaidFlowField;
 import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.pathfinder.Path;
 
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
 
@@ -21,6 +24,21 @@ import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
  */
 public class RaiderWalkAI implements IStateAI
 {
+    /**
+     * Max nodes of a path along the raids flow field.
+     */
+    private static final int MAX_FLOW_PATH_NODES = 32;
+
+    /**
+     * Min squared distance a raider has to move between two walk checks to count as not blocked on the flow field.
+     */
+    private static final int MIN_FLOW_PROGRESS_SQ = 2 * 2;
+
+    /**
+     * Ticks a blocked raider uses its own path before trying the flow field again.
+     */
+    private static final int FALLBACK_TICKS = TICKS_SECOND * 20;
+
     /**
      * The entity using this AI
      */
@@ -36,6 +54,16 @@ public class RaiderWalkAI implements IStateAI
      */
     private long walkTimer = 0;
 
+    /**
+     * Position the raider last started following the flow field from, null if it is not following it.
+     */
+    private BlockPos lastFlowPos = null;
+
+    /**
+     * Game time until which the raider uses its own path instead of the flow field.
+     */
+    private long fallbackTimer = 0;
+
     public RaiderWalkAI(final AbstractEntityMinecoloniesMob raider, final ITickRateStateMachine<IState> stateMachine)
     {
         this.raider = raider;
@@ -63,6 +91,11 @@ public class RaiderWalkAI implements IStateAI
                 return false;
             }
 
+            if (followFlowField(event))
+            {
+                return false;
+            }
+
             if (targetBlock == null || raider.blockPosition().distSqr(targetBlock) < 25 || raider.level.getGameTime() > walkTimer)
             {
                 targetBlock = raider.getColony().getRaiderManager().getRandomBuilding();
@@ -80,6 +113,51 @@ public class RaiderWalkAI implements IStateAI
         return false;
     }
 
+    /**
+     * Walk along the flow field shared by the raiders of the event, without a path job of our own.
+     *
+     * @param event the raid event.
+     * @return true if the raider follows the field, false if it has to use its own path.
+     */
+    private boolean followFlowField(final IColonyEvent event)
+    {
+        final RaidFlowField field;
+        if (event instanceof HordeRaidEvent)
+        {
+            field = ((HordeRaidEvent) event).getFlowField();
+        }
+        else if (event instanceof AbstractShipRaidEvent)
+        {
+            field = ((AbstractShipRaidEvent) event).getFlowField();
+        }
+        else
+        {
+            return false;
+        }
+
+        // Asking for the field advances its computation, so this comes first.
+        if (field == null || raider.level.getGameTime() < fallbackTimer)
+        {
+            return false;
+        }
+
+        final BlockPos pos = raider.blockPosition();
+        final Path path = lastFlowPos != null && lastFlowPos.distSqr(pos) < MIN_FLOW_PROGRESS_SQ ? null : field.trace(pos, MAX_FLOW_PATH_NODES);
+        if (path == null)
+        {
+            // Blocked, at a building or off the field.
+            lastFlowPos = null;
+            targetBlock = null;
+            fallbackTimer = raider.level.getGameTime() + FALLBACK_TICKS;
+            return false;
+        }
+
+        raider.getNavigation().stop();
+        raider.getNavigation().moveTo(path, 1.1);
+        lastFlowPos = pos;
+        return true;
+    }
+
     /**
      * Chooses and walks to a random campfire
      */
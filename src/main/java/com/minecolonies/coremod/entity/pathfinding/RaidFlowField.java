@@ -0,0 +1,509 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.entity.pathfinding.SurfaceType;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Tuple;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobRaiderPathing.CLIMB_COST;
+import static com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobRaiderPathing.THROUGH_BLOCK_COST;
+
+/**
+ * Distance field over the surface of a raided colony, shared by all raiders of a raid event.
+ * <p>
+ * The field is computed with a Dijkstra search from the edges of all colony buildings over the surface columns around the colony and the raids waypoints, with
+ * the costs of {@link com.minecolonies.coremod.entity.pathfinding.pathjobs.PathJobRaiderPathing}. Raiders then walk downhill on the field by a local lookup, instead of
+ * every raider running its own path job. Steps which need ladders or breaking through blocks are left to the path jobs.
+ * <p>
+ * Sampling the surface and the search are done in slices of {@link #STEP_BUDGET} columns or search nodes per {@link #computeStep(Level)}, which the {@link RaidFlowFieldHolder}
+ * calls once per game tick until the field is complete.
+ */
+public class RaidFlowField
+{
+    /**
+     * Margin in blocks around the buildings and waypoints.
+     */
+    private static final int MARGIN = 16;
+
+    /**
+     * Max size of the field along each axis.
+     */
+    private static final int MAX_SIZE = 320;
+
+    /**
+     * Ticks after which the field is recomputed.
+     */
+    private static final int REFRESH_TICKS = 20 * 60;
+
+    /**
+     * Max number of sampled columns or searched nodes per compute step.
+     */
+    private static final int STEP_BUDGET = 4096;
+
+    /**
+     * Cost of a straight and a diagonal step, scaled to integers.
+     */
+    private static final int STRAIGHT_COST = 10;
+    private static final int DIAGONAL_COST = 14;
+
+    /**
+     * Max drop in blocks the raiders walk down without a path job.
+     */
+    private static final int MAX_DROP = 3;
+
+    /**
+     * Column flags.
+     */
+    private static final byte UNLOADED = 0;
+    private static final byte WALKABLE = 1;
+    private static final byte BLOCKED  = 2;
+
+    /**
+     * Distance of unreached columns.
+     */
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    /**
+     * Neighbour offsets, straight ones first.
+     */
+    private static final int[] DX = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] DZ = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    /**
+     * Bounds of the field.
+     */
+    private final int minX;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeZ;
+
+    /**
+     * Standing height, flag and distance of every column.
+     */
+    private final int[]  heights;
+    private final byte[] flags;
+    private final int[]  distances;
+
+    /**
+     * Game time the field was completed at.
+     */
+    private long computedAt;
+
+    /**
+     * Number of colony buildings the field was computed for.
+     */
+    private final int buildingCount;
+
+    /**
+     * The corners around every building, the search starts on their edges.
+     */
+    private final List<Tuple<BlockPos, BlockPos>> corners;
+
+    /**
+     * Index of the next chunk to sample, counted over the chunks of the field.
+     */
+    private int sampleIndex = 0;
+
+    /**
+     * The open nodes of the search, by distance, null until the search is seeded.
+     */
+    @Nullable
+    private LongHeapPriorityQueue open = null;
+
+    /**
+     * If the field is complete.
+     */
+    private boolean complete = false;
+
+    /**
+     * Create an empty field.
+     *
+     * @param minX          the min x.
+     * @param minZ          the min z.
+     * @param sizeX         the size along x.
+     * @param sizeZ         the size along z.
+     * @param buildingCount the number of buildings.
+     * @param corners       the corners around every building.
+     */
+    private RaidFlowField(final int minX, final int minZ, final int sizeX, final int sizeZ, final int buildingCount, final List<Tuple<BlockPos, BlockPos>> corners)
+    {
+        this.minX = minX;
+        this.minZ = minZ;
+        this.sizeX = sizeX;
+        this.sizeZ = sizeZ;
+        this.buildingCount = buildingCount;
+        this.corners = corners;
+        this.heights = new int[sizeX * sizeZ];
+        this.flags = new byte[sizeX * sizeZ];
+        this.distances = new int[sizeX * sizeZ];
+        Arrays.fill(distances, UNREACHED);
+    }
+
+    /**
+     * Create the field of a colony, to be computed by {@link #computeStep(Level)}.
+     *
+     * @param colony    the raided colony.
+     * @param wayPoints the waypoints of the raid, included in the covered area.
+     * @return the field.
+     */
+    @NotNull
+    public static RaidFlowField create(@NotNull final IColony colony, @NotNull final List<BlockPos> wayPoints)
+    {
+        final BlockPos center = colony.getCenter();
+        int minX = center.getX();
+        int minZ = center.getZ();
+        int maxX = center.getX();
+        int maxZ = center.getZ();
+
+        final List<Tuple<BlockPos, BlockPos>> corners = new ArrayList<>();
+        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+        {
+            final Tuple<BlockPos, BlockPos> buildingCorners = building.getCorners();
+            final BlockPos pos = building.getPosition();
+            final BlockPos low = buildingCorners == null ? pos : buildingCorners.getA();
+            final BlockPos high = buildingCorners == null ? pos : buildingCorners.getB();
+            final BlockPos first = new BlockPos(Math.min(low.getX(), high.getX()) - 1, 0, Math.min(low.getZ(), high.getZ()) - 1);
+            final BlockPos second = new BlockPos(Math.max(low.getX(), high.getX()) + 1, 0, Math.max(low.getZ(), high.getZ()) + 1);
+            corners.add(new Tuple<>(first, second));
+            minX = Math.min(minX, first.getX());
+            minZ = Math.min(minZ, first.getZ());
+            maxX = Math.max(maxX, second.getX());
+            maxZ = Math.max(maxZ, second.getZ());
+        }
+
+        for (final BlockPos wayPoint : wayPoints)
+        {
+            minX = Math.min(minX, wayPoint.getX());
+            minZ = Math.min(minZ, wayPoint.getZ());
+            maxX = Math.max(maxX, wayPoint.getX());
+            maxZ = Math.max(maxZ, wayPoint.getZ());
+        }
+
+        minX = Math.max(minX - MARGIN, center.getX() - MAX_SIZE / 2);
+        minZ = Math.max(minZ - MARGIN, center.getZ() - MAX_SIZE / 2);
+        maxX = Math.min(maxX + MARGIN, center.getX() + MAX_SIZE / 2 - 1);
+        maxZ = Math.min(maxZ + MARGIN, center.getZ() + MAX_SIZE / 2 - 1);
+
+        return new RaidFlowField(minX, minZ, maxX - minX + 1, maxZ - minZ + 1, colony.getBuildingManager().getBuildings().size(), corners);
+    }
+
+    /**
+     * Do the next slice of the computation, sampling the surface first and searching afterwards.
+     *
+     * @param world the world.
+     * @return true if the field is complete.
+     */
+    public boolean computeStep(@NotNull final Level world)
+    {
+        if (complete)
+        {
+            return true;
+        }
+
+        final int chunksX = ((minX + sizeX - 1) >> 4) - (minX >> 4) + 1;
+        final int chunksZ = ((minZ + sizeZ - 1) >> 4) - (minZ >> 4) + 1;
+        if (sampleIndex < chunksX * chunksZ)
+        {
+            int sampled = 0;
+            while (sampleIndex < chunksX * chunksZ && sampled < STEP_BUDGET)
+            {
+                sampled += sampleChunk(world, (minX >> 4) + sampleIndex % chunksX, (minZ >> 4) + sampleIndex / chunksX);
+                sampleIndex++;
+            }
+            return false;
+        }
+
+        if (open == null)
+        {
+            open = seed();
+        }
+
+        if (search(open, STEP_BUDGET))
+        {
+            open = null;
+            computedAt = world.getGameTime();
+            complete = true;
+        }
+        return complete;
+    }
+
+    /**
+     * Check if the field is complete and can be traced.
+     *
+     * @return true if so.
+     */
+    public boolean isComplete()
+    {
+        return complete;
+    }
+
+    /**
+     * Check if the field has to be recomputed, because it is old or the colony buildings changed.
+     *
+     * @param colony the colony.
+     * @return true if so.
+     */
+    public boolean isStale(@NotNull final IColony colony)
+    {
+        return colony.getWorld().getGameTime() - computedAt > REFRESH_TICKS || colony.getBuildingManager().getBuildings().size() != buildingCount;
+    }
+
+    /**
+     * Follow the field downhill from a position.
+     *
+     * @param start    the standing position of the raider.
+     * @param maxNodes the max length of the path.
+     * @return the path, or null if the raider is not on the field, already at a building or the next step needs a path job.
+     */
+    @Nullable
+    public Path trace(@NotNull final BlockPos start, final int maxNodes)
+    {
+        int index = getIndex(start.getX(), start.getZ());
+        if (index < 0 || distances[index] == UNREACHED || flags[index] != WALKABLE || Math.abs(heights[index] - start.getY()) > 1)
+        {
+            return null;
+        }
+
+        final List<Node> nodes = new ArrayList<>();
+        nodes.add(new Node(start.getX(), heights[index], start.getZ()));
+        while (nodes.size() < maxNodes && distances[index] > 0)
+        {
+            final int x = minX + index % sizeX;
+            final int z = minZ + index / sizeX;
+            int next = -1;
+            for (int dir = 0; dir < DX.length; dir++)
+            {
+                final int neighbour = getIndex(x + DX[dir], z + DZ[dir]);
+                if (neighbour >= 0 && distances[neighbour] < (next < 0 ? distances[index] : distances[next]) && canWalk(index, neighbour, dir))
+                {
+                    next = neighbour;
+                }
+            }
+
+            if (next < 0)
+            {
+                break;
+            }
+
+            index = next;
+            nodes.add(new Node(minX + index % sizeX, heights[index], minZ + index / sizeX));
+        }
+
+        if (nodes.size() < 2)
+        {
+            return null;
+        }
+
+        final Node end = nodes.get(nodes.size() - 1);
+        return new Path(nodes, new BlockPos(end.x, end.y, end.z), true);
+    }
+
+    /**
+     * Read the standing height and surface of the columns of a chunk within the field, if it is loaded.
+     *
+     * @param world  the world.
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the number of sampled columns.
+     */
+    private int sampleChunk(final Level world, final int chunkX, final int chunkZ)
+    {
+        final LevelChunk chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+        if (chunk == null)
+        {
+            return 0;
+        }
+
+        final BlockPos.MutableBlockPos below = new BlockPos.MutableBlockPos();
+        int sampled = 0;
+        for (int x = Math.max(minX, chunkX << 4); x <= Math.min(minX + sizeX - 1, (chunkX << 4) + 15); x++)
+        {
+            for (int z = Math.max(minZ, chunkZ << 4); z <= Math.min(minZ + sizeZ - 1, (chunkZ << 4) + 15); z++)
+            {
+                final int index = getIndex(x, z);
+                final int height = chunk.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x & 15, z & 15) + 1;
+                below.set(x, height - 1, z);
+                heights[index] = height;
+                flags[index] = SurfaceType.getSurfaceType(chunk, chunk.getBlockState(below), below) == SurfaceType.WALKABLE ? WALKABLE : BLOCKED;
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+
+    /**
+     * Seed the search with the columns around the buildings.
+     *
+     * @return the open nodes.
+     */
+    private LongHeapPriorityQueue seed()
+    {
+        final LongHeapPriorityQueue open = new LongHeapPriorityQueue();
+        for (final Tuple<BlockPos, BlockPos> corner : corners)
+        {
+            for (int x = corner.getA().getX(); x <= corner.getB().getX(); x++)
+            {
+                for (int z = corner.getA().getZ(); z <= corner.getB().getZ(); z++)
+                {
+                    if (x != corner.getA().getX() && x != corner.getB().getX() && z != corner.getA().getZ() && z != corner.getB().getZ())
+                    {
+                        continue;
+                    }
+
+                    final int index = getIndex(x, z);
+                    if (index >= 0 && flags[index] == WALKABLE && distances[index] != 0)
+                    {
+                        distances[index] = 0;
+                        open.enqueue(index);
+                    }
+                }
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Search outwards from the open nodes, for up to the given number of nodes.
+     *
+     * @param open   the open nodes.
+     * @param budget the max number of nodes to expand.
+     * @return true if the search is done.
+     */
+    private boolean search(final LongHeapPriorityQueue open, final int budget)
+    {
+        for (int expanded = 0; expanded < budget && !open.isEmpty(); expanded++)
+        {
+            final long entry = open.dequeueLong();
+            final int index = (int) entry;
+            if ((int) (entry >>> 32) > distances[index])
+            {
+                continue;
+            }
+
+            final int x = minX + index % sizeX;
+            final int z = minZ + index / sizeX;
+            for (int dir = 0; dir < DX.length; dir++)
+            {
+                final int neighbour = getIndex(x + DX[dir], z + DZ[dir]);
+                if (neighbour < 0 || flags[neighbour] == UNLOADED)
+                {
+                    continue;
+                }
+
+                // Cost of the step from the neighbour towards this column, in the direction raiders walk.
+                final int cost = getStepCost(neighbour, index, dir);
+                if (cost > 0 && distances[index] + cost < distances[neighbour])
+                {
+                    distances[neighbour] = distances[index] + cost;
+                    open.enqueue(((long) distances[neighbour] << 32) | neighbour);
+                }
+            }
+        }
+        return open.isEmpty();
+    }
+
+    /**
+     * Get the cost of a step between two neighbouring columns.
+     *
+     * @param from the index of the column stepped from.
+     * @param to   the index of the column stepped to.
+     * @param dir  the direction between the columns, the same from either side as the offsets are symmetric.
+     * @return the cost, 0 if the step is not possible.
+     */
+    private int getStepCost(final int from, final int to, final int dir)
+    {
+        if (flags[from] == UNLOADED || flags[to] == UNLOADED)
+        {
+            return 0;
+        }
+
+        final boolean diagonal = DX[dir] != 0 && DZ[dir] != 0;
+        double cost = diagonal ? DIAGONAL_COST : STRAIGHT_COST;
+        if (diagonal && !canWalkDiagonal(from, to))
+        {
+            return 0;
+        }
+
+        if (!isSimpleStep(from, to))
+        {
+            cost *= CLIMB_COST;
+        }
+
+        if (flags[to] != WALKABLE)
+        {
+            cost *= THROUGH_BLOCK_COST;
+        }
+
+        return (int) cost;
+    }
+
+    /**
+     * Check if raiders can walk a step without a path job.
+     *
+     * @param from the index of the column stepped from.
+     * @param to   the index of the column stepped to.
+     * @param dir  the direction of the step.
+     * @return true if so.
+     */
+    private boolean canWalk(final int from, final int to, final int dir)
+    {
+        return flags[to] == WALKABLE && isSimpleStep(from, to) && (DX[dir] == 0 || DZ[dir] == 0 || canWalkDiagonal(from, to));
+    }
+
+    /**
+     * Check if a step goes at most a block up or a few blocks down.
+     *
+     * @param from the index of the column stepped from.
+     * @param to   the index of the column stepped to.
+     * @return true if so.
+     */
+    private boolean isSimpleStep(final int from, final int to)
+    {
+        final int dy = heights[to] - heights[from];
+        return dy <= 1 && dy >= -MAX_DROP;
+    }
+
+    /**
+     * Check if a diagonal step doesn't cut a corner, which is the case if both columns beside it are walkable and level with the start.
+     *
+     * @param from the index of the column stepped from.
+     * @param to   the index of the column stepped to.
+     * @return true if so.
+     */
+    private boolean canWalkDiagonal(final int from, final int to)
+    {
+        final int sideA = (from / sizeX) * sizeX + to % sizeX;
+        final int sideB = (to / sizeX) * sizeX + from % sizeX;
+        return flags[sideA] == WALKABLE && flags[sideB] == WALKABLE
+                 && Math.abs(heights[sideA] - heights[from]) <= 1 && Math.abs(heights[sideB] - heights[from]) <= 1;
+    }
+
+    /**
+     * Get the index of a column.
+     *
+     * @param x the x coordinate.
+     * @param z the z coordinate.
+     * @return the index, -1 if outside of the field.
+     */
+    private int getIndex(final int x, final int z)
+    {
+        if (x < minX || z < minZ || x >= minX + sizeX || z >= minZ + sizeZ)
+        {
+            return -1;
+        }
+        return (z - minZ) * sizeX + x - minX;
+    }
+}
@@ -0,0 +1,58 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.colony.IColony;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Holds the flow field of a raid event, and rebuilds it in slices when it is missing or stale.
+ */
+public class RaidFlowFieldHolder
+{
+    /**
+     * Distance field shared by the raiders walking into the colony, null until the first one is complete.
+     */
+    private RaidFlowField flowField;
+
+    /**
+     * Distance field being computed, replaces the current one once complete.
+     */
+    private RaidFlowField nextFlowField;
+
+    /**
+     * Game time the flow field computation was last advanced at.
+     */
+    private long flowFieldTick = -1;
+
+    /**
+     * Get the distance field the raiders of the event walk along. A stale or missing field is recomputed in slices, advanced once per game tick however many
+     * raiders ask, the previous field is used until the new one is complete.
+     *
+     * @param colony    the raided colony.
+     * @param wayPoints the waypoints of the raid.
+     * @return the field, null if none is complete yet.
+     */
+    @Nullable
+    public RaidFlowField get(@NotNull final IColony colony, @NotNull final List<BlockPos> wayPoints)
+    {
+        final long gameTime = colony.getWorld().getGameTime();
+        if (gameTime != flowFieldTick)
+        {
+            flowFieldTick = gameTime;
+            if (nextFlowField == null && (flowField == null || flowField.isStale(colony)))
+            {
+                nextFlowField = RaidFlowField.create(colony, wayPoints);
+            }
+
+            if (nextFlowField != null && nextFlowField.computeStep(colony.getWorld()))
+            {
+                flowField = nextFlowField;
+                nextFlowField = null;
+            }
+        }
+        return flowField;
+    }
+}
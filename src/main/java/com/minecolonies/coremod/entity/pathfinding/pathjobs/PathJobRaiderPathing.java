@@ -25,7 +25,17 @@ public class PathJobRaiderPathing extends AbstractPathJob
     /**
      * Cost for moving through a block
      */
-    private final double THROUGH_BLOCK_COST = 30;
+    public static final double THROUGH_BLOCK_COST = 30;
+
+    /**
+     * Cost modifier for climbing or dropping more than a block
+     */
+    public static final double CLIMB_COST = 3.5;
+
+    /**
+     * Cost modifier for a step up or down
+     */
+    private static final double HEIGHT_CHANGE_COST = 0.5;
 
     /**
      * Buildings to avoid
@@ -122,13 +132,13 @@ public class PathJobRaiderPathing extends AbstractPathJob
         final int height = super.getGroundHeight(parent, pos);
         if (height != pos.getY())
         {
-            addCost = 0.5;
+            addCost = HEIGHT_CHANGE_COST;
         }
 
         if ((parent.pos.getX() - pos.getX() == 0 && parent.pos.getZ() - pos.getZ() == 0)
               || (Math.abs(height - pos.getY()) > 1) && SurfaceType.getSurfaceType(world, world.getBlockState(pos.below()), pos.below()) == SurfaceType.WALKABLE)
         {
-            addCost = 3.5;
+            addCost = CLIMB_COST;
             return pos.getY();
         }
 
@@ -10,6 +10,7 @@ import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.entity.ModEntities;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.items.ModTags;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.api.util.Tuple;
@@ -26,8 +27,10 @@ import com.minecolonies.coremod.colony.colonyEvents.citizenEvents.VisitorSpawned
 import com.minecolonies.coremod.colony.interactionhandling.RecruitmentInteraction;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.colony.jobs.JobFarmer;
+import com.minecolonies.coremod.colony.managers.WaterBodyManager;
 import com.minecolonies.coremod.colony.requestsystem.locations.EntityLocation;
 import com.minecolonies.coremod.commands.EntryPoint;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeRegistry;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import com.minecolonies.coremod.entity.mobs.EntityMercenary;
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
@@ -38,10 +41,12 @@ import com.minecolonies.coremod.loot.SupplyLoot;
 import com.minecolonies.coremod.network.messages.client.OpenSuggestionWindowMessage;
 import com.minecolonies.coremod.network.messages.client.UpdateChunkCapabilityMessage;
 import com.minecolonies.coremod.network.messages.client.UpdateChunkRangeCapabilityMessage;
+import com.minecolonies.coremod.tileentities.ScarecrowTileEntity;
 import com.minecolonies.coremod.util.ChunkClientDataHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -59,21 +64,26 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.BedBlock;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.SpawnerBlock;
+import net.minecraft.world.level.block.StemBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.SpawnerBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
 import net.minecraftforge.event.*;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
 import net.minecraftforge.event.entity.EntityTravelToDimensionEvent;
 import net.minecraftforge.event.entity.living.LivingConversionEvent;
 import net.minecraftforge.event.entity.living.LivingSpawnEvent;
+import net.minecraftforge.event.entity.player.FillBucketEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.level.BlockEvent;
 import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.level.SaplingGrowTreeEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
@@ -96,6 +106,11 @@ import static net.minecraftforge.eventbus.api.EventPriority.LOWEST;
  */
 public class EventHandler
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle SOFT_SHOES_EFFECT = ResearchEffectHandle.of(SOFT_SHOES);
+
     /**
      * Player position map for watching chunk entries
      */
@@ -469,6 +484,9 @@ public class EventHandler
         }
 
         final Level world = (Level) event.getLevel();
+        ScarecrowTileEntity.markCellStale(world, event.getPos());
+        TreeRegistry.markChanged(world, event.getPos());
+        WaterBodyManager.markChanged(world, event.getPos(), false);
 
         if (event.getState().getBlock() instanceof SpawnerBlock)
         {
@@ -702,21 +720,113 @@ public class EventHandler
     }
 
     /**
-     * Gets called when farmland is trampled
+     * Gets called when farmland is trampled, marks the field cell for the farmer to check again if it is not prevented.
      *
      * @param event the event to handle
      */
     @SubscribeEvent
     public static void onCropTrample(BlockEvent.FarmlandTrampleEvent event)
     {
-        if (!event.getLevel().isClientSide()
-              && event.getEntity() instanceof AbstractEntityCitizen
+        if (event.getLevel().isClientSide())
+        {
+            return;
+        }
+
+        if (event.getEntity() instanceof AbstractEntityCitizen
               && ((AbstractEntityCitizen) event.getEntity()).getCitizenJobHandler().getColonyJob() instanceof JobFarmer
-              && ((AbstractEntityCitizen) event.getEntity()).getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SOFT_SHOES) > 0
+              && ((AbstractEntityCitizen) event.getEntity()).getCitizenColonyHandler().getColony().getResearchManager().getResearchEffects().getEffectStrength(SOFT_SHOES_EFFECT) > 0
         )
         {
             event.setCanceled(true);
         }
+        else if (event.getLevel() instanceof Level)
+        {
+            ScarecrowTileEntity.markCellStale((Level) event.getLevel(), event.getPos());
+        }
+    }
+
+    /**
+     * Gets called when a crop grew, marks the field cell (and the cells a stem may grow its fruit into) for the farmer to check again.
+     *
+     * @param event the event to handle
+     */
+    @SubscribeEvent
+    public static void onCropGrow(@NotNull final BlockEvent.CropGrowEvent.Post event)
+    {
+        if (event.getLevel().isClientSide() || !(event.getLevel() instanceof Level))
+        {
+            return;
+        }
+
+        final Level world = (Level) event.getLevel();
+        ScarecrowTileEntity.markCellStale(world, event.getPos());
+        if (event.getState().getBlock() instanceof StemBlock)
+        {
+            for (final Direction direction : Direction.Plane.HORIZONTAL)
+            {
+                ScarecrowTileEntity.markCellStale(world, event.getPos().relative(direction));
+            }
+        }
+    }
+
+    /**
+     * Gets called when an entity placed a block, marks the field cell for the farmer and the column for the lumberjacks to check again.
+     *
+     * @param event the event to handle
+     */
+    @SubscribeEvent(priority = LOWEST)
+    public static void onBlockPlaced(@NotNull final BlockEvent.EntityPlaceEvent event)
+    {
+        if (!event.getLevel().isClientSide() && event.getLevel() instanceof Level)
+        {
+            ScarecrowTileEntity.markCellStale((Level) event.getLevel(), event.getPos());
+            TreeRegistry.markChanged((Level) event.getLevel(), event.getPos());
+            WaterBodyManager.markChanged((Level) event.getLevel(), event.getPos(), false);
+        }
+    }
+
+    /**
+     * Gets called when a fluid placed a block, marks the chunk for the water body catalogue to check again.
+     *
+     * @param event the event to handle
+     */
+    @SubscribeEvent(priority = LOWEST)
+    public static void onFluidPlaceBlock(@NotNull final BlockEvent.FluidPlaceBlockEvent event)
+    {
+        if (!event.getLevel().isClientSide() && event.getLevel() instanceof Level)
+        {
+            WaterBodyManager.markChanged((Level) event.getLevel(), event.getPos(), true);
+        }
+    }
+
+    /**
+     * Gets called when a bucket is filled or emptied, marks the chunk for the water body catalogue to check again.
+     *
+     * @param event the event to handle
+     */
+    @SubscribeEvent(priority = LOWEST)
+    public static void onFillBucket(@NotNull final FillBucketEvent event)
+    {
+        if (!event.getLevel().isClientSide() && event.getTarget() instanceof BlockHitResult && event.getTarget().getType() == HitResult.Type.BLOCK)
+        {
+            final BlockHitResult target = (BlockHitResult) event.getTarget();
+            WaterBodyManager.markChanged(event.getLevel(), target.getBlockPos(), true);
+            WaterBodyManager.markChanged(event.getLevel(), target.getBlockPos().relative(target.getDirection()), true);
+        }
+    }
+
+    /**
+     * Gets called when a sapling grows into a tree, marks the column for the lumberjacks to check again.
+     *
+     * @param event the event to handle
+     */
+    @SubscribeEvent(priority = LOWEST)
+    public static void onSaplingGrow(@NotNull final SaplingGrowTreeEvent event)
+    {
+        if (!event.getLevel().isClientSide() && event.getLevel() instanceof Level && event.getResult() != Event.Result.DENY)
+        {
+            TreeRegistry.markChanged((Level) event.getLevel(), event.getPos());
+        }
     }
 
     /**
@@ -2,7 +2,9 @@ package com.minecolonies.coremod.event;
 
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.coremod.Network;
+import com.minecolonies.coremod.colony.ColonyWorkScheduler;
 import com.minecolonies.coremod.datalistener.*;
+import com.minecolonies.coremod.entity.ai.citizen.lumberjack.TreeRegistry;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.network.messages.client.ServerUUIDMessage;
 import net.minecraft.server.level.ServerPlayer;
@@ -70,5 +72,7 @@ public class FMLEventHandler
     public static void onServerStopped(@NotNull final ServerStoppingEvent event)
     {
         Pathfinding.shutdown();
+        ColonyWorkScheduler.getInstance().clear();
+        TreeRegistry.clearAll();
     }
 }
@@ -10,6 +10,7 @@ import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.creativetab.ModCreativeTabs;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.api.util.constant.TranslationConstants;
@@ -58,6 +59,11 @@ import net.minecraft.world.item.Item.Properties;
  */
 public class ItemBannerRallyGuards extends AbstractItemMinecolonies
 {
+    /**
+     * Pre-resolved research effect handle.
+     */
+    private static final ResearchEffectHandle STANDARD_EFFECT = ResearchEffectHandle.of(STANDARD);
+
     /**
      * The compound tag for the activity status of the banner
      */
@@ -126,7 +132,7 @@ public class ItemBannerRallyGuards extends AbstractItemMinecolonies
             final IColony colony = getColony(compound, context.getLevel());
             if (colony != null && colony.getPermissions().hasPermission(player, Action.RALLY_GUARDS))
             {
-                if (colony.getResearchManager().getResearchEffects().getEffectStrength(STANDARD) <= 0)
+                if (colony.getResearchManager().getResearchEffects().getEffectStrength(STANDARD_EFFECT) <= 0)
                 {
                     MessageUtils.format(TOOL_RALLY_BANNER_NEEDS_RESEARCH).sendTo(context.getPlayer());
                     return InteractionResult.FAIL;
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.network.messages.client.colony;
 
+import com.minecolonies.api.colony.CitizenViewSection;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.network.IMessage;
@@ -44,13 +45,25 @@ public class ColonyViewCitizenViewMessage implements IMessage
      * @param citizen Citizen data of the citizen to update view
      */
     public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final ICitizenData citizen)
+    {
+        this(colony, citizen, CitizenViewSection.ALL);
+    }
+
+    /**
+     * Updates the given sections of a {@link com.minecolonies.coremod.colony.CitizenDataView} of the citizens.
+     *
+     * @param colony   Colony of the citizen
+     * @param citizen  Citizen data of the citizen to update view
+     * @param sections the mask of {@link CitizenViewSection}s to send
+     */
+    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final ICitizenData citizen, final int sections)
     {
         super();
         this.colonyId = colony.getID();
         this.citizenId = citizen.getId();
         this.citizenBuffer = new FriendlyByteBuf(Unpooled.buffer());
         this.dimension = citizen.getColony().getDimension();
-        citizen.serializeViewNetworkData(citizenBuffer);
+        citizen.serializeViewNetworkData(citizenBuffer, sections);
     }
 
     @Override
@@ -2,9 +2,11 @@ package com.minecolonies.coremod.research;
 
 import com.minecolonies.api.research.effects.IResearchEffect;
 import com.minecolonies.api.research.effects.IResearchEffectManager;
+import com.minecolonies.api.research.effects.ResearchEffectHandle;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,6 +20,11 @@ public class ResearchEffectManager implements IResearchEffectManager
      */
     private final Map<ResourceLocation, IResearchEffect<?>> effectMap = new HashMap<>();
 
+    /**
+     * The strengths of the applied effects, indexed by effect handle slot. Only updated when effects are applied or removed.
+     */
+    private double[] strengths = new double[0];
+
     @Override
     public <W extends IResearchEffect<?>> W getEffect(final ResourceLocation id, @NotNull final Class<W> type)
     {
@@ -32,14 +39,26 @@ public class ResearchEffectManager implements IResearchEffectManager
     @Override
     public double getEffectStrength(final ResourceLocation id)
     {
-        if(effectMap.containsKey(id))
-        {
-            if(effectMap.get(id) instanceof GlobalResearchEffect)
-            {
-                return ((GlobalResearchEffect)effectMap.get(id)).getEffect();
-            }
-        }
-        return 0;
+        return getStrength(ResearchEffectHandle.of(id));
+    }
+
+    @Override
+    public double getEffectStrength(@NotNull final ResearchEffectHandle handle)
+    {
+        return getStrength(handle);
+    }
+
+    /**
+     * Read the strength of an effect from the strength table.
+     *
+     * @param handle the handle of the effect.
+     * @return the strength, 0 if not applied.
+     */
+    private double getStrength(final ResearchEffectHandle handle)
+    {
+        final double[] current = strengths;
+        final int slot = handle.getSlot();
+        return slot < current.length ? current[slot] : 0;
     }
 
     @Override
@@ -51,11 +70,13 @@ public class ResearchEffectManager implements IResearchEffectManager
             if (effect.overrides(effectInMap))
             {
                 effectMap.put(effect.getId(), effect);
+                updateStrength(effect);
             }
         }
         else
         {
             effectMap.put(effect.getId(), effect);
+            updateStrength(effect);
         }
     }
 
@@ -63,5 +84,19 @@ public class ResearchEffectManager implements IResearchEffectManager
     public void removeAllEffects()
     {
         effectMap.clear();
+        strengths = new double[0];
+    }
+
+    /**
+     * Update the strength table for a newly applied effect.
+     *
+     * @param effect the effect now in the effect map.
+     */
+    private void updateStrength(final IResearchEffect<?> effect)
+    {
+        final int slot = ResearchEffectHandle.of(effect.getId()).getSlot();
+        final double[] updated = slot < strengths.length ? strengths : Arrays.copyOf(strengths, Math.max(slot + 1, ResearchEffectHandle.getSlotCount()));
+        updated[slot] = effect instanceof GlobalResearchEffect ? ((GlobalResearchEffect) effect).getEffect() : 0;
+        strengths = updated;
     }
 }
@@ -6,6 +6,7 @@ import com.minecolonies.api.colony.IColonyView;
 import com.minecolonies.api.inventory.container.ContainerField;
 import com.minecolonies.api.tileentities.AbstractScarecrowTileEntity;
 import com.minecolonies.api.tileentities.ScareCrowType;
+import com.minecolonies.api.tileentities.ScarecrowCellState;
 import com.minecolonies.api.tileentities.ScarecrowFieldStage;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.nbt.Tag;
@@ -29,7 +30,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
+import java.util.BitSet;
 import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
@@ -39,6 +43,7 @@ import net.minecraft.world.level.block.CropBlock;
 import net.minecraft.world.level.block.FenceBlock;
 import net.minecraft.world.level.block.FenceGateBlock;
 import net.minecraft.world.level.block.WallBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 
 /**
@@ -50,7 +55,70 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
     /**
      * The max width/length of a field.
      */
-    private static final int MAX_RANGE = 5;
+    public static final int MAX_RANGE = 5;
+
+    /**
+     * The number of cells around the scarecrow at max range.
+     */
+    private static final int CELL_COUNT = (MAX_RANGE * 2 + 1) * (MAX_RANGE * 2 + 1) - 1;
+
+    /**
+     * Cell states stored per long, four bits each.
+     */
+    private static final int CELLS_PER_LONG = 16;
+
+    /**
+     * The x offsets of the cells, in working order: ring by ring, spiraling outwards from the scarecrow.
+     */
+    private static final int[] CELL_X = new int[CELL_COUNT];
+
+    /**
+     * The z offsets of the cells, in working order.
+     */
+    private static final int[] CELL_Z = new int[CELL_COUNT];
+
+    /**
+     * The cell index by x and z offset (shifted by MAX_RANGE), -1 for the scarecrow itself.
+     */
+    private static final int[][] CELL_INDEX = new int[MAX_RANGE * 2 + 1][MAX_RANGE * 2 + 1];
+
+    static
+    {
+        CELL_INDEX[MAX_RANGE][MAX_RANGE] = -1;
+        for (int cell = 0; cell < CELL_COUNT; cell++)
+        {
+            final int ring = (int) Math.floor((Math.sqrt(cell + 1) + 1) / 2.0);
+            final int ringCell = cell - (4 * (ring - 1) * (ring - 1) + 4 * (ring - 1));
+            final Direction facing = Direction.from2DDataValue(Math.floorDiv(ringCell, 2 * ring));
+
+            if (facing.getAxis() == Direction.Axis.Z)
+            {
+                CELL_X[cell] = (facing == Direction.NORTH ? -1 : 1) * (ring - (ringCell % (2 * ring)));
+                CELL_Z[cell] = (facing == Direction.NORTH ? -1 : 1) * ring;
+            }
+            else
+            {
+                CELL_X[cell] = (facing == Direction.WEST ? -1 : 1) * ring;
+                CELL_Z[cell] = (facing == Direction.EAST ? -1 : 1) * (ring - (ringCell % (2 * ring)));
+            }
+            CELL_INDEX[CELL_X[cell] + MAX_RANGE][CELL_Z[cell] + MAX_RANGE] = cell;
+        }
+    }
+
+    /**
+     * The cell states by ordinal.
+     */
+    private static final ScarecrowCellState[] CELL_STATES = ScarecrowCellState.values();
+
+    /**
+     * The last known state of every cell, packed four bits per cell. Not saved, rebuilt from the world after loading.
+     */
+    private final long[] cellStates = new long[(CELL_COUNT + CELLS_PER_LONG - 1) / CELLS_PER_LONG];
+
+    /**
+     * The cells whose blocks changed since they were last classified.
+     */
+    private final BitSet staleCells = new BitSet(CELL_COUNT);
 
     /**
      * Has the field be taken by any worker?
@@ -105,6 +173,7 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
     public ScarecrowTileEntity(final BlockPos pos, final BlockState state)
     {
         super(pos, state);
+        this.staleCells.set(0, CELL_COUNT);
         this.inventory = new ItemStackHandler()
         {
             @Override
@@ -215,9 +284,147 @@ public class ScarecrowTileEntity extends AbstractScarecrowTileEntity
         setChanged();
     }
 
+    /**
+     * Find the next cell within the radii of the field in the given state, in working order. Cells changed since they were last seen are classified again, all
+     * other cells are answered from the stored state without touching the world.
+     *
+     * @param after      the cell to start after, -1 to start at the first cell.
+     * @param wanted     the states to look for.
+     * @param classifier classifies the cell at the given surface position.
+     * @return the index of the cell, or -1 if there is none.
+     */
+    public int findNextCell(final int after, @NotNull final Predicate<ScarecrowCellState> wanted, @NotNull final Function<BlockPos, ScarecrowCellState> classifier)
+    {
+        for (int cell = after + 1; cell < CELL_COUNT; cell++)
+        {
+            if (-CELL_Z[cell] > getRadius(Direction.NORTH)
+                  || CELL_X[cell] > getRadius(Direction.EAST)
+                  || CELL_Z[cell] > getRadius(Direction.SOUTH)
+                  || -CELL_X[cell] > getRadius(Direction.WEST))
+            {
+                continue;
+            }
+
+            if (staleCells.get(cell))
+            {
+                setCellState(cell, classifier.apply(getCellPosition(cell)));
+                staleCells.clear(cell);
+            }
+
+            if (wanted.test(getCellState(cell)))
+            {
+                return cell;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the offset of a cell to the scarecrow.
+     *
+     * @param cell the cell index.
+     * @return the offset, with a y of 0.
+     */
+    public static BlockPos getCellOffset(final int cell)
+    {
+        return new BlockPos(CELL_X[cell], 0, CELL_Z[cell]);
+    }
+
+    /**
+     * Get the position of a cell, at the height of the block below the scarecrow.
+     *
+     * @param cell the cell index.
+     * @return the position.
+     */
+    public BlockPos getCellPosition(final int cell)
+    {
+        return getBlockPos().below().south(CELL_Z[cell]).east(CELL_X[cell]);
+    }
+
+    /**
+     * Mark the cell of a changed block as stale, so it is classified again before it is used.
+     *
+     * @param pos the position of the changed block.
+     */
+    public void markCellStale(@NotNull final BlockPos pos)
+    {
+        final int x = pos.getX() - getBlockPos().getX() + MAX_RANGE;
+        final int z = pos.getZ() - getBlockPos().getZ() + MAX_RANGE;
+        if (x >= 0 && x < CELL_INDEX.length && z >= 0 && z < CELL_INDEX.length && CELL_INDEX[x][z] >= 0)
+        {
+            staleCells.set(CELL_INDEX[x][z]);
+        }
+    }
+
+    /**
+     * Mark the cell of a changed block as stale in every field of the colony at the position which contains it.
+     * Only the fields indexed for the chunk of the position are checked.
+     *
+     * @param world the world.
+     * @param pos   the position of the changed block.
+     */
+    public static void markCellStale(@NotNull final Level world, @NotNull final BlockPos pos)
+    {
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(world, pos);
+        if (colony == null)
+        {
+            return;
+        }
+
+        for (final BlockPos field : colony.getBuildingManager().getFieldsInChunk(pos.getX() >> 4, pos.getZ() >> 4))
+        {
+            if (Math.abs(field.getX() - pos.getX()) > MAX_RANGE
+                  || Math.abs(field.getZ() - pos.getZ()) > MAX_RANGE
+                  || Math.abs(field.getY() - pos.getY()) > MAX_RANGE * 2
+                  || !world.isLoaded(field))
+            {
+                continue;
+            }
+
+            final BlockEntity entity = world.getBlockEntity(field);
+            if (entity instanceof ScarecrowTileEntity)
+            {
+                ((ScarecrowTileEntity) entity).markCellStale(pos);
+            }
+        }
+    }
+
+    /**
+     * Mark all cells as stale, to catch changes no event was fired for.
+     */
+    public void markAllCellsStale()
+    {
+        staleCells.set(0, CELL_COUNT);
+    }
+
+    /**
+     * Get the stored state of a cell.
+     *
+     * @param cell the cell index.
+     * @return the state.
+     */
+    private ScarecrowCellState getCellState(final int cell)
+    {
+        final int shift = (cell % CELLS_PER_LONG) * 4;
+        return CELL_STATES[(int) (cellStates[cell / CELLS_PER_LONG] >>> shift) & 0xF];
+    }
+
+    /**
+     * Store the state of a cell.
+     *
+     * @param cell  the cell index.
+     * @param state the state.
+     */
+    private void setCellState(final int cell, final ScarecrowCellState state)
+    {
+        final int shift = (cell % CELLS_PER_LONG) * 4;
+        cellStates[cell / CELLS_PER_LONG] = (cellStates[cell / CELLS_PER_LONG] & ~(0xFL << shift)) | ((long) state.ordinal() << shift);
+    }
+
     @Override
     public void nextState()
     {
+        markAllCellsStale();
         if (getFieldStage().ordinal() + 1 >= ScarecrowFieldStage.values().length)
         {
             doesNeedWork = false;
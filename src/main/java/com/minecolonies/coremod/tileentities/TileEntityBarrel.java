@@ -3,6 +3,8 @@ package com.minecolonies.coremod.tileentities;
 import com.minecolonies.api.blocks.AbstractBlockBarrel;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.compatibility.ICompatibilityManager;
+import com.minecolonies.api.compatibility.ItemClassification;
 import com.minecolonies.api.crafting.CompostRecipe;
 import com.minecolonies.api.items.ModItems;
 import com.minecolonies.api.tileentities.AbstractTileEntityBarrel;
@@ -182,8 +184,12 @@ public class TileEntityBarrel extends AbstractTileEntityBarrel implements ITicka
     @Nullable
     private static CompostRecipe findCompostRecipe(final ItemStack itemStack)
     {
-        return IColonyManager.getInstance().getCompatibilityManager()
-                .getCopyOfCompostRecipes().get(itemStack.getItem());
+        final ICompatibilityManager compatibilityManager = IColonyManager.getInstance().getCompatibilityManager();
+        if (!compatibilityManager.hasClassification(itemStack.getItem(), ItemClassification.COMPOSTABLE))
+        {
+            return null;
+        }
+        return compatibilityManager.getCopyOfCompostRecipes().get(itemStack.getItem());
         // TODO: use the recipe to get the ferment time and output count?
         // tricky because they might use multiple items with different values
     }
@@ -8,6 +8,7 @@ import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyLoader;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtIo;
@@ -189,12 +190,15 @@ public final class BackUpHelper
     }
 
     /**
-     * Loads all colonies from backup files which the world cap is missing.
+     * Loads all colonies from backup files which the world cap is missing. The backup files are read in parallel, the colonies are built from them in order.
      */
     public static void loadMissingColonies()
     {
         @NotNull final File saveDir = new File(ServerLifecycleHooks.getCurrentServer().getWorldPath(LevelResource.ROOT).toFile(), FILENAME_MINECOLONIES_PATH);
 
+        final List<Integer> missingIds = new ArrayList<>();
+        final List<ResourceKey<Level>> missingDimensions = new ArrayList<>();
+        final List<File> missingFiles = new ArrayList<>();
         for (final ResourceKey<Level> dimensionType : ServerLifecycleHooks.getCurrentServer().levels.keySet())
         {
             int missingFilesInRow = 0;
@@ -208,7 +212,10 @@ public final class BackUpHelper
                     // Load colony if null
                     if (IColonyManager.getInstance().getColonyByDimension(i, dimensionType) == null)
                     {
-                        loadColonyBackup(i, dimensionType, false, false);
+                        Log.getLogger().warn("Colony:" + i + " is missing, loading backup!");
+                        missingIds.add(i);
+                        missingDimensions.add(dimensionType);
+                        missingFiles.add(file);
                     }
                 }
                 else
@@ -217,6 +224,21 @@ public final class BackUpHelper
                 }
             }
         }
+
+        final List<CompoundTag> compounds = ColonyLoader.readAll(missingFiles);
+        for (int i = 0; i < compounds.size(); i++)
+        {
+            final Level colonyWorld = ServerLifecycleHooks.getCurrentServer().getLevel(missingDimensions.get(i));
+            final Colony loadedColony = compounds.get(i) == null ? null : Colony.loadColony(compounds.get(i), colonyWorld);
+            if (loadedColony == null || colonyWorld == null)
+            {
+                Log.getLogger().warn("Colony:" + missingIds.get(i) + " loadBackup failed!");
+                continue;
+            }
+
+            colonyWorld.getCapability(COLONY_MANAGER_CAP, null).ifPresent(cap -> cap.addColony(loadedColony));
+            Log.getLogger().warn("Successfully restored colony:" + missingIds.get(i));
+        }
     }
 
     /**
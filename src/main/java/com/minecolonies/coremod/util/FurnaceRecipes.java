@@ -3,6 +3,7 @@ package com.minecolonies.coremod.util;
 import com.google.common.collect.ImmutableList;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.compatibility.IFurnaceRecipes;
+import com.minecolonies.api.crafting.ItemKey;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.crafting.RecipeStorage;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -22,9 +23,9 @@ import java.util.function.Predicate;
 public class FurnaceRecipes implements IFurnaceRecipes
 {
     /**
-     * Furnace recipes.
+     * Furnace recipes, by the exact key of their input.
      */
-    private Map<ItemStorage, RecipeStorage> recipes = new HashMap<>();
+    private Map<ItemKey, RecipeStorage> recipes = new HashMap<>();
     private Map<ItemStorage, RecipeStorage> reverseRecipes = new HashMap<>();
 
     /**
@@ -59,7 +60,7 @@ public class FurnaceRecipes implements IFurnaceRecipes
                           Blocks.FURNACE,
                           recipe.getId());
 
-                        recipes.put(storage.getCleanedInput().get(0), storage);
+                        recipes.put(storage.getCleanedInput().get(0).getKey(), storage);
 
                         final ItemStack output = recipe.getResultItem().copy();
                         output.setCount(1);
@@ -89,7 +90,7 @@ public class FurnaceRecipes implements IFurnaceRecipes
      */
     public ItemStack getSmeltingResult(final ItemStack itemStack)
     {
-        final RecipeStorage storage = recipes.getOrDefault(new ItemStorage(itemStack), null);
+        final RecipeStorage storage = recipes.getOrDefault(ItemKey.of(itemStack), null);
         if (storage != null)
         {
             return storage.getPrimaryOutput();